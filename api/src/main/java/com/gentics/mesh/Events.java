@@ -45,6 +45,16 @@ public final class Events {
 	 */
 	public static final String EVENT_CLEAR_PERMISSION_STORE = "mesh.clear-permission-store";
 
+	/**
+	 * Event which is send to invalidate the cached webroot paths.
+	 */
+	public static final String EVENT_CLEAR_WEBROOT_PATH_CACHE = "mesh.clear-webroot-path-cache";
+
+	/**
+	 * Event which is send to invalidate the node index topology.
+	 */
+	public static final String EVENT_CLEAR_NODE_INDEX_TOPOLOGY = "mesh.clear-node-index-topology";
+
 	/* User */
 
 	public static final String EVENT_USER_CREATED = "mesh.user.created";
@@ -145,6 +155,8 @@ public final class Events {
 
 		events.add(EVENT_CLUSTER_DATABASE_CHANGE_STATUS);
 		events.add(EVENT_CLEAR_PERMISSION_STORE);
+		events.add(EVENT_CLEAR_WEBROOT_PATH_CACHE);
+		events.add(EVENT_CLEAR_NODE_INDEX_TOPOLOGY);
 
 		/* User */
 
@@ -0,0 +1,164 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * GraphQL options are used to limit the resources which can be used by GraphQL queries.
+ */
+@GenerateDocumentation
+public class GraphQLOptions implements Option {
+
+	public static final String MESH_GRAPHQL_WORKER_POOL_SIZE_ENV = "MESH_GRAPHQL_WORKER_POOL_SIZE";
+	public static final String MESH_GRAPHQL_WORKER_QUEUE_SIZE_ENV = "MESH_GRAPHQL_WORKER_QUEUE_SIZE";
+	public static final String MESH_GRAPHQL_QUERY_TIMEOUT_ENV = "MESH_GRAPHQL_QUERY_TIMEOUT";
+	public static final String MESH_GRAPHQL_MAX_QUERY_DEPTH_ENV = "MESH_GRAPHQL_MAX_QUERY_DEPTH";
+	public static final String MESH_GRAPHQL_MAX_QUERY_COMPLEXITY_ENV = "MESH_GRAPHQL_MAX_QUERY_COMPLEXITY";
+	public static final int DEFAULT_WORKER_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+	public static final int DEFAULT_WORKER_QUEUE_SIZE = 100;
+	public static final long DEFAULT_QUERY_TIMEOUT = 60_000;
+	public static final int DEFAULT_MAX_QUERY_DEPTH = 20;
+	public static final int DEFAULT_MAX_QUERY_COMPLEXITY = 5_000;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which execute GraphQL queries. Default: amount of processors")
+	@EnvironmentVariable(name = MESH_GRAPHQL_WORKER_POOL_SIZE_ENV, description = "Override the amount of GraphQL worker threads.")
+	private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of GraphQL queries which may wait for a worker thread. Further queries will be rejected. Default: "
+		+ DEFAULT_WORKER_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPHQL_WORKER_QUEUE_SIZE_ENV, description = "Override the size of the GraphQL worker queue.")
+	private int workerQueueSize = DEFAULT_WORKER_QUEUE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in milliseconds after which the execution of a GraphQL query will be aborted. Set to -1 to disable the timeout. Default: "
+		+ DEFAULT_QUERY_TIMEOUT)
+	@EnvironmentVariable(name = MESH_GRAPHQL_QUERY_TIMEOUT_ENV, description = "Override the GraphQL query timeout.")
+	private long queryTimeout = DEFAULT_QUERY_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum nesting depth of the fields of a GraphQL query. Set to -1 to disable the limit. Default: " + DEFAULT_MAX_QUERY_DEPTH)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_QUERY_DEPTH_ENV, description = "Override the maximum GraphQL query depth.")
+	private int maxQueryDepth = DEFAULT_MAX_QUERY_DEPTH;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of fields which may be selected by a GraphQL query. Fields of fragments are counted for each usage. Set to -1 to disable the limit. Default: "
+		+ DEFAULT_MAX_QUERY_COMPLEXITY)
+	@EnvironmentVariable(name = MESH_GRAPHQL_MAX_QUERY_COMPLEXITY_ENV, description = "Override the maximum GraphQL query complexity.")
+	private int maxQueryComplexity = DEFAULT_MAX_QUERY_COMPLEXITY;
+
+	/**
+	 * Return the amount of GraphQL worker threads.
+	 * 
+	 * @return
+	 */
+	public int getWorkerPoolSize() {
+		return workerPoolSize;
+	}
+
+	/**
+	 * Set the amount of GraphQL worker threads.
+	 * 
+	 * @param workerPoolSize
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setWorkerPoolSize(int workerPoolSize) {
+		this.workerPoolSize = workerPoolSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of queries which may wait for a worker thread.
+	 * 
+	 * @return
+	 */
+	public int getWorkerQueueSize() {
+		return workerQueueSize;
+	}
+
+	/**
+	 * Set the amount of queries which may wait for a worker thread.
+	 * 
+	 * @param workerQueueSize
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setWorkerQueueSize(int workerQueueSize) {
+		this.workerQueueSize = workerQueueSize;
+		return this;
+	}
+
+	/**
+	 * Return the query timeout in milliseconds.
+	 * 
+	 * @return
+	 */
+	public long getQueryTimeout() {
+		return queryTimeout;
+	}
+
+	/**
+	 * Set the query timeout in milliseconds.
+	 * 
+	 * @param queryTimeout
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setQueryTimeout(long queryTimeout) {
+		this.queryTimeout = queryTimeout;
+		return this;
+	}
+
+	/**
+	 * Return the maximum query depth.
+	 * 
+	 * @return
+	 */
+	public int getMaxQueryDepth() {
+		return maxQueryDepth;
+	}
+
+	/**
+	 * Set the maximum query depth.
+	 * 
+	 * @param maxQueryDepth
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setMaxQueryDepth(int maxQueryDepth) {
+		this.maxQueryDepth = maxQueryDepth;
+		return this;
+	}
+
+	/**
+	 * Return the maximum query complexity.
+	 * 
+	 * @return
+	 */
+	public int getMaxQueryComplexity() {
+		return maxQueryComplexity;
+	}
+
+	/**
+	 * Set the maximum query complexity.
+	 * 
+	 * @param maxQueryComplexity
+	 * @return Fluent API
+	 */
+	public GraphQLOptions setMaxQueryComplexity(int maxQueryComplexity) {
+		this.maxQueryComplexity = maxQueryComplexity;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (workerPoolSize < 1) {
+			throw new IllegalArgumentException("The GraphQL worker pool size must be at least 1.");
+		}
+		if (workerQueueSize < 0) {
+			throw new IllegalArgumentException("The GraphQL worker queue size must not be negative.");
+		}
+	}
+
+}
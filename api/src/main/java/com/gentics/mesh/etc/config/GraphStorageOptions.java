@@ -24,6 +24,11 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
 	public static final String MESH_GRAPH_EXPORT_DIRECTORY_ENV = "MESH_GRAPH_EXPORT_DIRECTORY";
 	public static final String MESH_GRAPH_STARTSERVER_ENV = "MESH_GRAPH_STARTSERVER";
+	public static final String MESH_GRAPH_TX_POOL_MIN_SIZE_ENV = "MESH_GRAPH_TX_POOL_MIN_SIZE";
+	public static final String MESH_GRAPH_TX_POOL_MAX_SIZE_ENV = "MESH_GRAPH_TX_POOL_MAX_SIZE";
+
+	public static final int DEFAULT_TX_POOL_MIN_SIZE = 16;
+	public static final int DEFAULT_TX_POOL_MAX_SIZE = 100;
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database data directory.")
@@ -45,6 +50,16 @@ public class GraphStorageOptions implements Option {
 	@EnvironmentVariable(name = MESH_GRAPH_STARTSERVER_ENV, description = "Override the graph database server flag.")
 	private Boolean startServer = false;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of graph instances which will be kept in the transaction pool. Default: " + DEFAULT_TX_POOL_MIN_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_POOL_MIN_SIZE_ENV, description = "Override the minimum size of the graph transaction pool.")
+	private int txPoolMinSize = DEFAULT_TX_POOL_MIN_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of graph instances which can be used concurrently by transactions. Default: " + DEFAULT_TX_POOL_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_POOL_MAX_SIZE_ENV, description = "Override the maximum size of the graph transaction pool.")
+	private int txPoolMaxSize = DEFAULT_TX_POOL_MAX_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Additional set of graph database parameters.")
 	private Map<String, String> parameters = new HashMap<>();
@@ -153,10 +168,57 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the amount of graph instances which will be kept in the transaction pool.
+	 * 
+	 * @return
+	 */
+	public int getTxPoolMinSize() {
+		return txPoolMinSize;
+	}
+
+	/**
+	 * Set the amount of graph instances which will be kept in the transaction pool.
+	 * 
+	 * @param txPoolMinSize
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxPoolMinSize(int txPoolMinSize) {
+		this.txPoolMinSize = txPoolMinSize;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of graph instances which can be used concurrently by transactions.
+	 * 
+	 * @return
+	 */
+	public int getTxPoolMaxSize() {
+		return txPoolMaxSize;
+	}
+
+	/**
+	 * Set the maximum amount of graph instances which can be used concurrently by transactions.
+	 * 
+	 * @param txPoolMaxSize
+	 * @return Fluent API
+	 */
+	public GraphStorageOptions setTxPoolMaxSize(int txPoolMaxSize) {
+		this.txPoolMaxSize = txPoolMaxSize;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		if (getStartServer() && getDirectory() == null) {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
 		}
+		if (txPoolMinSize < 1) {
+			throw new IllegalArgumentException("The minimum size of the graph transaction pool must be at least 1.");
+		}
+		if (txPoolMaxSize < txPoolMinSize) {
+			throw new IllegalArgumentException("The maximum size of the graph transaction pool must not be lower than the minimum size {" + txPoolMinSize
+				+ "}.");
+		}
 	}
 }
@@ -28,6 +28,29 @@ public class HttpServerConfig implements Option {
 	public static final String MESH_HTTP_CORS_ORIGIN_PATTERN_ENV = "MESH_HTTP_CORS_ORIGIN_PATTERN";
 	public static final String MESH_HTTP_CORS_ENABLE_ENV = "MESH_HTTP_CORS_ENABLE";
 	public static final String MESH_HTTP_CORS_ALLOW_CREDENTIALS_ENV ="MESH_HTTP_CORS_ALLOW_CREDENTIALS";
+	public static final String MESH_HTTP_SSL_ENABLE_ENV = "MESH_HTTP_SSL_ENABLE";
+	public static final String MESH_HTTP_SSL_CERT_PATH_ENV = "MESH_HTTP_SSL_CERT_PATH";
+	public static final String MESH_HTTP_SSL_KEY_PATH_ENV = "MESH_HTTP_SSL_KEY_PATH";
+	public static final String MESH_HTTP_HTTP2_ENABLE_ENV = "MESH_HTTP_HTTP2_ENABLE";
+	public static final String MESH_HTTP_COMPRESSION_ENABLE_ENV = "MESH_HTTP_COMPRESSION_ENABLE";
+	public static final String MESH_HTTP_COMPRESSION_LEVEL_ENV = "MESH_HTTP_COMPRESSION_LEVEL";
+	public static final String MESH_HTTP_COMPRESSION_MIN_SIZE_ENV = "MESH_HTTP_COMPRESSION_MIN_SIZE";
+	public static final String MESH_HTTP_COMPRESSION_CONTENT_TYPES_ENV = "MESH_HTTP_COMPRESSION_CONTENT_TYPES";
+	public static final String MESH_HTTP_TCP_NO_DELAY_ENV = "MESH_HTTP_TCP_NO_DELAY";
+	public static final String MESH_HTTP_TCP_KEEP_ALIVE_ENV = "MESH_HTTP_TCP_KEEP_ALIVE";
+	public static final String MESH_HTTP_IDLE_TIMEOUT_ENV = "MESH_HTTP_IDLE_TIMEOUT";
+	public static final String MESH_HTTP_ACCEPT_BACKLOG_ENV = "MESH_HTTP_ACCEPT_BACKLOG";
+	public static final String MESH_HTTP_VERTICLES_PER_CORE_ENV = "MESH_HTTP_VERTICLES_PER_CORE";
+
+	public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+	public static final int DEFAULT_COMPRESSION_MIN_SIZE = 1024;
+
+	public static final String DEFAULT_COMPRESSION_CONTENT_TYPES = "application/json,application/javascript,application/xml,application/x-yaml,text/,image/svg+xml";
+
+	public static final int DEFAULT_ACCEPT_BACKLOG = -1;
+
+	public static final int DEFAULT_VERTICLES_PER_CORE = 1;
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the Gentics Mesh HTTP server port. Default is: " + DEFAULT_HTTP_PORT)
@@ -54,6 +77,75 @@ public class HttpServerConfig implements Option {
 	@EnvironmentVariable(name = MESH_HTTP_CORS_ENABLE_ENV, description = "Override the configured CORS enable flag.")
 	private Boolean enableCors = false;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether SSL should be enabled. The certificate and the key have to be specified when enabling SSL. Default: false")
+	@EnvironmentVariable(name = MESH_HTTP_SSL_ENABLE_ENV, description = "Override the configured SSL enable flag.")
+	private boolean ssl = false;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Path to the PEM encoded SSL certificate.")
+	@EnvironmentVariable(name = MESH_HTTP_SSL_CERT_PATH_ENV, description = "Override the configured SSL certificate path.")
+	private String certPath;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Path to the PEM encoded SSL key.")
+	@EnvironmentVariable(name = MESH_HTTP_SSL_KEY_PATH_ENV, description = "Override the configured SSL key path.")
+	private String keyPath;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether HTTP/2 should be negotiated via ALPN for SSL connections. Clear text connections can always be upgraded to HTTP/2 (h2c). Default: false")
+	@EnvironmentVariable(name = MESH_HTTP_HTTP2_ENABLE_ENV, description = "Override the configured HTTP/2 enable flag.")
+	private boolean http2 = false;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether responses should be compressed using gzip or deflate if the client supports it. Default: true")
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_ENABLE_ENV, description = "Override the configured response compression flag.")
+	private boolean compression = true;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Compression level from 1 (fastest) to 9 (best compression). Default: " + DEFAULT_COMPRESSION_LEVEL)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_LEVEL_ENV, description = "Override the configured compression level.")
+	private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Minimum size in bytes of responses which should be compressed. Smaller responses are sent uncompressed. Default: "
+		+ DEFAULT_COMPRESSION_MIN_SIZE)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_MIN_SIZE_ENV, description = "Override the configured minimum size of compressed responses.")
+	private int compressionMinSize = DEFAULT_COMPRESSION_MIN_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Comma separated list of content types (or content type prefixes) of responses which should be compressed. Responses of other types (e.g. images) are sent uncompressed. Default: "
+		+ DEFAULT_COMPRESSION_CONTENT_TYPES)
+	@EnvironmentVariable(name = MESH_HTTP_COMPRESSION_CONTENT_TYPES_ENV, description = "Override the configured compressible content types.")
+	private String compressionContentTypes = DEFAULT_COMPRESSION_CONTENT_TYPES;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether TCP_NODELAY should be set for connections. Default: true")
+	@EnvironmentVariable(name = MESH_HTTP_TCP_NO_DELAY_ENV, description = "Override the configured TCP no delay flag.")
+	private boolean tcpNoDelay = true;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether TCP keep alive should be enabled for connections. Default: true")
+	@EnvironmentVariable(name = MESH_HTTP_TCP_KEEP_ALIVE_ENV, description = "Override the configured TCP keep alive flag.")
+	private boolean tcpKeepAlive = true;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Timeout in seconds after which idle connections will be closed. Use 0 to keep idle connections open. Default: 0")
+	@EnvironmentVariable(name = MESH_HTTP_IDLE_TIMEOUT_ENV, description = "Override the configured idle timeout.")
+	private int idleTimeout = 0;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Size of the backlog of connections which have not yet been accepted. Use -1 to use the operating system default. Default: "
+		+ DEFAULT_ACCEPT_BACKLOG)
+	@EnvironmentVariable(name = MESH_HTTP_ACCEPT_BACKLOG_ENV, description = "Override the configured accept backlog.")
+	private int acceptBacklog = DEFAULT_ACCEPT_BACKLOG;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of REST API verticle instances which will be deployed per processor. Each instance handles requests on its own event loop. Default: "
+		+ DEFAULT_VERTICLES_PER_CORE)
+	@EnvironmentVariable(name = MESH_HTTP_VERTICLES_PER_CORE_ENV, description = "Override the configured amount of REST API verticles per processor.")
+	private int verticlesPerCore = DEFAULT_VERTICLES_PER_CORE;
+
 	public HttpServerConfig() {
 	}
 
@@ -170,9 +262,289 @@ public class HttpServerConfig implements Option {
 		return this;
 	}
 
-	public void validate(MeshOptions meshOptions) {
-		// TODO Auto-generated method stub
+	/**
+	 * Return the SSL enabled flag.
+	 * 
+	 * @return
+	 */
+	public boolean isSsl() {
+		return ssl;
+	}
+
+	/**
+	 * Set the SSL enabled flag.
+	 * 
+	 * @param ssl
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setSsl(boolean ssl) {
+		this.ssl = ssl;
+		return this;
+	}
+
+	/**
+	 * Return the path to the SSL certificate.
+	 * 
+	 * @return
+	 */
+	public String getCertPath() {
+		return certPath;
+	}
+
+	/**
+	 * Set the path to the SSL certificate.
+	 * 
+	 * @param certPath
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCertPath(String certPath) {
+		this.certPath = certPath;
+		return this;
+	}
+
+	/**
+	 * Return the path to the SSL key.
+	 * 
+	 * @return
+	 */
+	public String getKeyPath() {
+		return keyPath;
+	}
+
+	/**
+	 * Set the path to the SSL key.
+	 * 
+	 * @param keyPath
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setKeyPath(String keyPath) {
+		this.keyPath = keyPath;
+		return this;
+	}
+
+	/**
+	 * Return the HTTP/2 enabled flag.
+	 * 
+	 * @return
+	 */
+	public boolean isHttp2() {
+		return http2;
+	}
+
+	/**
+	 * Set the HTTP/2 enabled flag.
+	 * 
+	 * @param http2
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setHttp2(boolean http2) {
+		this.http2 = http2;
+		return this;
+	}
+
+	/**
+	 * Return the response compression flag.
+	 * 
+	 * @return
+	 */
+	public boolean isCompression() {
+		return compression;
+	}
+
+	/**
+	 * Set the response compression flag.
+	 * 
+	 * @param compression
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompression(boolean compression) {
+		this.compression = compression;
+		return this;
+	}
+
+	/**
+	 * Return the compression level.
+	 * 
+	 * @return
+	 */
+	public int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	/**
+	 * Set the compression level.
+	 * 
+	 * @param compressionLevel
+	 *            Level from 1 (fastest) to 9 (best compression)
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompressionLevel(int compressionLevel) {
+		this.compressionLevel = compressionLevel;
+		return this;
+	}
+
+	/**
+	 * Return the minimum size of responses which should be compressed.
+	 * 
+	 * @return Size in bytes
+	 */
+	public int getCompressionMinSize() {
+		return compressionMinSize;
+	}
+
+	/**
+	 * Set the minimum size of responses which should be compressed.
+	 * 
+	 * @param compressionMinSize
+	 *            Size in bytes
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompressionMinSize(int compressionMinSize) {
+		this.compressionMinSize = compressionMinSize;
+		return this;
+	}
+
+	/**
+	 * Return the comma separated list of compressible content types.
+	 * 
+	 * @return
+	 */
+	public String getCompressionContentTypes() {
+		return compressionContentTypes;
+	}
+
+	/**
+	 * Set the comma separated list of compressible content types. Entries which end with a slash match all subtypes.
+	 * 
+	 * @param compressionContentTypes
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setCompressionContentTypes(String compressionContentTypes) {
+		this.compressionContentTypes = compressionContentTypes;
+		return this;
+	}
+
+	/**
+	 * Return the TCP no delay flag.
+	 * 
+	 * @return
+	 */
+	public boolean isTcpNoDelay() {
+		return tcpNoDelay;
+	}
+
+	/**
+	 * Set the TCP no delay flag.
+	 * 
+	 * @param tcpNoDelay
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setTcpNoDelay(boolean tcpNoDelay) {
+		this.tcpNoDelay = tcpNoDelay;
+		return this;
+	}
 
+	/**
+	 * Return the TCP keep alive flag.
+	 * 
+	 * @return
+	 */
+	public boolean isTcpKeepAlive() {
+		return tcpKeepAlive;
+	}
+
+	/**
+	 * Set the TCP keep alive flag.
+	 * 
+	 * @param tcpKeepAlive
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setTcpKeepAlive(boolean tcpKeepAlive) {
+		this.tcpKeepAlive = tcpKeepAlive;
+		return this;
+	}
+
+	/**
+	 * Return the idle timeout.
+	 * 
+	 * @return Timeout in seconds
+	 */
+	public int getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/**
+	 * Set the idle timeout.
+	 * 
+	 * @param idleTimeout
+	 *            Timeout in seconds
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setIdleTimeout(int idleTimeout) {
+		this.idleTimeout = idleTimeout;
+		return this;
+	}
+
+	/**
+	 * Return the accept backlog size.
+	 * 
+	 * @return
+	 */
+	public int getAcceptBacklog() {
+		return acceptBacklog;
+	}
+
+	/**
+	 * Set the accept backlog size.
+	 * 
+	 * @param acceptBacklog
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setAcceptBacklog(int acceptBacklog) {
+		this.acceptBacklog = acceptBacklog;
+		return this;
+	}
+
+	/**
+	 * Return the amount of REST API verticles per processor.
+	 * 
+	 * @return
+	 */
+	public int getVerticlesPerCore() {
+		return verticlesPerCore;
+	}
+
+	/**
+	 * Set the amount of REST API verticles per processor.
+	 * 
+	 * @param verticlesPerCore
+	 * @return Fluent API
+	 */
+	public HttpServerConfig setVerticlesPerCore(int verticlesPerCore) {
+		this.verticlesPerCore = verticlesPerCore;
+		return this;
+	}
+
+	/**
+	 * Return the total amount of REST API verticles which should be deployed.
+	 * 
+	 * @return
+	 */
+	@JsonIgnore
+	public int getVerticleAmount() {
+		return Math.max(1, Runtime.getRuntime().availableProcessors() * verticlesPerCore);
+	}
+
+	public void validate(MeshOptions meshOptions) {
+		if (ssl && (certPath == null || certPath.isEmpty() || keyPath == null || keyPath.isEmpty())) {
+			throw new IllegalArgumentException("SSL is enabled but either the server key or the cert path was not specified.");
+		}
+		if (compressionLevel < 1 || compressionLevel > 9) {
+			throw new IllegalArgumentException("The compression level must be between 1 and 9.");
+		}
+		if (verticlesPerCore < 1) {
+			throw new IllegalArgumentException("The amount of REST API verticles per core must be at least 1.");
+		}
 	}
 
 }
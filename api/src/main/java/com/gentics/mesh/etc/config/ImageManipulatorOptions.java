@@ -16,8 +16,10 @@ public class ImageManipulatorOptions implements Option {
 
 	public static final String MESH_IMAGE_MAX_WIDTH_ENV = "MESH_IMAGE_MAX_WIDTH";
 	public static final String MESH_IMAGE_MAX_HEIGHT_ENV = "MESH_IMAGE_MAX_HEIGHT";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 1024 * 1024 * 1024L;
 
 	private String imageCacheDirectory = "data" + File.separator + "binaryImageCache";
 
@@ -33,6 +35,12 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_MAX_HEIGHT_ENV, description = "Override the max height for image resize operations.")
 	private Integer maxHeight = DEFAULT_MAX_HEIGHT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum size of the image cache directory in bytes. Rarely used resized images will be removed once the limit has been reached. Set to -1 to disable the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the max size of the image cache directory.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
 	/**
 	 * Return the binary image cache directory.
 	 * 
@@ -93,6 +101,26 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the maximum size of the image cache directory in bytes.
+	 * 
+	 * @return
+	 */
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	/**
+	 * Set the maximum size of the image cache directory in bytes. A negative value disables the limit.
+	 * 
+	 * @param imageCacheMaxSize
+	 * @return Fluent API
+	 */
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		// TODO Auto-generated method stub
 
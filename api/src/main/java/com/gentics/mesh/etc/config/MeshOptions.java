@@ -71,6 +71,18 @@ public class MeshOptions implements Option {
 	@JsonPropertyDescription("Image handling options.")
 	private ImageManipulatorOptions imageOptions = new ImageManipulatorOptions();
 
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("GraphQL options.")
+	private GraphQLOptions graphQLOptions = new GraphQLOptions();
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Migration options.")
+	private MigrationOptions migrationOptions = new MigrationOptions();
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Worker pool options.")
+	private WorkerPoolOptions workerPoolOptions = new WorkerPoolOptions();
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Path to the central tmp directory.")
 	@EnvironmentVariable(name = MESH_TEMP_DIR_ENV, description = "Override the configured temp directory.")
@@ -268,6 +280,67 @@ public class MeshOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the GraphQL options.
+	 * 
+	 * @return
+	 */
+	@JsonProperty("graphQL")
+	public GraphQLOptions getGraphQLOptions() {
+		return graphQLOptions;
+	}
+
+	/**
+	 * Set the GraphQL options.
+	 * 
+	 * @param graphQLOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setGraphQLOptions(GraphQLOptions graphQLOptions) {
+		this.graphQLOptions = graphQLOptions;
+		return this;
+	}
+
+	/**
+	 * Return the migration options.
+	 * 
+	 * @return
+	 */
+	public MigrationOptions getMigrationOptions() {
+		return migrationOptions;
+	}
+
+	/**
+	 * Set the migration options.
+	 * 
+	 * @param migrationOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setMigrationOptions(MigrationOptions migrationOptions) {
+		this.migrationOptions = migrationOptions;
+		return this;
+	}
+
+	/**
+	 * Return the worker pool options.
+	 * 
+	 * @return
+	 */
+	public WorkerPoolOptions getWorkerPoolOptions() {
+		return workerPoolOptions;
+	}
+
+	/**
+	 * Set the worker pool options.
+	 * 
+	 * @param workerPoolOptions
+	 * @return Fluent API
+	 */
+	public MeshOptions setWorkerPoolOptions(WorkerPoolOptions workerPoolOptions) {
+		this.workerPoolOptions = workerPoolOptions;
+		return this;
+	}
+
 	/**
 	 * Return update checker flag.
 	 * 
@@ -350,6 +423,15 @@ public class MeshOptions implements Option {
 		if (getImageOptions() != null) {
 			getImageOptions().validate(this);
 		}
+		if (getGraphQLOptions() != null) {
+			getGraphQLOptions().validate(this);
+		}
+		if (getMigrationOptions() != null) {
+			getMigrationOptions().validate(this);
+		}
+		if (getWorkerPoolOptions() != null) {
+			getWorkerPoolOptions().validate(this);
+		}
 
 		// TODO check for other invalid characters in node name
 	}
@@ -373,6 +455,9 @@ public class MeshOptions implements Option {
 		getHttpServerOptions().overrideWithEnv();
 		getAuthenticationOptions().overrideWithEnv();
 		getImageOptions().overrideWithEnv();
+		getGraphQLOptions().overrideWithEnv();
+		getMigrationOptions().overrideWithEnv();
+		getWorkerPoolOptions().overrideWithEnv();
 	}
 
 }
@@ -0,0 +1,112 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Migration options control how schema, microschema and release migrations are processed.
+ */
+@GenerateDocumentation
+public class MigrationOptions implements Option {
+
+	public static final String MESH_MIGRATION_PARALLELISM_ENV = "MESH_MIGRATION_PARALLELISM";
+	public static final String MESH_MIGRATION_CHUNK_SIZE_ENV = "MESH_MIGRATION_CHUNK_SIZE";
+	public static final String MESH_MIGRATION_MAX_CONCURRENT_JOBS_ENV = "MESH_MIGRATION_MAX_CONCURRENT_JOBS";
+	public static final int DEFAULT_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+	public static final int DEFAULT_CHUNK_SIZE = 50;
+	public static final int DEFAULT_MAX_CONCURRENT_JOBS = 2;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which migrate the elements of a migration in parallel. Default: half the amount of processors")
+	@EnvironmentVariable(name = MESH_MIGRATION_PARALLELISM_ENV, description = "Override the amount of migration threads.")
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of elements which are migrated within a single transaction. The search index changes of a chunk are sent in a single batch. Default: "
+		+ DEFAULT_CHUNK_SIZE)
+	@EnvironmentVariable(name = MESH_MIGRATION_CHUNK_SIZE_ENV, description = "Override the migration chunk size.")
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of jobs which may be executed concurrently by this instance. Jobs which affect the same project are never executed concurrently. Default: "
+		+ DEFAULT_MAX_CONCURRENT_JOBS)
+	@EnvironmentVariable(name = MESH_MIGRATION_MAX_CONCURRENT_JOBS_ENV, description = "Override the amount of concurrent jobs.")
+	private int maxConcurrentJobs = DEFAULT_MAX_CONCURRENT_JOBS;
+
+	/**
+	 * Return the amount of migration threads.
+	 * 
+	 * @return
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Set the amount of migration threads.
+	 * 
+	 * @param parallelism
+	 * @return Fluent API
+	 */
+	public MigrationOptions setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	/**
+	 * Return the amount of elements which are migrated within a single transaction.
+	 * 
+	 * @return
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Set the amount of elements which are migrated within a single transaction.
+	 * 
+	 * @param chunkSize
+	 * @return Fluent API
+	 */
+	public MigrationOptions setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of jobs which may be executed concurrently.
+	 * 
+	 * @return
+	 */
+	public int getMaxConcurrentJobs() {
+		return maxConcurrentJobs;
+	}
+
+	/**
+	 * Set the amount of jobs which may be executed concurrently.
+	 * 
+	 * @param maxConcurrentJobs
+	 * @return Fluent API
+	 */
+	public MigrationOptions setMaxConcurrentJobs(int maxConcurrentJobs) {
+		this.maxConcurrentJobs = maxConcurrentJobs;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("The migration parallelism must be at least 1.");
+		}
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("The migration chunk size must be at least 1.");
+		}
+		if (maxConcurrentJobs < 1) {
+			throw new IllegalArgumentException("The amount of concurrent jobs must be at least 1.");
+		}
+	}
+
+}
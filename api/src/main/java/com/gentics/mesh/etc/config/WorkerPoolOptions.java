@@ -0,0 +1,143 @@
+package com.gentics.mesh.etc.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.doc.GenerateDocumentation;
+import com.gentics.mesh.etc.config.env.EnvironmentVariable;
+import com.gentics.mesh.etc.config.env.Option;
+
+/**
+ * Worker pool options control the thread pools which execute the blocking parts of REST requests. Reading and modifying requests are executed by
+ * separate pools.
+ */
+@GenerateDocumentation
+public class WorkerPoolOptions implements Option {
+
+	public static final String MESH_WORKER_READ_POOL_SIZE_ENV = "MESH_WORKER_READ_POOL_SIZE";
+	public static final String MESH_WORKER_READ_QUEUE_SIZE_ENV = "MESH_WORKER_READ_QUEUE_SIZE";
+	public static final String MESH_WORKER_WRITE_POOL_SIZE_ENV = "MESH_WORKER_WRITE_POOL_SIZE";
+	public static final String MESH_WORKER_WRITE_QUEUE_SIZE_ENV = "MESH_WORKER_WRITE_QUEUE_SIZE";
+	public static final int DEFAULT_READ_POOL_SIZE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+	public static final int DEFAULT_READ_QUEUE_SIZE = 500;
+	public static final int DEFAULT_WRITE_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+	public static final int DEFAULT_WRITE_QUEUE_SIZE = 200;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which execute reading requests. Default: twice the amount of processors")
+	@EnvironmentVariable(name = MESH_WORKER_READ_POOL_SIZE_ENV, description = "Override the amount of threads which execute reading requests.")
+	private int readPoolSize = DEFAULT_READ_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of reading requests which may wait for a thread. Further requests will be rejected. Default: "
+		+ DEFAULT_READ_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_WORKER_READ_QUEUE_SIZE_ENV, description = "Override the size of the queue for reading requests.")
+	private int readQueueSize = DEFAULT_READ_QUEUE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which execute modifying requests. Default: the amount of processors")
+	@EnvironmentVariable(name = MESH_WORKER_WRITE_POOL_SIZE_ENV, description = "Override the amount of threads which execute modifying requests.")
+	private int writePoolSize = DEFAULT_WRITE_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of modifying requests which may wait for a thread. Further requests will be rejected. Default: "
+		+ DEFAULT_WRITE_QUEUE_SIZE)
+	@EnvironmentVariable(name = MESH_WORKER_WRITE_QUEUE_SIZE_ENV, description = "Override the size of the queue for modifying requests.")
+	private int writeQueueSize = DEFAULT_WRITE_QUEUE_SIZE;
+
+	/**
+	 * Return the amount of threads which execute reading requests.
+	 * 
+	 * @return
+	 */
+	public int getReadPoolSize() {
+		return readPoolSize;
+	}
+
+	/**
+	 * Set the amount of threads which execute reading requests.
+	 * 
+	 * @param readPoolSize
+	 * @return Fluent API
+	 */
+	public WorkerPoolOptions setReadPoolSize(int readPoolSize) {
+		this.readPoolSize = readPoolSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of reading requests which may wait for a thread.
+	 * 
+	 * @return
+	 */
+	public int getReadQueueSize() {
+		return readQueueSize;
+	}
+
+	/**
+	 * Set the amount of reading requests which may wait for a thread.
+	 * 
+	 * @param readQueueSize
+	 * @return Fluent API
+	 */
+	public WorkerPoolOptions setReadQueueSize(int readQueueSize) {
+		this.readQueueSize = readQueueSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of threads which execute modifying requests.
+	 * 
+	 * @return
+	 */
+	public int getWritePoolSize() {
+		return writePoolSize;
+	}
+
+	/**
+	 * Set the amount of threads which execute modifying requests.
+	 * 
+	 * @param writePoolSize
+	 * @return Fluent API
+	 */
+	public WorkerPoolOptions setWritePoolSize(int writePoolSize) {
+		this.writePoolSize = writePoolSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of modifying requests which may wait for a thread.
+	 * 
+	 * @return
+	 */
+	public int getWriteQueueSize() {
+		return writeQueueSize;
+	}
+
+	/**
+	 * Set the amount of modifying requests which may wait for a thread.
+	 * 
+	 * @param writeQueueSize
+	 * @return Fluent API
+	 */
+	public WorkerPoolOptions setWriteQueueSize(int writeQueueSize) {
+		this.writeQueueSize = writeQueueSize;
+		return this;
+	}
+
+	@Override
+	public void validate(MeshOptions meshOptions) {
+		if (readPoolSize < 1) {
+			throw new IllegalArgumentException("The read worker pool size must be at least 1.");
+		}
+		if (readQueueSize < 0) {
+			throw new IllegalArgumentException("The read worker queue size must not be negative.");
+		}
+		if (writePoolSize < 1) {
+			throw new IllegalArgumentException("The write worker pool size must be at least 1.");
+		}
+		if (writeQueueSize < 0) {
+			throw new IllegalArgumentException("The write worker queue size must not be negative.");
+		}
+	}
+
+}
@@ -1,5 +1,7 @@
 package com.gentics.mesh.etc.config.search;
 
+import java.io.File;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.gentics.mesh.doc.GenerateDocumentation;
@@ -20,9 +22,18 @@ public class ElasticSearchOptions implements Option {
 	public static final long DEFAULT_TIMEOUT = 8000L;
 	public static final String DEFAULT_ARGS = "-Xms1g -Xmx1g -XX:+UseConcMarkSweepGC -XX:CMSInitiatingOccupancyFraction=75 -XX:+UseCMSInitiatingOccupancyOnly -XX:+AlwaysPreTouch -client -Xss1m -Djava.awt.headless=true -Dfile.encoding=UTF-8 -Djna.nosys=true -XX:-OmitStackTraceInFastThrow -Dio.netty.noUnsafe=true -Dio.netty.noKeySetOptimization=true -Dio.netty.recycler.maxCapacityPerThread=0 -Dlog4j.shutdownHookEnabled=false -Dlog4j2.disable.jmx=true -XX:+HeapDumpOnOutOfMemoryError";
 
+	public static final boolean DEFAULT_INDEX_QUEUE_ENABLED = false;
+	public static final String DEFAULT_INDEX_QUEUE_DIRECTORY = "data" + File.separator + "searchqueue";
+	public static final int DEFAULT_INDEX_QUEUE_BATCH_SIZE = 1000;
+	public static final long DEFAULT_INDEX_QUEUE_INTERVAL = 500L;
+	public static final int DEFAULT_REINDEX_CHUNK_SIZE = 500;
+	public static final int DEFAULT_REINDEX_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
 	public static final String MESH_ELASTICSEARCH_URL_ENV = "MESH_ELASTICSEARCH_URL";
 	public static final String MESH_ELASTICSEARCH_TIMEOUT_ENV = "MESH_ELASTICSEARCH_TIMEOUT";
 	public static final String MESH_ELASTICSEARCH_START_EMBEDDED_ENV = "MESH_ELASTICSEARCH_START_EMBEDDED";
+	public static final String MESH_ELASTICSEARCH_INDEX_QUEUE_ENABLED_ENV = "MESH_ELASTICSEARCH_INDEX_QUEUE_ENABLED";
+	public static final String MESH_ELASTICSEARCH_INDEX_QUEUE_DIRECTORY_ENV = "MESH_ELASTICSEARCH_INDEX_QUEUE_DIRECTORY";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Elasticsearch connection url to be used. Set this setting to null will disable the Elasticsearch support.")
@@ -43,6 +54,35 @@ public class ElasticSearchOptions implements Option {
 	@JsonPropertyDescription("String of arguments which will be used for starting the Elasticsearch server instance")
 	private String embeddedArguments = DEFAULT_ARGS;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether index updates should be written to a persistent queue which is processed in the background instead of being processed within the request. Default: "
+		+ DEFAULT_INDEX_QUEUE_ENABLED)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_INDEX_QUEUE_ENABLED_ENV, description = "Override the index queue enabled flag.")
+	private boolean indexQueueEnabled = DEFAULT_INDEX_QUEUE_ENABLED;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Path to the directory which will be used to store the persistent index queue. Default: " + DEFAULT_INDEX_QUEUE_DIRECTORY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_INDEX_QUEUE_DIRECTORY_ENV, description = "Override the index queue directory.")
+	private String indexQueueDirectory = DEFAULT_INDEX_QUEUE_DIRECTORY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of queued index updates which will be coalesced and processed at once. Default: "
+		+ DEFAULT_INDEX_QUEUE_BATCH_SIZE)
+	private int indexQueueBatchSize = DEFAULT_INDEX_QUEUE_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Interval in milliseconds in which the index queue will be processed. Default: " + DEFAULT_INDEX_QUEUE_INTERVAL + "ms")
+	private long indexQueueInterval = DEFAULT_INDEX_QUEUE_INTERVAL;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of elements which will be loaded and transformed within a single transaction during a full reindex. Default: "
+		+ DEFAULT_REINDEX_CHUNK_SIZE)
+	private int reindexChunkSize = DEFAULT_REINDEX_CHUNK_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which will be used to transform the documents during a full reindex. Default: half of the available processors")
+	private int reindexParallelism = DEFAULT_REINDEX_PARALLELISM;
+
 	public ElasticSearchOptions() {
 
 	}
@@ -104,6 +144,126 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Flag which indicates whether the persistent index queue should be used.
+	 * 
+	 * @return
+	 */
+	public boolean isIndexQueueEnabled() {
+		return indexQueueEnabled;
+	}
+
+	/**
+	 * Set the flag which enables the persistent index queue.
+	 * 
+	 * @param indexQueueEnabled
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setIndexQueueEnabled(boolean indexQueueEnabled) {
+		this.indexQueueEnabled = indexQueueEnabled;
+		return this;
+	}
+
+	/**
+	 * Return the directory of the persistent index queue.
+	 * 
+	 * @return
+	 */
+	public String getIndexQueueDirectory() {
+		return indexQueueDirectory;
+	}
+
+	/**
+	 * Set the directory of the persistent index queue.
+	 * 
+	 * @param indexQueueDirectory
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setIndexQueueDirectory(String indexQueueDirectory) {
+		this.indexQueueDirectory = indexQueueDirectory;
+		return this;
+	}
+
+	/**
+	 * Return the maximum amount of queued updates which will be processed at once.
+	 * 
+	 * @return
+	 */
+	public int getIndexQueueBatchSize() {
+		return indexQueueBatchSize;
+	}
+
+	/**
+	 * Set the maximum amount of queued updates which will be processed at once.
+	 * 
+	 * @param indexQueueBatchSize
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setIndexQueueBatchSize(int indexQueueBatchSize) {
+		this.indexQueueBatchSize = indexQueueBatchSize;
+		return this;
+	}
+
+	/**
+	 * Return the processing interval of the index queue in milliseconds.
+	 * 
+	 * @return
+	 */
+	public long getIndexQueueInterval() {
+		return indexQueueInterval;
+	}
+
+	/**
+	 * Set the processing interval of the index queue in milliseconds.
+	 * 
+	 * @param indexQueueInterval
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setIndexQueueInterval(long indexQueueInterval) {
+		this.indexQueueInterval = indexQueueInterval;
+		return this;
+	}
+
+	/**
+	 * Return the amount of elements which will be handled within a single chunk during a full reindex.
+	 * 
+	 * @return
+	 */
+	public int getReindexChunkSize() {
+		return reindexChunkSize;
+	}
+
+	/**
+	 * Set the amount of elements which will be handled within a single chunk during a full reindex.
+	 * 
+	 * @param reindexChunkSize
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setReindexChunkSize(int reindexChunkSize) {
+		this.reindexChunkSize = reindexChunkSize;
+		return this;
+	}
+
+	/**
+	 * Return the amount of threads which will be used during a full reindex.
+	 * 
+	 * @return
+	 */
+	public int getReindexParallelism() {
+		return reindexParallelism;
+	}
+
+	/**
+	 * Set the amount of threads which will be used during a full reindex.
+	 * 
+	 * @param reindexParallelism
+	 * @return Fluent API
+	 */
+	public ElasticSearchOptions setReindexParallelism(int reindexParallelism) {
+		this.reindexParallelism = reindexParallelism;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 
 	}
@@ -1,7 +1,11 @@
 package com.gentics.mesh.context.impl;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
+import static com.gentics.mesh.http.HttpConstants.PRETTY_PARAMETER;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
@@ -12,13 +16,19 @@ import com.gentics.mesh.auth.MeshAuthProvider;
 import com.gentics.mesh.context.AbstractInternalActionContext;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.http.MeshHeaders;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.util.ETag;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -80,6 +90,24 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		rc.response().setStatusCode(status.code()).end(body);
 	}
 
+	/**
+	 * Serialize the model directly into the buffer which is handed over to the response. An unpooled heap buffer is used since the response wraps the buffer
+	 * and would never release a pooled buffer. The JSON is only pretty printed if requested via the <code>pretty</code> query parameter.
+	 */
+	@Override
+	public void send(RestModel restModel, HttpResponseStatus status) {
+		boolean pretty = "true".equals(getParameter(PRETTY_PARAMETER));
+		ByteBuf buffer = Unpooled.buffer();
+		try (OutputStream out = new ByteBufOutputStream(buffer)) {
+			JsonUtil.writeValue(restModel, out, pretty);
+		} catch (IOException e) {
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, "Could not generate json from object", e);
+		}
+		rc.response().putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON_UTF8);
+		rc.response().putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+		rc.response().setStatusCode(status.code()).end(Buffer.buffer(buffer));
+	}
+
 	@Override
 	public void send(HttpResponseStatus status) {
 		rc.response().setStatusCode(status.code()).end();
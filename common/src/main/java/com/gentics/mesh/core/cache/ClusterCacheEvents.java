@@ -0,0 +1,78 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.function.Consumer;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Helper for the events which are used to invalidate the caches of the other instances in the cluster. The events contain the name of the publishing
+ * instance so that the publisher, which already invalidated its own cache, can ignore them.
+ */
+public final class ClusterCacheEvents {
+
+	private static final Logger log = LoggerFactory.getLogger(ClusterCacheEvents.class);
+
+	/**
+	 * Event message key which contains the name of the node which published the event.
+	 */
+	public static final String ORIGIN_KEY = "origin";
+
+	private ClusterCacheEvents() {
+	}
+
+	/**
+	 * Publish the invalidation event. The event is only published if clustering is enabled since no other instance needs to be informed otherwise.
+	 * 
+	 * @param address
+	 *            Eventbus address
+	 * @param message
+	 *            Event message which will be extended by the origin
+	 */
+	public static void publish(String address, JsonObject message) {
+		MeshOptions options = Mesh.mesh().getOptions();
+		if (options.getClusterOptions() != null && options.getClusterOptions().isEnabled()) {
+			message.put(ORIGIN_KEY, options.getNodeName());
+			Mesh.vertx().eventBus().publish(address, message);
+		}
+	}
+
+	/**
+	 * Register the handler for the invalidation events of the given address. Events which were published by this instance will be ignored.
+	 * 
+	 * @param address
+	 *            Eventbus address
+	 * @param handler
+	 *            Handler which receives the event message or null for events without message
+	 */
+	public static void consume(String address, Consumer<JsonObject> handler) {
+		Mesh.vertx().eventBus().consumer(address, e -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Received cache invalidation event from {" + e.address() + "}");
+			}
+			Object body = e.body();
+			if (!isLocalOrigin(body)) {
+				handler.accept(body instanceof JsonObject ? (JsonObject) body : null);
+			}
+		});
+	}
+
+	/**
+	 * Check whether the event message was published by this instance.
+	 * 
+	 * @param body
+	 * @return
+	 */
+	public static boolean isLocalOrigin(Object body) {
+		if (!(body instanceof JsonObject)) {
+			return false;
+		}
+		String origin = ((JsonObject) body).getString(ORIGIN_KEY);
+		return origin != null && origin.equals(Mesh.mesh().getOptions().getNodeName());
+	}
+
+}
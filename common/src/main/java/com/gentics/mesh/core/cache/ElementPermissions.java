@@ -0,0 +1,61 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+
+/**
+ * Cached permission results of a single element. The results are stored per role set using a packed int which contains a bitmask of the checked
+ * permissions and a bitmask of the granted permissions. This way denying results can be cached without the need of an additional entry per
+ * permission.
+ */
+public final class ElementPermissions {
+
+	private static final int GRANTED_SHIFT = 16;
+
+	private final Map<RoleSet, Integer> results = new ConcurrentHashMap<>();
+
+	/**
+	 * Return the cached result for the given roles and permission.
+	 * 
+	 * @param roles
+	 * @param permission
+	 * @return true if the permission is granted, false if it is denied or null if no result has been cached
+	 */
+	public Boolean get(RoleSet roles, GraphPermission permission) {
+		Integer packed = results.get(roles);
+		if (packed == null) {
+			return null;
+		}
+		int bit = 1 << permission.ordinal();
+		if ((packed & bit) == 0) {
+			return null;
+		}
+		return (packed & (bit << GRANTED_SHIFT)) != 0;
+	}
+
+	/**
+	 * Store the result for the given roles and permission.
+	 * 
+	 * @param roles
+	 * @param permission
+	 * @param granted
+	 */
+	public void put(RoleSet roles, GraphPermission permission, boolean granted) {
+		int bit = 1 << permission.ordinal();
+		int value = granted ? bit | (bit << GRANTED_SHIFT) : bit;
+		results.merge(roles, value, (a, b) -> (a & ~(bit << GRANTED_SHIFT)) | b);
+	}
+
+	/**
+	 * Remove all results which were stored for role sets that contain the given role.
+	 * 
+	 * @param roleId
+	 *            String representation of the role vertex id
+	 */
+	public void removeRole(String roleId) {
+		results.keySet().removeIf(roles -> roles.containsRole(roleId));
+	}
+
+}
@@ -0,0 +1,295 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_CLEAR_NODE_INDEX_TOPOLOGY;
+import static com.gentics.mesh.Events.EVENT_PROJECT_CREATED;
+import static com.gentics.mesh.Events.EVENT_PROJECT_DELETED;
+import static com.gentics.mesh.Events.EVENT_RELEASE_CREATED;
+import static com.gentics.mesh.Events.EVENT_RELEASE_DELETED;
+import static com.gentics.mesh.Events.EVENT_RELEASE_UPDATED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_DELETED;
+import static com.gentics.mesh.Events.EVENT_SCHEMA_UPDATED;
+import static com.gentics.mesh.Events.MESH_MIGRATION;
+import static com.gentics.mesh.core.data.ContainerType.DRAFT;
+import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central in-memory store of the node index topology (project → release → active schema versions → index names).
+ * 
+ * The topology is loaded once and kept until it gets invalidated. Changes of projects and releases invalidate the whole topology while changes of the
+ * schema versions of a single release only cause the release to be reloaded. Each invalidation increments a generation counter. Loads which were
+ * running while the topology got invalidated will thus be repeated with the next access. The events which invalidate the topology are published via the
+ * (clustered) eventbus and will thus also refresh the topology of the other instances in the cluster. Invalidations which are not caused by such
+ * events are published to the other instances via {@link ClusterCacheEvents}.
+ */
+public final class NodeIndexTopologyStore {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeIndexTopologyStore.class);
+
+	/**
+	 * Event message key which contains the uuid of the release which should be reloaded.
+	 */
+	public static final String RELEASE_UUID_KEY = "releaseUuid";
+
+	private static final AtomicLong GENERATION = new AtomicLong();
+
+	private static final Map<String, AtomicLong> RELEASE_GENERATIONS = new ConcurrentHashMap<>();
+
+	private static volatile Topology topology;
+
+	private NodeIndexTopologyStore() {
+	}
+
+	/**
+	 * Loader which reads the topology from the graph.
+	 */
+	public interface TopologyLoader {
+
+		/**
+		 * Load the uuids of all releases.
+		 * 
+		 * @return Map of release uuids and the uuids of their projects
+		 */
+		Map<String, String> loadReleases();
+
+		/**
+		 * Load the active schema versions of the release.
+		 * 
+		 * @param projectUuid
+		 * @param releaseUuid
+		 * @return Map of schema version uuids and the uuids of their schema containers or null if the release does not exist
+		 */
+		Map<String, String> loadSchemaVersions(String projectUuid, String releaseUuid);
+	}
+
+	/**
+	 * Return the topology of all releases. Outdated information will be reloaded using the given loader.
+	 * 
+	 * @param loader
+	 * @return
+	 */
+	public static Collection<ReleaseTopology> getReleases(TopologyLoader loader) {
+		Topology current = getTopology(loader);
+		for (ReleaseTopology release : current.releases.values()) {
+			if (release.generation != releaseGeneration(release.getReleaseUuid())) {
+				reloadRelease(current, loader, release.getProjectUuid(), release.getReleaseUuid());
+			}
+		}
+		return Collections.unmodifiableCollection(current.releases.values());
+	}
+
+	/**
+	 * Return the topology of the release. The release will be loaded if it is not yet known.
+	 * 
+	 * @param loader
+	 * @param projectUuid
+	 * @param releaseUuid
+	 * @return Topology of the release or null if the release does not exist
+	 */
+	public static ReleaseTopology getRelease(TopologyLoader loader, String projectUuid, String releaseUuid) {
+		Topology current = getTopology(loader);
+		ReleaseTopology release = current.releases.get(releaseUuid);
+		if (release == null || release.generation != releaseGeneration(releaseUuid)) {
+			release = reloadRelease(current, loader, projectUuid, releaseUuid);
+		}
+		return release;
+	}
+
+	/**
+	 * Invalidate the whole topology. This is needed whenever projects or releases are created or deleted or the graph gets replaced.
+	 */
+	public static void invalidate() {
+		invalidateLocally();
+		ClusterCacheEvents.publish(EVENT_CLEAR_NODE_INDEX_TOPOLOGY, new JsonObject());
+	}
+
+	/**
+	 * Invalidate the topology of the given release. This is needed whenever the active schema versions of the release change.
+	 * 
+	 * @param releaseUuid
+	 */
+	public static void invalidateRelease(String releaseUuid) {
+		invalidateReleaseLocally(releaseUuid);
+		ClusterCacheEvents.publish(EVENT_CLEAR_NODE_INDEX_TOPOLOGY, new JsonObject().put(RELEASE_UUID_KEY, releaseUuid));
+	}
+
+	/**
+	 * Invalidate the topology according to the given event message which was received from another instance in the cluster. A message without release
+	 * will invalidate the whole topology.
+	 * 
+	 * @param info
+	 */
+	public static void handleEvent(JsonObject info) {
+		String releaseUuid = info == null ? null : info.getString(RELEASE_UUID_KEY);
+		if (releaseUuid == null) {
+			invalidateLocally();
+		} else {
+			invalidateReleaseLocally(releaseUuid);
+		}
+	}
+
+	/**
+	 * Register the event handlers which invalidate the topology.
+	 */
+	public static void registerEventHandler() {
+		EventBus eb = Mesh.vertx().eventBus();
+		for (String address : Arrays.asList(EVENT_PROJECT_CREATED, EVENT_PROJECT_DELETED, EVENT_RELEASE_CREATED, EVENT_RELEASE_UPDATED,
+			EVENT_RELEASE_DELETED, EVENT_SCHEMA_UPDATED, EVENT_SCHEMA_DELETED, MESH_MIGRATION)) {
+			eb.consumer(address, e -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Invalidating node index topology due to received event from {" + e.address() + "}");
+				}
+				invalidateLocally();
+			});
+		}
+		ClusterCacheEvents.consume(EVENT_CLEAR_NODE_INDEX_TOPOLOGY, NodeIndexTopologyStore::handleEvent);
+	}
+
+	private static void invalidateLocally() {
+		GENERATION.incrementAndGet();
+	}
+
+	private static void invalidateReleaseLocally(String releaseUuid) {
+		RELEASE_GENERATIONS.computeIfAbsent(releaseUuid, uuid -> new AtomicLong()).incrementAndGet();
+		// Releases which are not yet part of the topology can only be discovered by reloading the whole topology
+		Topology current = topology;
+		if (current == null || !current.releases.containsKey(releaseUuid)) {
+			invalidateLocally();
+		}
+	}
+
+	private static long releaseGeneration(String releaseUuid) {
+		return RELEASE_GENERATIONS.computeIfAbsent(releaseUuid, uuid -> new AtomicLong()).get();
+	}
+
+	private static Topology getTopology(TopologyLoader loader) {
+		Topology current = topology;
+		if (current != null && current.generation == GENERATION.get()) {
+			return current;
+		}
+		synchronized (NodeIndexTopologyStore.class) {
+			current = topology;
+			long generation = GENERATION.get();
+			if (current != null && current.generation == generation) {
+				return current;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Loading node index topology");
+			}
+			current = new Topology(generation);
+			for (Entry<String, String> entry : loader.loadReleases().entrySet()) {
+				String releaseUuid = entry.getKey();
+				long releaseGeneration = releaseGeneration(releaseUuid);
+				Map<String, String> versions = loader.loadSchemaVersions(entry.getValue(), releaseUuid);
+				if (versions != null) {
+					current.releases.put(releaseUuid, new ReleaseTopology(entry.getValue(), releaseUuid, versions, releaseGeneration));
+				}
+			}
+			topology = current;
+			return current;
+		}
+	}
+
+	private static ReleaseTopology reloadRelease(Topology current, TopologyLoader loader, String projectUuid, String releaseUuid) {
+		long releaseGeneration = releaseGeneration(releaseUuid);
+		Map<String, String> versions = loader.loadSchemaVersions(projectUuid, releaseUuid);
+		if (versions == null) {
+			current.releases.remove(releaseUuid);
+			return null;
+		}
+		ReleaseTopology release = new ReleaseTopology(projectUuid, releaseUuid, versions, releaseGeneration);
+		current.releases.put(releaseUuid, release);
+		return release;
+	}
+
+	private static class Topology {
+
+		private final long generation;
+
+		private final Map<String, ReleaseTopology> releases = new ConcurrentHashMap<>();
+
+		Topology(long generation) {
+			this.generation = generation;
+		}
+	}
+
+	/**
+	 * Active schema versions and node index names of a single release.
+	 */
+	public static class ReleaseTopology {
+
+		private final String projectUuid;
+
+		private final String releaseUuid;
+
+		private final Map<String, String> schemaVersions;
+
+		private final Map<ContainerType, Set<String>> indexNames = new EnumMap<>(ContainerType.class);
+
+		private final long generation;
+
+		ReleaseTopology(String projectUuid, String releaseUuid, Map<String, String> schemaVersions, long generation) {
+			this.projectUuid = projectUuid;
+			this.releaseUuid = releaseUuid;
+			this.schemaVersions = Collections.unmodifiableMap(new HashMap<>(schemaVersions));
+			this.generation = generation;
+			for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
+				Set<String> names = new HashSet<>();
+				for (String versionUuid : schemaVersions.keySet()) {
+					names.add(NodeGraphFieldContainer.composeIndexName(projectUuid, releaseUuid, versionUuid, type));
+				}
+				indexNames.put(type, Collections.unmodifiableSet(names));
+			}
+		}
+
+		public String getProjectUuid() {
+			return projectUuid;
+		}
+
+		public String getReleaseUuid() {
+			return releaseUuid;
+		}
+
+		/**
+		 * Return the active schema versions of the release.
+		 * 
+		 * @return Map of schema version uuids and the uuids of their schema containers
+		 */
+		public Map<String, String> getSchemaVersions() {
+			return schemaVersions;
+		}
+
+		/**
+		 * Return the names of the node indices of the release for the given type.
+		 * 
+		 * @param type
+		 *            Draft or published
+		 * @return
+		 */
+		public Set<String> getIndexNames(ContainerType type) {
+			Set<String> names = indexNames.get(type);
+			return names == null ? Collections.emptySet() : names;
+		}
+	}
+
+}
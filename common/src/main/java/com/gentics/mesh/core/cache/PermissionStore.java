@@ -3,63 +3,201 @@ package com.gentics.mesh.core.cache;
 import static com.gentics.mesh.Events.EVENT_CLEAR_PERMISSION_STORE;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
-import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.graphdb.spi.TxHooks;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
-import io.vertx.core.logging.Logger;
-import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ * 
+ * The cache stores granting and denying results. Results are stored per role set so that users which share the same roles also share the cached
+ * entries. The roles of a user are cached separately. Changes to the group / role assignments thus only need to invalidate the role set cache while
+ * changes to the permissions of a role or element only invalidate the affected entries.
+ * 
+ * Invalidations which are caused by changes are executed once the modifying transaction has been closed and increment a global sequence. Permission
+ * checks capture the sequence before they start. Results of checks which were running while the element, a role or the role sets got invalidated will
+ * not be stored since they may reflect the old state.
  */
 public final class PermissionStore {
 
-	private static final Logger log = LoggerFactory.getLogger(PermissionStore.class);
+	/**
+	 * Event message key which contains the ids of the roles for which the entries should be invalidated.
+	 */
+	public static final String ROLE_IDS_KEY = "roleIds";
+
+	/**
+	 * Event message key which contains the ids of the elements for which the entries should be invalidated.
+	 */
+	public static final String ELEMENT_IDS_KEY = "elementIds";
+
+	/**
+	 * Event message key which indicates that only the role sets of the users should be invalidated.
+	 */
+	public static final String ROLE_SETS_KEY = "roleSets";
+
+	/**
+	 * Cached permissions per element. The string representation of the vertex id is used as key since element ids of other instances in the cluster can
+	 * only be compared via their string representation.
+	 */
+	public static final Cache<String, ElementPermissions> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30,
+			TimeUnit.MINUTES).build();
+
+	public static final Cache<Object, RoleSet> ROLE_CACHE = Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
 
-	public static final Cache<String, Boolean> PERM_CACHE = Caffeine.newBuilder().maximumSize(100_000).expireAfterWrite(30, TimeUnit.MINUTES).build();
+	/**
+	 * Sequence which is incremented for each invalidation.
+	 */
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	/**
+	 * Sequence of the last invalidation of all entries.
+	 */
+	private static volatile long lastFullInvalidation;
+
+	/**
+	 * Sequence of the last invalidation of a role.
+	 */
+	private static volatile long lastRoleInvalidation;
+
+	/**
+	 * Sequence of the last invalidation of the role sets.
+	 */
+	private static volatile long lastRoleSetInvalidation;
 
 	/**
-	 * Check whether the granting user permission was stored in the cache.
+	 * Sequence of the last invalidation per element. Entries only need to be kept as long as permission checks may run.
+	 */
+	private static final Cache<String, Long> ELEMENT_INVALIDATIONS = Caffeine.newBuilder().expireAfterWrite(5, TimeUnit.MINUTES).build();
+
+	private PermissionStore() {
+	}
+
+	/**
+	 * Return the current sequence. The sequence must be determined before the permission gets checked and passed to
+	 * {@link #store(RoleSet, GraphPermission, Object, boolean, long)}.
+	 * 
+	 * @return
+	 */
+	public static long sequence() {
+		return SEQUENCE.get();
+	}
+
+	/**
+	 * Return the cached role set of the user. The loader will be invoked if no role set has been cached for the user. The loaded role set will not be
+	 * cached if the role sets were invalidated while it was loaded.
 	 * 
 	 * @param userId
 	 *            Vertex id of the user
+	 * @param loader
+	 *            Loader which is used to determine the role set of the user
+	 * @return
+	 */
+	public static RoleSet getRoleSet(Object userId, Function<Object, RoleSet> loader) {
+		RoleSet roles = ROLE_CACHE.getIfPresent(userId);
+		if (roles != null) {
+			return roles;
+		}
+		long sequence = sequence();
+		roles = loader.apply(userId);
+		if (roleSetInvalidation() > sequence) {
+			return roles;
+		}
+		ROLE_CACHE.put(userId, roles);
+		// The role sets may have been invalidated before the role set was stored
+		if (roleSetInvalidation() > sequence) {
+			ROLE_CACHE.invalidate(userId);
+		}
+		return roles;
+	}
+
+	/**
+	 * Return the cached permission result.
+	 * 
+	 * @param roles
+	 *            Roles of the user
 	 * @param permission
 	 *            Permission to check against
 	 * @param elementId
 	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
+	 * @return true if a granting permission was cached, false if a denying permission was cached or null if no result was cached
 	 */
-	public static boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = PERM_CACHE.getIfPresent(key);
-		return cachedPerm != null && cachedPerm;
+	public static Boolean getPermission(RoleSet roles, GraphPermission permission, Object elementId) {
+		ElementPermissions permissions = PERM_CACHE.getIfPresent(String.valueOf(elementId));
+		if (permissions == null) {
+			return null;
+		}
+		return permissions.get(roles, permission);
 	}
 
 	/**
-	 * Register the event handler which can be used to invalidate the LRU cache.
+	 * Store a granting or denying permission in the cache. The result will not be stored if it was invalidated while the permission was checked.
+	 * 
+	 * @param roles
+	 *            Roles of the user for which the permission was checked
+	 * @param permission
+	 *            Permission which was checked
+	 * @param elementId
+	 *            Id of the element for which the permission was checked
+	 * @param granted
+	 *            Whether the permission is granted
+	 * @param sequence
+	 *            Sequence which was determined before the permission was checked
+	 */
+	public static void store(RoleSet roles, GraphPermission permission, Object elementId, boolean granted, long sequence) {
+		String key = String.valueOf(elementId);
+		if (isInvalidated(key, sequence)) {
+			return;
+		}
+		PERM_CACHE.get(key, id -> new ElementPermissions()).put(roles, permission, granted);
+		// The element may have been invalidated before the result was stored
+		if (isInvalidated(key, sequence)) {
+			PERM_CACHE.invalidate(key);
+		}
+	}
+
+	private static boolean isInvalidated(String elementId, long sequence) {
+		if (lastFullInvalidation > sequence || lastRoleInvalidation > sequence) {
+			return true;
+		}
+		Long invalidation = ELEMENT_INVALIDATIONS.getIfPresent(elementId);
+		return invalidation != null && invalidation > sequence;
+	}
+
+	/**
+	 * Register the event handler which invalidates the cache when the permissions were changed by another instance in the cluster.
 	 */
 	public static void registerEventHandler() {
-		Mesh.vertx().eventBus().consumer(EVENT_CLEAR_PERMISSION_STORE, e -> {
-			if (log.isDebugEnabled()) {
-				log.debug("Clearing permission store due to received event from {" + e.address() + "}");
-			}
-			PERM_CACHE.invalidateAll();
-		});
+		ClusterCacheEvents.consume(EVENT_CLEAR_PERMISSION_STORE, PermissionStore::handleEvent);
 	}
 
 	/**
-	 * Create the cache key.
+	 * Invalidate the cache according to the given event message which was received from another instance in the cluster. A message without scope will
+	 * invalidate all entries.
 	 * 
-	 * @param userId
-	 * @param permission
-	 * @param elementId
-	 * @return
+	 * @param info
 	 */
-	private static String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	public static void handleEvent(JsonObject info) {
+		if (info == null) {
+			invalidateLocally();
+		} else if (info.containsKey(ROLE_IDS_KEY)) {
+			invalidateRolesLocally(info.getJsonArray(ROLE_IDS_KEY));
+		} else if (info.containsKey(ELEMENT_IDS_KEY)) {
+			JsonArray elementIds = info.getJsonArray(ELEMENT_IDS_KEY);
+			for (int i = 0; i < elementIds.size(); i++) {
+				invalidateElementLocally(elementIds.getString(i));
+			}
+		} else if (info.getBoolean(ROLE_SETS_KEY, false)) {
+			invalidateRoleSetsLocally();
+		} else {
+			invalidateLocally();
+		}
 	}
 
 	/**
@@ -69,10 +207,10 @@ public final class PermissionStore {
 	 */
 	public static void invalidate(boolean notify) {
 		// Invalidate locally
-		PERM_CACHE.invalidateAll();
+		invalidateLocally();
 		if (notify) {
 			// Send the event to inform other to purge the stored permissions
-			Mesh.vertx().eventBus().publish(EVENT_CLEAR_PERMISSION_STORE, null);
+			ClusterCacheEvents.publish(EVENT_CLEAR_PERMISSION_STORE, new JsonObject());
 		}
 	}
 
@@ -84,16 +222,79 @@ public final class PermissionStore {
 	}
 
 	/**
-	 * Store a granting permission in the cache.
+	 * Invalidate the cached role sets of all users. This is needed whenever the role assignment of groups or users changes. The cached permissions can
+	 * be kept since those are stored per role set. The invalidation is executed once the current transaction has been closed.
+	 */
+	public static void invalidateRoleSets() {
+		TxHooks.afterCommit(PermissionStore.class.getName() + ":roleSets", Boolean.TRUE, values -> {
+			invalidateRoleSetsLocally();
+			ClusterCacheEvents.publish(EVENT_CLEAR_PERMISSION_STORE, new JsonObject().put(ROLE_SETS_KEY, true));
+		});
+	}
+
+	/**
+	 * Invalidate all cached permissions which were stored for role sets that contain the given role. This is needed when a role gets deleted. The
+	 * invalidation is executed once the current transaction has been closed.
+	 * 
+	 * @param roleId
+	 *            Vertex id of the role
+	 */
+	public static void invalidateRole(Object roleId) {
+		TxHooks.afterCommit(PermissionStore.class.getName() + ":roles", String.valueOf(roleId), roleIds -> {
+			JsonArray published = new JsonArray();
+			roleIds.forEach(published::add);
+			invalidateRolesLocally(published);
+			ClusterCacheEvents.publish(EVENT_CLEAR_PERMISSION_STORE, new JsonObject().put(ROLE_IDS_KEY, published));
+		});
+	}
+
+	/**
+	 * Invalidate all cached permissions for the given element. This is needed whenever permissions on the element are granted or revoked. The
+	 * invalidation is executed once the current transaction has been closed. Invalidations within the same transaction are coalesced into a single
+	 * event.
 	 * 
-	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
-	 * @param permission
-	 *            Permission which is granted
 	 * @param elementId
-	 *            Id of the element to which a permission is granted
+	 *            Vertex id of the element
 	 */
-	public static void store(Object userId, GraphPermission permission, Object elementId) {
-		PERM_CACHE.put(createCacheKey(userId, permission, elementId), true);
+	public static void invalidateElement(Object elementId) {
+		TxHooks.afterCommit(PermissionStore.class.getName() + ":elements", String.valueOf(elementId), elementIds -> {
+			JsonArray published = new JsonArray();
+			for (String id : elementIds) {
+				invalidateElementLocally(id);
+				published.add(id);
+			}
+			ClusterCacheEvents.publish(EVENT_CLEAR_PERMISSION_STORE, new JsonObject().put(ELEMENT_IDS_KEY, published));
+		});
 	}
+
+	private static void invalidateLocally() {
+		lastFullInvalidation = SEQUENCE.incrementAndGet();
+		PERM_CACHE.invalidateAll();
+		ROLE_CACHE.invalidateAll();
+	}
+
+	private static void invalidateRoleSetsLocally() {
+		lastRoleSetInvalidation = SEQUENCE.incrementAndGet();
+		ROLE_CACHE.invalidateAll();
+	}
+
+	private static void invalidateRolesLocally(JsonArray roleIds) {
+		lastRoleInvalidation = SEQUENCE.incrementAndGet();
+		for (int i = 0; i < roleIds.size(); i++) {
+			String roleId = roleIds.getString(i);
+			// Role deletions are rare. Thus the entries of the role are not indexed.
+			PERM_CACHE.asMap().values().forEach(permissions -> permissions.removeRole(roleId));
+			ROLE_CACHE.asMap().values().removeIf(roles -> roles.containsRole(roleId));
+		}
+	}
+
+	private static void invalidateElementLocally(String elementId) {
+		ELEMENT_INVALIDATIONS.put(elementId, SEQUENCE.incrementAndGet());
+		PERM_CACHE.invalidate(elementId);
+	}
+
+	private static long roleSetInvalidation() {
+		return Math.max(lastFullInvalidation, Math.max(lastRoleSetInvalidation, lastRoleInvalidation));
+	}
+
 }
@@ -0,0 +1,77 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable set of role vertex ids. The role set is used as part of the permission cache key so that all users which share the same roles also share
+ * the cached permission results. The hashcode is computed once since the set is used for each permission cache lookup.
+ */
+public final class RoleSet {
+
+	private final Object[] roleIds;
+
+	private final Set<String> roleIdStrings;
+
+	private final int hash;
+
+	/**
+	 * Create a new role set.
+	 * 
+	 * @param roleIds
+	 *            Vertex ids of the roles
+	 */
+	public RoleSet(Collection<?> roleIds) {
+		this.roleIds = new HashSet<>(roleIds).toArray();
+		Set<String> strings = new HashSet<>();
+		for (Object roleId : this.roleIds) {
+			strings.add(String.valueOf(roleId));
+		}
+		this.roleIdStrings = Collections.unmodifiableSet(strings);
+		// The set hashcode does not depend on the order of the ids
+		this.hash = roleIdStrings.hashCode();
+	}
+
+	/**
+	 * Return the vertex ids of the roles within the set.
+	 * 
+	 * @return
+	 */
+	public Object[] getRoleIds() {
+		return roleIds;
+	}
+
+	/**
+	 * Check whether the role with the given id (string representation) is part of the set.
+	 * 
+	 * @param roleId
+	 * @return
+	 */
+	public boolean containsRole(String roleId) {
+		return roleIdStrings.contains(roleId);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof RoleSet)) {
+			return false;
+		}
+		RoleSet other = (RoleSet) obj;
+		return hash == other.hash && roleIdStrings.equals(other.roleIdStrings);
+	}
+
+	@Override
+	public String toString() {
+		return "RoleSet" + roleIdStrings;
+	}
+}
@@ -0,0 +1,141 @@
+package com.gentics.mesh.core.cache;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Cached result of a webroot path resolution. The entry references the field container of the last path segment by its vertex id and the uuids of the
+ * nodes of all path segments.
+ */
+public class WebrootPathEntry {
+
+	private final String releaseUuid;
+
+	private final Object containerId;
+
+	private final String fieldKey;
+
+	private final boolean binaryField;
+
+	private final String languageTag;
+
+	private final Set<String> nodeUuids;
+
+	private final long sequence;
+
+	/**
+	 * Create a new entry.
+	 * 
+	 * @param releaseUuid
+	 *            Uuid of the release for which the path was resolved
+	 * @param containerId
+	 *            Vertex id of the field container
+	 * @param fieldKey
+	 *            Key of the field which provided the segment or null if the path was resolved via an url field
+	 * @param binaryField
+	 *            Whether the segment was provided by a binary field
+	 * @param languageTag
+	 *            Language of the segment
+	 * @param nodeUuids
+	 *            Uuids of the nodes of all path segments
+	 */
+	public WebrootPathEntry(String releaseUuid, Object containerId, String fieldKey, boolean binaryField, String languageTag, Set<String> nodeUuids) {
+		this(releaseUuid, containerId, fieldKey, binaryField, languageTag, nodeUuids, 0);
+	}
+
+	private WebrootPathEntry(String releaseUuid, Object containerId, String fieldKey, boolean binaryField, String languageTag, Set<String> nodeUuids,
+			long sequence) {
+		this.releaseUuid = releaseUuid;
+		this.containerId = containerId;
+		this.fieldKey = fieldKey;
+		this.binaryField = binaryField;
+		this.languageTag = languageTag;
+		this.nodeUuids = nodeUuids;
+		this.sequence = sequence;
+	}
+
+	/**
+	 * Create an entry for a path which could not be resolved.
+	 * 
+	 * @param releaseUuid
+	 * @param sequence
+	 *            Sequence of the {@link WebrootPathStore} which was determined before the path was resolved
+	 * @return
+	 */
+	public static WebrootPathEntry notFound(String releaseUuid, long sequence) {
+		return new WebrootPathEntry(releaseUuid, null, null, false, null, Collections.emptySet(), sequence);
+	}
+
+	/**
+	 * Check whether the path could be resolved.
+	 * 
+	 * @return
+	 */
+	public boolean isFound() {
+		return containerId != null;
+	}
+
+	/**
+	 * Return the vertex id of the field container.
+	 * 
+	 * @return
+	 */
+	public Object getContainerId() {
+		return containerId;
+	}
+
+	/**
+	 * Return the key of the field which provided the segment.
+	 * 
+	 * @return
+	 */
+	public String getFieldKey() {
+		return fieldKey;
+	}
+
+	/**
+	 * Check whether the segment was provided by a binary field.
+	 * 
+	 * @return
+	 */
+	public boolean isBinaryField() {
+		return binaryField;
+	}
+
+	/**
+	 * Return the language of the segment.
+	 * 
+	 * @return
+	 */
+	public String getLanguageTag() {
+		return languageTag;
+	}
+
+	/**
+	 * Return the uuid of the release for which the path was resolved.
+	 * 
+	 * @return
+	 */
+	public String getReleaseUuid() {
+		return releaseUuid;
+	}
+
+	/**
+	 * Return the uuids of the nodes of all path segments.
+	 * 
+	 * @return
+	 */
+	public Set<String> getNodeUuids() {
+		return nodeUuids;
+	}
+
+	/**
+	 * Return the sequence which was determined before the path could not be resolved.
+	 * 
+	 * @return
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+}
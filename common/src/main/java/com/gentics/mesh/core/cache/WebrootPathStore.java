@@ -0,0 +1,333 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.Events.EVENT_CLEAR_WEBROOT_PATH_CACHE;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.graphdb.spi.TxHooks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Central cache for resolved webroot paths.
+ * 
+ * The cache stores the id of the field container to which a path of a project, release and container type was resolved. Each entry references the
+ * nodes of all segments of the path. Changes of the webroot path information of a node only invalidate the entries which reference the node. Paths
+ * which could not be resolved are also cached for a short time. These entries are invalidated by any change within their release since the change may
+ * make the path resolvable.
+ * 
+ * Since url fields take precedence over the segment fields, changes of url field values additionally invalidate the entries of the affected paths.
+ * 
+ * Invalidations are executed once the modifying transaction has been closed and increment a global sequence. Resolutions capture the sequence before
+ * they start. Results of resolutions which were running while a referenced node, the path or the release got invalidated will not be stored since
+ * they may reflect the old state.
+ */
+public final class WebrootPathStore {
+
+	/**
+	 * Event message key which contains the uuid of the release for which the paths should be invalidated.
+	 */
+	public static final String RELEASE_UUID_KEY = "releaseUuid";
+
+	/**
+	 * Event message key which contains the uuids of the nodes for which the paths should be invalidated.
+	 */
+	public static final String NODE_UUIDS_KEY = "nodeUuids";
+
+	/**
+	 * Event message key which contains the cache keys of the paths which should be invalidated.
+	 */
+	public static final String PATH_KEYS_KEY = "pathKeys";
+
+	private static final long FOUND_TTL = TimeUnit.MINUTES.toNanos(30);
+
+	private static final long NOT_FOUND_TTL = TimeUnit.MINUTES.toNanos(1);
+
+	private static final Cache<String, WebrootPathEntry> PATH_CACHE = Caffeine.newBuilder().maximumSize(50_000).expireAfter(
+			new Expiry<String, WebrootPathEntry>() {
+				@Override
+				public long expireAfterCreate(String key, WebrootPathEntry value, long currentTime) {
+					return value.isFound() ? FOUND_TTL : NOT_FOUND_TTL;
+				}
+
+				@Override
+				public long expireAfterUpdate(String key, WebrootPathEntry value, long currentTime, long currentDuration) {
+					return expireAfterCreate(key, value, currentTime);
+				}
+
+				@Override
+				public long expireAfterRead(String key, WebrootPathEntry value, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			}).removalListener(WebrootPathStore::onRemoval).build();
+
+	/**
+	 * Sequence which is incremented for each invalidation.
+	 */
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	/**
+	 * Sequence of the last invalidation of all entries.
+	 */
+	private static volatile long lastFullInvalidation;
+
+	/**
+	 * Sequence of the last invalidation per release.
+	 */
+	private static final Map<String, Long> RELEASE_INVALIDATIONS = new ConcurrentHashMap<>();
+
+	/**
+	 * Sequence of the last invalidation per release and node. Entries only need to be kept as long as resolutions may run.
+	 */
+	private static final Cache<String, Long> NODE_INVALIDATIONS = Caffeine.newBuilder().expireAfterWrite(5, TimeUnit.MINUTES).build();
+
+	/**
+	 * Sequence of the last invalidation per path key. Entries only need to be kept as long as resolutions may run.
+	 */
+	private static final Cache<String, Long> PATH_INVALIDATIONS = Caffeine.newBuilder().expireAfterWrite(5, TimeUnit.MINUTES).build();
+
+	/**
+	 * Keys of the cached paths per release and node.
+	 */
+	private static final Map<String, Set<String>> NODE_KEYS = new ConcurrentHashMap<>();
+
+	private WebrootPathStore() {
+	}
+
+	/**
+	 * Return the cache key for the given path.
+	 * 
+	 * @param projectUuid
+	 * @param releaseUuid
+	 * @param type
+	 * @param path
+	 * @return
+	 */
+	public static String key(String projectUuid, String releaseUuid, ContainerType type, String path) {
+		return projectUuid + "-" + releaseUuid + "-" + type.getCode() + ":" + path;
+	}
+
+	/**
+	 * Return the current sequence. The sequence must be determined before the path gets resolved and passed to
+	 * {@link #store(String, String, WebrootPathEntry, long)}.
+	 * 
+	 * @return
+	 */
+	public static long sequence() {
+		return SEQUENCE.get();
+	}
+
+	/**
+	 * Return the cached entry.
+	 * 
+	 * @param releaseUuid
+	 * @param key
+	 * @return Cached entry or null if the path has not been cached
+	 */
+	public static WebrootPathEntry get(String releaseUuid, String key) {
+		WebrootPathEntry entry = PATH_CACHE.getIfPresent(key);
+		if (entry != null && !entry.isFound() && entry.getSequence() < releaseInvalidation(releaseUuid)) {
+			// The release changed after the path could not be resolved
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Store the resolved path. The entry will not be stored if it was invalidated while the path was resolved.
+	 * 
+	 * @param releaseUuid
+	 * @param key
+	 * @param entry
+	 * @param sequence
+	 *            Sequence which was determined before the path was resolved
+	 */
+	public static void store(String releaseUuid, String key, WebrootPathEntry entry, long sequence) {
+		if (lastFullInvalidation > sequence || isPathInvalidated(key, sequence)) {
+			return;
+		}
+		if (!entry.isFound()) {
+			if (releaseInvalidation(releaseUuid) <= sequence) {
+				PATH_CACHE.put(key, entry);
+			}
+			return;
+		}
+		if (isNodeInvalidated(releaseUuid, entry, sequence)) {
+			return;
+		}
+		PATH_CACHE.put(key, entry);
+		// The keys must be registered after the entry has been stored. Otherwise the removal of a previous entry could unregister them again.
+		for (String nodeUuid : entry.getNodeUuids()) {
+			NODE_KEYS.computeIfAbsent(nodeKey(releaseUuid, nodeUuid), k -> ConcurrentHashMap.newKeySet()).add(key);
+		}
+		// A node or the path may have been invalidated before the key was registered
+		if (isNodeInvalidated(releaseUuid, entry, sequence) || isPathInvalidated(key, sequence)) {
+			PATH_CACHE.invalidate(key);
+		}
+	}
+
+	private static boolean isPathInvalidated(String key, long sequence) {
+		Long invalidation = PATH_INVALIDATIONS.getIfPresent(key);
+		return invalidation != null && invalidation > sequence;
+	}
+
+	private static boolean isNodeInvalidated(String releaseUuid, WebrootPathEntry entry, long sequence) {
+		for (String nodeUuid : entry.getNodeUuids()) {
+			Long invalidation = NODE_INVALIDATIONS.getIfPresent(nodeKey(releaseUuid, nodeUuid));
+			if (invalidation != null && invalidation > sequence) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Remove a single entry. This is used when a cached entry turned out to be outdated.
+	 * 
+	 * @param key
+	 */
+	public static void remove(String key) {
+		PATH_CACHE.invalidate(key);
+	}
+
+	/**
+	 * Register the event handler which invalidates the cache when the paths were changed by another instance in the cluster.
+	 */
+	public static void registerEventHandler() {
+		ClusterCacheEvents.consume(EVENT_CLEAR_WEBROOT_PATH_CACHE, WebrootPathStore::handleEvent);
+	}
+
+	/**
+	 * Invalidate the cache according to the given event message which was received from another instance in the cluster. A message without release will
+	 * invalidate all entries.
+	 * 
+	 * @param info
+	 */
+	public static void handleEvent(JsonObject info) {
+		String releaseUuid = info == null ? null : info.getString(RELEASE_UUID_KEY);
+		if (releaseUuid == null) {
+			invalidateLocally();
+			return;
+		}
+		JsonArray nodeUuids = info.getJsonArray(NODE_UUIDS_KEY, new JsonArray());
+		for (int i = 0; i < nodeUuids.size(); i++) {
+			invalidateNodeLocally(releaseUuid, nodeUuids.getString(i));
+		}
+		JsonArray pathKeys = info.getJsonArray(PATH_KEYS_KEY, new JsonArray());
+		for (int i = 0; i < pathKeys.size(); i++) {
+			invalidatePathLocally(pathKeys.getString(i));
+		}
+	}
+
+	/**
+	 * Invalidate all cached paths of the release which lead to or through the given node. This is needed whenever the webroot path information of a
+	 * container of the node changes. The invalidation is executed once the current transaction has been closed. Invalidations of the same release are
+	 * coalesced into a single event.
+	 * 
+	 * @param releaseUuid
+	 * @param nodeUuid
+	 */
+	public static void invalidateNode(String releaseUuid, String nodeUuid) {
+		TxHooks.afterCommit(WebrootPathStore.class.getName() + ":" + releaseUuid, nodeUuid, nodeUuids -> {
+			JsonArray published = new JsonArray();
+			for (String uuid : nodeUuids) {
+				invalidateNodeLocally(releaseUuid, uuid);
+				published.add(uuid);
+			}
+			ClusterCacheEvents.publish(EVENT_CLEAR_WEBROOT_PATH_CACHE, new JsonObject().put(RELEASE_UUID_KEY, releaseUuid).put(NODE_UUIDS_KEY,
+					published));
+		});
+	}
+
+	/**
+	 * Invalidate the cached paths with the given keys. This is needed whenever url field values are added or removed, since the url field index takes
+	 * precedence over the segment fields and the cached entries of these paths may thus reference other nodes. The invalidation is executed once the
+	 * current transaction has been closed. Invalidations of the same release are coalesced into a single event.
+	 * 
+	 * @param releaseUuid
+	 * @param keys
+	 *            Cache keys of the paths
+	 */
+	public static void invalidatePaths(String releaseUuid, Collection<String> keys) {
+		for (String key : keys) {
+			TxHooks.afterCommit(WebrootPathStore.class.getName() + ":paths:" + releaseUuid, key, pathKeys -> {
+				JsonArray published = new JsonArray();
+				for (String pathKey : pathKeys) {
+					invalidatePathLocally(pathKey);
+					published.add(pathKey);
+				}
+				ClusterCacheEvents.publish(EVENT_CLEAR_WEBROOT_PATH_CACHE, new JsonObject().put(RELEASE_UUID_KEY, releaseUuid).put(PATH_KEYS_KEY,
+						published));
+			});
+		}
+	}
+
+	/**
+	 * Invalidate all cached paths.
+	 */
+	public static void invalidate() {
+		invalidateLocally();
+		ClusterCacheEvents.publish(EVENT_CLEAR_WEBROOT_PATH_CACHE, new JsonObject());
+	}
+
+	private static void invalidateNodeLocally(String releaseUuid, String nodeUuid) {
+		long sequence = SEQUENCE.incrementAndGet();
+		String nodeKey = nodeKey(releaseUuid, nodeUuid);
+		NODE_INVALIDATIONS.put(nodeKey, sequence);
+		RELEASE_INVALIDATIONS.put(releaseUuid, sequence);
+		Set<String> keys = NODE_KEYS.remove(nodeKey);
+		if (keys != null) {
+			PATH_CACHE.invalidateAll(keys);
+		}
+	}
+
+	private static void invalidatePathLocally(String key) {
+		PATH_INVALIDATIONS.put(key, SEQUENCE.incrementAndGet());
+		PATH_CACHE.invalidate(key);
+	}
+
+	private static void invalidateLocally() {
+		lastFullInvalidation = SEQUENCE.incrementAndGet();
+		PATH_CACHE.invalidateAll();
+		NODE_KEYS.clear();
+	}
+
+	private static long releaseInvalidation(String releaseUuid) {
+		return Math.max(lastFullInvalidation, RELEASE_INVALIDATIONS.getOrDefault(releaseUuid, 0L));
+	}
+
+	private static String nodeKey(String releaseUuid, String nodeUuid) {
+		return releaseUuid + ":" + nodeUuid;
+	}
+
+	/**
+	 * Remove the key of a removed entry from the key sets of its nodes. The key is kept if it has already been stored again for the node.
+	 */
+	private static void onRemoval(String key, WebrootPathEntry entry, RemovalCause cause) {
+		if (key == null || entry == null || !entry.isFound()) {
+			return;
+		}
+		String releaseUuid = entry.getReleaseUuid();
+		for (String nodeUuid : entry.getNodeUuids()) {
+			NODE_KEYS.computeIfPresent(nodeKey(releaseUuid, nodeUuid), (k, keys) -> {
+				WebrootPathEntry current = PATH_CACHE.asMap().get(key);
+				if (current == null || !current.getNodeUuids().contains(nodeUuid)) {
+					keys.remove(key);
+				}
+				return keys.isEmpty() ? null : keys;
+			});
+		}
+	}
+
+}
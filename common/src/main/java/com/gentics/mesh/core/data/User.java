@@ -5,7 +5,9 @@ import static com.gentics.mesh.Events.EVENT_USER_DELETED;
 import static com.gentics.mesh.Events.EVENT_USER_UPDATED;
 import static com.gentics.mesh.search.SearchProvider.INDEX_PREFIX;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -198,6 +200,31 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	Set<GraphPermission> getPermissions(MeshVertex vertex);
 
+	/**
+	 * Check the given permissions for all elements with the given ids. The roles of the user will only be resolved once for all elements and cached
+	 * results will be reused. Permissions which are not cached are checked with a single traversal of the permission edges of the element. This method should be preferred over multiple {@link #hasPermissionForId(Object, GraphPermission)} calls when
+	 * permissions of lists of elements need to be checked.
+	 * 
+	 * @param elementIds
+	 *            Vertex ids of the elements
+	 * @param permissions
+	 *            Permissions to check
+	 * @return Map which contains the set of granted permissions for each of the given element ids
+	 */
+	Map<Object, Set<GraphPermission>> getPermissionsForIds(Collection<?> elementIds, GraphPermission... permissions);
+
+	/**
+	 * Filter the given elements and only return those elements for which the user has at least one of the given permissions. The order of the elements
+	 * will be retained.
+	 * 
+	 * @param elements
+	 *            Elements to filter
+	 * @param permissions
+	 *            Permissions to check
+	 * @return Filtered list of elements
+	 */
+	<T extends MeshVertex> List<T> filterByPermission(Collection<? extends T> elements, GraphPermission... permissions);
+
 	/**
 	 * This method will set CRUD permissions to the target node for all roles that would grant the given permission on the node. The method is most often used
 	 * to assign CRUD permissions on newly created elements. Example for adding CRUD permissions on a newly created project: The method will first determine the
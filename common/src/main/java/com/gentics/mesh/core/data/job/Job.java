@@ -32,6 +32,25 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	String NODE_NAME_PROPERTY_KEY = "nodeName";
 
+	String PRIORITY_PROPERTY_KEY = "priority";
+
+	String QUEUED_TIMESTAMP_PROPERTY_KEY = "queuedDate";
+
+	/**
+	 * Priority of jobs which should be started before other jobs, e.g. release migrations.
+	 */
+	int HIGH_PRIORITY = 10;
+
+	/**
+	 * Default priority of jobs.
+	 */
+	int NORMAL_PRIORITY = 5;
+
+	/**
+	 * Priority of jobs which may be started after all other jobs, e.g. reindex jobs.
+	 */
+	int LOW_PRIORITY = 0;
+
 	/**
 	 * The max length before detail error messages will be truncated
 	 */
@@ -298,4 +317,47 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 		setNodeName(nodeName);
 	}
 
+	/**
+	 * Return the priority of the job. Jobs with a higher priority will be started first unless they conflict with older jobs.
+	 * 
+	 * @return
+	 */
+	int getPriority();
+
+	/**
+	 * Set the priority of the job.
+	 * 
+	 * @param priority
+	 */
+	void setPriority(int priority);
+
+	/**
+	 * Return the timestamp at which the job was queued. This is the creation timestamp unless the job has been reset.
+	 * 
+	 * @return
+	 */
+	Long getQueuedTimestamp();
+
+	/**
+	 * Set the timestamp at which the job was queued.
+	 * 
+	 * @param timestamp
+	 */
+	void setQueuedTimestamp(Long timestamp);
+
+	/**
+	 * Return the time in milliseconds which the job has been waiting in the queue before it was started. The time of queued jobs is measured until now.
+	 * 
+	 * @return Wait time or null if the queue timestamp is unknown
+	 */
+	default Long getWaitTime() {
+		Long queued = getQueuedTimestamp();
+		if (queued == null) {
+			return null;
+		}
+		Long start = getStartTimestamp();
+		long end = start == null ? System.currentTimeMillis() : start;
+		return Math.max(0, end - queued);
+	}
+
 }
@@ -13,7 +13,7 @@ public interface JobRoot extends RootVertex<Job> {
 
 	/**
 	 * Enqueue a new job with the given information.
-	 *
+	 * 
 	 * @param creator
 	 * @param release
 	 * @param fromVersion
@@ -53,6 +53,14 @@ public interface JobRoot extends RootVertex<Job> {
 	 */
 	Job enqueueReleaseMigration(User creator, Release release);
 
+	/**
+	 * Enqueue a job which rebuilds all search indices.
+	 * 
+	 * @param creator
+	 * @return
+	 */
+	Job enqueueReindex(User creator);
+
 	/**
 	 * Process all remaining jobs.
 	 */
@@ -2,9 +2,15 @@ package com.gentics.mesh.core.data.page.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -15,6 +21,7 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.google.common.collect.Iterators;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.syncleus.ferma.tx.Tx;
@@ -32,6 +39,10 @@ import com.tinkerpop.blueprints.Vertex;
 public class DynamicTransformablePageImpl<T extends TransformableElement<? extends RestModel>> extends AbstractDynamicPage<T>
 		implements TransformablePage<T> {
 
+	private static final int MIN_PERMISSION_BATCH_SIZE = 25;
+
+	private static final int MAX_PERMISSION_BATCH_SIZE = 1000;
+
 	private User requestUser;
 
 	private Predicate<Vertex> extraFilter;
@@ -143,7 +154,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 		// Only handle elements which are visible to the user
 		if (perm != null) {
-			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
+			stream = applyPermissionFilter(stream, perm);
 		}
 
 		if (extraFilter != null) {
@@ -186,6 +197,25 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 	}
 
+	/**
+	 * Filter the stream by the given permission. The elements are checked in batches using the bulk permission API of the user in order to avoid
+	 * resolving the roles of the user for each element.
+	 * 
+	 * @param stream
+	 * @param perm
+	 * @return
+	 */
+	private Stream<Vertex> applyPermissionFilter(Stream<Vertex> stream, GraphPermission perm) {
+		// Use batches which are large enough to fill the page in most cases
+		int batchSize = Math.max(MIN_PERMISSION_BATCH_SIZE, Math.min(perPage, MAX_PERMISSION_BATCH_SIZE));
+		Iterator<List<Vertex>> batches = Iterators.partition(stream.iterator(), batchSize);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false).flatMap(batch -> {
+			List<Object> ids = batch.stream().map(Vertex::getId).collect(Collectors.toList());
+			Map<Object, Set<GraphPermission>> granted = requestUser.getPermissionsForIds(ids, perm);
+			return batch.stream().filter(item -> granted.get(item.getId()).contains(perm));
+		});
+	}
+
 	/**
 	 * Initialize the dynamic iterator which is bound to the most getters of this class. A stream is setup which is used to filter out the unwanted data. Paging
 	 * is also handled via the stream. At the end only a iterator is provided for the other methods. The iterator next method is invoked until the needed data
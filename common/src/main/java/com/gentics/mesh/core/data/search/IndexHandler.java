@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data.search;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.LongConsumer;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -65,6 +66,16 @@ public interface IndexHandler<T extends MeshCoreVertex<?, T>> {
 	 */
 	Completable reindexAll();
 
+	/**
+	 * Reindex all documents for the type which the handler is capable of. The elements will be processed in chunks and the given consumer will be
+	 * informed about the amount of elements which have been processed so far.
+	 * 
+	 * @param progress
+	 *            Consumer which receives the total amount of processed elements after each chunk
+	 * @return
+	 */
+	Completable reindexAll(LongConsumer progress);
+
 	/**
 	 * Load a map which contains the applicable indices. The key of the map is the index name.
 	 * 
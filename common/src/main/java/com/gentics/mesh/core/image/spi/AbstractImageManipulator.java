@@ -32,9 +32,26 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	protected Vertx vertx;
 
+	protected ImageVariantCache variantCache;
+
 	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
 		this.vertx = vertx;
 		this.options = options;
+		this.variantCache = new ImageVariantCache(new File(options.getImageCacheDirectory()), options.getImageCacheMaxSize());
+		// Scanning the cache folder may take a while. Requests will be served while the existing files are registered.
+		vertx.getDelegate().executeBlocking(bc -> {
+			variantCache.init();
+			bc.complete();
+		}, false, rh -> {
+			if (rh.failed()) {
+				log.error("Error while registering the image cache files", rh.cause());
+			}
+		});
+	}
+
+	@Override
+	public ImageVariantCache getVariantCache() {
+		return variantCache;
 	}
 
 	@Override
@@ -38,6 +38,13 @@ public interface ImageManipulator {
 	 */
 	File getCacheFile(String sha512sum, ImageManipulationParameters parameters);
 
+	/**
+	 * Return the cache which manages the resized image variants.
+	 * 
+	 * @return
+	 */
+	ImageVariantCache getVariantCache();
+
 	/**
 	 * Read the image information from the given image data stream.
 	 * 
@@ -0,0 +1,290 @@
+package com.gentics.mesh.core.image.spi;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.gentics.mesh.core.rest.admin.status.ImageCacheStatus;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Bounded cache for resized image variants which are stored in the image cache directory.
+ * 
+ * The cache keeps track of the size of all cache files and removes rarely used files once the configured size limit has been exceeded. Concurrent
+ * requests for the same variant which is not yet cached will share a single resize operation. New variants are first written to a temporary file which
+ * is atomically moved to the final location so that readers never see partially written files.
+ * 
+ * Existing cache files are registered by {@link #init()} which should be invoked in the background once the server starts. Requests which are served
+ * before the files have been registered will register the requested file individually.
+ */
+public class ImageVariantCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantCache.class);
+
+	private static final String TMP_SUFFIX = ".tmp";
+
+	private final File baseFolder;
+
+	private final long maxSize;
+
+	/**
+	 * Size of the cache files keyed by their absolute path.
+	 */
+	private final Cache<String, Long> entries;
+
+	/**
+	 * Operations which are currently creating a variant keyed by the absolute path of the cache file.
+	 */
+	private final Map<String, Single<File>> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	private volatile boolean initialized = false;
+
+	/**
+	 * Time at which the cache was created. Temporary files which were created before are leftovers of interrupted write operations.
+	 */
+	private final long created = System.currentTimeMillis();
+
+	/**
+	 * Create a new cache.
+	 * 
+	 * @param baseFolder
+	 *            Folder which contains the cache files
+	 * @param maxSize
+	 *            Maximum size of all cache files in bytes. A negative value disables the limit.
+	 */
+	public ImageVariantCache(File baseFolder, long maxSize) {
+		this.baseFolder = baseFolder;
+		this.maxSize = maxSize;
+		Caffeine<String, Long> builder = Caffeine.newBuilder().removalListener(this::onRemoval);
+		if (maxSize >= 0) {
+			builder.maximumWeight(maxSize).weigher((String key, Long size) -> (int) Math.min(Integer.MAX_VALUE, size));
+		}
+		this.entries = builder.build();
+	}
+
+	/**
+	 * Return the given cache file. The writer will be invoked if the file does not yet exist. The writer receives a temporary file to which the variant
+	 * must be written.
+	 * 
+	 * @param cacheFile
+	 *            Final location of the cache file
+	 * @param writer
+	 *            Function which creates the variant in the given temporary file
+	 * @return
+	 */
+	public Single<File> get(File cacheFile, Function<File, Completable> writer) {
+		String key = cacheFile.getAbsolutePath();
+		if (isCached(key, cacheFile)) {
+			hits.incrementAndGet();
+			return Single.just(cacheFile);
+		}
+		return inFlight.computeIfAbsent(key, k -> {
+			Single<File> operation;
+			// The variant may have been created by an operation which completed in the meantime
+			if (isCached(k, cacheFile)) {
+				hits.incrementAndGet();
+				operation = Single.just(cacheFile);
+			} else {
+				misses.incrementAndGet();
+				operation = create(cacheFile, writer);
+			}
+			return operation.doFinally(() -> inFlight.remove(k)).cache();
+		});
+	}
+
+	/**
+	 * Check whether the cache file exists. Files which have not yet been registered by {@link #init()} will be registered.
+	 * 
+	 * @param key
+	 * @param cacheFile
+	 * @return
+	 */
+	private boolean isCached(String key, File cacheFile) {
+		if (entries.getIfPresent(key) != null) {
+			return cacheFile.exists();
+		}
+		if (!initialized && cacheFile.exists()) {
+			entries.put(key, cacheFile.length());
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Create the variant in a temporary file and move it to the final location.
+	 * 
+	 * @param cacheFile
+	 * @param writer
+	 * @return
+	 */
+	private Single<File> create(File cacheFile, Function<File, Completable> writer) {
+		return Single.defer(() -> {
+			File folder = cacheFile.getParentFile();
+			if (!folder.exists()) {
+				folder.mkdirs();
+			}
+			File tmpFile = new File(folder, cacheFile.getName() + "." + UUIDUtil.randomUUID() + TMP_SUFFIX);
+			return writer.apply(tmpFile).andThen(Single.fromCallable(() -> {
+				Files.move(tmpFile.toPath(), cacheFile.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+				entries.put(cacheFile.getAbsolutePath(), cacheFile.length());
+				return cacheFile;
+			})).doOnError(e -> {
+				tmpFile.delete();
+			});
+		});
+	}
+
+	private void onRemoval(String key, Long size, RemovalCause cause) {
+		if (!cause.wasEvicted()) {
+			return;
+		}
+		evictions.incrementAndGet();
+		if (log.isDebugEnabled()) {
+			log.debug("Evicting image cache file {" + key + "} with size {" + size + "}");
+		}
+		File file = new File(key);
+		if (file.exists() && !file.delete()) {
+			log.warn("Could not delete evicted image cache file {" + key + "}");
+		}
+	}
+
+	/**
+	 * Register all existing cache files. Leftover temporary files from interrupted write operations will be removed. The folder is scanned only once
+	 * and the scan may take a while for large caches. It should thus be invoked using a worker thread.
+	 */
+	public void init() {
+		if (initialized) {
+			return;
+		}
+		synchronized (this) {
+			if (initialized) {
+				return;
+			}
+			long start = System.currentTimeMillis();
+			if (baseFolder.exists()) {
+				// Register the oldest files first so that they will be evicted first
+				try (Stream<Path> files = Files.walk(baseFolder.toPath())) {
+					files.filter(Files::isRegularFile).map(Path::toFile).sorted((a, b) -> Long.compare(a.lastModified(), b.lastModified()))
+						.forEach(file -> {
+							if (file.getName().endsWith(TMP_SUFFIX)) {
+								// Temporary files of running write operations must be kept
+								if (file.lastModified() < created) {
+									file.delete();
+								}
+							} else {
+								entries.put(file.getAbsolutePath(), file.length());
+							}
+						});
+				} catch (IOException e) {
+					log.error("Error while reading image cache folder {" + baseFolder.getAbsolutePath() + "}", e);
+				}
+			}
+			initialized = true;
+			log.info("Registered {" + entries.estimatedSize() + "} image cache files with a total size of {" + getSize() + "} bytes in {"
+				+ (System.currentTimeMillis() - start) + "} ms");
+		}
+	}
+
+	/**
+	 * Check whether the existing cache files have been registered.
+	 * 
+	 * @return
+	 */
+	public boolean isInitialized() {
+		return initialized;
+	}
+
+	/**
+	 * Return the amount of requests which were served from the cache.
+	 * 
+	 * @return
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Return the amount of requests which resulted in the creation of a new variant.
+	 * 
+	 * @return
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Return the amount of variants which were removed due to the size limit.
+	 * 
+	 * @return
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Return the total size of all cache files in bytes.
+	 * 
+	 * @return
+	 */
+	public long getSize() {
+		return entries.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElseGet(() -> {
+			return entries.asMap().values().stream().mapToLong(Long::longValue).sum();
+		});
+	}
+
+	/**
+	 * Return the maximum size of the cache in bytes.
+	 * 
+	 * @return Maximum size or a negative value if the cache is unbounded
+	 */
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Return the statistics of the cache.
+	 * 
+	 * @return
+	 */
+	public ImageCacheStatus getStatus() {
+		ImageCacheStatus status = new ImageCacheStatus();
+		status.setHits(getHits());
+		status.setMisses(getMisses());
+		status.setEvictions(getEvictions());
+		status.setSize(getSize());
+		status.setMaxSize(getMaxSize());
+		status.setInitialized(initialized);
+		return status;
+	}
+
+	/**
+	 * Perform pending maintenance operations like evictions. This is mainly useful for tests.
+	 */
+	public void cleanUp() {
+		entries.cleanUp();
+	}
+
+}
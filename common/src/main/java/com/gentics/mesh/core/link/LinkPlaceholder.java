@@ -0,0 +1,71 @@
+package com.gentics.mesh.core.link;
+
+/**
+ * A mesh link placeholder (e.g. <code>{{mesh.link('uuid', 'en')}}</code>) which was found within a content.
+ */
+public class LinkPlaceholder {
+
+	private final int start;
+
+	private final int end;
+
+	private final String uuid;
+
+	private final String languageTag;
+
+	/**
+	 * Create a new placeholder.
+	 * 
+	 * @param start
+	 *            Index of the first character of the placeholder within the content
+	 * @param end
+	 *            Index after the last character of the placeholder within the content
+	 * @param uuid
+	 *            Uuid of the link target
+	 * @param languageTag
+	 *            Language of the link target or null if no language was specified
+	 */
+	public LinkPlaceholder(int start, int end, String uuid, String languageTag) {
+		this.start = start;
+		this.end = end;
+		this.uuid = uuid;
+		this.languageTag = languageTag;
+	}
+
+	/**
+	 * Return the index of the first character of the placeholder.
+	 * 
+	 * @return
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * Return the index after the last character of the placeholder.
+	 * 
+	 * @return
+	 */
+	public int getEnd() {
+		return end;
+	}
+
+	/**
+	 * Return the uuid of the link target.
+	 * 
+	 * @return
+	 */
+	public String getUuid() {
+		return uuid;
+	}
+
+	/**
+	 * Return the language of the link target.
+	 * 
+	 * @return Language tag or null if the placeholder did not specify a language
+	 */
+	public String getLanguageTag() {
+		return languageTag;
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.gentics.mesh.core.link;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Scanner which locates mesh link placeholders within a content in a single pass and renders the content with the resolved links.
+ * 
+ * The arguments of a placeholder are separated by commas. Single and double quotes (also escaped double quotes) around the arguments are ignored. The
+ * first argument is the uuid of the link target. The optional second argument is the language of the target.
+ */
+public final class LinkScanner {
+
+	public static final String START_TAG = "{{mesh.link(";
+
+	public static final String END_TAG = ")}}";
+
+	private LinkScanner() {
+	}
+
+	/**
+	 * Locate all link placeholders within the content.
+	 * 
+	 * @param content
+	 * @return Found placeholders in order of appearance
+	 */
+	public static List<LinkPlaceholder> scan(String content) {
+		if (content == null) {
+			return Collections.emptyList();
+		}
+		List<LinkPlaceholder> links = null;
+		int pos = content.indexOf(START_TAG);
+		while (pos != -1) {
+			int argStart = pos + START_TAG.length();
+			int endPos = content.indexOf(END_TAG, argStart);
+			if (endPos == -1) {
+				break;
+			}
+			if (links == null) {
+				links = new ArrayList<>();
+			}
+			links.add(parse(content, pos, argStart, endPos));
+			pos = content.indexOf(START_TAG, endPos + END_TAG.length());
+		}
+		return links == null ? Collections.emptyList() : links;
+	}
+
+	/**
+	 * Render the content by replacing the given placeholders with the output of the resolver.
+	 * 
+	 * @param content
+	 * @param links
+	 *            Placeholders which were found via {@link #scan(String)}
+	 * @param resolver
+	 *            Function which returns the rendered link for the placeholder
+	 * @return
+	 */
+	public static String render(String content, List<LinkPlaceholder> links, Function<LinkPlaceholder, String> resolver) {
+		if (links.isEmpty()) {
+			return content;
+		}
+		StringBuilder builder = new StringBuilder(content.length() + links.size() * 32);
+		int lastPos = 0;
+		for (LinkPlaceholder link : links) {
+			builder.append(content, lastPos, link.getStart());
+			builder.append(resolver.apply(link));
+			lastPos = link.getEnd();
+		}
+		builder.append(content, lastPos, content.length());
+		return builder.toString();
+	}
+
+	/**
+	 * Parse the arguments of the placeholder.
+	 * 
+	 * @param content
+	 * @param pos
+	 *            Start of the placeholder
+	 * @param argStart
+	 *            Start of the arguments
+	 * @param argEnd
+	 *            End of the arguments
+	 * @return
+	 */
+	private static LinkPlaceholder parse(String content, int pos, int argStart, int argEnd) {
+		String uuid = null;
+		String languageTag = null;
+		// Amount of arguments, not counting trailing empty arguments
+		int count = 0;
+		int argCount = 0;
+		int from = argStart;
+		while (from <= argEnd) {
+			int comma = content.indexOf(',', from);
+			int to = comma == -1 || comma > argEnd ? argEnd : comma;
+			String argument = stripQuotes(content, from, to);
+			argCount++;
+			if (argCount == 1) {
+				uuid = argument;
+			} else if (argCount == 2) {
+				languageTag = argument;
+			}
+			if (!argument.isEmpty()) {
+				count = argCount;
+			}
+			from = to + 1;
+		}
+		if (count < 1) {
+			uuid = "";
+		}
+		if (count != 2) {
+			languageTag = null;
+		} else {
+			languageTag = languageTag.trim();
+		}
+		return new LinkPlaceholder(pos, argEnd + END_TAG.length(), uuid.trim(), languageTag);
+	}
+
+	/**
+	 * Return the given section of the content without single quotes, double quotes and escaped double quotes.
+	 * 
+	 * @param content
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	private static String stripQuotes(String content, int from, int to) {
+		int i = from;
+		while (i < to) {
+			char c = content.charAt(i);
+			if (c == '\'' || c == '"' || c == '\\') {
+				break;
+			}
+			i++;
+		}
+		// Fast path for arguments without quotes
+		if (i == to) {
+			return content.substring(from, to);
+		}
+		StringBuilder builder = new StringBuilder(to - from);
+		builder.append(content, from, i);
+		for (; i < to; i++) {
+			char c = content.charAt(i);
+			if (c == '\'' || c == '"') {
+				continue;
+			}
+			if (c == '\\' && i + 1 < to && content.charAt(i + 1) == '"') {
+				i++;
+				continue;
+			}
+			builder.append(c);
+		}
+		return builder.toString();
+	}
+
+}
@@ -7,6 +7,8 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -33,8 +35,10 @@ import io.vertx.core.logging.LoggerFactory;
 @Singleton
 public class WebRootLinkReplacer {
 
-	private static final String START_TAG = "{{mesh.link(";
-	private static final String END_TAG = ")}}";
+	/**
+	 * Key of the action context data which holds the links that were already resolved for the current request.
+	 */
+	private static final String RESOLVED_LINKS_DATA_KEY = "resolvedLinks";
 
 	private static final Logger log = LoggerFactory.getLogger(WebRootLinkReplacer.class);
 
@@ -69,60 +73,47 @@ public class WebRootLinkReplacer {
 			return content;
 		}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
-		int lastPos = 0;
-		int length = content.length();
+		// 1. Locate all links within the content
+		List<LinkPlaceholder> links = LinkScanner.scan(content);
+		if (links.isEmpty()) {
+			return content;
+		}
 
-		// 1. Tokenize the content
-		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
-			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
+		// 2. Render the content while resolving each distinct link target only once per request
+		String[] fallbackLanguageTags = languageTags == null ? null : languageTags.toArray(new String[languageTags.size()]);
+		Map<String, String> resolved = getResolvedLinks(ac);
+		String keyPrefix = releaseUuid + "|" + edgeType + "|" + type + "|" + projectName + "|" + (languageTags == null ? "" : String.join(",",
+				languageTags)) + "|";
+		return LinkScanner.render(content, links, link -> {
+			String key = keyPrefix + link.getUuid() + "|" + link.getLanguageTag();
+			String rendered = resolved.get(key);
+			if (rendered == null) {
+				if (link.getLanguageTag() != null) {
+					rendered = resolve(ac, releaseUuid, edgeType, link.getUuid(), type, projectName, link.getLanguageTag());
+				} else if (fallbackLanguageTags != null) {
+					rendered = resolve(ac, releaseUuid, edgeType, link.getUuid(), type, projectName, fallbackLanguageTags);
+				} else {
+					rendered = resolve(ac, releaseUuid, edgeType, link.getUuid(), type, projectName);
 				}
-				break;
-			}
-			int endPos = content.indexOf(END_TAG, pos);
-			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
-			}
-
-			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
-			}
-
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
-			if (linkArguments.length == 2) {
-				segments.add(resolve(ac, releaseUuid, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
-			} else if (languageTags != null) {
-				segments.add(resolve(ac, releaseUuid, edgeType, linkArguments[0], type, projectName,
-						languageTags.toArray(new String[languageTags.size()])));
-			} else {
-				segments.add(resolve(ac, releaseUuid, edgeType, linkArguments[0], type, projectName));
+				resolved.put(key, rendered);
 			}
+			return rendered;
+		});
+	}
 
-			lastPos = endPos + END_TAG.length();
+	/**
+	 * Return the map of links which were already resolved for the request of the action context.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	private Map<String, String> getResolvedLinks(InternalActionContext ac) {
+		Map<String, String> resolved = ac.get(RESOLVED_LINKS_DATA_KEY);
+		if (resolved == null) {
+			resolved = new ConcurrentHashMap<>();
+			ac.put(RESOLVED_LINKS_DATA_KEY, resolved);
 		}
-
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
-
-		return renderedContent.toString();
+		return resolved;
 	}
 
 	/**
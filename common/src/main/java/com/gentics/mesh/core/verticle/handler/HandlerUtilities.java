@@ -10,7 +10,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -27,11 +29,14 @@ import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
+import com.gentics.mesh.core.worker.WorkerPool;
+import com.gentics.mesh.core.worker.WorkerPools;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.util.ResultInfo;
 import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.UUIDUtil;
+import com.google.common.util.concurrent.Striped;
 import com.syncleus.ferma.tx.TxAction;
 import com.syncleus.ferma.tx.TxAction0;
 import com.syncleus.ferma.tx.TxAction1;
@@ -49,6 +54,12 @@ public class HandlerUtilities {
 
 	private static final Logger log = LoggerFactory.getLogger(HandlerUtilities.class);
 
+	/**
+	 * Locks which serialize concurrent modifications of the same element within this instance. Concurrent updates of a hot element would otherwise
+	 * conflict and be retried over and over again.
+	 */
+	private final Striped<Lock> elementLocks = Striped.lock(256);
+
 	private Database database;
 	private SearchQueue searchQueue;
 
@@ -90,7 +101,7 @@ public class HandlerUtilities {
 				name = ((NamedElement) element).getName();
 			}
 
-			database.tx(() -> {
+			SearchQueueBatch deleteBatch = withElementLock(elementUuid, () -> database.tx(() -> {
 				SearchQueueBatch batch = searchQueue.create();
 				// Check whether the element is indexable. Indexable elements must also be purged from the search index.
 				if (element instanceof IndexableElement) {
@@ -99,7 +110,8 @@ public class HandlerUtilities {
 				} else {
 					throw error(INTERNAL_SERVER_ERROR, "Could not determine object name");
 				}
-			}).processSync();
+			}));
+			deleteBatch.processSync();
 			element.onDeleted(uuid, name);
 			log.info("Deleted element {" + elementUuid + "} for type {" + root.getClass().getSimpleName() + "}");
 			return (RM) null;
@@ -150,11 +162,11 @@ public class HandlerUtilities {
 			// Check whether we need to update a found element or whether we need to create a new one.
 			if (element != null) {
 				final T updateElement = element;
-				Tuple<Boolean, SearchQueueBatch> tuple = database.tx(() -> {
+				Tuple<Boolean, SearchQueueBatch> tuple = withElementLock(uuid, () -> database.tx(() -> {
 					SearchQueueBatch batch = searchQueue.create();
 					boolean updated = updateElement.update(ac, batch);
 					return Tuple.tuple(updated, batch);
-				});
+				}));
 				SearchQueueBatch b = tuple.v2();
 				Boolean isUpdated = tuple.v1();
 				RestModel model = updateElement.transformToRestSync(ac, 0);
@@ -188,6 +200,24 @@ public class HandlerUtilities {
 		}, model -> ac.send(model, created.get() ? CREATED : OK));
 	}
 
+	/**
+	 * Invoke the supplier while holding the lock for the element with the given uuid.
+	 * 
+	 * @param uuid
+	 *            Uuid of the element which will be modified
+	 * @param supplier
+	 * @return Result of the supplier
+	 */
+	private <R> R withElementLock(String uuid, Supplier<R> supplier) {
+		Lock lock = elementLocks.get(uuid);
+		lock.lock();
+		try {
+			return supplier.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	/**
 	 * Read the element with the given element by loading it from the specified root vertex.
 	 * 
@@ -201,7 +231,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler, GraphPermission perm) {
-		asyncTx(ac, (tx) -> {
+		asyncReadTx(ac, (tx) -> {
 			RootVertex<T> root = handler.handle();
 			T element = root.loadObjectByUuid(ac, uuid, perm);
 			String etag = element.getETag(ac);
@@ -223,7 +253,7 @@ public class HandlerUtilities {
 	 *            Handler which provides the root vertex which should be used when loading the element
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
-		asyncTx(ac, (tx) -> {
+		asyncReadTx(ac, (tx) -> {
 			RootVertex<T> root = handler.handle();
 
 			PagingParameters pagingInfo = ac.getPagingParameters();
@@ -250,62 +280,105 @@ public class HandlerUtilities {
 	 *            Action which will be invoked once the handler has finished
 	 */
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
-		async(ac, () -> {
+		async(ac, WorkerPools.write(), () -> {
 			return database.tx(handler);
 		}, action);
 	}
 
+	/**
+	 * Asynchronously execute the handler within a scope of a no tx transaction.
+	 * 
+	 * @param ac
+	 * @param handler
+	 *            Handler which will be executed within a worker thread
+	 * @param action
+	 *            Action which will be invoked once the handler has finished
+	 * @param order
+	 *            Whether the handlers of the same context should be executed in order. Ordered handlers are executed by the vert.x worker pool.
+	 */
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action, boolean order) {
-		async(ac, () -> {
-			return database.tx(handler);
-		}, action, order);
+		if (!order) {
+			asyncTx(ac, handler, action);
+			return;
+		}
+		Mesh.vertx().executeBlocking(bc -> {
+			try {
+				bc.complete(database.tx(handler));
+			} catch (Exception e) {
+				bc.fail(e);
+			}
+		}, true, (AsyncResult<RM> rh) -> {
+			handleResult(ac, rh, action);
+		});
 	}
 
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction0 handler, Consumer<RM> action) {
-		async(ac, () -> {
+		async(ac, WorkerPools.write(), () -> {
 			database.tx(handler);
 			return null;
 		}, action);
 	}
 
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction1<RM> handler, Consumer<RM> action) {
-		async(ac, () -> {
+		async(ac, WorkerPools.write(), () -> {
 			return database.tx(handler);
 		}, action);
 	}
 
 	public <RM extends RestModel> void asyncTx(InternalActionContext ac, TxAction2 handler, Consumer<RM> action) {
-		async(ac, () -> {
+		async(ac, WorkerPools.write(), () -> {
 			database.tx(handler);
 			return null;
 		}, action);
 	}
 
-	private <RM extends RestModel> void async(InternalActionContext ac, TxAction1<RM> handler, Consumer<RM> action) {
-		async(ac, handler, action, false);
+	/**
+	 * Asynchronously execute the handler within the scope of a read-only transaction. The handler will not be retried and must not modify the graph.
+	 * 
+	 * @param ac
+	 * @param handler
+	 *            Handler which will be executed within a worker thread
+	 * @param action
+	 *            Action which will be invoked once the handler has finished
+	 */
+	public <RM extends RestModel> void asyncReadTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
+		async(ac, WorkerPools.read(), () -> {
+			return database.readTx(handler);
+		}, action);
+	}
+
+	public <RM extends RestModel> void asyncReadTx(InternalActionContext ac, TxAction1<RM> handler, Consumer<RM> action) {
+		async(ac, WorkerPools.read(), () -> {
+			return database.readTx(handler);
+		}, action);
 	}
 
 	/**
-	 * Asynchronously execute the handler.
+	 * Asynchronously execute the handler using a thread of the given pool. The request will fail with a 503 error if the pool is saturated.
 	 * 
 	 * @param ac
+	 * @param pool
 	 * @param handler
 	 * @param action
 	 */
-	private <RM extends RestModel> void async(InternalActionContext ac, TxAction1<RM> handler, Consumer<RM> action, boolean order) {
-		Mesh.vertx().executeBlocking(bc -> {
+	private <RM extends RestModel> void async(InternalActionContext ac, WorkerPool pool, TxAction1<RM> handler, Consumer<RM> action) {
+		pool.executeBlocking(bc -> {
 			try {
 				bc.complete(handler.handle());
 			} catch (Exception e) {
 				bc.fail(e);
 			}
-		}, order, (AsyncResult<RM> rh) -> {
-			if (rh.failed()) {
-				ac.fail(rh.cause());
-			} else {
-				action.accept(rh.result());
-			}
+		}, (AsyncResult<RM> rh) -> {
+			handleResult(ac, rh, action);
 		});
 	}
 
+	private <RM extends RestModel> void handleResult(InternalActionContext ac, AsyncResult<RM> rh, Consumer<RM> action) {
+		if (rh.failed()) {
+			ac.fail(rh.cause());
+		} else {
+			action.accept(rh.result());
+		}
+	}
+
 }
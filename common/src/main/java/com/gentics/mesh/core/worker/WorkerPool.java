@@ -0,0 +1,186 @@
+package com.gentics.mesh.core.worker;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.gentics.mesh.core.rest.admin.status.WorkerPoolStatus;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Named pool of worker threads with a bounded queue.
+ * 
+ * Tasks which can't be queued because all threads are busy and the queue is full will be rejected instead of waiting. The pool records the time which
+ * the tasks waited in the queue so that the pool size can be adjusted to the load.
+ */
+public class WorkerPool {
+
+	private static final Logger log = LoggerFactory.getLogger(WorkerPool.class);
+
+	private final String name;
+
+	private final int poolSize;
+
+	private final int queueCapacity;
+
+	private final ThreadPoolExecutor executor;
+
+	private final LongAdder startedTasks = new LongAdder();
+
+	private final LongAdder rejectedTasks = new LongAdder();
+
+	private final LongAdder totalQueueWait = new LongAdder();
+
+	private final AtomicLong maxQueueWait = new AtomicLong();
+
+	/**
+	 * Create a new pool.
+	 * 
+	 * @param name
+	 *            Name of the pool which is also used for the thread names
+	 * @param poolSize
+	 *            Amount of threads
+	 * @param queueCapacity
+	 *            Amount of tasks which may wait for a thread. A negative capacity will never reject tasks.
+	 */
+	public WorkerPool(String name, int poolSize, int queueCapacity) {
+		this.name = name;
+		this.poolSize = Math.max(1, poolSize);
+		this.queueCapacity = queueCapacity;
+		BlockingQueue<Runnable> queue;
+		if (queueCapacity < 0) {
+			queue = new LinkedBlockingQueue<>();
+		} else if (queueCapacity == 0) {
+			queue = new SynchronousQueue<>();
+		} else {
+			queue = new ArrayBlockingQueue<>(queueCapacity);
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(this.poolSize, this.poolSize, 60, TimeUnit.SECONDS, queue, r -> {
+			Thread thread = new Thread(r, "mesh-" + name + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Return the name of the pool.
+	 * 
+	 * @return
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Return the amount of threads of the pool.
+	 * 
+	 * @return
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * Submit the task to the pool.
+	 * 
+	 * @param task
+	 * @return Future of the task which can be used to cancel the task
+	 * @throws RejectedExecutionException
+	 *             if all threads are busy and the queue is full
+	 */
+	public java.util.concurrent.Future<?> submit(Runnable task) {
+		long queued = System.nanoTime();
+		try {
+			return executor.submit(() -> {
+				recordQueueWait(System.nanoTime() - queued);
+				task.run();
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedTasks.increment();
+			throw e;
+		}
+	}
+
+	/**
+	 * Execute the blocking handler using a thread of the pool. The result handler will be invoked on the vert.x context of the caller, just like
+	 * {@link Vertx#executeBlocking(Handler, boolean, Handler)} does. The result handler will receive a 503 error if the pool is saturated.
+	 * 
+	 * @param blockingHandler
+	 * @param resultHandler
+	 */
+	public <T> void executeBlocking(Handler<Future<T>> blockingHandler, Handler<AsyncResult<T>> resultHandler) {
+		Context context = Vertx.currentContext();
+		Future<T> future = Future.future();
+		future.setHandler(rh -> {
+			if (context == null) {
+				resultHandler.handle(rh);
+			} else {
+				context.runOnContext(v -> resultHandler.handle(rh));
+			}
+		});
+		try {
+			submit(() -> {
+				try {
+					blockingHandler.handle(future);
+				} catch (Throwable t) {
+					future.tryFail(t);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("Rejecting task since all {" + poolSize + "} workers of the {" + name + "} pool are busy and the queue is full.");
+			future.fail(error(SERVICE_UNAVAILABLE, "error_worker_pool_saturated", name));
+		}
+	}
+
+	/**
+	 * Return the current utilization of the pool.
+	 * 
+	 * @return
+	 */
+	public WorkerPoolStatus getStatus() {
+		WorkerPoolStatus status = new WorkerPoolStatus();
+		status.setName(name);
+		status.setPoolSize(poolSize);
+		status.setActiveThreads(executor.getActiveCount());
+		status.setQueueSize(executor.getQueue().size());
+		status.setQueueCapacity(queueCapacity < 0 ? Integer.MAX_VALUE : queueCapacity);
+		status.setCompletedTasks(executor.getCompletedTaskCount());
+		status.setRejectedTasks(rejectedTasks.sum());
+		long started = startedTasks.sum();
+		status.setAverageQueueWait(started == 0 ? 0 : totalQueueWait.sum() / (double) started / TimeUnit.MILLISECONDS.toNanos(1));
+		status.setMaxQueueWait(TimeUnit.NANOSECONDS.toMillis(maxQueueWait.get()));
+		return status;
+	}
+
+	/**
+	 * Stop the pool. Queued tasks will still be executed but no further tasks will be accepted.
+	 */
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private void recordQueueWait(long wait) {
+		startedTasks.increment();
+		totalQueueWait.add(wait);
+		maxQueueWait.accumulateAndGet(wait, Math::max);
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.gentics.mesh.core.worker;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.rest.admin.status.WorkerPoolStatus;
+import com.gentics.mesh.etc.config.WorkerPoolOptions;
+
+/**
+ * Central registry of the named worker pools.
+ * 
+ * Reading and modifying requests are executed by separate pools so that long running modifications can't block reading requests and vice versa. The
+ * pools are created on first usage since the options are not available earlier.
+ */
+public final class WorkerPools {
+
+	/**
+	 * Name of the pool which executes reading requests.
+	 */
+	public static final String READ_POOL = "read";
+
+	/**
+	 * Name of the pool which executes modifying requests.
+	 */
+	public static final String WRITE_POOL = "write";
+
+	private static final Map<String, WorkerPool> POOLS = new ConcurrentHashMap<>();
+
+	private WorkerPools() {
+	}
+
+	/**
+	 * Return the pool which executes reading requests.
+	 * 
+	 * @return
+	 */
+	public static WorkerPool read() {
+		return get(READ_POOL, () -> {
+			WorkerPoolOptions options = Mesh.mesh().getOptions().getWorkerPoolOptions();
+			return new WorkerPool(READ_POOL, options.getReadPoolSize(), options.getReadQueueSize());
+		});
+	}
+
+	/**
+	 * Return the pool which executes modifying requests.
+	 * 
+	 * @return
+	 */
+	public static WorkerPool write() {
+		return get(WRITE_POOL, () -> {
+			WorkerPoolOptions options = Mesh.mesh().getOptions().getWorkerPoolOptions();
+			return new WorkerPool(WRITE_POOL, options.getWritePoolSize(), options.getWriteQueueSize());
+		});
+	}
+
+	/**
+	 * Return the pool with the given name. The pool will be created and registered if it does not yet exist.
+	 * 
+	 * @param name
+	 * @param factory
+	 *            Factory which creates the pool
+	 * @return
+	 */
+	public static WorkerPool get(String name, Supplier<WorkerPool> factory) {
+		return POOLS.computeIfAbsent(name, key -> factory.get());
+	}
+
+	/**
+	 * Stop and remove the pool with the given name.
+	 * 
+	 * @param name
+	 */
+	public static void remove(String name) {
+		WorkerPool pool = POOLS.remove(name);
+		if (pool != null) {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Return the utilization of all registered pools.
+	 * 
+	 * @return
+	 */
+	public static List<WorkerPoolStatus> getStatus() {
+		return POOLS.values().stream().map(WorkerPool::getStatus).sorted(Comparator.comparing(WorkerPoolStatus::getName)).collect(Collectors.toList());
+	}
+
+	/**
+	 * Stop and remove all pools. Pools which are requested afterwards will be created again.
+	 */
+	public static void shutdown() {
+		for (WorkerPool pool : POOLS.values()) {
+			pool.shutdown();
+		}
+		POOLS.clear();
+	}
+
+}
@@ -1,13 +1,25 @@
 package com.gentics.mesh.example;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
 import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterStatusResponse;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
+import com.gentics.mesh.core.rest.admin.status.WorkerPoolStatus;
 
 public class AdminExamples {
 
 	public MeshStatusResponse createMeshStatusResponse(MeshStatus status) {
-		return new MeshStatusResponse().setStatus(status);
+		WorkerPoolStatus readPool = new WorkerPoolStatus().setName("read").setPoolSize(16).setActiveThreads(3).setQueueSize(0).setQueueCapacity(500)
+			.setCompletedTasks(42150).setRejectedTasks(0).setAverageQueueWait(0.4).setMaxQueueWait(35);
+		WorkerPoolStatus writePool = new WorkerPoolStatus().setName("write").setPoolSize(8).setActiveThreads(1).setQueueSize(0).setQueueCapacity(200)
+			.setCompletedTasks(1203).setRejectedTasks(0).setAverageQueueWait(1.2).setMaxQueueWait(120);
+		Map<String, Long> txConflicts = new TreeMap<>();
+		txConflicts.put("HandlerUtilities", 12L);
+		txConflicts.put("NodeMigrationHandler", 3L);
+		return new MeshStatusResponse().setStatus(status).setWorkerPools(Arrays.asList(readPool, writePool)).setTxConflicts(txConflicts);
 	}
 
 	public ClusterStatusResponse createClusterStatusResponse() {
@@ -25,6 +25,8 @@ public class JobExamples extends AbstractExamples {
 		response.getProperties().put("schemaUuid", randomUUID());
 		response.getProperties().put("fromVersion", "1.0");
 		response.getProperties().put("toVersion", "2.0");
+		response.setPriority(10);
+		response.setWaitTime(1200L);
 		return response;
 	}
 
@@ -10,6 +10,7 @@ import com.gentics.mesh.core.rest.admin.consistency.InconsistencyInfo;
 import com.gentics.mesh.core.rest.admin.consistency.InconsistencySeverity;
 import com.gentics.mesh.core.rest.auth.LoginRequest;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
+import com.gentics.mesh.core.rest.search.IndexQueueStatus;
 import com.gentics.mesh.core.rest.search.SearchStatusResponse;
 
 import io.vertx.core.json.JsonObject;
@@ -25,6 +26,13 @@ public class MiscExamples extends AbstractExamples {
 
 	public SearchStatusResponse searchStatusJson() {
 		SearchStatusResponse status = new SearchStatusResponse();
+		IndexQueueStatus queueStatus = new IndexQueueStatus();
+		queueStatus.setEnabled(true);
+		queueStatus.setDepth(42);
+		queueStatus.setLag(250);
+		queueStatus.setProcessed(12000);
+		queueStatus.setThroughput(1500.5);
+		status.setIndexQueue(queueStatus);
 		return status;
 	}
 
@@ -1,8 +1,10 @@
 package com.gentics.mesh.graphdb.spi;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -199,6 +201,38 @@ public interface Database extends TxFactory {
 		});
 	}
 
+	/**
+	 * Execute the given handler within a read-only transaction and return the result of the handler. The transaction will never be committed and the
+	 * handler will not be retried since a transaction which does not modify the graph can't conflict with concurrent modifications. Modifications which
+	 * are applied by the handler will be discarded. Handlers which need to modify the graph must use {@link #tx(TxAction)} or a nested transaction.
+	 * 
+	 * @param txHandler
+	 *            Handler which will be invoked once
+	 * @return Result of the handler
+	 */
+	<T> T readTx(TxAction<T> txHandler);
+
+	/**
+	 * Execute the given handler within a read-only transaction and return the result of the handler.
+	 * 
+	 * @see #readTx(TxAction)
+	 * @param txHandler
+	 * @return Result of the handler
+	 */
+	default <T> T readTx(TxAction1<T> txHandler) {
+		return readTx((tx) -> {
+			return txHandler.handle();
+		});
+	}
+
+	/**
+	 * Return the amount of transaction conflicts which caused a retry since the database was started. The conflicts are counted per class which
+	 * declared the transaction handler.
+	 * 
+	 * @return Map of handler class names and conflict counts
+	 */
+	Map<String, Long> getTxConflicts();
+
 	/**
 	 * Initialise the database and store the settings.
 	 * 
@@ -397,6 +431,16 @@ public interface Database extends TxFactory {
 	 */
 	Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues);
 
+	/**
+	 * Utilize the index of the field and locate the vertices for all given values at once.
+	 * 
+	 * @param classOfVertex
+	 * @param fieldName
+	 * @param fieldValues
+	 * @return Map of field values and the matching vertices. Values for which no vertex could be found are omitted.
+	 */
+	Map<Object, Vertex> getVertices(Class<?> classOfVertex, String fieldName, Collection<?> fieldValues);
+
 	/**
 	 * Locate all vertices for the given type.
 	 * 
@@ -0,0 +1,113 @@
+package com.gentics.mesh.graphdb.spi;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Registry for actions which must only be executed once the transaction of the current thread has been closed. This is used to invalidate caches after
+ * the changes have been committed. Invalidating a cache within the transaction would allow concurrent readers to cache the old state again before the
+ * changes become visible.
+ * 
+ * The database opens a scope for each transaction. Nested transactions of the same thread share the scope of the outermost transaction. The registered
+ * actions are executed once the outermost transaction has been closed. Actions are also executed if the transaction was rolled back since they are only
+ * meant to discard cached information.
+ */
+public final class TxHooks {
+
+	private static final Logger log = LoggerFactory.getLogger(TxHooks.class);
+
+	private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+	private TxHooks() {
+	}
+
+	/**
+	 * Open the scope for a transaction of the current thread. The returned scope must be closed once the transaction has been closed.
+	 * 
+	 * @return
+	 */
+	public static Scope open() {
+		Scope scope = SCOPE.get();
+		if (scope == null) {
+			scope = new Scope();
+			SCOPE.set(scope);
+		}
+		scope.depth++;
+		return scope;
+	}
+
+	/**
+	 * Register the value for the action with the given key. All values which were registered for the same key within the scope are collected and passed
+	 * to the action in a single invocation once the transaction has been closed. The action will be invoked directly if no transaction is active.
+	 * 
+	 * @param key
+	 *            Key which identifies the action
+	 * @param value
+	 *            Value to collect
+	 * @param action
+	 *            Action which handles the collected values
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> void afterCommit(String key, T value, Consumer<Set<T>> action) {
+		Scope scope = SCOPE.get();
+		if (scope == null) {
+			action.accept(Collections.singleton(value));
+			return;
+		}
+		PendingAction<T> pending = (PendingAction<T>) scope.actions.computeIfAbsent(key, k -> new PendingAction<>(action));
+		pending.values.add(value);
+	}
+
+	/**
+	 * Scope of the transactions of a single thread.
+	 */
+	public static final class Scope {
+
+		private int depth;
+
+		private final Map<String, PendingAction<?>> actions = new LinkedHashMap<>();
+
+		/**
+		 * Close the scope of a transaction. The registered actions will be executed if the outermost transaction has been closed.
+		 */
+		public void close() {
+			if (--depth > 0) {
+				return;
+			}
+			if (SCOPE.get() == this) {
+				SCOPE.remove();
+			}
+			for (PendingAction<?> action : actions.values()) {
+				try {
+					action.run();
+				} catch (Exception e) {
+					log.error("Error while executing action after transaction", e);
+				}
+			}
+			actions.clear();
+		}
+	}
+
+	private static class PendingAction<T> {
+
+		private final Consumer<Set<T>> action;
+
+		private final Set<T> values = new LinkedHashSet<>();
+
+		PendingAction(Consumer<Set<T>> action) {
+			this.action = action;
+		}
+
+		void run() {
+			action.accept(values);
+		}
+	}
+
+}
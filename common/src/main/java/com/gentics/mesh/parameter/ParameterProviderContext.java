@@ -2,6 +2,7 @@ package com.gentics.mesh.parameter;
 
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.FieldsParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -52,4 +53,8 @@ public interface ParameterProviderContext extends ActionContext {
 		return new SchemaUpdateParametersImpl(this);
 	}
 
+	default FieldsParameters getFieldsParameters() {
+		return new FieldsParametersImpl(this);
+	}
+
 }
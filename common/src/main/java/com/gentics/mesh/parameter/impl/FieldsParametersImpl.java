@@ -0,0 +1,44 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.FieldsParameters;
+
+public class FieldsParametersImpl extends AbstractParameters implements FieldsParameters {
+
+	public FieldsParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public FieldsParametersImpl() {
+		super();
+	}
+
+	@Override
+	public String getName() {
+		return "Fields parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// fields
+		QueryParameter fieldsParameter = new QueryParameter();
+		fieldsParameter.setDescription(
+				"Comma-separated list of the properties which should be included in the response. Single schema fields can be selected using the _fields._ prefix. Properties which were not requested will not be loaded. All properties will be returned if the parameter is omitted.");
+		fieldsParameter.setExample("uuid,displayName,path,fields.title");
+		fieldsParameter.setRequired(false);
+		fieldsParameter.setType(ParamType.STRING);
+		parameters.put(FIELDS_PARAMETER_KEY, fieldsParameter);
+
+		return parameters;
+	}
+
+}
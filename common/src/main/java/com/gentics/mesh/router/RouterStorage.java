@@ -19,7 +19,9 @@ import javax.naming.InvalidNameException;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.router.route.CompressionFilterHandler;
 import com.gentics.mesh.router.route.DefaultNotFoundHandler;
 import com.gentics.mesh.router.route.FailureHandler;
 import com.syncleus.ferma.tx.Tx;
@@ -198,6 +200,10 @@ public class RouterStorage {
 
 			// Root handlers
 			rootRouter.route().handler(LoggerHandler.create());
+			HttpServerConfig serverOptions = Mesh.mesh().getOptions().getHttpServerOptions();
+			if (serverOptions.isCompression()) {
+				rootRouter.route().handler(CompressionFilterHandler.create(serverOptions));
+			}
 			// TODO add a dedicated error for api router that informs about
 			// APPLICATION_JSON requirements. This may not be true for other
 			// routes (eg. custom
@@ -0,0 +1,106 @@
+package com.gentics.mesh.router.route;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.PARTIAL_CONTENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.gentics.mesh.etc.config.HttpServerConfig;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Handler which excludes responses from the response compression of the http server. Responses which are smaller than the configured minimum size
+ * or which are not of a compressible content type (e.g. images or other binaries which are already compressed) are marked with the
+ * <code>identity</code> content encoding. Partial responses are never compressed since the byte offsets of their content range refer to the
+ * uncompressed data. The http server will not compress responses which already specify a content encoding.
+ */
+public class CompressionFilterHandler implements Handler<RoutingContext> {
+
+	private static final String CONTENT_RANGE = "Content-Range";
+
+	private final int minSize;
+
+	private final List<String> contentTypes = new ArrayList<>();
+
+	public static CompressionFilterHandler create(HttpServerConfig config) {
+		return new CompressionFilterHandler(config);
+	}
+
+	public CompressionFilterHandler(HttpServerConfig config) {
+		this.minSize = config.getCompressionMinSize();
+		if (config.getCompressionContentTypes() != null) {
+			for (String type : config.getCompressionContentTypes().split(",")) {
+				if (!type.trim().isEmpty()) {
+					contentTypes.add(type.trim().toLowerCase(Locale.ENGLISH));
+				}
+			}
+		}
+	}
+
+	@Override
+	public void handle(RoutingContext rc) {
+		rc.addHeadersEndHandler(v -> {
+			MultiMap headers = rc.response().headers();
+			if (headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+				return;
+			}
+			if (!isCompressible(rc.response().getStatusCode(), headers)) {
+				headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+			}
+		});
+		rc.next();
+	}
+
+	/**
+	 * Check whether a response with the given status code and headers should be compressed.
+	 * 
+	 * @param statusCode
+	 *            Status code of the response
+	 * @param headers
+	 *            Headers of the response
+	 * @return
+	 */
+	public boolean isCompressible(int statusCode, MultiMap headers) {
+		if (statusCode == PARTIAL_CONTENT.code() || headers.contains(CONTENT_RANGE)) {
+			return false;
+		}
+		return isCompressible(headers.get(HttpHeaders.CONTENT_TYPE), headers.get(HttpHeaders.CONTENT_LENGTH));
+	}
+
+	/**
+	 * Check whether a response with the given content type and length should be compressed.
+	 * 
+	 * @param contentType
+	 *            Content type header value
+	 * @param contentLength
+	 *            Content length header value or null for chunked responses
+	 * @return
+	 */
+	public boolean isCompressible(String contentType, String contentLength) {
+		if (contentLength != null) {
+			try {
+				if (Long.parseLong(contentLength) < minSize) {
+					return false;
+				}
+			} catch (NumberFormatException e) {
+				return false;
+			}
+		}
+		if (contentType == null) {
+			return false;
+		}
+		String type = contentType.toLowerCase(Locale.ENGLISH);
+		for (String compressibleType : contentTypes) {
+			if (type.startsWith(compressibleType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
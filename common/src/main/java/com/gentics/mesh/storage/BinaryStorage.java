@@ -1,8 +1,11 @@
 package com.gentics.mesh.storage;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.util.RxUtil;
 
+import io.reactivex.BackpressureStrategy;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.vertx.core.buffer.Buffer;
 
@@ -37,6 +40,43 @@ public interface BinaryStorage {
 	 */
 	Observable<Buffer> read(String uuid);
 
+	/**
+	 * Read the binary data which is identified by the given binary uuid. The returned flowable honours the backpressure of the subscriber. The default
+	 * implementation buffers the data of {@link #read(String)}. Storages which are able to pause their source should override this method.
+	 * 
+	 * @param uuid
+	 * @return
+	 */
+	default Flowable<Buffer> readFlowable(String uuid) {
+		return read(uuid).toFlowable(BackpressureStrategy.BUFFER);
+	}
+
+	/**
+	 * Read the given range of the binary data which is identified by the given binary uuid. The default implementation skips the data in front of the
+	 * range. Storages which are able to start reading at the offset should override this method.
+	 * 
+	 * @param uuid
+	 * @param offset
+	 *            Position of the first byte which should be read
+	 * @param length
+	 *            Amount of bytes which should be read
+	 * @return
+	 */
+	default Flowable<Buffer> readFlowable(String uuid, long offset, long length) {
+		return RxUtil.slice(readFlowable(uuid), offset, length);
+	}
+
+	/**
+	 * Return the path to the local file which contains the binary data. Storages which don't store the data in the local filesystem will return null.
+	 * The path can be used to serve the data directly from the filesystem.
+	 * 
+	 * @param uuid
+	 * @return Path or null if the binary data is not stored in a local file
+	 */
+	default String getLocalPath(String uuid) {
+		return null;
+	}
+
 	/**
 	 * Delete the binary with the given uuid.
 	 * 
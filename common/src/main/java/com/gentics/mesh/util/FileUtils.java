@@ -21,6 +21,11 @@ public final class FileUtils {
 
 	protected static final char[] hexArray = "0123456789abcdef".toCharArray();
 
+	/**
+	 * Size of the buffer which is used when reading files.
+	 */
+	public static final int READ_BUFFER_SIZE = 64 * 1024;
+
 	private FileUtils() {
 	}
 
@@ -33,7 +38,7 @@ public final class FileUtils {
 		try {
 			MessageDigest md = MessageDigest.getInstance("SHA-512");
 			try (InputStream is = Files.newInputStream(Paths.get(path)); DigestInputStream mis = new DigestInputStream(is, md)) {
-				byte[] buffer = new byte[4096];
+				byte[] buffer = new byte[READ_BUFFER_SIZE];
 				while (mis.read(buffer) >= 0) {
 				}
 			}
@@ -49,7 +54,8 @@ public final class FileUtils {
 		try {
 			MessageDigest md = MessageDigest.getInstance("SHA-512");
 			return stream.reduce(md, (digest, buffer) -> {
-				digest.update(buffer.getBytes());
+				// Update the digest using the underlying buffer to avoid copying the data
+				digest.update(buffer.getByteBuf().nioBuffer());
 				return digest;
 			}).map(digest -> digest.digest()).map(FileUtils::bytesToHex);
 		} catch (Exception e) {
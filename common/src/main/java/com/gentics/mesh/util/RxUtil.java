@@ -4,9 +4,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
@@ -87,4 +89,50 @@ public final class RxUtil {
 		return file.toObservable().map(io.vertx.reactivex.core.buffer.Buffer::getDelegate).doOnTerminate(() -> file.close());
 	}
 
+	public static Flowable<Buffer> toBufferFlow(AsyncFile file) {
+		return toBufferFlow(new io.vertx.reactivex.core.file.AsyncFile(file));
+	}
+
+	/**
+	 * Convert the file into a flowable of buffers. The file will be paused whenever the subscriber does not request further buffers and closed once the
+	 * flowable terminates or gets cancelled.
+	 * 
+	 * @param file
+	 * @return
+	 */
+	public static Flowable<Buffer> toBufferFlow(io.vertx.reactivex.core.file.AsyncFile file) {
+		return file.toFlowable().map(io.vertx.reactivex.core.buffer.Buffer::getDelegate).doFinally(() -> file.close());
+	}
+
+	/**
+	 * Return a flowable which only emits the given range of the bytes of the data. The source will be cancelled once the end of the range has been
+	 * reached.
+	 * 
+	 * @param data
+	 * @param offset
+	 *            Position of the first byte of the range within the data
+	 * @param length
+	 *            Length of the range
+	 * @return
+	 */
+	public static Flowable<Buffer> slice(Flowable<Buffer> data, long offset, long length) {
+		return Flowable.defer(() -> {
+			// Position of the first byte of the next buffer within the data
+			AtomicLong position = new AtomicLong();
+			long end = offset + length;
+			return data.map(buffer -> {
+				long bufferStart = position.getAndAdd(buffer.length());
+				int from = (int) Math.max(0, offset - bufferStart);
+				int to = (int) Math.min(buffer.length(), end - bufferStart);
+				if (from >= to) {
+					return Buffer.buffer();
+				}
+				if (from == 0 && to == buffer.length()) {
+					return buffer;
+				}
+				return buffer.getBuffer(from, to);
+			}).takeUntil(buffer -> position.get() >= end).filter(buffer -> buffer.length() > 0);
+		});
+	}
+
 }
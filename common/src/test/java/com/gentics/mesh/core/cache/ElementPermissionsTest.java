@@ -0,0 +1,58 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ElementPermissionsTest {
+
+	@Test
+	public void testRoleSetEquality() {
+		RoleSet a = new RoleSet(Arrays.asList("#1:1", "#1:2"));
+		RoleSet b = new RoleSet(Arrays.asList("#1:2", "#1:1"));
+		assertEquals(a, b);
+		assertEquals(a.hashCode(), b.hashCode());
+		assertTrue(a.containsRole("#1:2"));
+		assertFalse(a.containsRole("#1:3"));
+	}
+
+	@Test
+	public void testGrantAndDeny() {
+		RoleSet roles = new RoleSet(Arrays.asList("#1:1"));
+		ElementPermissions permissions = new ElementPermissions();
+		assertNull(permissions.get(roles, READ_PERM));
+
+		permissions.put(roles, READ_PERM, true);
+		permissions.put(roles, UPDATE_PERM, false);
+		assertTrue(permissions.get(roles, READ_PERM));
+		assertFalse(permissions.get(roles, UPDATE_PERM));
+
+		// Other users with the same roles share the entries
+		assertTrue(permissions.get(new RoleSet(Arrays.asList("#1:1")), READ_PERM));
+
+		// Update the cached result
+		permissions.put(roles, READ_PERM, false);
+		assertFalse(permissions.get(roles, READ_PERM));
+		assertFalse(permissions.get(roles, UPDATE_PERM));
+	}
+
+	@Test
+	public void testRemoveRole() {
+		RoleSet roles = new RoleSet(Arrays.asList("#1:1", "#1:2"));
+		RoleSet otherRoles = new RoleSet(Arrays.asList("#1:3"));
+		ElementPermissions permissions = new ElementPermissions();
+		permissions.put(roles, READ_PERM, true);
+		permissions.put(otherRoles, READ_PERM, true);
+
+		permissions.removeRole("#1:2");
+		assertNull(permissions.get(roles, READ_PERM));
+		assertTrue(permissions.get(otherRoles, READ_PERM));
+	}
+}
@@ -0,0 +1,90 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.ContainerType.DRAFT;
+import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore.ReleaseTopology;
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore.TopologyLoader;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+
+import io.vertx.core.json.JsonObject;
+
+public class NodeIndexTopologyStoreTest {
+
+	private static class CountingLoader implements TopologyLoader {
+
+		Map<String, String> releases = new HashMap<>();
+
+		Map<String, Map<String, String>> versions = new HashMap<>();
+
+		int releaseLoads = 0;
+
+		int versionLoads = 0;
+
+		@Override
+		public Map<String, String> loadReleases() {
+			releaseLoads++;
+			return new HashMap<>(releases);
+		}
+
+		@Override
+		public Map<String, String> loadSchemaVersions(String projectUuid, String releaseUuid) {
+			versionLoads++;
+			return versions.get(releaseUuid);
+		}
+	}
+
+	@Test
+	public void testTopology() {
+		CountingLoader loader = new CountingLoader();
+		loader.releases.put("releaseA", "project");
+		loader.releases.put("releaseB", "project");
+		loader.versions.put("releaseA", new HashMap<>());
+		loader.versions.get("releaseA").put("version1", "schema");
+		loader.versions.put("releaseB", new HashMap<>());
+		NodeIndexTopologyStore.handleEvent(null);
+
+		assertEquals(2, NodeIndexTopologyStore.getReleases(loader).size());
+		ReleaseTopology releaseA = NodeIndexTopologyStore.getRelease(loader, "project", "releaseA");
+		assertTrue(releaseA.getIndexNames(DRAFT).contains(NodeGraphFieldContainer.composeIndexName("project", "releaseA", "version1", DRAFT)));
+		assertTrue(releaseA.getIndexNames(PUBLISHED).contains(NodeGraphFieldContainer.composeIndexName("project", "releaseA", "version1", PUBLISHED)));
+		assertEquals("The topology should only be loaded once", 1, loader.releaseLoads);
+		assertEquals(2, loader.versionLoads);
+
+		// Invalidating a single release only reloads the release
+		loader.versions.get("releaseB").put("version2", "schema");
+		NodeIndexTopologyStore.handleEvent(releaseEvent("releaseB"));
+		ReleaseTopology releaseB = NodeIndexTopologyStore.getRelease(loader, "project", "releaseB");
+		assertEquals(1, releaseB.getIndexNames(DRAFT).size());
+		assertEquals(1, loader.releaseLoads);
+		assertEquals(3, loader.versionLoads);
+
+		// Deleted releases are removed with the next full reload
+		loader.releases.remove("releaseA");
+		loader.versions.remove("releaseA");
+		NodeIndexTopologyStore.handleEvent(null);
+		assertEquals(1, NodeIndexTopologyStore.getReleases(loader).size());
+		assertNull(NodeIndexTopologyStore.getRelease(loader, "project", "releaseA"));
+		assertEquals(2, loader.releaseLoads);
+
+		// Releases which are not yet part of the topology must be discovered
+		loader.releases.put("releaseC", "project");
+		loader.versions.put("releaseC", new HashMap<>());
+		NodeIndexTopologyStore.handleEvent(releaseEvent("releaseC"));
+		assertEquals(2, NodeIndexTopologyStore.getReleases(loader).size());
+		assertEquals(3, loader.releaseLoads);
+	}
+
+	private JsonObject releaseEvent(String releaseUuid) {
+		return new JsonObject().put(NodeIndexTopologyStore.RELEASE_UUID_KEY, releaseUuid);
+	}
+
+}
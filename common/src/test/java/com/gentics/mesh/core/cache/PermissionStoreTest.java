@@ -0,0 +1,50 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class PermissionStoreTest {
+
+	@Test
+	public void testElementInvalidation() {
+		RoleSet roles = new RoleSet(Arrays.asList("#1:1"));
+		long sequence = PermissionStore.sequence();
+		PermissionStore.store(roles, READ_PERM, "#20:1", true, sequence);
+		PermissionStore.store(roles, READ_PERM, "#20:2", false, sequence);
+		assertTrue(PermissionStore.getPermission(roles, READ_PERM, "#20:1"));
+
+		PermissionStore.handleEvent(new JsonObject().put(PermissionStore.ELEMENT_IDS_KEY, new JsonArray().add("#20:1")));
+		assertNull(PermissionStore.getPermission(roles, READ_PERM, "#20:1"));
+		assertEquals("Entries of other elements must be kept", false, PermissionStore.getPermission(roles, READ_PERM, "#20:2"));
+
+		// Results of checks which started before the invalidation must not be stored
+		PermissionStore.store(roles, READ_PERM, "#20:1", true, sequence);
+		assertNull(PermissionStore.getPermission(roles, READ_PERM, "#20:1"));
+	}
+
+	@Test
+	public void testRoleSetInvalidation() {
+		RoleSet roles = new RoleSet(Arrays.asList("#1:2"));
+		assertSame(roles, PermissionStore.getRoleSet("#5:1", id -> roles));
+		assertSame("The cached role set must be used", roles, PermissionStore.getRoleSet("#5:1", id -> new RoleSet(Arrays.asList("#1:3"))));
+
+		// Role sets which were loaded while the role sets got invalidated must not be cached
+		PermissionStore.getRoleSet("#5:2", id -> {
+			PermissionStore.handleEvent(new JsonObject().put(PermissionStore.ROLE_SETS_KEY, true));
+			return roles;
+		});
+		assertNull(PermissionStore.ROLE_CACHE.getIfPresent("#5:1"));
+		assertNull(PermissionStore.ROLE_CACHE.getIfPresent("#5:2"));
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.gentics.mesh.core.cache;
+
+import static com.gentics.mesh.core.data.ContainerType.DRAFT;
+import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class WebrootPathStoreTest {
+
+	@Test
+	public void testNodeInvalidation() {
+		String keyA = WebrootPathStore.key("project", "releaseA", DRAFT, "/news/article");
+		String keyB = WebrootPathStore.key("project", "releaseA", DRAFT, "/other");
+		String keyC = WebrootPathStore.key("project", "releaseB", DRAFT, "/news/article");
+		assertNotEquals(keyA, WebrootPathStore.key("project", "releaseA", PUBLISHED, "/news/article"));
+
+		long sequence = WebrootPathStore.sequence();
+		WebrootPathStore.store("releaseA", keyA, entry("releaseA", "#12:1", "news", "article"), sequence);
+		WebrootPathStore.store("releaseA", keyB, entry("releaseA", "#12:2", "other"), sequence);
+		WebrootPathStore.store("releaseB", keyC, entry("releaseB", "#12:3", "news", "article"), sequence);
+		assertEquals("#12:1", WebrootPathStore.get("releaseA", keyA).getContainerId());
+
+		// Invalidating the parent node must invalidate the paths of its children within the release
+		WebrootPathStore.handleEvent(invalidation("releaseA", "news"));
+		assertNull(WebrootPathStore.get("releaseA", keyA));
+		assertNotNull("Paths of other nodes must be kept", WebrootPathStore.get("releaseA", keyB));
+		assertNotNull("Paths of other releases must be kept", WebrootPathStore.get("releaseB", keyC));
+
+		// Results of resolutions which started before the invalidation must not be stored
+		WebrootPathStore.store("releaseA", keyA, entry("releaseA", "#12:1", "news", "article"), sequence);
+		assertNull(WebrootPathStore.get("releaseA", keyA));
+
+		// Invalidate everything
+		WebrootPathStore.handleEvent(new JsonObject());
+		assertNull(WebrootPathStore.get("releaseA", keyB));
+		assertNull(WebrootPathStore.get("releaseB", keyC));
+	}
+
+	@Test
+	public void testPathInvalidation() {
+		String key = WebrootPathStore.key("project", "releaseD", DRAFT, "/a/b");
+		String otherKey = WebrootPathStore.key("project", "releaseD", DRAFT, "/a/c");
+		long sequence = WebrootPathStore.sequence();
+		WebrootPathStore.store("releaseD", key, entry("releaseD", "#12:4", "a", "b"), sequence);
+		WebrootPathStore.store("releaseD", otherKey, entry("releaseD", "#12:5", "a", "c"), sequence);
+
+		// Another node got the path as url field value
+		WebrootPathStore.handleEvent(new JsonObject().put(WebrootPathStore.RELEASE_UUID_KEY, "releaseD").put(WebrootPathStore.PATH_KEYS_KEY,
+				new JsonArray().add(key)));
+		assertNull(WebrootPathStore.get("releaseD", key));
+		assertNotNull("Other paths must be kept", WebrootPathStore.get("releaseD", otherKey));
+
+		// Results of resolutions which started before the invalidation must not be stored
+		WebrootPathStore.store("releaseD", key, entry("releaseD", "#12:4", "a", "b"), sequence);
+		assertNull(WebrootPathStore.get("releaseD", key));
+	}
+
+	@Test
+	public void testNotFoundEntry() {
+		String key = WebrootPathStore.key("project", "releaseC", DRAFT, "/missing");
+		long sequence = WebrootPathStore.sequence();
+		WebrootPathStore.store("releaseC", key, WebrootPathEntry.notFound("releaseC", sequence), sequence);
+		WebrootPathEntry entry = WebrootPathStore.get("releaseC", key);
+		assertFalse(entry.isFound());
+
+		// Any change within the release may make the path resolvable
+		WebrootPathStore.handleEvent(invalidation("releaseC", "someNode"));
+		assertNull(WebrootPathStore.get("releaseC", key));
+
+		sequence = WebrootPathStore.sequence();
+		WebrootPathStore.store("releaseC", key, WebrootPathEntry.notFound("releaseC", sequence), sequence);
+		WebrootPathStore.remove(key);
+		assertNull(WebrootPathStore.get("releaseC", key));
+	}
+
+	private WebrootPathEntry entry(String releaseUuid, String containerId, String... nodeUuids) {
+		return new WebrootPathEntry(releaseUuid, containerId, "slug", false, "en", new HashSet<>(Arrays.asList(nodeUuids)));
+	}
+
+	private JsonObject invalidation(String releaseUuid, String nodeUuid) {
+		return new JsonObject().put(WebrootPathStore.RELEASE_UUID_KEY, releaseUuid).put(WebrootPathStore.NODE_UUIDS_KEY, new JsonArray().add(nodeUuid));
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.reactivex.Completable;
+import io.reactivex.Single;
+
+public class ImageVariantCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSingleFlight() throws Exception {
+		File base = folder.newFolder();
+		ImageVariantCache cache = new ImageVariantCache(base, -1);
+		AtomicInteger invocations = new AtomicInteger();
+		File cacheFile = new File(base, "image-a.jpg");
+
+		Single<File> first = cache.get(cacheFile, tmp -> write(tmp, 10, invocations).delay(200, TimeUnit.MILLISECONDS));
+		Single<File> second = cache.get(cacheFile, tmp -> write(tmp, 10, invocations));
+		assertEquals(cacheFile, first.blockingGet());
+		assertEquals(cacheFile, second.blockingGet());
+		assertEquals("The variant should only be created once", 1, invocations.get());
+		assertEquals(1, cache.getMisses());
+
+		// The variant is now cached
+		cache.get(cacheFile, tmp -> write(tmp, 10, invocations)).blockingGet();
+		assertEquals(1, invocations.get());
+		assertEquals(1, cache.getHits());
+
+		// No temporary files should remain
+		assertEquals(1, base.listFiles().length);
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		File base = folder.newFolder();
+		ImageVariantCache cache = new ImageVariantCache(base, 100);
+		AtomicInteger invocations = new AtomicInteger();
+		for (int i = 0; i < 5; i++) {
+			cache.get(new File(base, "image-" + i + ".jpg"), tmp -> write(tmp, 60, invocations)).blockingGet();
+		}
+		cache.cleanUp();
+		// Evicted files are removed asynchronously
+		Thread.sleep(500);
+		assertTrue("Files should have been evicted", cache.getEvictions() >= 4);
+		assertTrue(cache.getSize() <= 100);
+		assertTrue(base.listFiles().length <= 1);
+	}
+
+	@Test
+	public void testFailedWrite() throws Exception {
+		File base = folder.newFolder();
+		ImageVariantCache cache = new ImageVariantCache(base, -1);
+		File cacheFile = new File(base, "image-a.jpg");
+		try {
+			cache.get(cacheFile, tmp -> Completable.fromAction(() -> {
+				Files.write(tmp.toPath(), new byte[10]);
+				throw new RuntimeException("Resize failed");
+			})).blockingGet();
+		} catch (RuntimeException e) {
+			// Expected
+		}
+		assertFalse(cacheFile.exists());
+		assertEquals("The temporary file should have been removed", 0, base.listFiles().length);
+	}
+
+	@Test
+	public void testExistingFiles() throws Exception {
+		File base = folder.newFolder();
+		File existing = new File(base, "image-a.jpg");
+		Files.write(existing.toPath(), new byte[10]);
+		File leftover = new File(base, "image-b.jpg.1234.tmp");
+		Files.write(leftover.toPath(), new byte[10]);
+		leftover.setLastModified(0);
+
+		ImageVariantCache cache = new ImageVariantCache(base, -1);
+		AtomicInteger invocations = new AtomicInteger();
+
+		// Existing files must be used before they have been registered
+		assertEquals(existing, cache.get(existing, tmp -> write(tmp, 10, invocations)).blockingGet());
+		assertEquals(0, invocations.get());
+		assertEquals(1, cache.getHits());
+
+		cache.init();
+		assertTrue(cache.isInitialized());
+		assertFalse("Leftover temporary files should have been removed", leftover.exists());
+		assertEquals(10, cache.getStatus().getSize());
+	}
+
+	private Completable write(File file, int size, AtomicInteger invocations) {
+		return Completable.fromAction(() -> {
+			invocations.incrementAndGet();
+			Files.write(file.toPath(), new byte[size]);
+		});
+	}
+
+}
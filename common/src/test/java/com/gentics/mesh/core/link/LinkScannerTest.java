@@ -0,0 +1,56 @@
+package com.gentics.mesh.core.link;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class LinkScannerTest {
+
+	@Test
+	public void testScan() {
+		String content = "<a href=\"{{mesh.link('uuid1')}}\">A</a><a href=\"{{mesh.link(\"uuid2\", \"de\")}}\">B</a>{{mesh.link(uuid3, en)}}";
+		List<LinkPlaceholder> links = LinkScanner.scan(content);
+		assertEquals(3, links.size());
+
+		assertEquals("uuid1", links.get(0).getUuid());
+		assertNull(links.get(0).getLanguageTag());
+		assertEquals("{{mesh.link('uuid1')}}", content.substring(links.get(0).getStart(), links.get(0).getEnd()));
+
+		assertEquals("uuid2", links.get(1).getUuid());
+		assertEquals("de", links.get(1).getLanguageTag());
+
+		assertEquals("uuid3", links.get(2).getUuid());
+		assertEquals("en", links.get(2).getLanguageTag());
+		assertEquals(content.length(), links.get(2).getEnd());
+	}
+
+	@Test
+	public void testArguments() {
+		assertEquals("uuid", LinkScanner.scan("{{mesh.link(\\\"uuid\\\")}}").get(0).getUuid());
+		// Trailing empty arguments are ignored
+		assertNull(LinkScanner.scan("{{mesh.link('uuid', '')}}").get(0).getLanguageTag());
+		// The language is only used when exactly two arguments are given
+		assertNull(LinkScanner.scan("{{mesh.link('uuid', 'en', 'de')}}").get(0).getLanguageTag());
+		assertEquals("", LinkScanner.scan("{{mesh.link()}}").get(0).getUuid());
+	}
+
+	@Test
+	public void testIncompleteLinks() {
+		assertTrue(LinkScanner.scan("{{mesh.link('uuid')}").isEmpty());
+		assertTrue(LinkScanner.scan("no links").isEmpty());
+		assertTrue(LinkScanner.scan(null).isEmpty());
+	}
+
+	@Test
+	public void testRender() {
+		String content = "A{{mesh.link('1')}}{{mesh.link('2')}}B{{mesh.link('1')}}";
+		List<LinkPlaceholder> links = LinkScanner.scan(content);
+		assertEquals("A/one/twoB/one", LinkScanner.render(content, links, link -> "1".equals(link.getUuid()) ? "/one" : "/two"));
+		assertEquals("plain", LinkScanner.render("plain", LinkScanner.scan("plain"), link -> "/x"));
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.gentics.mesh.core.worker;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.admin.status.WorkerPoolStatus;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+
+public class WorkerPoolTest {
+
+	@Test
+	public void testExecuteBlocking() throws Exception {
+		WorkerPool pool = new WorkerPool("test", 2, 10);
+		try {
+			CompletableFuture<String> result = new CompletableFuture<>();
+			pool.<String>executeBlocking(bc -> bc.complete(Thread.currentThread().getName()), rh -> result.complete(rh.result()));
+			assertTrue("The handler should be executed by a thread of the pool", result.get(10, SECONDS).startsWith("mesh-test-"));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testRejectWhenSaturated() throws Exception {
+		WorkerPool pool = new WorkerPool("test", 1, 1);
+		CountDownLatch blocker = new CountDownLatch(1);
+		try {
+			// Occupy the only thread and the only queue slot
+			pool.submit(() -> {
+				try {
+					blocker.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			pool.submit(() -> {
+			});
+
+			CompletableFuture<Throwable> failure = new CompletableFuture<>();
+			pool.executeBlocking(bc -> bc.complete(), rh -> failure.complete(rh.cause()));
+			Throwable cause = failure.get(10, SECONDS);
+			assertTrue("The task should have been rejected", cause instanceof GenericRestException);
+			assertEquals(SERVICE_UNAVAILABLE, ((GenericRestException) cause).getStatus());
+
+			WorkerPoolStatus status = pool.getStatus();
+			assertEquals("test", status.getName());
+			assertEquals(1, status.getActiveThreads());
+			assertEquals(1, status.getQueueSize());
+			assertEquals(1, status.getRejectedTasks());
+		} finally {
+			blocker.countDown();
+			pool.shutdown();
+		}
+	}
+
+}
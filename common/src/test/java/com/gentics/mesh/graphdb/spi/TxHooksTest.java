@@ -0,0 +1,38 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TxHooksTest {
+
+	@Test
+	public void testActionsAfterOutermostTx() {
+		List<Set<String>> invocations = new ArrayList<>();
+		TxHooks.Scope outer = TxHooks.open();
+		TxHooks.afterCommit("key", "a", invocations::add);
+		TxHooks.Scope inner = TxHooks.open();
+		TxHooks.afterCommit("key", "b", invocations::add);
+		TxHooks.afterCommit("key", "a", invocations::add);
+		inner.close();
+		assertTrue("The action must not be executed before the outermost transaction was closed", invocations.isEmpty());
+
+		outer.close();
+		assertEquals("The values must be passed in a single invocation", 1, invocations.size());
+		assertEquals(new ArrayList<>(Arrays.asList("a", "b")), new ArrayList<>(invocations.get(0)));
+	}
+
+	@Test
+	public void testActionWithoutTx() {
+		List<Set<String>> invocations = new ArrayList<>();
+		TxHooks.afterCommit("key", "a", invocations::add);
+		assertEquals(1, invocations.size());
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.gentics.mesh.router.route;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.HttpServerConfig;
+
+import io.vertx.core.MultiMap;
+
+public class CompressionFilterHandlerTest {
+
+	@Test
+	public void testCompressible() {
+		CompressionFilterHandler handler = CompressionFilterHandler.create(new HttpServerConfig());
+		assertTrue(handler.isCompressible("application/json; charset=utf-8", "4096"));
+		assertTrue(handler.isCompressible("text/html", "4096"));
+		assertTrue("Chunked responses should be compressed", handler.isCompressible("application/json", null));
+		assertTrue(handler.isCompressible("Application/JSON", "4096"));
+	}
+
+	@Test
+	public void testNotCompressible() {
+		CompressionFilterHandler handler = CompressionFilterHandler.create(new HttpServerConfig());
+		assertFalse("Small responses should not be compressed", handler.isCompressible("application/json", "100"));
+		assertFalse("Images are already compressed", handler.isCompressible("image/jpeg", "40960"));
+		assertFalse(handler.isCompressible("application/zip", "40960"));
+		assertFalse(handler.isCompressible(null, "40960"));
+	}
+
+	@Test
+	public void testPartialContent() {
+		CompressionFilterHandler handler = CompressionFilterHandler.create(new HttpServerConfig());
+		MultiMap headers = MultiMap.caseInsensitiveMultiMap().add("Content-Type", "text/plain").add("Content-Length", "40960");
+		assertTrue(handler.isCompressible(200, headers));
+		assertFalse("Partial responses must not be compressed", handler.isCompressible(206, headers));
+		headers.add("Content-Range", "bytes 0-40959/81920");
+		assertFalse("Responses with a content range must not be compressed", handler.isCompressible(200, headers));
+	}
+
+	@Test
+	public void testCustomContentTypes() {
+		HttpServerConfig config = new HttpServerConfig().setCompressionContentTypes("image/, application/octet-stream").setCompressionMinSize(0);
+		CompressionFilterHandler handler = CompressionFilterHandler.create(config);
+		assertTrue(handler.isCompressible("image/bmp", "10"));
+		assertTrue(handler.isCompressible("application/octet-stream", "10"));
+		assertFalse(handler.isCompressible("application/json", "10"));
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.gentics.mesh.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+
+public class RxUtilTest {
+
+	@Test
+	public void testSlice() {
+		Flowable<Buffer> data = Flowable.just(Buffer.buffer("0123"), Buffer.buffer("4567"), Buffer.buffer("89"));
+		assertEquals("2345", join(RxUtil.slice(data, 2, 4)));
+		assertEquals("0123", join(RxUtil.slice(data, 0, 4)));
+		assertEquals("9", join(RxUtil.slice(data, 9, 1)));
+		assertEquals("Ranges beyond the data must be truncated", "89", join(RxUtil.slice(data, 8, 10)));
+	}
+
+	private static String join(Flowable<Buffer> data) {
+		return data.reduce(Buffer.buffer(), Buffer::appendBuffer).blockingGet().toString();
+	}
+
+}
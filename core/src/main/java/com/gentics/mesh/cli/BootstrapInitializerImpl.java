@@ -35,7 +35,9 @@ import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.MeshVersion;
 import com.gentics.mesh.changelog.ChangelogSystem;
 import com.gentics.mesh.changelog.ReindexAction;
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore;
 import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.WebrootPathStore;
 import com.gentics.mesh.core.console.ConsoleProvider;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.Language;
@@ -82,6 +84,7 @@ import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.queue.IndexQueueWorker;
 import com.gentics.mesh.util.MavenVersionNumber;
 import com.hazelcast.core.HazelcastInstance;
 import com.syncleus.ferma.tx.Tx;
@@ -124,6 +127,9 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Inject
 	public Lazy<CoreVerticleLoader> loader;
 
+	@Inject
+	public Lazy<IndexQueueWorker> indexQueueWorker;
+
 	@Inject
 	public ConsoleProvider console;
 
@@ -292,6 +298,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		}
 
 		eventManager.registerHandlers();
+		indexQueueWorker.get().start(options.getSearchOptions());
 		handleLocalData(forceReindex, options, verticleLoader);
 	}
 
@@ -429,6 +436,8 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	public void registerEventHandlers() {
 		RouterStorage.registerEventbus();
 		PermissionStore.registerEventHandler();
+		NodeIndexTopologyStore.registerEventHandler();
+		WebrootPathStore.registerEventHandler();
 	}
 
 	@Override
@@ -21,11 +21,6 @@ import io.vertx.core.logging.LoggerFactory;
 @Singleton
 public class CoreVerticleLoader {
 
-	/**
-	 * Default amount of verticle instances which should be deployed.
-	 */
-	private static final int DEFAULT_VERTICLE_DEPLOYMENTS = 5;
-
 	private static Logger log = LoggerFactory.getLogger(CoreVerticleLoader.class);
 
 	@Inject
@@ -48,11 +43,12 @@ public class CoreVerticleLoader {
 		JsonObject defaultConfig = new JsonObject();
 		defaultConfig.put("port", configuration.getHttpServerOptions().getPort());
 		defaultConfig.put("host", configuration.getHttpServerOptions().getHost());
+		int verticleAmount = configuration.getHttpServerOptions().getVerticleAmount();
 		for (AbstractVerticle verticle : getMandatoryVerticleClasses()) {
 			try {
-				for (int i = 0; i < DEFAULT_VERTICLE_DEPLOYMENTS; i++) {
+				for (int i = 0; i < verticleAmount; i++) {
 					if (log.isInfoEnabled()) {
-						log.info("Deploying mandatory verticle {" + verticle.getClass().getName() + "} " + i + " of " + DEFAULT_VERTICLE_DEPLOYMENTS
+						log.info("Deploying mandatory verticle {" + verticle.getClass().getName() + "} " + i + " of " + verticleAmount
 								+ " instances");
 					}
 					deployAndWait(Mesh.vertx(), defaultConfig, verticle, false);
@@ -17,6 +17,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.MeshVersion;
+import com.gentics.mesh.core.worker.WorkerPools;
 import com.gentics.mesh.crypto.KeyStoreHelper;
 import com.gentics.mesh.dagger.MeshComponent;
 import com.gentics.mesh.dagger.MeshInternal;
@@ -318,6 +319,8 @@ public class MeshImpl implements Mesh {
 		setStatus(MeshStatus.SHUTTING_DOWN);
 		MeshComponent meshInternal = MeshInternal.get();
 		// meshInternal.searchQueue().blockUntilEmpty(120);
+		meshInternal.indexQueueWorker().stop();
+		WorkerPools.shutdown();
 		meshInternal.database().stop();
 		meshInternal.searchProvider().stop();
 		Vertx vertx = getVertx();
@@ -43,6 +43,13 @@ public class BinaryRootImpl extends MeshVertexImpl implements BinaryRoot {
 		return binary;
 	}
 
+	@Override
+	public Binary create(String uuid, String sha512sum, Long size) {
+		Binary binary = create(sha512sum, size);
+		binary.setUuid(uuid);
+		return binary;
+	}
+
 	@Override
 	public Binary findByHash(String hash) {
 
@@ -16,6 +16,8 @@ import java.util.stream.StreamSupport;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.binary.Binary;
+import com.gentics.mesh.core.data.impl.CompiledField;
+import com.gentics.mesh.core.data.impl.CompiledSchema;
 import com.gentics.mesh.core.data.impl.GraphFieldTypes;
 import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.Node;
@@ -321,25 +323,18 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 	}
 
 	/**
-	 * Update or create the field using the given restField. The {@link FieldSchema} is used to determine the type of the field.
+	 * Update or create the field using the given restField. The compiled field is used to determine the type of the field.
 	 * 
 	 * @param ac
 	 *            Action context
 	 * @param fieldMap
-	 * @param fieldKey
-	 *            Key of the field
-	 * @param fieldSchema
-	 *            Field schema of the field
+	 * @param field
+	 *            Compiled field
 	 * @param schema
 	 *            Schema of the field
 	 */
-	protected void updateField(InternalActionContext ac, FieldMap fieldMap, String fieldKey, FieldSchema fieldSchema, FieldSchemaContainer schema) {
-		GraphFieldTypes type = GraphFieldTypes.valueByFieldSchema(fieldSchema);
-		if (type != null) {
-			type.updateField(this, ac, fieldMap, fieldKey, fieldSchema, schema);
-		} else {
-			throw error(BAD_REQUEST, "type unknown");
-		}
+	protected void updateField(InternalActionContext ac, FieldMap fieldMap, CompiledField field, FieldSchemaContainer schema) {
+		field.update(this, ac, fieldMap, schema);
 	}
 
 	@Override
@@ -349,9 +344,8 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 
 		// TODO: This should return an observable
 		// Iterate over all known field that are listed in the schema for the node
-		for (FieldSchema entry : schema.getFields()) {
-			String key = entry.getName();
-			updateField(ac, fieldMap, key, entry, schema);
+		for (CompiledField field : CompiledSchema.of(schema).getFields()) {
+			updateField(ac, fieldMap, field, schema);
 		}
 	}
 
@@ -369,8 +363,8 @@ public abstract class AbstractGraphFieldContainerImpl extends AbstractBasicGraph
 	public List<GraphField> getFields() {
 		FieldSchemaContainer schema = getSchemaContainerVersion().getSchema();
 		List<GraphField> fields = new ArrayList<>();
-		for (FieldSchema fieldSchema : schema.getFields()) {
-			GraphField field = getField(fieldSchema);
+		for (CompiledField compiledField : CompiledSchema.of(schema).getFields()) {
+			GraphField field = compiledField.getField(this);
 			if (field != null) {
 				fields.add(field);
 			}
@@ -81,18 +81,13 @@ public class MicroschemaContainerVersionImpl extends
 
 	@Override
 	public MicroschemaModel getSchema() {
-		MicroschemaModel microschema = MeshInternal.get().serverSchemaStorage().getMicroschema(getName(), getVersion());
-		if (microschema == null) {
-			microschema = JsonUtil.readValue(getJson(), MicroschemaModelImpl.class);
-			MeshInternal.get().serverSchemaStorage().addMicroschema(microschema);
-		}
-		return microschema;
+		return MeshInternal.get().serverSchemaStorage().getMicroschema(getName(), getVersion(), () -> JsonUtil.readValue(getJson(),
+				MicroschemaModelImpl.class));
 	}
 
 	@Override
 	public void setSchema(MicroschemaModel microschema) {
-		MeshInternal.get().serverSchemaStorage().removeMicroschema(microschema.getName(), microschema.getVersion());
-		MeshInternal.get().serverSchemaStorage().addMicroschema(microschema);
+		MeshInternal.get().serverSchemaStorage().replaceMicroschema(microschema);
 		String json = microschema.toJson();
 		setJson(json);
 		setProperty(VERSION_PROPERTY_KEY, microschema.getVersion());
@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.container.impl;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.WebrootPathStore;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Release;
@@ -52,6 +53,7 @@ import org.apache.commons.collections.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -181,6 +183,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 			ContainerType type = tuple.v2();
 			if (type != ContainerType.INITIAL) {
 				batch.delete(this, releaseUuid, type, false);
+				WebrootPathStore.invalidateNode(releaseUuid, getParentNode().getUuid());
 			}
 		});
 
@@ -203,6 +206,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 						GraphFieldContainerEdgeImpl.EDGE_TYPE_KEY, ContainerType.PUBLISHED.getCode())).removeAll();
 		// remove webroot property
 		setProperty(WEBROOT_PROPERTY_KEY, null);
+		WebrootPathStore.invalidateNode(releaseUuid, getParentNode().getUuid());
 	}
 
 	@Override
@@ -250,11 +254,13 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 	 * Update the webroot url field index and also assert that the new values would not cause a conflict with the existing data.
 	 * 
 	 * @param releaseUuid
+	 * @param type
 	 * @param urlFieldValues
 	 * @param propertyName
 	 * @param indexName
 	 */
-	private void updateWebrootUrlFieldsInfo(String releaseUuid, Set<String> urlFieldValues, String propertyName, String indexName) {
+	private void updateWebrootUrlFieldsInfo(String releaseUuid, ContainerType type, Set<String> urlFieldValues, String propertyName,
+			String indexName) {
 		if (urlFieldValues != null && !urlFieldValues.isEmpty()) {
 			// Prefix each path with the releaseuuid in order to scope the paths by release
 			Set<String> prefixedUrlFieldValues = urlFieldValues.stream().map(e -> releaseUuid + e).collect(Collectors.toSet());
@@ -281,30 +287,69 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 							conflictingContainer.getLanguage().getLanguageTag());
 				}
 			}
-			setProperty(propertyName, prefixedUrlFieldValues);
+			setWebrootUrlFieldsInfo(releaseUuid, type, propertyName, prefixedUrlFieldValues);
 		} else {
-			setProperty(propertyName, null);
+			setWebrootUrlFieldsInfo(releaseUuid, type, propertyName, null);
 		}
 
 	}
 
+	/**
+	 * Set the webroot url field property. The cached webroot paths of all url field values which were added or removed will be invalidated, since
+	 * the url field index takes precedence over the segment fields when resolving a path.
+	 * 
+	 * @param releaseUuid
+	 * @param type
+	 * @param propertyName
+	 * @param prefixedUrlFieldValues
+	 *            Url field values which are prefixed with the release uuid or null to remove the property
+	 */
+	private void setWebrootUrlFieldsInfo(String releaseUuid, ContainerType type, String propertyName, Set<String> prefixedUrlFieldValues) {
+		Collection<String> oldValues = getProperty(propertyName);
+		Set<String> newValues = prefixedUrlFieldValues == null ? Collections.emptySet() : prefixedUrlFieldValues;
+		Set<String> changedValues = new HashSet<>(newValues);
+		if (oldValues != null) {
+			changedValues.removeAll(oldValues);
+			for (String oldValue : oldValues) {
+				if (!newValues.contains(oldValue)) {
+					changedValues.add(oldValue);
+				}
+			}
+		}
+		setProperty(propertyName, prefixedUrlFieldValues);
+
+		if (!changedValues.isEmpty()) {
+			String projectUuid = getParentNode().getProject().getUuid();
+			Set<String> cacheKeys = new HashSet<>();
+			for (String value : changedValues) {
+				// Values of other releases are not affected by the update
+				if (value.startsWith(releaseUuid)) {
+					cacheKeys.add(WebrootPathStore.key(projectUuid, releaseUuid, type, value.substring(releaseUuid.length())));
+				}
+			}
+			WebrootPathStore.invalidatePaths(releaseUuid, cacheKeys);
+		}
+	}
+
 	@Override
 	public void updateWebrootPathInfo(String releaseUuid, String conflictI18n) {
 		Set<String> urlFieldValues = getUrlFieldValues();
 		if (isDraft(releaseUuid)) {
 			updateWebrootPathInfo(releaseUuid, conflictI18n, ContainerType.DRAFT, WEBROOT_PROPERTY_KEY, WEBROOT_INDEX_NAME);
-			updateWebrootUrlFieldsInfo(releaseUuid, urlFieldValues, WEBROOT_URLFIELD_PROPERTY_KEY, WEBROOT_URLFIELD_INDEX_NAME);
+			updateWebrootUrlFieldsInfo(releaseUuid, ContainerType.DRAFT, urlFieldValues, WEBROOT_URLFIELD_PROPERTY_KEY, WEBROOT_URLFIELD_INDEX_NAME);
 		} else {
 			setProperty(WEBROOT_PROPERTY_KEY, null);
-			setProperty(WEBROOT_URLFIELD_PROPERTY_KEY, null);
+			setWebrootUrlFieldsInfo(releaseUuid, ContainerType.DRAFT, WEBROOT_URLFIELD_PROPERTY_KEY, null);
 		}
 		if (isPublished(releaseUuid)) {
 			updateWebrootPathInfo(releaseUuid, conflictI18n, ContainerType.PUBLISHED, PUBLISHED_WEBROOT_PROPERTY_KEY, PUBLISHED_WEBROOT_INDEX_NAME);
-			updateWebrootUrlFieldsInfo(releaseUuid, urlFieldValues, PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, PUBLISHED_WEBROOT_URLFIELD_INDEX_NAME);
+			updateWebrootUrlFieldsInfo(releaseUuid, ContainerType.PUBLISHED, urlFieldValues, PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY,
+					PUBLISHED_WEBROOT_URLFIELD_INDEX_NAME);
 		} else {
 			setProperty(PUBLISHED_WEBROOT_PROPERTY_KEY, null);
-			setProperty(PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
+			setWebrootUrlFieldsInfo(releaseUuid, ContainerType.PUBLISHED, PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
 		}
+		WebrootPathStore.invalidateNode(releaseUuid, getParentNode().getUuid());
 	}
 
 	/**
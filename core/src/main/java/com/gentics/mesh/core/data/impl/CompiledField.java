@@ -0,0 +1,154 @@
+package com.gentics.mesh.core.data.impl;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.GraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
+import com.gentics.mesh.core.rest.common.FieldTypes;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
+import com.gentics.mesh.core.rest.schema.ListFieldSchema;
+
+/**
+ * Field of a {@link CompiledSchema}. The graph field type of the field is determined once when the schema gets compiled.
+ */
+public class CompiledField {
+
+	private final String key;
+
+	private final FieldSchema fieldSchema;
+
+	private final GraphFieldTypes type;
+
+	private final boolean required;
+
+	private final boolean micronodeCompatible;
+
+	/**
+	 * Compile the given field schema.
+	 * 
+	 * @param fieldSchema
+	 */
+	public CompiledField(FieldSchema fieldSchema) {
+		this.key = fieldSchema.getName();
+		this.fieldSchema = fieldSchema;
+		this.type = GraphFieldTypes.valueByFieldSchema(fieldSchema);
+		this.required = fieldSchema.isRequired();
+		this.micronodeCompatible = isMicronodeCompatible(fieldSchema);
+	}
+
+	private static boolean isMicronodeCompatible(FieldSchema fieldSchema) {
+		FieldTypes fieldType = FieldTypes.valueByName(fieldSchema.getType());
+		if (fieldType == FieldTypes.BINARY || fieldType == FieldTypes.MICRONODE) {
+			return false;
+		}
+		if (fieldType == FieldTypes.LIST && fieldSchema instanceof ListFieldSchema) {
+			return !MicronodeGraphFieldList.TYPE.equals(((ListFieldSchema) fieldSchema).getListType());
+		}
+		return true;
+	}
+
+	/**
+	 * Return the key of the field.
+	 * 
+	 * @return
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Return the schema of the field.
+	 * 
+	 * @return
+	 */
+	public FieldSchema getFieldSchema() {
+		return fieldSchema;
+	}
+
+	/**
+	 * Return the graph field type.
+	 * 
+	 * @return Type or null if the type of the field is unknown
+	 */
+	public GraphFieldTypes getType() {
+		return type;
+	}
+
+	/**
+	 * Check whether the field is required.
+	 * 
+	 * @return
+	 */
+	public boolean isRequired() {
+		return required;
+	}
+
+	/**
+	 * Check whether the field type may be used within micronodes.
+	 * 
+	 * @return
+	 */
+	public boolean isMicronodeCompatible() {
+		return micronodeCompatible;
+	}
+
+	/**
+	 * Load the field from the container and transform it to its rest representation.
+	 * 
+	 * @param container
+	 * @param ac
+	 * @param languageTags
+	 * @param level
+	 * @param parentNode
+	 * @return
+	 */
+	public Field getRestField(GraphFieldContainer container, InternalActionContext ac, List<String> languageTags, int level,
+			Supplier<Node> parentNode) {
+		return assertType().getRestFieldFromGraph(container, ac, key, fieldSchema, languageTags, level, parentNode);
+	}
+
+	/**
+	 * Update the field of the container using the rest field from the field map.
+	 * 
+	 * @param container
+	 * @param ac
+	 * @param fieldMap
+	 * @param schema
+	 */
+	public void update(GraphFieldContainer container, InternalActionContext ac, FieldMap fieldMap, FieldSchemaContainer schema) {
+		assertType().updateField(container, ac, fieldMap, key, fieldSchema, schema);
+	}
+
+	/**
+	 * Load the field from the container.
+	 * 
+	 * @param container
+	 * @return
+	 */
+	public GraphField getField(GraphFieldContainer container) {
+		if (type == null) {
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, "Unknown list type {" + fieldSchema.getType() + "}");
+		}
+		return type.getField(container, fieldSchema);
+	}
+
+	private GraphFieldTypes assertType() {
+		if (type == null) {
+			throw error(BAD_REQUEST, "type unknown");
+		}
+		return type;
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.gentics.mesh.core.data.impl;
+
+import java.util.List;
+
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.FieldSchemaContainer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Schema or microschema whose fields have been prepared for the transformation and update of field containers. The compiled fields are listed in the
+ * order of the schema fields.
+ * 
+ * Compiled schemas are kept per schema instance. Schema updates replace the schema instance within the schema storage and invalidate the compiled
+ * schema. It will thus be rebuilt on the next access while concurrent readers continue to use the previous compiled schema.
+ */
+public final class CompiledSchema {
+
+	private static final Cache<FieldSchemaContainer, CompiledSchema> COMPILED_SCHEMAS = Caffeine.newBuilder().weakKeys().build();
+
+	private final CompiledField[] fields;
+
+	private CompiledSchema(FieldSchemaContainer schema) {
+		List<FieldSchema> fieldSchemas = schema.getFields();
+		CompiledField[] compiledFields = new CompiledField[fieldSchemas.size()];
+		for (int i = 0; i < compiledFields.length; i++) {
+			compiledFields[i] = new CompiledField(fieldSchemas.get(i));
+		}
+		this.fields = compiledFields;
+	}
+
+	/**
+	 * Return the compiled version of the given schema.
+	 * 
+	 * @param schema
+	 * @return
+	 */
+	public static CompiledSchema of(FieldSchemaContainer schema) {
+		return COMPILED_SCHEMAS.get(schema, CompiledSchema::new);
+	}
+
+	/**
+	 * Remove the compiled version of the given schema. This is needed when the schema instance has been modified.
+	 * 
+	 * @param schema
+	 */
+	public static void invalidate(FieldSchemaContainer schema) {
+		COMPILED_SCHEMAS.invalidate(schema);
+	}
+
+	/**
+	 * Return the compiled fields.
+	 * 
+	 * @return
+	 */
+	public CompiledField[] getFields() {
+		return fields;
+	}
+
+}
@@ -10,6 +10,7 @@ import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.job.impl.JobRootImpl;
 import com.gentics.mesh.core.data.job.impl.MicronodeMigrationJobImpl;
 import com.gentics.mesh.core.data.job.impl.NodeMigrationJobImpl;
+import com.gentics.mesh.core.data.job.impl.ReindexJobImpl;
 import com.gentics.mesh.core.data.job.impl.ReleaseMigrationJobImpl;
 import com.gentics.mesh.core.data.node.field.impl.BinaryGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.impl.MicronodeGraphFieldImpl;
@@ -135,6 +136,7 @@ public final class DatabaseHelper {
 		NodeMigrationJobImpl.init(database);
 		MicronodeMigrationJobImpl.init(database);
 		ReleaseMigrationJobImpl.init(database);
+		ReindexJobImpl.init(database);
 
 		// Field changes
 		FieldTypeChangeImpl.init(database);
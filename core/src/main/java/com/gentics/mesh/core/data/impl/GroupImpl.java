@@ -80,6 +80,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		PermissionStore.invalidateRoleSets();
 	}
 
 	@Override
@@ -88,7 +89,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateRoleSets();
 	}
 
 	@Override
@@ -104,7 +105,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
-
+		PermissionStore.invalidateRoleSets();
 	}
 
 	@Override
@@ -115,7 +116,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
 		}
-		PermissionStore.invalidate();
+		PermissionStore.invalidateRoleSets();
 	}
 
 	@Override
@@ -177,7 +178,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (User user : affectedUsers) {
 			user.updateShortcutEdges();
 		}
-		PermissionStore.invalidate();
+		PermissionStore.invalidateRoleSets();
 	}
 
 	@Override
@@ -101,11 +101,17 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		boolean granted = false;
 		for (GraphPermission permission : permissions) {
 			if (!hasPermission(permission, vertex)) {
 				addFramedEdge(permission.label(), vertex);
+				granted = true;
 			}
 		}
+		// Denying permissions are cached as well. Thus we need to invalidate the cached entries for the element.
+		if (granted) {
+			PermissionStore.invalidateElement(vertex.getId());
+		}
 	}
 
 	@Override
@@ -135,7 +141,7 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				key, indexKey).spliterator(), false)).peek(Edge::remove).count();
 
 		if (edgesRemoved > 0) {
-			PermissionStore.invalidate();
+			PermissionStore.invalidateElement(vertex.getId());
 		}
 	}
 
@@ -165,9 +171,10 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 				}
 			}
 		}
+		Object id = getId();
 		getVertex().remove();
 
-		PermissionStore.invalidate();
+		PermissionStore.invalidateRole(id);
 	}
 
 	@Override
@@ -19,8 +19,13 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -28,6 +33,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.RoleSet;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -254,14 +260,87 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public Set<GraphPermission> getPermissions(MeshVertex vertex) {
-		Set<GraphPermission> graphPermissions = new HashSet<>();
-		// Check all permissions one at a time and add granted permissions to the set
-		for (GraphPermission perm : GraphPermission.values()) {
-			if (hasPermission(vertex, perm)) {
-				graphPermissions.add(perm);
+		// Check all permissions in one pass and return the granted permissions
+		Object id = vertex.getId();
+		return getPermissionsForIds(Collections.singleton(id), GraphPermission.values()).get(id);
+	}
+
+	@Override
+	public Map<Object, Set<GraphPermission>> getPermissionsForIds(Collection<?> elementIds, GraphPermission... permissions) {
+		// Resolve the roles only once for all elements
+		RoleSet roles = getRoleSet();
+		Map<Object, Set<GraphPermission>> result = new HashMap<>(elementIds.size());
+		for (Object elementId : elementIds) {
+			Set<GraphPermission> granted = EnumSet.noneOf(GraphPermission.class);
+			Set<GraphPermission> uncached = EnumSet.noneOf(GraphPermission.class);
+			for (GraphPermission permission : permissions) {
+				Boolean cachedPerm = PermissionStore.getPermission(roles, permission, elementId);
+				if (cachedPerm == null) {
+					uncached.add(permission);
+				} else if (cachedPerm) {
+					granted.add(permission);
+				}
+			}
+			if (!uncached.isEmpty()) {
+				granted.addAll(loadPermissions(roles, elementId, uncached));
+			}
+			result.put(elementId, granted);
+		}
+		return result;
+	}
+
+	/**
+	 * Determine which of the given permissions are granted by the roles on the element. The permission edges of the element are checked in a single
+	 * traversal instead of probing the edge index for each role and permission. The results will be stored in the permission store.
+	 * 
+	 * @param roles
+	 * @param elementId
+	 * @param permissions
+	 * @return Granted permissions
+	 */
+	private Set<GraphPermission> loadPermissions(RoleSet roles, Object elementId, Set<GraphPermission> permissions) {
+		// The sequence must be determined before the graph is checked. Otherwise a concurrent invalidation could be missed.
+		long sequence = PermissionStore.sequence();
+		Set<GraphPermission> granted = EnumSet.noneOf(GraphPermission.class);
+		Vertex vertex = getGraph().getVertex(elementId);
+		if (vertex != null && roles.getRoleIds().length > 0) {
+			// Read permission also includes read published
+			Set<GraphPermission> checked = EnumSet.copyOf(permissions);
+			if (checked.contains(READ_PUBLISHED_PERM)) {
+				checked.add(READ_PERM);
+			}
+			String[] labels = checked.stream().map(GraphPermission::label).toArray(String[]::new);
+			for (Edge edge : vertex.getEdges(Direction.IN, labels)) {
+				if (roles.containsRole(String.valueOf(edge.getVertex(Direction.OUT).getId()))) {
+					granted.add(GraphPermission.valueOfLabel(edge.getLabel()));
+				}
+			}
+			if (granted.contains(READ_PERM)) {
+				granted.add(READ_PUBLISHED_PERM);
 			}
+			granted.retainAll(permissions);
+		}
+		// Granting and denying results are stored. The store will be invalidated once permissions on the element change.
+		for (GraphPermission permission : permissions) {
+			PermissionStore.store(roles, permission, elementId, granted.contains(permission), sequence);
 		}
-		return graphPermissions;
+		return granted;
+	}
+
+	@Override
+	public <T extends MeshVertex> List<T> filterByPermission(Collection<? extends T> elements, GraphPermission... permissions) {
+		List<Object> ids = new ArrayList<>(elements.size());
+		for (T element : elements) {
+			ids.add(element.getId());
+		}
+		Map<Object, Set<GraphPermission>> granted = getPermissionsForIds(ids, permissions);
+		List<T> filtered = new ArrayList<>(elements.size());
+		for (T element : elements) {
+			if (!granted.get(element.getId()).isEmpty()) {
+				filtered.add(element);
+			}
+		}
+		return filtered;
 	}
 
 	@Override
@@ -276,37 +355,73 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
-		if (PermissionStore.hasPermission(getId(), permission, elementId)) {
-			return true;
-		} else {
-			FramedGraph graph = getGraph();
+		return hasPermissionForId(getRoleSet(), elementId, permission);
+	}
+
+	/**
+	 * Check whether the given roles grant the permission on the element. Cached results will be used if possible.
+	 * 
+	 * @param roles
+	 * @param elementId
+	 * @param permission
+	 * @return
+	 */
+	private boolean hasPermissionForId(RoleSet roles, Object elementId, GraphPermission permission) {
+		Boolean cachedPerm = PermissionStore.getPermission(roles, permission, elementId);
+		if (cachedPerm != null) {
+			return cachedPerm;
+		}
+		// The sequence must be determined before the graph is checked. Otherwise a concurrent invalidation could be missed.
+		long sequence = PermissionStore.sequence();
+		boolean granted = hasPermissionForRoles(roles, elementId, permission);
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		if (!granted && permission == READ_PUBLISHED_PERM) {
+			granted = hasPermissionForId(roles, elementId, READ_PERM);
+		}
+		// Granting and denying results are stored. The store will be invalidated once permissions on the element change.
+		PermissionStore.store(roles, permission, elementId, granted, sequence);
+		return granted;
+	}
+
+	/**
+	 * Return the set of roles which are assigned to the user. The set will be loaded from the permission store or determined using the role shortcut
+	 * edges.
+	 * 
+	 * @return
+	 */
+	protected RoleSet getRoleSet() {
+		return PermissionStore.getRoleSet(getId(), userId -> {
 			// Find all roles that are assigned to the user by checking the
 			// shortcut edge from the index
-			Iterable<Edge> roleEdges = graph.getEdges("e." + ASSIGNED_TO_ROLE + "_out", this.getId());
+			Iterable<Edge> roleEdges = getGraph().getEdges("e." + ASSIGNED_TO_ROLE + "_out", userId);
+			List<Object> roleIds = new ArrayList<>();
 			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-				// Find all permission edges between the found role and target
-				// vertex with the specified label
-				Iterable<Edge> edges = graph.getEdges("e." + permission.label() + "_inout",
-						MeshInternal.get().database().createComposedIndexKey(elementId, role.getId()));
-				boolean foundPermEdge = edges.iterator().hasNext();
-				if (foundPermEdge) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					PermissionStore.store(getId(), permission, elementId);
-					return true;
-				}
+				roleIds.add(roleEdge.getVertex(Direction.IN).getId());
 			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
-			} else {
-				return false;
+			return new RoleSet(roleIds);
+		});
+	}
+
+	/**
+	 * Check whether any of the given roles has a permission edge with the specified label to the element.
+	 * 
+	 * @param roles
+	 * @param elementId
+	 * @param permission
+	 * @return
+	 */
+	private boolean hasPermissionForRoles(RoleSet roles, Object elementId, GraphPermission permission) {
+		FramedGraph graph = getGraph();
+		Database db = MeshInternal.get().database();
+		for (Object roleId : roles.getRoleIds()) {
+			// Find all permission edges between the role and target
+			// vertex with the specified label
+			Iterable<Edge> edges = graph.getEdges("e." + permission.label() + "_inout", db.createComposedIndexKey(elementId, roleId));
+			if (edges.iterator().hasNext()) {
+				return true;
 			}
 		}
-
+		return false;
 	}
 
 	@Override
@@ -461,7 +576,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// outE(HAS_USER).removeAll();
 		batch.delete(this, false);
 		getElement().remove();
-		PermissionStore.invalidate();
+		PermissionStore.invalidateRoleSets();
 	}
 
 	/**
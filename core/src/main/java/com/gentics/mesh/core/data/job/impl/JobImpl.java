@@ -84,10 +84,15 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		response.setStartDate(getStartDate());
 		response.setCompletionCount(getCompletionCount());
 		response.setNodeName(getNodeName());
+		response.setPriority(getPriority());
+		response.setWaitTime(getWaitTime());
 
 		Map<String, String> props = response.getProperties();
-		props.put("releaseName", getRelease().getName());
-		props.put("releaseUuid", getRelease().getUuid());
+		Release release = getRelease();
+		if (release != null) {
+			props.put("releaseName", release.getName());
+			props.put("releaseUuid", release.getUuid());
+		}
 
 		if (getToSchemaVersion() != null) {
 			SchemaContainer container = getToSchemaVersion().getSchemaContainer();
@@ -227,6 +232,40 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setProperty(STATUS_PROPERTY_KEY, status.name());
 	}
 
+	@Override
+	public int getPriority() {
+		Integer priority = getProperty(PRIORITY_PROPERTY_KEY);
+		if (priority != null) {
+			return priority;
+		}
+		MigrationType type = getType();
+		if (type == MigrationType.release) {
+			return HIGH_PRIORITY;
+		} else if (type == MigrationType.reindex) {
+			return LOW_PRIORITY;
+		}
+		return NORMAL_PRIORITY;
+	}
+
+	@Override
+	public void setPriority(int priority) {
+		setProperty(PRIORITY_PROPERTY_KEY, priority);
+	}
+
+	@Override
+	public Long getQueuedTimestamp() {
+		Long timestamp = getProperty(QUEUED_TIMESTAMP_PROPERTY_KEY);
+		if (timestamp == null) {
+			return getCreationTimestamp();
+		}
+		return timestamp;
+	}
+
+	@Override
+	public void setQueuedTimestamp(Long timestamp) {
+		setProperty(QUEUED_TIMESTAMP_PROPERTY_KEY, timestamp);
+	}
+
 	@Override
 	public String getErrorDetail() {
 		return getProperty(ERROR_DETAIL_PROPERTY_KEY);
@@ -274,6 +313,7 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setErrorDetail(null);
 		setErrorMessage(null);
 		setStatus(MigrationStatus.QUEUED);
+		setQueuedTimestamp(System.currentTimeMillis());
 	}
 
 	@Override
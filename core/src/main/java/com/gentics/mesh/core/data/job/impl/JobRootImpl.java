@@ -10,8 +10,12 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Stack;
 
 import org.apache.commons.lang.NotImplementedException;
@@ -89,6 +93,21 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return null;
 	}
 
+	@Override
+	public Map<String, Job> findByUuids(Collection<String> uuids) {
+		FramedGraph graph = Tx.getActive().getGraph();
+		Map<String, Job> jobs = new HashMap<>();
+		for (Entry<Object, Vertex> entry : database().getVertices(MeshVertexImpl.class, "uuid", uuids).entrySet()) {
+			Iterable<Edge> edges = graph.getEdges("e." + getRootLabel().toLowerCase() + "_inout",
+					database().createComposedIndexKey(entry.getValue().getId(), getId()));
+			if (edges.iterator().hasNext()) {
+				// Don't frame explicitly since multiple types can be returned
+				jobs.put((String) entry.getKey(), graph.frameElement(entry.getValue(), getPersistanceClass()));
+			}
+		}
+		return jobs;
+	}
+
 	@Override
 	public Iterable<? extends Job> findAllIt() {
 		// We need to enforce the usage of dynamic loading since the root->item yields different types of vertices.
@@ -163,6 +182,20 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 		return job;
 	}
 
+	@Override
+	public Job enqueueReindex(User creator) {
+		Job job = getGraph().addFramedVertex(ReindexJobImpl.class);
+		job.setCreated(creator);
+		job.setType(MigrationType.reindex);
+		job.setStatus(QUEUED);
+		job.prepare();
+		addItem(job);
+		if (log.isDebugEnabled()) {
+			log.debug("Enqueued reindex job {" + job.getUuid() + "}");
+		}
+		return job;
+	}
+
 	@Override
 	public MeshVertex resolveToElement(Stack<String> stack) {
 		throw error(BAD_REQUEST, "Jobs are not accessible");
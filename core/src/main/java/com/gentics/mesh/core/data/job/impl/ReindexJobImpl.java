@@ -0,0 +1,32 @@
+package com.gentics.mesh.core.data.job.impl;
+
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphdb.spi.Database;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Job which drops and rebuilds all search indices. The amount of reindexed elements is tracked via the completion count of the job.
+ */
+public class ReindexJobImpl extends JobImpl {
+
+	private static final Logger log = LoggerFactory.getLogger(ReindexJobImpl.class);
+
+	public static void init(Database database) {
+		database.addVertexType(ReindexJobImpl.class, MeshVertexImpl.class);
+	}
+
+	@Override
+	public void prepare() {
+		// Nothing to prepare. The indices will be created during the reindex.
+	}
+
+	@Override
+	protected void processTask() {
+		log.info("Processing reindex job {" + getUuid() + "}");
+		MeshInternal.get().reindexHandler().reindex(this).blockingAwait();
+	}
+
+}
@@ -24,6 +24,8 @@ import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.diff.FieldChangeTypes;
 import com.gentics.mesh.core.data.diff.FieldContainerChange;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.impl.CompiledField;
+import com.gentics.mesh.core.data.impl.CompiledSchema;
 import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.GraphField;
@@ -32,6 +34,7 @@ import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.rest.common.FieldTypes;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.field.Field;
@@ -83,13 +86,16 @@ public class MicronodeImpl extends AbstractGraphFieldContainerImpl implements Mi
 		}
 
 		// Fields
-		for (FieldSchema fieldEntry : microschema.getFields()) {
-			Field restField = getRestFieldFromGraph(ac, fieldEntry.getName(), fieldEntry, requestedLanguageTags, level);
+		for (CompiledField field : CompiledSchema.of(microschema).getFields()) {
+			if (!field.isMicronodeCompatible()) {
+				throw unsupportedFieldType(field.getFieldSchema());
+			}
+			Field restField = field.getRestField(this, ac, requestedLanguageTags, level, () -> getParentNode());
 			if (restField != null) {
-				restMicronode.getFields().put(fieldEntry.getName(), restField);
+				restMicronode.getFields().put(field.getKey(), restField);
 			} else {
 				if (log.isDebugEnabled()) {
-					log.debug("Field for key {" + fieldEntry.getName() + "} could not be found. Ignoring the field.");
+					log.debug("Field for key {" + field.getKey() + "} could not be found. Ignoring the field.");
 				}
 			}
 		}
@@ -181,26 +187,26 @@ public class MicronodeImpl extends AbstractGraphFieldContainerImpl implements Mi
 	}
 
 	@Override
-	protected void updateField(InternalActionContext ac, FieldMap fieldMap, String key, FieldSchema fieldSchema, FieldSchemaContainer schema) {
-
+	protected void updateField(InternalActionContext ac, FieldMap fieldMap, CompiledField field, FieldSchemaContainer schema) {
 		// Filter out unsupported field types
-		FieldTypes type = FieldTypes.valueByName(fieldSchema.getType());
-		switch (type) {
-		case BINARY:
-		case MICRONODE:
-			throw error(BAD_REQUEST, "error_unsupported_fieldtype", type.name());
-		case LIST:
-			ListFieldSchema listFieldSchema = (ListFieldSchema) fieldSchema;
-			switch (listFieldSchema.getListType()) {
-			case MicronodeGraphFieldList.TYPE:
-				throw error(BAD_REQUEST, "error_unsupported_fieldtype", type + ":" + listFieldSchema.getListType());
-			default:
-				super.updateField(ac, fieldMap, key, fieldSchema, schema);
-			}
-		default:
-			super.updateField(ac, fieldMap, key, fieldSchema, schema);
+		if (!field.isMicronodeCompatible()) {
+			throw unsupportedFieldType(field.getFieldSchema());
 		}
+		super.updateField(ac, fieldMap, field, schema);
+	}
 
+	/**
+	 * Create the error for field types which are not supported within micronodes.
+	 * 
+	 * @param fieldSchema
+	 * @return
+	 */
+	private GenericRestException unsupportedFieldType(FieldSchema fieldSchema) {
+		FieldTypes type = FieldTypes.valueByName(fieldSchema.getType());
+		if (type == FieldTypes.LIST) {
+			return error(BAD_REQUEST, "error_unsupported_fieldtype", type + ":" + ((ListFieldSchema) fieldSchema).getListType());
+		}
+		return error(BAD_REQUEST, "error_unsupported_fieldtype", type.name());
 	}
 
 	@Override
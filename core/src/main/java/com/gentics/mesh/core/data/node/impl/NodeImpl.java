@@ -16,6 +16,8 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_SCH
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_USER;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.parameter.FieldsParameters.isIncluded;
+import static com.gentics.mesh.parameter.FieldsParameters.isSchemaFieldIncluded;
 import static com.gentics.mesh.util.URIUtils.encodeFragment;
 import static com.tinkerpop.blueprints.Direction.IN;
 import static com.tinkerpop.blueprints.Direction.OUT;
@@ -37,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -45,6 +48,7 @@ import org.apache.commons.lang3.NotImplementedException;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.WebrootPathStore;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.GraphFieldContainerEdge;
@@ -63,6 +67,8 @@ import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.diff.FieldContainerChange;
 import com.gentics.mesh.core.data.generic.AbstractGenericFieldContainerVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.impl.CompiledField;
+import com.gentics.mesh.core.data.impl.CompiledSchema;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.impl.TagEdgeImpl;
@@ -80,6 +86,7 @@ import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.impl.SchemaContainerImpl;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.core.rest.common.PermissionInfo;
 import com.gentics.mesh.core.rest.error.NodeVersionConflictException;
 import com.gentics.mesh.core.rest.error.NotModifiedException;
 import com.gentics.mesh.core.rest.navigation.NavigationElement;
@@ -92,7 +99,6 @@ import com.gentics.mesh.core.rest.node.PublishStatusResponse;
 import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.core.rest.node.field.NodeFieldListItem;
 import com.gentics.mesh.core.rest.node.field.list.impl.NodeFieldListItemImpl;
-import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.core.rest.tag.TagListUpdateRequest;
 import com.gentics.mesh.core.rest.tag.TagReference;
@@ -560,19 +566,116 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(BAD_REQUEST, "The schema container for node {" + getUuid() + "} could not be found.");
 		}
 		Release release = ac.getRelease(getProject());
-		restNode.setAvailableLanguages(getLanguageInfo(ac));
-		setFields(ac, release, restNode, level, languageTags);
-		setParentNodeInfo(ac, release, restNode);
-		setRolePermissions(ac, restNode);
-		setChildrenInfo(ac, release, restNode);
-		setTagsToRest(ac, restNode, release);
-		fillCommonRestFields(ac, restNode);
-		setBreadcrumbToRest(ac, restNode);
-		setPathsToRest(ac, restNode, release);
-		setProjectReference(ac, restNode);
+		// Only load the properties which have been requested
+		Set<String> projection = ac.getFieldsParameters().getFields();
+		if (isIncluded(projection, "availableLanguages")) {
+			restNode.setAvailableLanguages(getLanguageInfo(ac));
+		}
+		// The fields are always located since a missing container must result in an error
+		setFields(ac, release, restNode, level, projection, languageTags);
+		if (isIncluded(projection, "parentNode", "container")) {
+			setParentNodeInfo(ac, release, restNode);
+		}
+		if (isIncluded(projection, "rolePerms")) {
+			setRolePermissions(ac, restNode);
+		}
+		if (isIncluded(projection, "childrenInfo")) {
+			setChildrenInfo(ac, release, restNode);
+		}
+		if (isIncluded(projection, "tags")) {
+			setTagsToRest(ac, restNode, release);
+		}
+		if (isIncluded(projection, "creator", "created", "permissions")) {
+			fillCommonRestFields(ac, restNode);
+		} else {
+			restNode.setUuid(getUuid());
+		}
+		if (isIncluded(projection, "breadcrumb")) {
+			setBreadcrumbToRest(ac, restNode);
+		}
+		if (isIncluded(projection, "path", "languagePaths")) {
+			setPathsToRest(ac, restNode, release);
+		}
+		if (isIncluded(projection, "project")) {
+			setProjectReference(ac, restNode);
+		}
+		if (!projection.isEmpty()) {
+			removeUnrequestedProperties(restNode, projection);
+		}
 		return restNode;
 	}
 
+	/**
+	 * Remove the properties which have not been requested but were set as a side effect of loading other properties. Empty collections are removed as
+	 * well so that they will not be serialized.
+	 * 
+	 * @param restNode
+	 * @param projection
+	 *            Requested properties
+	 */
+	private void removeUnrequestedProperties(NodeResponse restNode, Set<String> projection) {
+		if (!isIncluded(projection, "language")) {
+			restNode.setLanguage(null);
+		}
+		if (!isIncluded(projection, "availableLanguages")) {
+			restNode.setAvailableLanguages(null);
+		}
+		if (!isIncluded(projection, "languagePaths")) {
+			restNode.setLanguagePaths(null);
+		}
+		if (!isIncluded(projection, "path")) {
+			restNode.setPath(null);
+		}
+		if (!isIncluded(projection, "parentNode")) {
+			restNode.setParentNode(null);
+		}
+		if (!isIncluded(projection, "tags")) {
+			restNode.setTags(null);
+		}
+		if (!isIncluded(projection, "project")) {
+			restNode.setProject(null);
+		}
+		if (!isIncluded(projection, "childrenInfo")) {
+			restNode.setChildrenInfo(null);
+		}
+		if (!isIncluded(projection, "schema")) {
+			restNode.setSchema(null);
+		}
+		if (!isIncluded(projection, "displayField")) {
+			restNode.setDisplayField(null);
+		}
+		if (!isIncluded(projection, "displayName")) {
+			restNode.setDisplayName(null);
+		}
+		if (!isIncluded(projection, "fields")) {
+			restNode.setFields(null);
+		}
+		if (!isIncluded(projection, "breadcrumb")) {
+			restNode.setBreadcrumb(null);
+		}
+		if (!isIncluded(projection, "version")) {
+			restNode.setVersion(null);
+		}
+		if (!isIncluded(projection, "creator")) {
+			restNode.setCreator(null);
+		}
+		if (!isIncluded(projection, "created")) {
+			restNode.setCreated(null);
+		}
+		if (!isIncluded(projection, "editor")) {
+			restNode.setEditor(null);
+		}
+		if (!isIncluded(projection, "edited")) {
+			restNode.setEdited(null);
+		}
+		if (!isIncluded(projection, "permissions")) {
+			restNode.setPermissions((PermissionInfo) null);
+		}
+		if (!isIncluded(projection, "rolePerms")) {
+			restNode.setRolePerms((PermissionInfo) null);
+		}
+	}
+
 	/**
 	 * Set the project reference to the node response model.
 	 * 
@@ -614,10 +717,13 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 *            Rest model which will be updated
 	 * @param level
 	 *            Current level of transformation
+	 * @param projection
+	 *            Requested properties. Only the requested schema fields will be transformed.
 	 * @param languageTags
 	 * @return
 	 */
-	private void setFields(InternalActionContext ac, Release release, NodeResponse restNode, int level, String... languageTags) {
+	private void setFields(InternalActionContext ac, Release release, NodeResponse restNode, int level, Set<String> projection,
+			String... languageTags) {
 		VersioningParameters versioiningParameters = ac.getVersioningParameters();
 		NodeParameters nodeParameters = ac.getNodeParameters();
 
@@ -688,30 +794,26 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			}
 			restNode.setEdited(fieldContainer.getLastEditedDate());
 
-			// Iterate over all fields and transform them to rest
-			for (FieldSchema fieldEntry : schema.getFields()) {
-				// boolean expandField =
-				// fieldsToExpand.contains(fieldEntry.getName()) ||
-				// ac.getExpandAllFlag();
-				Field restField = fieldContainer.getRestFieldFromGraph(ac, fieldEntry.getName(), fieldEntry, containerLanguageTags, level);
-				if (fieldEntry.isRequired() && restField == null) {
+			// Iterate over all requested fields and transform them to rest
+			Supplier<Node> parentNode = () -> this;
+			for (CompiledField field : CompiledSchema.of(schema).getFields()) {
+				if (!isSchemaFieldIncluded(projection, field.getKey())) {
+					continue;
+				}
+				Field restField = field.getRestField(fieldContainer, ac, containerLanguageTags, level, parentNode);
+				if (field.isRequired() && restField == null) {
 					// TODO i18n
-					// throw error(BAD_REQUEST, "The field {" +
-					// fieldEntry.getName()
-					// + "} is a required field but it could not be found in the
-					// node. Please add the field using an update call or change
-					// the field schema and
-					// remove the required flag.");
-					restNode.getFields().put(fieldEntry.getName(), null);
+					// throw error(BAD_REQUEST, "The field {" + field.getKey() + "} is a required field but it could not be found in the node.
+					// Please add the field using an update call or change the field schema and remove the required flag.");
+					restNode.getFields().put(field.getKey(), null);
 				}
 				if (restField == null) {
 					if (log.isDebugEnabled()) {
-						log.debug("Field for key {" + fieldEntry.getName() + "} could not be found. Ignoring the field.");
+						log.debug("Field for key {" + field.getKey() + "} could not be found. Ignoring the field.");
 					}
 				} else {
-					restNode.getFields().put(fieldEntry.getName(), restField);
+					restNode.getFields().put(field.getKey(), restField);
 				}
-
 			}
 		}
 	}
@@ -727,24 +829,38 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 */
 	private void setChildrenInfo(InternalActionContext ac, Release release, NodeResponse restNode) {
 		Map<String, NodeChildrenInfo> childrenInfo = new HashMap<>();
-		for (Node child : getChildren(release.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PERM)) {
-				String schemaName = child.getSchemaContainer().getName();
-				NodeChildrenInfo info = childrenInfo.get(schemaName);
-				if (info == null) {
-					info = new NodeChildrenInfo();
-					String schemaUuid = child.getSchemaContainer().getUuid();
-					info.setSchemaUuid(schemaUuid);
-					info.setCount(1);
-					childrenInfo.put(schemaName, info);
-				} else {
-					info.setCount(info.getCount() + 1);
-				}
+		// Check the permissions of all children at once
+		for (Node child : getReadableChildren(ac, release)) {
+			String schemaName = child.getSchemaContainer().getName();
+			NodeChildrenInfo info = childrenInfo.get(schemaName);
+			if (info == null) {
+				info = new NodeChildrenInfo();
+				String schemaUuid = child.getSchemaContainer().getUuid();
+				info.setSchemaUuid(schemaUuid);
+				info.setCount(1);
+				childrenInfo.put(schemaName, info);
+			} else {
+				info.setCount(info.getCount() + 1);
 			}
 		}
 		restNode.setChildrenInfo(childrenInfo);
 	}
 
+	/**
+	 * Return the release specific children of the node which are readable by the user of the action context.
+	 * 
+	 * @param ac
+	 * @param release
+	 * @return
+	 */
+	private List<Node> getReadableChildren(InternalActionContext ac, Release release) {
+		List<Node> children = new ArrayList<>();
+		for (Node child : getChildren(release.getUuid())) {
+			children.add(child);
+		}
+		return ac.getUser().filterByPermission(children, READ_PERM);
+	}
+
 	/**
 	 * Set the tag information to the rest model.
 	 * 
@@ -1104,6 +1220,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			c.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_PROPERTY_KEY, null);
 			c.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
 		});
+		WebrootPathStore.invalidateNode(releaseUuid, getUuid());
 
 		// Handle recursion
 		if (parameters.isRecursive()) {
@@ -1194,6 +1311,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		getGraphFieldContainerEdge(languageTag, releaseUuid, PUBLISHED).remove();
 		published.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_PROPERTY_KEY, null);
 		published.setProperty(NodeGraphFieldContainer.PUBLISHED_WEBROOT_URLFIELD_PROPERTY_KEY, null);
+		WebrootPathStore.invalidateNode(releaseUuid, getUuid());
 
 		assertPublishConsistency(ac, release);
 
@@ -1346,7 +1464,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	/**
 	 * Get a vertex traversal to find the children of this node, this user has read permission for.
-	 *
+	 * 
 	 * @param requestUser
 	 *            user
 	 * @param releaseUuid
@@ -1858,6 +1976,14 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		keyBuilder.append("expandFields:");
 		keyBuilder.append(expandedFields);
 
+		// projection
+		Set<String> projection = ac.getFieldsParameters().getFields();
+		if (!projection.isEmpty()) {
+			keyBuilder.append("-");
+			keyBuilder.append("fields:");
+			keyBuilder.append(projection);
+		}
+
 		// release specific tags
 		for (Tag tag : getTags(release)) {
 			// Tags can't be moved across releases thus we don't need to add the
@@ -1866,11 +1992,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		// release specific children
-		for (Node child : getChildren(release.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
+		for (Node child : getReadableChildren(ac, release)) {
+			keyBuilder.append("-");
+			keyBuilder.append(child.getSchemaContainer().getName());
 		}
 
 		// editor etag - (can be omitted since update would also affect the
@@ -96,12 +96,7 @@ public class SchemaContainerVersionImpl extends
 
 	@Override
 	public SchemaModel getSchema() {
-		SchemaModel schema = MeshInternal.get().serverSchemaStorage().getSchema(getName(), getVersion());
-		if (schema == null) {
-			schema = JsonUtil.readValue(getJson(), SchemaModelImpl.class);
-			MeshInternal.get().serverSchemaStorage().addSchema(schema);
-		}
-		return schema;
+		return MeshInternal.get().serverSchemaStorage().getSchema(getName(), getVersion(), () -> JsonUtil.readValue(getJson(), SchemaModelImpl.class));
 	}
 
 	@Override
@@ -118,8 +113,7 @@ public class SchemaContainerVersionImpl extends
 
 	@Override
 	public void setSchema(SchemaModel schema) {
-		MeshInternal.get().serverSchemaStorage().removeSchema(schema.getName(), schema.getVersion());
-		MeshInternal.get().serverSchemaStorage().addSchema(schema);
+		MeshInternal.get().serverSchemaStorage().replaceSchema(schema);
 		String json = schema.toJson();
 		setJson(json);
 		setProperty(VERSION_PROPERTY_KEY, schema.getVersion());
@@ -42,6 +42,7 @@ import com.gentics.mesh.search.index.entry.UpdateDocumentEntryImpl;
 import com.gentics.mesh.search.index.node.NodeIndexHandler;
 import com.gentics.mesh.search.index.tag.TagIndexHandler;
 import com.gentics.mesh.search.index.tagfamily.TagFamilyIndexHandler;
+import com.gentics.mesh.search.queue.IndexQueueWorker;
 
 import io.reactivex.Completable;
 import io.reactivex.Observable;
@@ -76,6 +77,9 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 	@Inject
 	SearchProvider searchProvider;
 
+	@Inject
+	IndexQueueWorker indexQueue;
+
 	@Inject
 	public SearchQueueBatchImpl() {
 	}
@@ -92,7 +96,7 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 		String indexName = NodeGraphFieldContainer.composeIndexName(projectUuid, releaseUuid, versionUuid, type);
 		CreateIndexEntry entry = new CreateIndexEntryImpl(nodeContainerIndexHandler, indexName);
 		entry.setSchema(schema);
-		// entry.getContext().setSchemaContainerVersionUuid(versionUuid);
+		entry.getContext().setProjectUuid(projectUuid).setReleaseUuid(releaseUuid).setSchemaContainerVersionUuid(versionUuid);
 		addEntry(entry);
 		return this;
 	}
@@ -244,6 +248,9 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 
 	@Override
 	public Completable processAsync() {
+		if (indexQueue.isRunning()) {
+			return enqueue();
+		}
 		return Completable.defer(() -> {
 			// Process the batch
 			Completable obs = Completable.complete();
@@ -288,6 +295,32 @@ public class SearchQueueBatchImpl implements SearchQueueBatch {
 		});
 	}
 
+	/**
+	 * Add the document updates of the batch to the persistent index queue. Index changes (create, drop) and document moves will still be processed
+	 * directly since later document updates may depend on them.
+	 * 
+	 * @return
+	 */
+	private Completable enqueue() {
+		return Completable.defer(() -> {
+			List<UpdateDocumentEntry> documentEntries = new ArrayList<>();
+			List<SearchQueueEntry> otherEntries = new ArrayList<>();
+			for (SearchQueueEntry entry : getEntries()) {
+				if (entry instanceof UpdateDocumentEntry) {
+					documentEntries.add((UpdateDocumentEntry) entry);
+				} else {
+					otherEntries.add(entry);
+				}
+			}
+			// Clear the batch entries so that the GC can claim the memory
+			clear();
+			Completable obs = Completable.concat(otherEntries.stream().map(entry -> entry.process()).collect(Collectors.toList()));
+			return obs.andThen(Completable.fromAction(() -> indexQueue.enqueue(documentEntries)));
+		}).doOnError(error -> {
+			log.error("Error while queueing batch {" + batchId + "}", error);
+		});
+	}
+
 	@Override
 	public void processSync(long timeout, TimeUnit unit) {
 		if (!processAsync().blockingAwait(timeout, unit)) {
@@ -1,14 +1,16 @@
 package com.gentics.mesh.core.data.service;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.impl.CompiledSchema;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.data.schema.MicroschemaContainerVersion;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
@@ -25,6 +27,8 @@ import io.vertx.core.logging.LoggerFactory;
 /**
  * Central schema storage system which is used to buffer/cache JSON schema data. Storing the schema pojo's in memory is not expensive and help peformance a lot
  * since it is not required to load the schema from the graph everytime it is needed.
+ * 
+ * The storage is thread-safe. Schemas are replaced atomically so that concurrent readers will either see the previous or the updated schema.
  */
 @Singleton
 public class ServerSchemaStorage implements SchemaStorage {
@@ -36,9 +40,9 @@ public class ServerSchemaStorage implements SchemaStorage {
 	/**
 	 * Map holding the schemas per name and version
 	 */
-	private Map<String, Map<String, SchemaModel>> schemas = new HashMap<>();
+	private Map<String, Map<String, SchemaModel>> schemas = new ConcurrentHashMap<>();
 
-	private Map<String, Map<String, MicroschemaModel>> microschemas = new HashMap<>();
+	private Map<String, Map<String, MicroschemaModel>> microschemas = new ConcurrentHashMap<>();
 
 	@Inject
 	public ServerSchemaStorage(Lazy<BootstrapInitializer> boot) {
@@ -50,7 +54,7 @@ public class ServerSchemaStorage implements SchemaStorage {
 		for (SchemaContainer container : boot.get().schemaContainerRoot().findAllIt()) {
 			for (SchemaContainerVersion version : container.findAll()) {
 				SchemaModel restSchema = version.getSchema();
-				schemas.computeIfAbsent(restSchema.getName(), k -> new HashMap<>()).put(restSchema.getVersion(), restSchema);
+				schemas.computeIfAbsent(restSchema.getName(), k -> new ConcurrentHashMap<>()).put(restSchema.getVersion(), restSchema);
 			}
 		}
 
@@ -58,7 +62,7 @@ public class ServerSchemaStorage implements SchemaStorage {
 		for (MicroschemaContainer container : boot.get().microschemaContainerRoot().findAllIt()) {
 			for (MicroschemaContainerVersion version : container.findAll()) {
 				MicroschemaModel restMicroschema = version.getSchema();
-				microschemas.computeIfAbsent(restMicroschema.getName(), k -> new HashMap<>()).put(restMicroschema.getVersion(), restMicroschema);
+				microschemas.computeIfAbsent(restMicroschema.getName(), k -> new ConcurrentHashMap<>()).put(restMicroschema.getVersion(), restMicroschema);
 			}
 		}
 	}
@@ -117,15 +121,35 @@ public class ServerSchemaStorage implements SchemaStorage {
 
 	@Override
 	public void addSchema(SchemaModel schema) {
-		Map<String, SchemaModel> schemaMap = schemas.computeIfAbsent(schema.getName(), k -> new HashMap<>());
-		if (schemaMap.containsKey(schema.getVersion())) {
+		Map<String, SchemaModel> schemaMap = schemas.computeIfAbsent(schema.getName(), k -> new ConcurrentHashMap<>());
+		if (schemaMap.putIfAbsent(schema.getVersion(), schema) != null) {
 			log.error("Schema " + schema.getName() + ", version " + schema.getVersion() + " is already stored.");
-			return;
-		} else {
-			schemaMap.put(schema.getVersion(), schema);
 		}
 	}
 
+	/**
+	 * Return the schema with the given name and version. The loader will be used to load the schema if it has not yet been stored. Concurrent invocations
+	 * will only load the schema once.
+	 * 
+	 * @param name
+	 * @param version
+	 * @param loader
+	 * @return
+	 */
+	public SchemaModel getSchema(String name, String version, Supplier<SchemaModel> loader) {
+		return schemas.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).computeIfAbsent(version, v -> loader.get());
+	}
+
+	/**
+	 * Store the given schema. An already stored schema with the same name and version will be replaced.
+	 * 
+	 * @param schema
+	 */
+	public void replaceSchema(SchemaModel schema) {
+		CompiledSchema.invalidate(schema);
+		schemas.computeIfAbsent(schema.getName(), k -> new ConcurrentHashMap<>()).put(schema.getVersion(), schema);
+	}
+
 	@Override
 	public MicroschemaModel getMicroschema(String name) {
 		Map<String, MicroschemaModel> microschemaMap = microschemas.get(name);
@@ -156,15 +180,35 @@ public class ServerSchemaStorage implements SchemaStorage {
 
 	@Override
 	public void addMicroschema(MicroschemaModel microschema) {
-		Map<String, MicroschemaModel> microschemaMap = microschemas.computeIfAbsent(microschema.getName(), k -> new HashMap<>());
-		if (microschemaMap.containsKey(microschema.getVersion())) {
+		Map<String, MicroschemaModel> microschemaMap = microschemas.computeIfAbsent(microschema.getName(), k -> new ConcurrentHashMap<>());
+		if (microschemaMap.putIfAbsent(microschema.getVersion(), microschema) != null) {
 			log.error("Microschema " + microschema.getName() + ", version " + microschema.getVersion() + " is already stored.");
-			return;
-		} else {
-			microschemaMap.put(microschema.getVersion(), microschema);
 		}
 	}
 
+	/**
+	 * Return the microschema with the given name and version. The loader will be used to load the microschema if it has not yet been stored. Concurrent
+	 * invocations will only load the microschema once.
+	 * 
+	 * @param name
+	 * @param version
+	 * @param loader
+	 * @return
+	 */
+	public MicroschemaModel getMicroschema(String name, String version, Supplier<MicroschemaModel> loader) {
+		return microschemas.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).computeIfAbsent(version, v -> loader.get());
+	}
+
+	/**
+	 * Store the given microschema. An already stored microschema with the same name and version will be replaced.
+	 * 
+	 * @param microschema
+	 */
+	public void replaceMicroschema(MicroschemaModel microschema) {
+		CompiledSchema.invalidate(microschema);
+		microschemas.computeIfAbsent(microschema.getName(), k -> new ConcurrentHashMap<>()).put(microschema.getVersion(), microschema);
+	}
+
 	@Override
 	public void removeMicroschema(String name) {
 		microschemas.remove(name);
@@ -185,6 +229,7 @@ public class ServerSchemaStorage implements SchemaStorage {
 	 *            Schema or microschema container which is used to identify the elements which should be removed from the storage
 	 */
 	public void remove(FieldSchemaContainer container) {
+		CompiledSchema.invalidate(container);
 		if (container instanceof SchemaModel) {
 			SchemaModel schemaModel = (SchemaModel) container;
 			removeSchema(schemaModel.getName(), schemaModel.getVersion());
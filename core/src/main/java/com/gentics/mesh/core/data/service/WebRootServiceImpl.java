@@ -1,22 +1,34 @@
 package com.gentics.mesh.core.data.service;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Stack;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.WebrootPathEntry;
+import com.gentics.mesh.core.cache.WebrootPathStore;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.core.data.node.field.GraphField;
+import com.gentics.mesh.core.data.node.field.StringGraphField;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.path.Path;
 import com.gentics.mesh.path.PathSegment;
+import com.syncleus.ferma.tx.Tx;
 
 @Singleton
 public class WebRootServiceImpl implements WebRootService {
@@ -31,10 +43,55 @@ public class WebRootServiceImpl implements WebRootService {
 	@Override
 	public Path findByProjectPath(InternalActionContext ac, String path) {
 		Project project = ac.getProject();
+		String releaseUuid = ac.getRelease().getUuid();
+		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
+
+		// Resolving the project root is cheap and does not need to be cached
+		if (isRoot(path)) {
+			return resolve(ac, project, releaseUuid, type, path);
+		}
 
+		// The sequence must be determined before resolving so that invalidations which happen in the meantime are not lost
+		long sequence = WebrootPathStore.sequence();
+		String cacheKey = WebrootPathStore.key(project.getUuid(), releaseUuid, type, path);
+		WebrootPathEntry entry = WebrootPathStore.get(releaseUuid, cacheKey);
+		if (entry != null) {
+			if (!entry.isFound()) {
+				throw error(NOT_FOUND, "node_not_found_for_path", path);
+			}
+			Path cachedPath = loadCachedPath(entry, releaseUuid, type, path);
+			if (cachedPath != null) {
+				return cachedPath;
+			}
+			// The entry is outdated
+			WebrootPathStore.remove(cacheKey);
+		}
+
+		try {
+			Path resolvedPath = resolve(ac, project, releaseUuid, type, path);
+			WebrootPathStore.store(releaseUuid, cacheKey, toEntry(releaseUuid, resolvedPath, sequence), sequence);
+			return resolvedPath;
+		} catch (GenericRestException e) {
+			if (NOT_FOUND.equals(e.getStatus())) {
+				WebrootPathStore.store(releaseUuid, cacheKey, WebrootPathEntry.notFound(releaseUuid, sequence), sequence);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Resolve the path by first checking the url field index and afterwards the segment fields of the nodes.
+	 * 
+	 * @param ac
+	 * @param project
+	 * @param releaseUuid
+	 * @param type
+	 * @param path
+	 * @return
+	 */
+	private Path resolve(InternalActionContext ac, Project project, String releaseUuid, ContainerType type, String path) {
 		// First try to locate the content via the url path index
-		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
-		NodeGraphFieldContainer containerByWebUrlPath = findByPath(ac.getRelease().getUuid(), path, type);
+		NodeGraphFieldContainer containerByWebUrlPath = findByPath(releaseUuid, path, type);
 		if (containerByWebUrlPath != null) {
 			return containerByWebUrlPath.getPath(ac);
 		}
@@ -45,7 +102,7 @@ public class WebRootServiceImpl implements WebRootService {
 		nodePath.setTargetPath(path);
 
 		// Handle path to project root (baseNode)
-		if ("/".equals(path) || path.isEmpty()) {
+		if (isRoot(path)) {
 			// TODO Why this container? Any other container would also be fine?
 			NodeGraphFieldContainer container = baseNode.getDraftGraphFieldContainers().get(0);
 			nodePath.addSegment(new PathSegment(container, null, null));
@@ -61,7 +118,88 @@ public class WebRootServiceImpl implements WebRootService {
 		stack.addAll(list);
 
 		// Traverse the graph and buildup the result path while doing so
-		return baseNode.resolvePath(ac.getRelease().getUuid(), ContainerType.forVersion(ac.getVersioningParameters().getVersion()), nodePath, stack);
+		return baseNode.resolvePath(releaseUuid, type, nodePath, stack);
+	}
+
+	private boolean isRoot(String path) {
+		return "/".equals(path) || path.isEmpty();
+	}
+
+	/**
+	 * Create the cache entry for the last segment of the resolved path.
+	 * 
+	 * @param releaseUuid
+	 * @param path
+	 * @param sequence
+	 * @return
+	 */
+	private WebrootPathEntry toEntry(String releaseUuid, Path path, long sequence) {
+		PathSegment last = path.getLast();
+		if (last == null || last.getContainer() == null) {
+			return WebrootPathEntry.notFound(releaseUuid, sequence);
+		}
+		// The entry depends on the nodes of all segments since changes of any segment change the path
+		Set<String> nodeUuids = new HashSet<>();
+		for (PathSegment segment : path.getSegments()) {
+			nodeUuids.add(segment.getContainer().getParentNode().getUuid());
+		}
+		GraphField field = last.getPathField();
+		String fieldKey = field == null ? null : field.getFieldKey();
+		return new WebrootPathEntry(releaseUuid, last.getContainer().getId(), fieldKey, field instanceof BinaryGraphField, last.getLanguageTag(),
+				nodeUuids);
+	}
+
+	/**
+	 * Rebuild the path from the cached entry. Only the last segment of the path will be restored.
+	 * 
+	 * @param entry
+	 * @param releaseUuid
+	 * @param type
+	 * @param path
+	 * @return Restored path or null if the cached container is no longer valid for the release, type and path
+	 */
+	private Path loadCachedPath(WebrootPathEntry entry, String releaseUuid, ContainerType type, String path) {
+		NodeGraphFieldContainer container = Tx.getActive().getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, entry
+				.getContainerId());
+		if (container == null) {
+			return null;
+		}
+		boolean valid = type == ContainerType.PUBLISHED ? container.isPublished(releaseUuid) : container.isDraft(releaseUuid);
+		if (!valid) {
+			return null;
+		}
+		GraphField field = null;
+		if (entry.getFieldKey() == null) {
+			// The path was resolved via an url field
+			if (!container.getUrlFieldValues().contains(path)) {
+				return null;
+			}
+		} else {
+			// The container must still provide the last segment of the path
+			String segment = getLastSegment(path);
+			if (entry.isBinaryField()) {
+				BinaryGraphField binaryField = container.getBinary(entry.getFieldKey());
+				if (binaryField == null || !segment.equals(binaryField.getFileName())) {
+					return null;
+				}
+				field = binaryField;
+			} else {
+				StringGraphField stringField = container.getString(entry.getFieldKey());
+				if (stringField == null || !segment.equals(stringField.getString())) {
+					return null;
+				}
+				field = stringField;
+			}
+		}
+		Path nodePath = new Path();
+		nodePath.setTargetPath(path);
+		nodePath.addSegment(new PathSegment(container, field, entry.getLanguageTag()));
+		return nodePath;
+	}
+
+	private String getLastSegment(String path) {
+		String[] elements = path.replaceAll("^/+", "").split("\\/");
+		return elements[elements.length - 1];
 	}
 
 	@Override
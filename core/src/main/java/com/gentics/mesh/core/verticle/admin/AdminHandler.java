@@ -18,8 +18,11 @@ import javax.inject.Singleton;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore;
+import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
 import com.gentics.mesh.core.verticle.handler.AbstractHandler;
+import com.gentics.mesh.core.worker.WorkerPools;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.syncleus.ferma.tx.Tx;
@@ -39,14 +42,20 @@ public class AdminHandler extends AbstractHandler {
 
 	private Database db;
 
+	private ImageManipulator imageManipulator;
+
 	@Inject
-	public AdminHandler(Database db) {
+	public AdminHandler(Database db, ImageManipulator imageManipulator) {
 		this.db = db;
+		this.imageManipulator = imageManipulator;
 	}
 
 	public void handleMeshStatus(InternalActionContext ac) {
 		MeshStatusResponse response = new MeshStatusResponse();
 		response.setStatus(Mesh.mesh().getStatus());
+		response.setWorkerPools(WorkerPools.getStatus());
+		response.setTxConflicts(db.getTxConflicts());
+		response.setImageCache(imageManipulator.getVariantCache().getStatus());
 		ac.send(response, OK);
 	}
 
@@ -88,6 +97,7 @@ public class AdminHandler extends AbstractHandler {
 				throw error(INTERNAL_SERVER_ERROR, "error_backup", backupDir.getAbsolutePath());
 			}
 			db.restoreGraph(latestFile.getAbsolutePath());
+			NodeIndexTopologyStore.invalidate();
 			return Single.just(message(ac, "restore_finished"));
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
 	}
@@ -125,6 +135,7 @@ public class AdminHandler extends AbstractHandler {
 				.sorted(comparing(File::lastModified)).reduce((first, second) -> second).orElseGet(() -> null);
 		try {
 			db.importGraph(latestFile.getAbsolutePath());
+			NodeIndexTopologyStore.invalidate();
 			Single.just(message(ac, "import_finished")).subscribe(model -> ac.send(model, OK), ac::fail);
 		} catch (IOException e) {
 			ac.fail(e);
@@ -50,7 +50,7 @@ public class JobHandler extends AbstractCrudHandler<Job, JobResponse> {
 
 	@Override
 	public void handleReadList(InternalActionContext ac) {
-		utils.asyncTx(ac, (tx) -> {
+		utils.asyncReadTx(ac, (tx) -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -94,7 +94,7 @@ public class JobHandler extends AbstractCrudHandler<Job, JobResponse> {
 	@Override
 	public void handleRead(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
-		utils.asyncTx(ac, (tx) -> {
+		utils.asyncReadTx(ac, (tx) -> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -143,7 +143,7 @@ public class JobHandler extends AbstractCrudHandler<Job, JobResponse> {
 			if (!ac.getUser().hasAdminRole()) {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
-			vertx.eventBus().send(JOB_WORKER_ADDRESS, null);
+			vertx.eventBus().publish(JOB_WORKER_ADDRESS, null);
 			return message(ac, "job_processing_invoked");
 		}, (model) -> ac.send(model, OK));
 	}
@@ -0,0 +1,327 @@
+package com.gentics.mesh.core.verticle.job;
+
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.FAILED;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.QUEUED;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.STARTING;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.UNKNOWN;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.data.job.JobRoot;
+import com.gentics.mesh.core.rest.admin.migration.MigrationStatus;
+import com.gentics.mesh.core.worker.WorkerPool;
+import com.gentics.mesh.core.worker.WorkerPools;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.syncleus.ferma.tx.Tx;
+
+import dagger.Lazy;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Scheduler which starts queued jobs on a limited amount of job slots.
+ * 
+ * Each job is scoped to the project of its release. Jobs without release (e.g. reindex jobs) are scoped to all projects. A queued job will only be
+ * started once no running job and no older queued job share its scope. Jobs of different projects are thus executed concurrently while jobs of the same
+ * project keep their order. Startable jobs are claimed in the order of their priority and queue time.
+ * 
+ * Jobs are claimed by updating their status within a transaction which also updates the job root. Concurrent claims of other cluster instances will thus
+ * conflict and be retried with the updated job states. Every instance with free slots can claim any queued job.
+ * 
+ * Jobs which were claimed by this instance but are still marked as starting or running when the scheduler is started were interrupted by a shutdown.
+ * These jobs are queued again once during the first scheduling run after the start.
+ */
+@Singleton
+public class JobScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(JobScheduler.class);
+
+	private static final String CLAIM_TIMESTAMP_PROPERTY_KEY = "lastJobClaim";
+
+	/**
+	 * Property which marks jobs which were claimed by the scheduler. Only those jobs can be abandoned.
+	 */
+	private static final String JOB_CLAIM_TIMESTAMP_PROPERTY_KEY = "claimDate";
+
+	private static final String POOL_NAME = "jobs";
+
+	private final Database db;
+
+	private final Lazy<BootstrapInitializer> boot;
+
+	/**
+	 * Uuids of the jobs which are currently executed by this instance.
+	 */
+	private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+	private boolean stopped = true;
+
+	/**
+	 * Flag which indicates that the jobs which were abandoned by a previous run of this instance have not yet been queued again.
+	 */
+	private boolean requeueAbandoned = true;
+
+	@Inject
+	public JobScheduler(Database db, Lazy<BootstrapInitializer> boot) {
+		this.db = db;
+		this.boot = boot;
+	}
+
+	/**
+	 * Start the scheduler.
+	 */
+	public synchronized void start() {
+		stopped = false;
+		requeueAbandoned = true;
+	}
+
+	/**
+	 * Stop the scheduler. Running jobs will be completed but no further jobs will be started.
+	 */
+	public synchronized void stop() {
+		stopped = true;
+		WorkerPools.remove(POOL_NAME);
+	}
+
+	/**
+	 * Claim and start as many queued jobs as there are free job slots.
+	 */
+	public synchronized void schedule() {
+		if (stopped) {
+			return;
+		}
+		if (requeueAbandoned) {
+			db.tx(this::requeueAbandonedJobs);
+			requeueAbandoned = false;
+		}
+		int freeSlots = getMaxConcurrentJobs() - runningJobs.size();
+		if (freeSlots <= 0) {
+			if (log.isDebugEnabled()) {
+				log.debug("All {" + runningJobs.size() + "} job slots are in use.");
+			}
+			return;
+		}
+		List<String> claimedJobs = db.tx(() -> claimJobs(freeSlots));
+		for (String uuid : claimedJobs) {
+			runningJobs.add(uuid);
+			getPool().submit(() -> runJob(uuid));
+		}
+	}
+
+	/**
+	 * Return the uuids of the jobs which are currently executed by this instance.
+	 * 
+	 * @return
+	 */
+	public Set<String> getRunningJobs() {
+		return runningJobs;
+	}
+
+	/**
+	 * Select the jobs which can be started and mark them as starting. This method must be invoked within a transaction.
+	 * 
+	 * @param freeSlots
+	 *            Maximum amount of jobs to claim
+	 * @return Uuids of the claimed jobs
+	 */
+	private List<String> claimJobs(int freeSlots) {
+		JobRoot root = boot.get().jobRoot();
+		List<ScheduledJob> pending = new ArrayList<>();
+		List<ScheduledJob> active = new ArrayList<>();
+		for (Job job : root.findAllIt()) {
+			// Don't execute failed or completed jobs again
+			MigrationStatus status = job.getStatus();
+			if (job.hasFailed() || status == COMPLETED || status == FAILED || status == UNKNOWN) {
+				continue;
+			}
+			ScheduledJob scheduledJob = new ScheduledJob(job);
+			if (status == QUEUED) {
+				pending.add(scheduledJob);
+			} else {
+				active.add(scheduledJob);
+			}
+		}
+
+		// A job may only be started if neither a running job nor an older queued job shares its scope
+		pending.sort(Comparator.comparingLong(ScheduledJob::getQueuedTimestamp));
+		List<ScheduledJob> startable = new ArrayList<>();
+		for (int i = 0; i < pending.size(); i++) {
+			ScheduledJob candidate = pending.get(i);
+			boolean blocked = active.stream().anyMatch(candidate::conflicts) || pending.subList(0, i).stream().anyMatch(candidate::conflicts);
+			if (blocked) {
+				if (log.isDebugEnabled()) {
+					log.debug("Job {" + candidate.getUuid() + "} is waiting for other jobs of its scope {" + candidate.getScope() + "}");
+				}
+			} else {
+				startable.add(candidate);
+			}
+		}
+
+		startable.sort(Comparator.comparingInt(ScheduledJob::getPriority).reversed().thenComparingLong(ScheduledJob::getQueuedTimestamp));
+		List<String> claimed = new ArrayList<>();
+		for (ScheduledJob scheduledJob : startable) {
+			if (claimed.size() >= freeSlots) {
+				break;
+			}
+			Job job = scheduledJob.getJob();
+			job.setStatus(STARTING);
+			job.setNodeName();
+			job.setProperty(JOB_CLAIM_TIMESTAMP_PROPERTY_KEY, System.currentTimeMillis());
+			claimed.add(scheduledJob.getUuid());
+			log.info("Claimed job {" + scheduledJob.getUuid() + "} with priority {" + scheduledJob.getPriority() + "} after waiting {" + job.getWaitTime()
+				+ "} ms");
+		}
+		if (!claimed.isEmpty()) {
+			// Concurrent claims of other instances will conflict on the root vertex
+			root.setProperty(CLAIM_TIMESTAMP_PROPERTY_KEY, System.currentTimeMillis());
+		}
+		return claimed;
+	}
+
+	/**
+	 * Queue the jobs again which were abandoned by a previous run of this instance. This method must be invoked within a transaction.
+	 */
+	private void requeueAbandonedJobs() {
+		for (Job job : boot.get().jobRoot().findAllIt()) {
+			MigrationStatus status = job.getStatus();
+			if ((status == STARTING || status == RUNNING) && !job.hasFailed() && isAbandoned(job)) {
+				log.info("Queueing abandoned job {" + job.getUuid() + "} again");
+				job.setStatus(QUEUED);
+			}
+		}
+	}
+
+	/**
+	 * Check whether the job is marked as running although it is not executed anymore. This is the case for jobs which were claimed by this instance before
+	 * it was stopped. Jobs which were not claimed by the scheduler and jobs of other cluster instances are never considered to be abandoned.
+	 * 
+	 * @param job
+	 * @return
+	 */
+	private boolean isAbandoned(Job job) {
+		if (runningJobs.contains(job.getUuid()) || job.getProperty(JOB_CLAIM_TIMESTAMP_PROPERTY_KEY) == null) {
+			return false;
+		}
+		MeshOptions options = Mesh.mesh().getOptions();
+		boolean clustered = options.getClusterOptions() != null && options.getClusterOptions().isEnabled();
+		return !clustered || Objects.equals(options.getNodeName(), job.getNodeName());
+	}
+
+	/**
+	 * Process the job with the given uuid and start the jobs which were waiting for it.
+	 * 
+	 * @param uuid
+	 */
+	private void runJob(String uuid) {
+		try (Tx tx = db.tx()) {
+			Job job = boot.get().jobRoot().findByUuid(uuid);
+			if (job != null) {
+				try (Tx processTx = db.tx()) {
+					job.process();
+					processTx.success();
+				} catch (Exception e) {
+					job.markAsFailed(e);
+					log.error("Error while processing job {" + uuid + "}", e);
+				}
+			}
+			tx.success();
+		} catch (Exception e) {
+			log.error("Error while processing job {" + uuid + "}", e);
+		} finally {
+			runningJobs.remove(uuid);
+		}
+		try {
+			schedule();
+		} catch (Exception e) {
+			log.error("Error while scheduling jobs", e);
+		}
+	}
+
+	private int getMaxConcurrentJobs() {
+		return Math.max(1, Mesh.mesh().getOptions().getMigrationOptions().getMaxConcurrentJobs());
+	}
+
+	/**
+	 * Return the pool which executes the jobs. The queue of the pool is not bounded since the amount of started jobs is limited by the free job slots.
+	 * 
+	 * @return
+	 */
+	private WorkerPool getPool() {
+		return WorkerPools.get(POOL_NAME, () -> new WorkerPool(POOL_NAME, getMaxConcurrentJobs(), -1));
+	}
+
+	/**
+	 * Scheduling information of a job.
+	 */
+	private static class ScheduledJob {
+
+		private final Job job;
+
+		private final String uuid;
+
+		/**
+		 * Uuid of the project of the job or null if the job affects all projects.
+		 */
+		private final String scope;
+
+		private final int priority;
+
+		private final long queuedTimestamp;
+
+		ScheduledJob(Job job) {
+			this.job = job;
+			this.uuid = job.getUuid();
+			Release release = job.getRelease();
+			this.scope = release == null ? null : release.getProject().getUuid();
+			this.priority = job.getPriority();
+			Long timestamp = job.getQueuedTimestamp();
+			this.queuedTimestamp = timestamp == null ? 0 : timestamp;
+		}
+
+		public Job getJob() {
+			return job;
+		}
+
+		public String getUuid() {
+			return uuid;
+		}
+
+		public String getScope() {
+			return scope == null ? "all projects" : scope;
+		}
+
+		public int getPriority() {
+			return priority;
+		}
+
+		public long getQueuedTimestamp() {
+			return queuedTimestamp;
+		}
+
+		/**
+		 * Check whether both jobs may not be executed concurrently.
+		 * 
+		 * @param other
+		 * @return
+		 */
+		public boolean conflicts(ScheduledJob other) {
+			return scope == null || other.scope == null || scope.equals(other.scope);
+		}
+	}
+
+}
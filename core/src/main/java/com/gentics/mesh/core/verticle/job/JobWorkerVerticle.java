@@ -2,32 +2,23 @@ package com.gentics.mesh.core.verticle.job;
 
 import static com.gentics.mesh.Events.JOB_WORKER_ADDRESS;
 
-import java.util.function.Consumer;
-
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.gentics.mesh.cli.BootstrapInitializer;
-import com.gentics.mesh.core.data.job.JobRoot;
-import com.gentics.mesh.graphdb.spi.Database;
-
-import dagger.Lazy;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import io.vertx.core.shareddata.Lock;
 
 /**
- * Dedicated verticle which will process jobs.
+ * Dedicated verticle which will process jobs. The verticle informs the {@link JobScheduler} whenever jobs have been enqueued. Jobs are additionally
+ * scheduled periodically in order to pick up jobs which could not be started before.
  */
 @Singleton
 public class JobWorkerVerticle extends AbstractVerticle {
 
 	private static final Logger log = LoggerFactory.getLogger(JobWorkerVerticle.class);
 
-	private static final String GLOBAL_JOB_LOCK_NAME = "mesh.internal.joblock";
-
 	public final static String PROJECT_UUID_HEADER = "projectUuid";
 
 	public final static String RELEASE_UUID_HEADER = "releaseUuid";
@@ -40,20 +31,15 @@ public class JobWorkerVerticle extends AbstractVerticle {
 
 	private MessageConsumer<Object> jobConsumer;
 
-	private Lazy<BootstrapInitializer> boot;
-
-	private Database db;
+	private JobScheduler scheduler;
 
 	private Long periodicTimerId;
 
 	private long timerId;
 
-	private boolean stopped = false;
-
 	@Inject
-	public JobWorkerVerticle(Database db, Lazy<BootstrapInitializer> boot) {
-		this.db = db;
-		this.boot = boot;
+	public JobWorkerVerticle(JobScheduler scheduler) {
+		this.scheduler = scheduler;
 	}
 
 	@Override
@@ -61,7 +47,7 @@ public class JobWorkerVerticle extends AbstractVerticle {
 		if (log.isDebugEnabled()) {
 			log.debug("Starting verticle {" + getClass().getName() + "}");
 		}
-		stopped = false;
+		scheduler.start();
 		registerJobHandler();
 
 		// The verticle has been deployed. Now wait a few seconds and schedule the periodic execution of jobs
@@ -76,22 +62,17 @@ public class JobWorkerVerticle extends AbstractVerticle {
 
 	private void registerJobHandler() {
 		jobConsumer = vertx.eventBus().consumer(JOB_WORKER_ADDRESS, (message) -> {
-			log.info("Got job processing request. Getting lock to execute the request.");
+			log.info("Got job processing request. Scheduling queued jobs.");
 			processJobs();
 		});
 	}
 
 	private void processJobs() {
-		executeLocked(() -> {
-			if (!stopped) {
-				db.tx(() -> {
-					JobRoot jobRoot = boot.get().jobRoot();
-					jobRoot.process();
-				});
-			}
-		}, error -> {
-			log.error("Error while processing jobs", error);
-		});
+		try {
+			scheduler.schedule();
+		} catch (Exception e) {
+			log.error("Error while processing jobs", e);
+		}
 	}
 
 	@Override
@@ -103,42 +84,8 @@ public class JobWorkerVerticle extends AbstractVerticle {
 		if (periodicTimerId != null) {
 			vertx.cancelTimer(periodicTimerId);
 		}
-		stopped = true;
+		scheduler.stop();
 		super.stop();
 	}
 
-	/**
-	 * Acquire a cluster wide exclusive lock. By default the method will try to acquire the lock within 10s. The errorAction is invoked if the lock could not be
-	 * acquired by then.
-	 * 
-	 * @param action
-	 *            Action which will be invoked when the lock has been obtained
-	 * @param errorAction
-	 *            Action which will be invoked when the lock could not be obtained or the action failed.
-	 */
-	protected void executeLocked(Runnable action, Consumer<Throwable> errorAction) {
-		try {
-			vertx.sharedData().getLock(GLOBAL_JOB_LOCK_NAME, rh -> {
-				if (rh.failed()) {
-					Throwable cause = rh.cause();
-					log.error("Error while acquiring global migration lock {" + GLOBAL_JOB_LOCK_NAME + "}", cause);
-					errorAction.accept(cause);
-				} else {
-					Lock lock = rh.result();
-					try {
-						action.run();
-					} catch (Exception e) {
-						log.error("Error while executing locked action", e);
-						errorAction.accept(e);
-					} finally {
-						lock.release();
-					}
-				}
-			});
-		} catch (Exception e) {
-			log.error("Error while waiting for global lock {" + GLOBAL_JOB_LOCK_NAME + "}", e);
-			errorAction.accept(e);
-		}
-	}
-
 }
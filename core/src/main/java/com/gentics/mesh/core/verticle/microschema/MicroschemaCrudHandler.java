@@ -109,7 +109,7 @@ public class MicroschemaCrudHandler extends AbstractCrudHandler<MicroschemaConta
 
 			info.v1().processSync();
 			if (updateParams.getUpdateAssignedReleases()) {
-				vertx.eventBus().send(JOB_WORKER_ADDRESS, null);
+				vertx.eventBus().publish(JOB_WORKER_ADDRESS, null);
 				return message(ac, "schema_updated_migration_invoked", name, info.v2());
 			} else {
 				return message(ac, "schema_updated_migration_deferred", name, info.v2());
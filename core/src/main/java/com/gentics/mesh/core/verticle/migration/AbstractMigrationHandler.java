@@ -1,14 +1,10 @@
 package com.gentics.mesh.core.verticle.migration;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Set;
 
-import javax.script.ScriptEngine;
-
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
-import com.gentics.mesh.core.data.node.handler.TypeConverter;
 import com.gentics.mesh.core.data.schema.GraphFieldSchemaContainerVersion;
 import com.gentics.mesh.core.data.schema.RemoveFieldChange;
 import com.gentics.mesh.core.data.schema.SchemaChange;
@@ -20,23 +16,14 @@ import com.gentics.mesh.core.verticle.handler.AbstractHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.JsonUtil;
-import com.gentics.mesh.util.Tuple;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import jdk.nashorn.api.scripting.ClassFilter;
-import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
 
-@SuppressWarnings("restriction")
 public abstract class AbstractMigrationHandler extends AbstractHandler implements MigrationHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
-	/**
-	 * Script engine factory.
-	 */
-	protected NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
-
 	protected Database db;
 
 	protected SearchQueue searchQueue;
@@ -55,19 +42,18 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 * @param fromVersion
 	 *            Container which contains the expected migration changes
 	 * @param migrationScripts
-	 *            List of migration scripts (will be modified)
+	 *            Migration scripts (will be modified)
 	 * @param touchedFields
 	 *            Set of touched fields (will be modified)
 	 * @throws IOException
 	 */
-	protected void prepareMigration(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Set<String> touchedFields) throws IOException {
+	protected void prepareMigration(GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> fromVersion, MigrationScripts migrationScripts,
+			Set<String> touchedFields) throws IOException {
 		SchemaChange<?> change = fromVersion.getNextChange();
 		while (change != null) {
 			String migrationScript = change.getMigrationScript();
 			if (migrationScript != null) {
-				migrationScript = migrationScript + "\nnode = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));";
-				migrationScripts.add(Tuple.tuple(migrationScript, change.getMigrationScriptContext()));
+				migrationScripts.add(migrationScript, change.getMigrationScriptContext());
 			}
 
 			// if either the type changes or the field is removed, the field is
@@ -96,41 +82,18 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 	 * @param touchedFields
 	 *            set of touched fields
 	 * @param migrationScripts
-	 *            list of migration scripts
+	 *            compiled migration scripts
 	 * @param clazz
 	 * @throws Exception
 	 */
 	protected <T extends FieldContainer> void migrate(NodeMigrationActionContextImpl ac, GraphFieldContainer container, RestModel restModel,
-			GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> newVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Class<T> clazz) throws Exception {
+			GraphFieldSchemaContainerVersion<?, ?, ?, ?, ?> newVersion, Set<String> touchedFields, MigrationScripts migrationScripts, Class<T> clazz)
+			throws Exception {
 
 		// Remove all touched fields (if necessary, they will be readded later)
 		container.getFields().stream().filter(f -> touchedFields.contains(f.getFieldKey())).forEach(f -> f.removeField(container));
 
-		String nodeJson = restModel.toJson();
-
-		for (Tuple<String, List<Tuple<String, Object>>> scriptEntry : migrationScripts) {
-			String script = scriptEntry.v1();
-			List<Tuple<String, Object>> context = scriptEntry.v2();
-			ScriptEngine engine = factory.getScriptEngine(new Sandbox());
-
-			engine.put("node", nodeJson);
-			engine.put("convert", new TypeConverter());
-			if (context != null) {
-				for (Tuple<String, Object> ctxEntry : context) {
-					engine.put(ctxEntry.v1(), ctxEntry.v2());
-				}
-			}
-			engine.eval(script);
-
-			Object transformedNodeModel = engine.get("node");
-
-			if (transformedNodeModel == null) {
-				throw new Exception("Transformed node model not found after handling migration scripts");
-			}
-
-			nodeJson = transformedNodeModel.toString();
-		}
+		String nodeJson = migrationScripts.apply(restModel.toJson());
 
 		// Transform the result back to the Rest Model
 		T transformedRestModel = JsonUtil.readValue(nodeJson, clazz);
@@ -140,14 +103,4 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	}
 
-	/**
-	 * Sandbox classfilter that filters all classes
-	 */
-	protected static class Sandbox implements ClassFilter {
-		@Override
-		public boolean exposeToScripts(String className) {
-			return false;
-		}
-	}
-
 }
@@ -0,0 +1,235 @@
+package com.gentics.mesh.core.verticle.migration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.search.SearchQueue;
+import com.gentics.mesh.core.data.search.SearchQueueBatch;
+import com.gentics.mesh.etc.config.MigrationOptions;
+import com.gentics.mesh.graphdb.spi.Database;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Engine which migrates a set of elements in parallel.
+ * 
+ * The ids of the elements are collected upfront and split into chunks. Each chunk is migrated by a worker thread within a single transaction. Conflicting
+ * transactions are retried by the database. The search index changes of a chunk are collected in a single batch which is processed once the transaction
+ * has been committed. If the transaction of a chunk fails, the elements of the chunk are migrated individually so that only the failing elements are
+ * reported. Progress is stored via the migration status handler. Migrations only select elements which have not yet been migrated and thus a restarted
+ * migration will continue with the remaining elements.
+ * 
+ * @param <T>
+ *            Type of the migrated elements
+ */
+public class MigrationEngine<T extends MeshVertex> {
+
+	private static final Logger log = LoggerFactory.getLogger(MigrationEngine.class);
+
+	private final Database db;
+
+	private final SearchQueue searchQueue;
+
+	private final String name;
+
+	private final Class<? extends T> clazz;
+
+	private final ElementMigration<T> migration;
+
+	private final int chunkSize;
+
+	private final int parallelism;
+
+	/**
+	 * Create a new engine which uses the configured migration options.
+	 * 
+	 * @param db
+	 * @param searchQueue
+	 * @param name
+	 *            Name of the migration which is used for logging and thread names
+	 * @param clazz
+	 *            Class which is used to load the elements
+	 * @param migration
+	 *            Migration of a single element
+	 */
+	public MigrationEngine(Database db, SearchQueue searchQueue, String name, Class<? extends T> clazz, ElementMigration<T> migration) {
+		this.db = db;
+		this.searchQueue = searchQueue;
+		this.name = name;
+		this.clazz = clazz;
+		this.migration = migration;
+		MigrationOptions options = Mesh.mesh().getOptions().getMigrationOptions();
+		this.chunkSize = Math.max(1, options.getChunkSize());
+		this.parallelism = Math.max(1, options.getParallelism());
+	}
+
+	/**
+	 * Collect the ids of the given elements. The ids are collected before the migration starts since the migration will modify the graph structure which
+	 * is used to select the elements.
+	 * 
+	 * @param elements
+	 * @return
+	 */
+	public static List<Object> collectIds(Iterator<? extends MeshVertex> elements) {
+		List<Object> ids = new ArrayList<>();
+		while (elements.hasNext()) {
+			ids.add(elements.next().getId());
+		}
+		return ids;
+	}
+
+	/**
+	 * Migrate the elements with the given ids. The progress will be stored in the status handler. This method must be invoked by the thread which owns
+	 * the transaction of the status handler.
+	 * 
+	 * @param ids
+	 *            Vertex ids of the elements to migrate
+	 * @param status
+	 *            Status handler or null
+	 * @param completedBefore
+	 *            Amount of elements which have been migrated by previous runs of the migration
+	 * @return Errors which occurred during the migration
+	 */
+	public List<Exception> migrate(List<Object> ids, MigrationStatusHandler status, long completedBefore) {
+		log.info("Migrating {" + ids.size() + "} " + name + " elements using chunks of {" + chunkSize + "} elements and {" + parallelism + "} threads");
+		List<Exception> errors = Collections.synchronizedList(new ArrayList<>());
+		AtomicLong processed = new AtomicLong();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		AtomicLong threadCount = new AtomicLong();
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+			Thread thread = new Thread(r, "mesh-migration-" + name + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		// Limit the amount of chunks which are in flight in order to report the progress while the chunks are processed
+		int maxPendingChunks = parallelism * 2;
+		Semaphore pendingChunks = new Semaphore(maxPendingChunks);
+		long reported = 0;
+		try {
+			for (int i = 0; i < ids.size() && failure.get() == null; i += chunkSize) {
+				List<Object> chunk = ids.subList(i, Math.min(ids.size(), i + chunkSize));
+				pendingChunks.acquire();
+				executor.execute(() -> {
+					try {
+						migrateChunk(chunk, errors);
+						processed.addAndGet(chunk.size());
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					} finally {
+						pendingChunks.release();
+					}
+				});
+				reported = reportProgress(status, completedBefore, processed.get(), reported);
+			}
+			// Wait for the remaining chunks
+			while (!pendingChunks.tryAcquire(maxPendingChunks, 1, TimeUnit.SECONDS)) {
+				reported = reportProgress(status, completedBefore, processed.get(), reported);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			errors.add(e);
+		} finally {
+			executor.shutdownNow();
+		}
+		reportProgress(status, completedBefore, processed.get(), reported);
+
+		Throwable error = failure.get();
+		if (error != null) {
+			errors.add(error instanceof Exception ? (Exception) error : new RuntimeException(error));
+		}
+		log.info("Migration of {" + processed.get() + "} " + name + " elements done.");
+		log.info("Encountered {" + errors.size() + "} errors during " + name + " migration.");
+		return new ArrayList<>(errors);
+	}
+
+	/**
+	 * Migrate the elements of the chunk within a single transaction. The elements will be migrated individually if the transaction fails.
+	 * 
+	 * @param ids
+	 * @param errors
+	 *            List which collects the errors
+	 */
+	private void migrateChunk(List<Object> ids, List<Exception> errors) {
+		SearchQueueBatch batch;
+		try {
+			batch = db.tx((tx) -> {
+				SearchQueueBatch sqb = searchQueue.create();
+				for (Object id : ids) {
+					T element = tx.getGraph().getFramedVertexExplicit(clazz, id);
+					// The element may have been deleted in the meanwhile
+					if (element != null) {
+						if (log.isDebugEnabled()) {
+							log.debug("Migrating " + name + " element {" + element.getUuid() + "}");
+						}
+						migration.migrate(element, sqb);
+					}
+				}
+				return sqb;
+			});
+		} catch (Exception e) {
+			if (ids.size() == 1) {
+				log.error("Error while migrating " + name + " element with id {" + ids.get(0) + "}", e);
+				errors.add(e);
+			} else {
+				log.warn("Error while migrating chunk of {" + ids.size() + "} " + name + " elements. Migrating the elements individually.", e);
+				for (Object id : ids) {
+					migrateChunk(Collections.singletonList(id), errors);
+				}
+			}
+			return;
+		}
+
+		// The migration has been committed. A failure to update the search index must not lead to another migration of the elements.
+		try {
+			batch.processSync();
+		} catch (Exception e) {
+			log.error("Error while updating the search index for {" + ids.size() + "} migrated " + name + " elements", e);
+			errors.add(e);
+		}
+	}
+
+	private long reportProgress(MigrationStatusHandler status, long completedBefore, long processed, long reported) {
+		if (processed == reported) {
+			return reported;
+		}
+		log.info("Migrated " + name + " elements: " + processed);
+		if (status != null) {
+			status.setCompletionCount(completedBefore + processed);
+			status.commit();
+		}
+		return processed;
+	}
+
+	/**
+	 * Migration of a single element.
+	 * 
+	 * @param <T>
+	 *            Type of the element
+	 */
+	@FunctionalInterface
+	public interface ElementMigration<T> {
+
+		/**
+		 * Migrate the element. The method is invoked within the transaction of the chunk.
+		 * 
+		 * @param element
+		 *            Element to migrate
+		 * @param batch
+		 *            Batch which collects the search index changes of the chunk
+		 * @throws Exception
+		 */
+		void migrate(T element, SearchQueueBatch batch) throws Exception;
+	}
+
+}
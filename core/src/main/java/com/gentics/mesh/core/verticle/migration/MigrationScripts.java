@@ -0,0 +1,201 @@
+package com.gentics.mesh.core.verticle.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import com.gentics.mesh.core.data.node.handler.TypeConverter;
+import com.gentics.mesh.util.Tuple;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import jdk.nashorn.api.scripting.ClassFilter;
+import jdk.nashorn.api.scripting.JSObject;
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+
+/**
+ * Migration scripts of a migration. The scripts are compiled once and evaluated using script bindings which are reused by all migrated containers.
+ * 
+ * Each script has its own pool of bindings, since each binding is a complete global scope and the scripts must not see the functions and variables of
+ * other scripts. The global scope is restored to its initial state before the binding is returned to the pool, so that the next container starts
+ * with the same state as a new binding. Each binding uses its own global scope and thus the scripts can be evaluated by multiple threads
+ * concurrently.
+ */
+@SuppressWarnings("restriction")
+public class MigrationScripts {
+
+	private static final Logger log = LoggerFactory.getLogger(MigrationScripts.class);
+
+	private static final NashornScriptEngineFactory FACTORY = new NashornScriptEngineFactory();
+
+	private static final String INVOKE_SCRIPT = "\nnode = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));";
+
+	/**
+	 * Script which records the properties of a new global scope and returns a function which restores them. Properties which were added by a script are
+	 * deleted or set to undefined if they can't be deleted (e.g. declared functions and variables).
+	 */
+	private static final String SNAPSHOT_SCRIPT = "(function(global) {\n"
+			+ "  var getNames = Object.getOwnPropertyNames;\n"
+			+ "  var hasOwn = Object.prototype.hasOwnProperty;\n"
+			+ "  var names = getNames(global);\n"
+			+ "  var values = {};\n"
+			+ "  for (var i = 0; i < names.length; i++) { values[names[i]] = global[names[i]]; }\n"
+			+ "  return function() {\n"
+			+ "    var current = getNames(global);\n"
+			+ "    for (var i = 0; i < current.length; i++) {\n"
+			+ "      var name = current[i];\n"
+			+ "      if (hasOwn.call(values, name)) {\n"
+			+ "        if (global[name] !== values[name]) { global[name] = values[name]; }\n"
+			+ "      } else if (!delete global[name]) {\n"
+			+ "        global[name] = undefined;\n"
+			+ "      }\n"
+			+ "    }\n"
+			+ "  };\n"
+			+ "})(this);";
+
+	private final ScriptEngine engine = FACTORY.getScriptEngine(new Sandbox());
+
+	private final List<MigrationScript> scripts = new ArrayList<>();
+
+	private CompiledScript snapshotScript;
+
+	private ScriptException compileError;
+
+	/**
+	 * Compile the migration script and add it to the list of scripts. A script which can't be compiled will fail the migration of each container, just
+	 * like a script which fails during the evaluation.
+	 * 
+	 * @param migrationScript
+	 *            Script which must define the function <code>migrate(node, fieldname, convert)</code>
+	 * @param context
+	 *            Variables which will be passed to the script
+	 */
+	public void add(String migrationScript, List<Tuple<String, Object>> context) {
+		Compilable compiler = (Compilable) engine;
+		try {
+			if (snapshotScript == null) {
+				snapshotScript = compiler.compile(SNAPSHOT_SCRIPT);
+			}
+			scripts.add(new MigrationScript(compiler.compile(migrationScript + INVOKE_SCRIPT), context));
+		} catch (ScriptException e) {
+			if (compileError == null) {
+				compileError = e;
+			}
+		}
+	}
+
+	/**
+	 * Pass the given node through all scripts.
+	 * 
+	 * @param nodeJson
+	 *            JSON of the node
+	 * @return JSON of the transformed node
+	 * @throws Exception
+	 */
+	public String apply(String nodeJson) throws Exception {
+		if (compileError != null) {
+			throw compileError;
+		}
+		for (MigrationScript script : scripts) {
+			nodeJson = script.apply(nodeJson);
+		}
+		return nodeJson;
+	}
+
+	/**
+	 * Global scope in which the scripts are evaluated.
+	 */
+	private static class ScriptScope {
+
+		private final Bindings bindings;
+
+		private final JSObject reset;
+
+		ScriptScope(Bindings bindings, JSObject reset) {
+			this.bindings = bindings;
+			this.reset = reset;
+		}
+	}
+
+	/**
+	 * Compiled migration script with its context and its pool of scopes.
+	 */
+	private class MigrationScript {
+
+		private final CompiledScript script;
+
+		private final List<Tuple<String, Object>> context;
+
+		private final Queue<ScriptScope> scopePool = new ConcurrentLinkedQueue<>();
+
+		MigrationScript(CompiledScript script, List<Tuple<String, Object>> context) {
+			this.script = script;
+			this.context = context;
+		}
+
+		/**
+		 * Evaluate the script for the given node.
+		 * 
+		 * @param nodeJson
+		 * @return JSON of the transformed node
+		 * @throws Exception
+		 */
+		String apply(String nodeJson) throws Exception {
+			ScriptScope scope = scopePool.poll();
+			if (scope == null) {
+				Bindings bindings = engine.createBindings();
+				bindings.put("convert", new TypeConverter());
+				scope = new ScriptScope(bindings, (JSObject) snapshotScript.eval(bindings));
+			}
+			Bindings bindings = scope.bindings;
+			try {
+				bindings.put("node", nodeJson);
+				if (context != null) {
+					for (Tuple<String, Object> ctxEntry : context) {
+						bindings.put(ctxEntry.v1(), ctxEntry.v2());
+					}
+				}
+				script.eval(bindings);
+				Object transformedNodeModel = bindings.get("node");
+				if (transformedNodeModel == null) {
+					throw new Exception("Transformed node model not found after handling migration scripts");
+				}
+				return transformedNodeModel.toString();
+			} finally {
+				release(scope);
+			}
+		}
+
+		/**
+		 * Reset the scope and return it to the pool. Scopes which can't be reset are dropped.
+		 * 
+		 * @param scope
+		 */
+		private void release(ScriptScope scope) {
+			try {
+				scope.reset.call(null);
+				scopePool.offer(scope);
+			} catch (RuntimeException e) {
+				log.warn("Could not reset the scope of the migration script. The scope will not be reused.", e);
+			}
+		}
+	}
+
+	/**
+	 * Sandbox classfilter that filters all classes
+	 */
+	protected static class Sandbox implements ClassFilter {
+		@Override
+		public boolean exposeToScripts(String className) {
+			return false;
+		}
+	}
+
+}
@@ -53,6 +53,13 @@ public interface MigrationStatusHandler {
 	 */
 	void setCompletionCount(long completionCount);
 
+	/**
+	 * Return the current completion count. The count of a job which was interrupted will be continued when the job is processed again.
+	 * 
+	 * @return
+	 */
+	long getCompletionCount();
+
 	void incCompleted();
 
 }
@@ -37,7 +37,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private Job job;
 
-	private long completionCount = 0;
+	private Long completionCount;
 
 	private MigrationStatus status;
 
@@ -52,7 +52,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		if (versionEdge != null) {
 			versionEdge.setMigrationStatus(status);
 		}
-		job.setCompletionCount(completionCount);
+		job.setCompletionCount(getCompletionCount());
 		job.setStatus(status);
 
 		Tx.getActive().getGraph().commit();
@@ -129,6 +129,15 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		this.completionCount = completionCount;
 	}
 
+	@Override
+	public long getCompletionCount() {
+		if (completionCount == null) {
+			// Continue with the count of a previous run of the job
+			completionCount = job.getCompletionCount();
+		}
+		return completionCount;
+	}
+
 	@Override
 	public void setStatus(MigrationStatus status) {
 		this.status = status;
@@ -136,7 +145,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void incCompleted() {
-		completionCount++;
+		completionCount = getCompletionCount() + 1;
 	}
 
 }
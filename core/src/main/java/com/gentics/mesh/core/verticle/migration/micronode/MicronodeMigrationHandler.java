@@ -5,9 +5,7 @@ import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
@@ -17,6 +15,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
@@ -26,10 +25,11 @@ import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
 import com.gentics.mesh.core.verticle.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.verticle.migration.MigrationEngine;
+import com.gentics.mesh.core.verticle.migration.MigrationScripts;
 import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.tx.Tx;
 
@@ -65,15 +65,15 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			MigrationStatusHandler status) {
 
 		// Get the containers, that need to be transformed
-		Iterator<? extends NodeGraphFieldContainer> fieldContainersIt = db.tx(() -> fromVersion.getDraftFieldContainers(release.getUuid()));
+		List<Object> containerIds = db.tx(() -> MigrationEngine.collectIds(fromVersion.getDraftFieldContainers(release.getUuid())));
 
 		// No field containers, migration is done
-		if (!fieldContainersIt.hasNext()) {
+		if (containerIds.isEmpty()) {
 			return Completable.complete();
 		}
 
 		// Collect the migration scripts
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts = new ArrayList<>();
+		MigrationScripts migrationScripts = new MigrationScripts();
 		Set<String> touchedFields = new HashSet<>();
 		try (Tx tx = db.tx()) {
 			prepareMigration(fromVersion, migrationScripts, touchedFields);
@@ -81,35 +81,23 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 			return Completable.error(e);
 		}
 
-		NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
-		ac.setProject(release.getProject());
-		ac.setRelease(release);
-
+		long completedBefore = 0;
 		if (status != null) {
 			status.setStatus(RUNNING);
 			status.commit();
+			completedBefore = status.getCompletionCount();
 		}
 
-		// Iterate over all containers and invoke a migration for each one
-		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
-		while (fieldContainersIt.hasNext()) {
-			NodeGraphFieldContainer container = fieldContainersIt.next();
-			migrateMicronodeContainer(ac, release, fromVersion, toVersion, container, touchedFields, migrationScripts, errorsDetected);
+		// Migrate the containers in chunks. Each container gets its own action context since the chunks are migrated in parallel.
+		MigrationEngine<NodeGraphFieldContainer> engine = new MigrationEngine<>(db, searchQueue, "micronode", NodeGraphFieldContainerImpl.class,
+				(container, sqb) -> {
+					NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+					ac.setProject(release.getProject());
+					ac.setRelease(release);
+					migrateMicronodeContainer(ac, sqb, release, fromVersion, toVersion, container, touchedFields, migrationScripts);
+				});
+		List<Exception> errorsDetected = engine.migrate(containerIds, status, completedBefore);
 
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated micronode containers: " + count);
-				if (status != null) {
-					status.commit();
-				}
-			}
-			count++;
-		}
-		log.info("Migration of " + count + " containers done..");
-		log.info("Encountered {" + errorsDetected.size() + "} errors during micronode migration.");
 		Completable result = Completable.complete();
 		if (!errorsDetected.isEmpty()) {
 			if (log.isDebugEnabled()) {
@@ -122,49 +110,41 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 		return result;
 	}
 
-	private void migrateMicronodeContainer(NodeMigrationActionContextImpl ac, Release release, MicroschemaContainerVersion fromVersion,
-			MicroschemaContainerVersion toVersion, NodeGraphFieldContainer container, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, List<Exception> errorsDetected) {
+	/**
+	 * Migrate the micronodes of the given container. The method is invoked within the transaction of the migration chunk.
+	 * 
+	 * @param ac
+	 * @param sqb
+	 *            Batch to be updated to handle index changes
+	 * @param release
+	 * @param fromVersion
+	 * @param toVersion
+	 * @param container
+	 *            Container to be migrated
+	 * @param touchedFields
+	 * @param migrationScripts
+	 * @throws Exception
+	 */
+	private void migrateMicronodeContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release,
+			MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion, NodeGraphFieldContainer container, Set<String> touchedFields,
+			MigrationScripts migrationScripts) throws Exception {
 
-		if (log.isDebugEnabled()) {
-			log.debug("Migrating container {" + container.getUuid() + "}");
-		}
 		String releaseUuid = release.getUuid();
+		Node node = container.getParentNode();
+		String languageTag = container.getLanguage().getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, releaseUuid, PUBLISHED);
 
-		// Run the actual migration in a dedicated transaction
-		try {
-			SearchQueueBatch batch = db.tx((tx) -> {
-				SearchQueueBatch sqb = searchQueue.create();
-
-				Node node = container.getParentNode();
-				String languageTag = container.getLanguage().getLanguageTag();
-				ac.getNodeParameters().setLanguages(languageTag);
-				ac.getVersioningParameters().setVersion("draft");
-				NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, releaseUuid, PUBLISHED);
-
-				VersionNumber nextDraftVersion = null;
-				// 1. Check whether there is any other published container which we need to handle separately
-				if (oldPublished != null && !oldPublished.equals(container)) {
-					nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, fromVersion, toVersion, touchedFields,
-							migrationScripts);
-					nextDraftVersion = nextDraftVersion.nextDraft();
-				}
-
-				// 2. Migrate the draft container. This will also update the draft edge.
-				migrateDraftContainer(ac, sqb, release, node, container, fromVersion, toVersion, touchedFields, migrationScripts, nextDraftVersion);
-
-				return sqb;
-			});
-			// Process the search queue batch in order to update the search index
-			if (batch != null) {
-				batch.processSync();
-			}
-
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + container.getUuid() + "} during schema migration.", e1);
-			errorsDetected.add(e1);
+		VersionNumber nextDraftVersion = null;
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, fromVersion, toVersion, touchedFields, migrationScripts);
+			nextDraftVersion = nextDraftVersion.nextDraft();
 		}
 
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, sqb, release, node, container, fromVersion, toVersion, touchedFields, migrationScripts, nextDraftVersion);
 	}
 
 	/**
@@ -184,7 +164,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion,
-			Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, VersionNumber nextDraftVersion)
+			Set<String> touchedFields, MigrationScripts migrationScripts, VersionNumber nextDraftVersion)
 			throws Exception {
 
 		String releaseUuid = release.getUuid();
@@ -234,7 +214,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion,
-			Set<String> touchedFields, List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts) throws Exception {
+			Set<String> touchedFields, MigrationScripts migrationScripts) throws Exception {
 
 		String releaseUuid = release.getUuid();
 		ac.getVersioningParameters().setVersion("published");
@@ -268,7 +248,7 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	protected void migrateMicronodeFields(NodeMigrationActionContextImpl ac, NodeGraphFieldContainer container,
 			MicroschemaContainerVersion fromVersion, MicroschemaContainerVersion toVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts) throws Exception {
+			MigrationScripts migrationScripts) throws Exception {
 		// iterate over all fields with micronodes to migrate
 		for (MicronodeGraphField field : container.getMicronodeFields(fromVersion)) {
 			// clone the field (this will clone the micronode)
@@ -5,9 +5,7 @@ import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
@@ -18,6 +16,7 @@ import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.data.search.SearchQueue;
@@ -26,10 +25,11 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.verticle.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.verticle.migration.MigrationEngine;
+import com.gentics.mesh.core.verticle.migration.MigrationScripts;
 import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.VersionNumber;
 import com.syncleus.ferma.tx.Tx;
 
@@ -71,48 +71,36 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 		// Get the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older schema
 		// versions. We'll work on drafts. The migration code will later on also handle publish versions.
-		Iterator<? extends NodeGraphFieldContainer> fieldContainers = fromVersion.getDraftFieldContainers(release.getUuid());
+		List<Object> containerIds = db.tx(() -> MigrationEngine.collectIds(fromVersion.getDraftFieldContainers(release.getUuid())));
 
 		// Prepare the migration - Collect the migration scripts
-		List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts = new ArrayList<>();
+		MigrationScripts migrationScripts = new MigrationScripts();
 		Set<String> touchedFields = new HashSet<>();
+		SchemaModel newSchema;
 		try (Tx tx = db.tx()) {
 			prepareMigration(fromVersion, migrationScripts, touchedFields);
+			newSchema = toVersion.getSchema();
 		} catch (IOException e) {
 			return Completable.error(e);
 		}
 
-		NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
-		ac.setProject(project);
-		ac.setRelease(release);
-
-		SchemaModel newSchema = toVersion.getSchema();
-
+		long completedBefore = 0;
 		if (status != null) {
 			status.setStatus(RUNNING);
 			status.commit();
+			completedBefore = status.getCompletionCount();
 		}
 
-		// Iterate over all containers and invoke a migration for each one
-		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
-		while (fieldContainers.hasNext()) {
-			NodeGraphFieldContainer container = fieldContainers.next();
-			migrateContainer(ac, container, toVersion, migrationScripts, release, newSchema, errorsDetected, touchedFields);
+		// Migrate the containers in chunks. Each container gets its own action context since the chunks are migrated in parallel.
+		MigrationEngine<NodeGraphFieldContainer> engine = new MigrationEngine<>(db, searchQueue, "node", NodeGraphFieldContainerImpl.class,
+				(container, sqb) -> {
+					NodeMigrationActionContextImpl ac = new NodeMigrationActionContextImpl();
+					ac.setProject(project);
+					ac.setRelease(release);
+					migrateContainer(ac, sqb, container, toVersion, migrationScripts, release, newSchema, touchedFields);
+				});
+		List<Exception> errorsDetected = engine.migrate(containerIds, status, completedBefore);
 
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated containers: " + count);
-				if (status != null) {
-					status.commit();
-				}
-			}
-			count++;
-		}
-		log.info("Migration of " + count + " containers done..");
-		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
 		// TODO prepare errors. They should be easy to understand and to grasp
 		Completable result = Completable.complete();
 		if (!errorsDetected.isEmpty()) {
@@ -128,65 +116,45 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	}
 
 	/**
-	 * Migrates the given container.
+	 * Migrates the given container. The method is invoked within the transaction of the migration chunk.
 	 * 
 	 * @param ac
+	 * @param sqb
+	 *            Batch to be updated to handle index changes
 	 * @param container
 	 *            Container to be migrated
 	 * @param toVersion
 	 * @param migrationScripts
 	 * @param release
 	 * @param newSchema
-	 * @param errorsDetected
 	 * @param touchedFields
-	 * @return
+	 * @throws Exception
 	 */
-	private void migrateContainer(NodeMigrationActionContextImpl ac, NodeGraphFieldContainer container, SchemaContainerVersion toVersion,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, Release release, SchemaModel newSchema, List<Exception> errorsDetected,
-			Set<String> touchedFields) {
+	private void migrateContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, NodeGraphFieldContainer container,
+			SchemaContainerVersion toVersion, MigrationScripts migrationScripts, Release release, SchemaModel newSchema,
+			Set<String> touchedFields) throws Exception {
 
-		if (log.isDebugEnabled()) {
-			log.debug("Migrating container {" + container.getUuid() + "}");
-		}
-		try {
-			// Run the actual migration in a dedicated transaction
-			SearchQueueBatch batch = db.tx((tx) -> {
-				SearchQueueBatch sqb = searchQueue.create();
-
-				Node node = container.getParentNode();
-				String languageTag = container.getLanguage().getLanguageTag();
-				ac.getNodeParameters().setLanguages(languageTag);
-				ac.getVersioningParameters().setVersion("draft");
-				NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, release.getUuid(), PUBLISHED);
-
-				VersionNumber nextDraftVersion = null;
-				// 1. Check whether there is any other published container which we need to handle separately
-				if (oldPublished != null && !oldPublished.equals(container)) {
-					// We only need to migrate the container if the container's schema version is also "old"
-					boolean hasSameOldSchemaVersion = container != null
-							&& container.getSchemaContainerVersion().getId().equals(container.getSchemaContainerVersion().getId());
-					if (hasSameOldSchemaVersion) {
-						nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts,
-								newSchema);
-						nextDraftVersion = nextDraftVersion.nextDraft();
-					}
-
-				}
-
-				// 2. Migrate the draft container. This will also update the draft edge.
-				migrateDraftContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts, newSchema, nextDraftVersion);
-
-				return sqb;
-			});
-			// Process the search queue batch in order to update the search index
-			if (batch != null) {
-				batch.processSync();
+		Node node = container.getParentNode();
+		String languageTag = container.getLanguage().getLanguageTag();
+		ac.getNodeParameters().setLanguages(languageTag);
+		ac.getVersioningParameters().setVersion("draft");
+		NodeGraphFieldContainer oldPublished = node.getGraphFieldContainer(languageTag, release.getUuid(), PUBLISHED);
+
+		VersionNumber nextDraftVersion = null;
+		// 1. Check whether there is any other published container which we need to handle separately
+		if (oldPublished != null && !oldPublished.equals(container)) {
+			// We only need to migrate the container if the container's schema version is also "old"
+			boolean hasSameOldSchemaVersion = container != null
+					&& container.getSchemaContainerVersion().getId().equals(container.getSchemaContainerVersion().getId());
+			if (hasSameOldSchemaVersion) {
+				nextDraftVersion = migratePublishedContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts, newSchema);
+				nextDraftVersion = nextDraftVersion.nextDraft();
 			}
-		} catch (Exception e1) {
-			log.error("Error while handling container {" + container.getUuid() + "} during schema migration.", e1);
-			errorsDetected.add(e1);
+
 		}
 
+		// 2. Migrate the draft container. This will also update the draft edge.
+		migrateDraftContainer(ac, sqb, release, node, container, toVersion, touchedFields, migrationScripts, newSchema, nextDraftVersion);
 	}
 
 	/**
@@ -212,7 +180,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private void migrateDraftContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, SchemaContainerVersion toVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema, VersionNumber nextDraftVersion)
+			MigrationScripts migrationScripts, SchemaModel newSchema, VersionNumber nextDraftVersion)
 			throws Exception {
 
 		String releaseUuid = release.getUuid();
@@ -272,7 +240,7 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 	 */
 	private VersionNumber migratePublishedContainer(NodeMigrationActionContextImpl ac, SearchQueueBatch sqb, Release release, Node node,
 			NodeGraphFieldContainer container, SchemaContainerVersion toVersion, Set<String> touchedFields,
-			List<Tuple<String, List<Tuple<String, Object>>>> migrationScripts, SchemaModel newSchema) throws Exception {
+			MigrationScripts migrationScripts, SchemaModel newSchema) throws Exception {
 
 		String languageTag = container.getLanguage().getLanguageTag();
 		String releaseUuid = release.getUuid();
@@ -8,6 +8,8 @@ import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.List;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -15,13 +17,17 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.verticle.migration.AbstractMigrationHandler;
+import com.gentics.mesh.core.verticle.migration.MigrationEngine;
 import com.gentics.mesh.core.verticle.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.verticle.node.BinaryFieldHandler;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.google.common.collect.Iterators;
 
+import io.reactivex.exceptions.CompositeException;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -57,35 +63,25 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 					+ oldRelease.getName() + "} is not fully migrated yet.");
 		}
 
+		long completedBefore = 0;
 		if (status != null) {
 			status.setStatus(RUNNING);
 			status.commit();
+			completedBefore = status.getCompletionCount();
 		}
 
-		long count = 0;
-		// Iterate over all nodes of the project and migrate them to the new release
+		// Migrate the nodes of the project in chunks. Nodes which have already been migrated by a previous run are accounted for in the completion count.
 		Project project = oldRelease.getProject();
-		Iterable<? extends Node> it = project.getNodeRoot().findAllIt();
-		for (Node node : it) {
-			SearchQueueBatch sqb = db.tx(() -> {
-				return migrateNode(node, oldRelease, newRelease);
-			});
-			sqb.processSync();
-			if (status != null) {
-				status.incCompleted();
-			}
-			if (count % 50 == 0) {
-				log.info("Migrated nodes: " + count);
-				if (status != null) {
-					status.commit();
-				}
-			}
-			count++;
+		List<Object> nodeIds = MigrationEngine.collectIds(Iterators.filter(project.getNodeRoot().findAllIt().iterator(), node -> node
+				.getGraphFieldContainers(newRelease, INITIAL).isEmpty()));
+		MigrationEngine<Node> engine = new MigrationEngine<>(db, searchQueue, "release", NodeImpl.class, (node, sqb) -> {
+			migrateNode(node, sqb, oldRelease, newRelease);
+		});
+		List<Exception> errorsDetected = engine.migrate(nodeIds, status, completedBefore);
+		if (!errorsDetected.isEmpty()) {
+			throw new CompositeException(errorsDetected);
 		}
 
-		// TODO track migration errors
-
-		log.info("Migration of " + count + " node done..");
 		db.tx(() -> {
 			newRelease.setMigrated(true);
 		});
@@ -97,13 +93,14 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 	 * the tags will be update to correspond with the new release structure.
 	 * 
 	 * @param node
+	 * @param batch
+	 *            Batch to be updated to handle index changes
 	 * @param oldRelease
 	 * @param newRelease
-	 * @return
 	 */
-	private SearchQueueBatch migrateNode(Node node, Release oldRelease, Release newRelease) {
+	private void migrateNode(Node node, SearchQueueBatch batch, Release oldRelease, Release newRelease) {
 		if (!node.getGraphFieldContainers(newRelease, INITIAL).isEmpty()) {
-			return null;
+			return;
 		}
 		node.getGraphFieldContainers(oldRelease, DRAFT).stream().forEach(container -> {
 			GraphFieldContainerEdgeImpl initialEdge = node.addFramedEdge(HAS_FIELD_CONTAINER, container, GraphFieldContainerEdgeImpl.class);
@@ -116,7 +113,6 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 			draftEdge.setType(DRAFT);
 			draftEdge.setReleaseUuid(newRelease.getUuid());
 		});
-		SearchQueueBatch batch = searchQueue.create();
 		batch.store(node, newRelease.getUuid(), DRAFT, false);
 
 		node.getGraphFieldContainers(oldRelease, PUBLISHED).stream().forEach(container -> {
@@ -134,7 +130,6 @@ public class ReleaseMigrationHandler extends AbstractMigrationHandler {
 
 		// migrate tags
 		node.getTags(oldRelease).forEach(tag -> node.addTag(tag, newRelease));
-		return batch;
 
 	}
 }
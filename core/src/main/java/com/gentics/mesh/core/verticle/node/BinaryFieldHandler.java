@@ -15,6 +15,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -40,6 +41,7 @@ import com.gentics.mesh.core.image.spi.ImageInfo;
 import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.core.rest.error.NodeVersionConflictException;
+import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.BinaryFieldTransformRequest;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
 import com.gentics.mesh.core.rest.schema.BinaryFieldSchema;
@@ -47,7 +49,6 @@ import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.verticle.handler.AbstractHandler;
 import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.graphdb.spi.Database;
-import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
@@ -55,6 +56,8 @@ import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.RxUtil;
+import com.gentics.mesh.util.UUIDUtil;
+import com.syncleus.ferma.tx.Tx;
 
 import dagger.Lazy;
 import io.reactivex.Observable;
@@ -185,201 +188,242 @@ public class BinaryFieldHandler extends AbstractHandler {
 		// (if the transaction failed and has to be repeated).
 		ac.put("sourceFile", ul.uploadedFileName());
 
-		db.tx(() -> {
-			Project project = ac.getProject();
-			Release release = ac.getRelease();
-			Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
-
-			Language language = boot.get().languageRoot().findByLanguageTag(languageTag);
-			if (language == null) {
-				throw error(NOT_FOUND, "error_language_not_found", languageTag);
-			}
-
-			// Load the current latest draft
-			NodeGraphFieldContainer latestDraftVersion = node.getGraphFieldContainer(language, release, ContainerType.DRAFT);
-
-			if (latestDraftVersion == null) {
-				// latestDraftVersion = node.createGraphFieldContainer(language, release, ac.getUser());
-				// TODO Maybe it would be better to just create a new field container for the language?
-				// In that case we would also need to:
-				// * check for segment field conflicts
-				// * update display name
-				// * fail if mandatory fields are missing
-				throw error(NOT_FOUND, "error_language_not_found", languageTag);
-			}
+		// Check the permission and the targeted field before the data is processed. Otherwise requests which will be rejected anyway could store data.
+		try (Tx tx = db.tx()) {
+			Node node = ac.getProject().getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
+			validateBinaryField(loadLatestDraft(node, ac.getRelease(), languageTag), fieldName);
+		}
 
-			// Load the base version field container in order to create the diff
-			NodeGraphFieldContainer baseVersionContainer = node.findVersion(languageTag, release.getUuid(), nodeVersion);
-			if (baseVersionContainer == null) {
-				throw error(BAD_REQUEST, "node_error_draft_not_found", nodeVersion, languageTag);
-			}
+		// Hash, store and inspect the uploaded data before the transaction is started. The transaction may be repeated and must not process the data
+		// again.
+		UploadResult upload = processUpload(ul);
+		AtomicBoolean reuseBinary = new AtomicBoolean(false);
+
+		Single<NodeResponse> result;
+		try {
+			result = db.tx(() -> {
+				Project project = ac.getProject();
+				Release release = ac.getRelease();
+				Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
+
+				// Load the current latest draft
+				NodeGraphFieldContainer latestDraftVersion = loadLatestDraft(node, release, languageTag);
+				Language language = latestDraftVersion.getLanguage();
+
+				// Load the base version field container in order to create the diff
+				NodeGraphFieldContainer baseVersionContainer = node.findVersion(languageTag, release.getUuid(), nodeVersion);
+				if (baseVersionContainer == null) {
+					throw error(BAD_REQUEST, "node_error_draft_not_found", nodeVersion, languageTag);
+				}
 
-			List<FieldContainerChange> baseVersionDiff = baseVersionContainer.compareTo(latestDraftVersion);
-			List<FieldContainerChange> requestVersionDiff = Arrays.asList(new FieldContainerChange(fieldName, FieldChangeTypes.UPDATED));
+				List<FieldContainerChange> baseVersionDiff = baseVersionContainer.compareTo(latestDraftVersion);
+				List<FieldContainerChange> requestVersionDiff = Arrays.asList(new FieldContainerChange(fieldName, FieldChangeTypes.UPDATED));
 
-			// Compare both sets of change sets
-			List<FieldContainerChange> intersect = baseVersionDiff.stream().filter(requestVersionDiff::contains).collect(Collectors.toList());
+				// Compare both sets of change sets
+				List<FieldContainerChange> intersect = baseVersionDiff.stream().filter(requestVersionDiff::contains).collect(Collectors.toList());
 
-			// Check whether the update was not based on the latest draft version. In that case a conflict check needs to occur.
-			if (!latestDraftVersion.getVersion().equals(nodeVersion)) {
+				// Check whether the update was not based on the latest draft version. In that case a conflict check needs to occur.
+				if (!latestDraftVersion.getVersion().equals(nodeVersion)) {
 
-				// Check whether a conflict has been detected
-				if (intersect.size() > 0) {
-					NodeVersionConflictException conflictException = new NodeVersionConflictException("node_error_conflict_detected");
-					conflictException.setOldVersion(baseVersionContainer.getVersion().toString());
-					conflictException.setNewVersion(latestDraftVersion.getVersion().toString());
-					for (FieldContainerChange fcc : intersect) {
-						conflictException.addConflict(fcc.getFieldCoordinates());
+					// Check whether a conflict has been detected
+					if (intersect.size() > 0) {
+						NodeVersionConflictException conflictException = new NodeVersionConflictException("node_error_conflict_detected");
+						conflictException.setOldVersion(baseVersionContainer.getVersion().toString());
+						conflictException.setNewVersion(latestDraftVersion.getVersion().toString());
+						for (FieldContainerChange fcc : intersect) {
+							conflictException.addConflict(fcc.getFieldCoordinates());
+						}
+						throw conflictException;
 					}
-					throw conflictException;
 				}
-			}
 
-			FieldSchema fieldSchema = latestDraftVersion.getSchemaContainerVersion().getSchema().getField(fieldName);
-			if (fieldSchema == null) {
-				throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
-			}
-			if (!(fieldSchema instanceof BinaryFieldSchema)) {
-				// TODO Add support for other field types
-				throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
-			}
+				validateBinaryField(latestDraftVersion, fieldName);
 
-			SearchQueueBatch batch = searchQueue.create();
-			// Create a new node version field container to store the upload
-			NodeGraphFieldContainer newDraftVersion = node.createGraphFieldContainer(language, release, ac.getUser(), latestDraftVersion, true);
+				SearchQueueBatch batch = searchQueue.create();
+				// Create a new node version field container to store the upload
+				NodeGraphFieldContainer newDraftVersion = node.createGraphFieldContainer(language, release, ac.getUser(), latestDraftVersion, true);
 
-			// Check whether the binary with the given hashsum was already stored
-			BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
-			String hash = FileUtils.hash(ul.uploadedFileName());
-			Binary binary = binaryRoot.findByHash(hash);
+				// Check whether the binary with the given hashsum was already stored
+				BinaryRoot binaryRoot = boot.get().meshRoot().getBinaryRoot();
+				Binary binary = binaryRoot.findByHash(upload.getHash());
 
-			// Create a new binary if the data was not already stored
-			boolean storeBinary = binary == null;
-			if (storeBinary) {
-				binary = binaryRoot.create(hash, ul.size());
-			}
+				// Create a new binary if the data was not already stored. The binary will use the uuid which was used to store the upload.
+				reuseBinary.set(binary != null);
+				if (binary == null) {
+					binary = binaryRoot.create(upload.getBinaryUuid(), upload.getHash(), upload.getSize());
+				}
 
-			// Get the potential existing field
-			BinaryGraphField oldField = newDraftVersion.getBinary(fieldName);
+				// Get the potential existing field
+				BinaryGraphField oldField = newDraftVersion.getBinary(fieldName);
 
-			// Create the new field
-			BinaryGraphField field = newDraftVersion.createBinary(fieldName, binary);
+				// Create the new field
+				BinaryGraphField field = newDraftVersion.createBinary(fieldName, binary);
 
-			// Reuse the existing properties
-			if (oldField != null) {
-				oldField.copyTo(field);
+				// Reuse the existing properties
+				if (oldField != null) {
+					oldField.copyTo(field);
 
-				// If the old field was an image and the current upload is not an image we need to reset the custom image specific attributes.
-				if (oldField.hasImage() && !ul.contentType().startsWith("image/")) {
-					field.setImageDominantColor(null);
+					// If the old field was an image and the current upload is not an image we need to reset the custom image specific attributes.
+					if (oldField.hasImage() && !ul.contentType().startsWith("image/")) {
+						field.setImageDominantColor(null);
+					}
 				}
-			}
 
-			// Process the upload which will update the binary field
-			processUpload(ac, ul, field, storeBinary);
+				// Update the binary field using the information of the upload
+				applyUpload(ul, upload, field);
 
-			// Now get rid of the old field
-			if (oldField != null) {
-				oldField.removeField(newDraftVersion);
-			}
-			// If the binary field is the segment field, we need to update the webroot info in the node
-			if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
-				newDraftVersion.updateWebrootPathInfo(release.getUuid(), "node_conflicting_segmentfield_upload");
-			}
+				// Now get rid of the old field
+				if (oldField != null) {
+					oldField.removeField(newDraftVersion);
+				}
+				// If the binary field is the segment field, we need to update the webroot info in the node
+				if (field.getFieldKey().equals(newDraftVersion.getSchemaContainerVersion().getSchema().getSegmentField())) {
+					newDraftVersion.updateWebrootPathInfo(release.getUuid(), "node_conflicting_segmentfield_upload");
+				}
 
-			return batch.store(node, release.getUuid(), DRAFT, false).processAsync().andThen(node.transformToRest(ac, 0));
-		}).subscribe(model -> ac.send(model, CREATED), ac::fail);
+				return batch.store(node, release.getUuid(), DRAFT, false).processAsync().andThen(node.transformToRest(ac, 0));
+			});
+		} catch (RuntimeException e) {
+			// The binary was not created. Remove the stored data again.
+			deleteUploadData(upload);
+			throw e;
+		}
+		if (reuseBinary.get()) {
+			// The data was already stored for an existing binary
+			deleteUploadData(upload);
+		}
+		result.subscribe(model -> ac.send(model, CREATED), ac::fail);
 	}
 
 	/**
-	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
-	 * {@link BinaryStorage} if desired.
+	 * Load the latest draft of the node in the given language.
 	 * 
-	 * @param ac
-	 * @param ul
-	 *            Upload to process
-	 * @param field
-	 *            Field which will be updated with the extracted information
-	 * @param storeBinary
-	 *            Whether to store the data in the binary store
+	 * @param node
+	 * @param release
+	 * @param languageTag
+	 * @return
 	 */
-	private void processUpload(ActionContext ac, FileUpload ul, BinaryGraphField field, boolean storeBinary) {
-		AsyncFile asyncFile = Mesh.vertx().fileSystem().openBlocking(ul.uploadedFileName(), new OpenOptions());
-		Binary binary = field.getBinary();
-		String hash = binary.getSHA512Sum();
-		String binaryUuid = binary.getUuid();
-		String contentType = ul.contentType();
-		boolean isImage = contentType.startsWith("image/");
+	private NodeGraphFieldContainer loadLatestDraft(Node node, Release release, String languageTag) {
+		Language language = boot.get().languageRoot().findByLanguageTag(languageTag);
+		if (language == null) {
+			throw error(NOT_FOUND, "error_language_not_found", languageTag);
+		}
+		NodeGraphFieldContainer latestDraftVersion = node.getGraphFieldContainer(language, release, ContainerType.DRAFT);
+		if (latestDraftVersion == null) {
+			// latestDraftVersion = node.createGraphFieldContainer(language, release, ac.getUser());
+			// TODO Maybe it would be better to just create a new field container for the language?
+			// In that case we would also need to:
+			// * check for segment field conflicts
+			// * update display name
+			// * fail if mandatory fields are missing
+			throw error(NOT_FOUND, "error_language_not_found", languageTag);
+		}
+		return latestDraftVersion;
+	}
 
-		// Calculate how many streams will connect to the data stream
-		int neededDataStreams = 0;
-		if (isImage) {
-			neededDataStreams++;
+	/**
+	 * Check whether the schema of the container defines the field as binary field.
+	 * 
+	 * @param container
+	 * @param fieldName
+	 */
+	private void validateBinaryField(NodeGraphFieldContainer container, String fieldName) {
+		FieldSchema fieldSchema = container.getSchemaContainerVersion().getSchema().getField(fieldName);
+		if (fieldSchema == null) {
+			throw error(BAD_REQUEST, "error_schema_definition_not_found", fieldName);
 		}
-		if (storeBinary) {
-			neededDataStreams++;
+		if (!(fieldSchema instanceof BinaryFieldSchema)) {
+			// TODO Add support for other field types
+			throw error(BAD_REQUEST, "error_found_field_is_not_binary", fieldName);
 		}
+	}
+
+	/**
+	 * Process the uploaded file using a single read. The data will be hashed, stored in the {@link BinaryStorage} using a new binary uuid and inspected for
+	 * image properties at the same time.
+	 * 
+	 * @param ul
+	 *            Upload to process
+	 * @return
+	 */
+	private UploadResult processUpload(FileUpload ul) {
+		String binaryUuid = UUIDUtil.randomUUID();
+		boolean isImage = ul.contentType().startsWith("image/");
 
-		if (neededDataStreams > 0) {
-			Observable<Buffer> stream = RxUtil.toBufferObs(asyncFile).publish().autoConnect(neededDataStreams);
+		AsyncFile asyncFile = Mesh.vertx().fileSystem().openBlocking(ul.uploadedFileName(), new OpenOptions());
+		asyncFile.setReadBufferSize(FileUtils.READ_BUFFER_SIZE);
+		Observable<Buffer> stream = RxUtil.toBufferObs(asyncFile).publish().autoConnect(isImage ? 3 : 2);
 
-			// Only gather image info for actual images. Otherwise return an empty image info object.
-			Single<Optional<ImageInfo>> imageInfo = Single.just(Optional.empty());
-			if (isImage) {
-				imageInfo = processImageInfo(ac, stream);
-			}
+		Single<String> hash = FileUtils.hash(stream);
 
-			// Store the data
-			Single<Long> store = Single.just(ul.size());
-			if (storeBinary) {
-				store = binaryStorage.store(stream, binaryUuid).andThen(Single.just(ul.size()));
-			}
+		// Only gather image info for actual images. Otherwise return an empty image info object.
+		Single<Optional<ImageInfo>> imageInfo = Single.just(Optional.empty());
+		if (isImage) {
+			imageInfo = processImageInfo(stream);
+		}
 
-			// Handle the data in parallel
+		Single<Long> store = binaryStorage.store(stream, binaryUuid).toSingleDefault(ul.size());
 
-			TransformationResult info = Single.zip(imageInfo, store, (imageinfoOpt, size) -> {
-				ImageInfo iinfo = null;
-				if (imageinfoOpt.isPresent()) {
-					iinfo = imageinfoOpt.get();
-				}
-				return new TransformationResult(hash, 0, iinfo, null);
-			}).blockingGet();
-			// Only add image information if image properties were found
-			if (info.getImageInfo() != null) {
-				binary.setImageHeight(info.getImageInfo().getHeight());
-				binary.setImageWidth(info.getImageInfo().getWidth());
-				field.setImageDominantColor(info.getImageInfo().getDominantColor());
-			}
+		// Handle the data in parallel
+		return Single.zip(hash, imageInfo, store, (hashV, imageInfoOpt, size) -> {
+			return new UploadResult(binaryUuid, hashV, size, imageInfoOpt.orElse(null));
+		}).doOnError(e -> {
+			log.error("Error while processing upload {" + ul.uploadedFileName() + "}", e);
+			binaryStorage.delete(binaryUuid).onErrorComplete().subscribe();
+		}).blockingGet();
+	}
 
+	/**
+	 * Update the binary field using the information of the processed upload.
+	 * 
+	 * @param ul
+	 *            Upload which was processed
+	 * @param upload
+	 *            Result of the upload processing
+	 * @param field
+	 *            Field which will be updated with the extracted information
+	 */
+	private void applyUpload(FileUpload ul, UploadResult upload, BinaryGraphField field) {
+		Binary binary = field.getBinary();
+		// Only add image information if image properties were found
+		ImageInfo imageInfo = upload.getImageInfo();
+		if (imageInfo != null) {
+			binary.setImageHeight(imageInfo.getHeight());
+			binary.setImageWidth(imageInfo.getWidth());
+			field.setImageDominantColor(imageInfo.getDominantColor());
 		}
 
 		field.setFileName(ul.fileName());
-		field.getBinary().setSize(ul.size());
-		field.setMimeType(contentType);
+		binary.setSize(upload.getSize());
+		field.setMimeType(ul.contentType());
 	}
 
 	/**
-	 * Processes the given file and extracts the image info. The image info is cached within the action context in case the method is called again (e.g.: due to
-	 * tx retry). In that case the previously loaded image info is returned.
+	 * Remove the stored data of the upload. This is needed if the upload did not result in a new binary.
+	 * 
+	 * @param upload
+	 */
+	private void deleteUploadData(UploadResult upload) {
+		binaryStorage.delete(upload.getBinaryUuid()).subscribe(() -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Removed data of upload with hash {" + upload.getHash() + "}");
+			}
+		}, e -> {
+			log.error("Could not remove data of upload {" + upload.getBinaryUuid() + "}", e);
+		});
+	}
+
+	/**
+	 * Processes the given stream and extracts the image info. Errors will be suppressed and result in an empty image info.
 	 * 
-	 * @param ac
 	 * @param stream
 	 * @return
 	 */
-	private Single<Optional<ImageInfo>> processImageInfo(ActionContext ac, Observable<Buffer> stream) {
-		// Caches the image info in the action context so that it does not need to be
-		// calculated again if the transaction failed
-		ImageInfo imageInfo = ac.get("imageInfo");
-		if (imageInfo != null) {
-			return Single.just(Optional.of(imageInfo));
-		} else {
-			return imageManipulator.readImageInfo(stream).doOnSuccess(ii -> {
-				ac.put("imageInfo", ii);
-			}).map(Optional::of).onErrorReturn(e -> {
-				// suppress error
-				return Optional.empty();
-			});
-		}
+	private Single<Optional<ImageInfo>> processImageInfo(Observable<Buffer> stream) {
+		return imageManipulator.readImageInfo(stream).map(Optional::of).onErrorReturn(e -> {
+			// suppress error
+			return Optional.empty();
+		});
 	}
 
 	/**
@@ -4,10 +4,17 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.http.HttpConstants.ETAG;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_MODIFIED;
+import static io.netty.handler.codec.http.HttpResponseStatus.PARTIAL_CONTENT;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.reactivestreams.Subscription;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.binary.Binary;
@@ -17,7 +24,10 @@ import com.gentics.mesh.http.MeshHeaders;
 import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.ETag;
 import com.gentics.mesh.util.RxUtil;
+import com.gentics.mesh.util.UUIDUtil;
 
+import io.reactivex.Flowable;
+import io.reactivex.FlowableSubscriber;
 import io.reactivex.Observable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
@@ -26,6 +36,9 @@ import io.vertx.ext.web.RoutingContext;
 
 /**
  * Handler which will accept {@link BinaryGraphField} elements and return the binary data using the given context.
+ * 
+ * Binary data which is stored in the local filesystem will be sent using {@link HttpServerResponse#sendFile(String)} which allows the data to be
+ * transferred without copying it into the heap. Range requests (RFC 7233) are supported for the original binary data.
  */
 @Singleton
 public class BinaryFieldResponseHandler {
@@ -53,7 +66,8 @@ public class BinaryFieldResponseHandler {
 		} else {
 			InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
 			Binary binary = binaryField.getBinary();
-			String contentLength = String.valueOf(binary.getSize());
+			String binaryUuid = binary.getUuid();
+			long size = binary.getSize();
 			String fileName = binaryField.getFileName();
 			String contentType = binaryField.getMimeType();
 			String sha512sum = binary.getSHA512Sum();
@@ -74,30 +88,188 @@ public class BinaryFieldResponseHandler {
 			} else if (binaryField.hasImage() && ac.getImageParameters().hasResizeParams()) {
 				// Resize the image if needed
 				Observable<Buffer> data = binary.getStream();
-				Observable<Buffer> resizedData = imageManipulator.handleResize(data, sha512sum, ac.getImageParameters()).toObservable()
-					.map(fileWithProps -> {
+				Flowable<Buffer> resizedData = imageManipulator.handleResize(data, sha512sum, ac.getImageParameters()).toFlowable()
+					.flatMap(fileWithProps -> {
 						response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(fileWithProps.getProps().size()));
 						response.putHeader(HttpHeaders.CONTENT_TYPE, "image/jpeg");
 						response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
 						response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "binary");
 						// TODO encode filename?
 						response.putHeader("content-disposition", "inline; filename=" + fileName);
-						return fileWithProps.getFile();
-					}).flatMap(RxUtil::toBufferObs);
-				resizedData.subscribe(response::write, rc::fail, response::end);
+						return RxUtil.toBufferFlow(fileWithProps.getFile());
+					});
+				pipe(resizedData, response, rc);
 			} else {
-				response.putHeader(HttpHeaders.CONTENT_LENGTH, contentLength);
 				if (contentType != null) {
 					response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
 				}
 				response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
 				response.putHeader(MeshHeaders.WEBROOT_RESPONSE_TYPE, "binary");
+				response.putHeader("Accept-Ranges", "bytes");
 				// TODO encode filename?
 				// TODO images and pdf files should be shown in inline format
 				response.putHeader("content-disposition", "attachment; filename=" + fileName);
-				binary.getStream().subscribe(response::write, rc::fail, response::end);
+
+				// Ranges will only be honoured if the If-Range header is absent or matches the current etag
+				List<ByteRange> ranges = null;
+				String rangeHeader = rc.request().getHeader("Range");
+				String ifRange = rc.request().getHeader("If-Range");
+				if (rangeHeader != null && (ifRange == null || ifRange.equals(etagHeaderValue))) {
+					ranges = ByteRange.parse(rangeHeader, size);
+				}
+
+				if (ranges == null) {
+					sendFull(rc, binaryUuid, size);
+				} else if (ranges.isEmpty()) {
+					response.putHeader("Content-Range", "bytes */" + size);
+					response.setStatusCode(REQUESTED_RANGE_NOT_SATISFIABLE.code()).end();
+				} else if (ranges.size() == 1) {
+					sendRange(rc, binaryUuid, size, ranges.get(0));
+				} else {
+					sendRanges(rc, binaryUuid, size, contentType, ranges);
+				}
 			}
 		}
 	}
 
+	/**
+	 * Send the whole binary data.
+	 * 
+	 * @param rc
+	 * @param binaryUuid
+	 * @param size
+	 */
+	private void sendFull(RoutingContext rc, String binaryUuid, long size) {
+		HttpServerResponse response = rc.response();
+		response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(size));
+		String path = storage.getLocalPath(binaryUuid);
+		if (path != null) {
+			response.sendFile(path, 0, size, rh -> {
+				if (rh.failed()) {
+					fail(rc, rh.cause());
+				}
+			});
+		} else {
+			pipe(storage.readFlowable(binaryUuid), response, rc);
+		}
+	}
+
+	/**
+	 * Send a single range of the binary data.
+	 * 
+	 * @param rc
+	 * @param binaryUuid
+	 * @param size
+	 * @param range
+	 */
+	private void sendRange(RoutingContext rc, String binaryUuid, long size, ByteRange range) {
+		HttpServerResponse response = rc.response();
+		response.setStatusCode(PARTIAL_CONTENT.code());
+		response.putHeader("Content-Range", range.toContentRange(size));
+		response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(range.getLength()));
+		String path = storage.getLocalPath(binaryUuid);
+		if (path != null) {
+			response.sendFile(path, range.getStart(), range.getLength(), rh -> {
+				if (rh.failed()) {
+					fail(rc, rh.cause());
+				}
+			});
+		} else {
+			pipe(storage.readFlowable(binaryUuid, range.getStart(), range.getLength()), response, rc);
+		}
+	}
+
+	/**
+	 * Send multiple ranges of the binary data using a multipart/byteranges response.
+	 * 
+	 * @param rc
+	 * @param binaryUuid
+	 * @param size
+	 * @param contentType
+	 * @param ranges
+	 */
+	private void sendRanges(RoutingContext rc, String binaryUuid, long size, String contentType, List<ByteRange> ranges) {
+		String boundary = UUIDUtil.randomUUID();
+		long contentLength = 0;
+		List<Flowable<Buffer>> parts = new ArrayList<>(ranges.size() + 1);
+		for (ByteRange range : ranges) {
+			StringBuilder partHeader = new StringBuilder();
+			partHeader.append("\r\n--").append(boundary).append("\r\n");
+			if (contentType != null) {
+				partHeader.append("Content-Type: ").append(contentType).append("\r\n");
+			}
+			partHeader.append("Content-Range: ").append(range.toContentRange(size)).append("\r\n\r\n");
+			Buffer headerBuffer = Buffer.buffer(partHeader.toString());
+			contentLength += headerBuffer.length() + range.getLength();
+			// Each part is read lazily from its start once the previous part has been written
+			parts.add(Flowable.just(headerBuffer).concatWith(Flowable.defer(() -> storage.readFlowable(binaryUuid, range.getStart(), range
+					.getLength()))));
+		}
+		Buffer closing = Buffer.buffer("\r\n--" + boundary + "--\r\n");
+		contentLength += closing.length();
+		parts.add(Flowable.just(closing));
+
+		HttpServerResponse response = rc.response();
+		response.setStatusCode(PARTIAL_CONTENT.code());
+		response.putHeader(HttpHeaders.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundary);
+		response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+		pipe(Flowable.concat(parts), response, rc);
+	}
+
+	/**
+	 * Write the data to the response. Only a single buffer will be requested at once and further buffers will only be requested once the write queue of
+	 * the response has been drained. This prevents large binaries from being buffered in memory when the client is slow.
+	 * 
+	 * @param data
+	 * @param response
+	 * @param rc
+	 */
+	private void pipe(Flowable<Buffer> data, HttpServerResponse response, RoutingContext rc) {
+		data.subscribe(new FlowableSubscriber<Buffer>() {
+
+			private Subscription subscription;
+
+			@Override
+			public void onSubscribe(Subscription s) {
+				subscription = s;
+				response.closeHandler(v -> subscription.cancel());
+				s.request(1);
+			}
+
+			@Override
+			public void onNext(Buffer buffer) {
+				response.write(buffer);
+				if (response.writeQueueFull()) {
+					response.drainHandler(v -> subscription.request(1));
+				} else {
+					subscription.request(1);
+				}
+			}
+
+			@Override
+			public void onError(Throwable error) {
+				fail(rc, error);
+			}
+
+			@Override
+			public void onComplete() {
+				response.end();
+			}
+		});
+	}
+
+	/**
+	 * Fail the request. The connection will be closed if the response headers have already been sent since the error can no longer be reported.
+	 * 
+	 * @param rc
+	 * @param error
+	 */
+	private void fail(RoutingContext rc, Throwable error) {
+		if (rc.response().headWritten()) {
+			rc.response().close();
+		} else {
+			rc.fail(error);
+		}
+	}
+
 }
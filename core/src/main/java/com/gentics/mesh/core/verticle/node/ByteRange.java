@@ -0,0 +1,126 @@
+package com.gentics.mesh.core.verticle.node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Byte range of a HTTP range request (RFC 7233). The start and end positions are both inclusive.
+ */
+public class ByteRange {
+
+	private static final String BYTES_UNIT = "bytes=";
+
+	/**
+	 * Maximum amount of ranges which will be accepted within a single request. Requests with more ranges will be answered with the full content.
+	 */
+	public static final int MAX_RANGES = 16;
+
+	private final long start;
+
+	private final long end;
+
+	public ByteRange(long start, long end) {
+		this.start = start;
+		this.end = end;
+	}
+
+	/**
+	 * Parse the value of the range header.
+	 * 
+	 * @param header
+	 *            Value of the range header
+	 * @param size
+	 *            Total size of the content
+	 * @return Parsed ranges, an empty list if none of the ranges can be satisfied or null if the header is invalid and should be ignored
+	 */
+	public static List<ByteRange> parse(String header, long size) {
+		if (header == null || !header.startsWith(BYTES_UNIT)) {
+			return null;
+		}
+		String[] specs = header.substring(BYTES_UNIT.length()).split(",");
+		if (specs.length > MAX_RANGES) {
+			return null;
+		}
+		List<ByteRange> ranges = new ArrayList<>(specs.length);
+		for (String spec : specs) {
+			spec = spec.trim();
+			int dash = spec.indexOf('-');
+			if (dash < 0) {
+				return null;
+			}
+			String first = spec.substring(0, dash).trim();
+			String last = spec.substring(dash + 1).trim();
+			try {
+				if (first.isEmpty()) {
+					// Suffix range which selects the last n bytes
+					if (last.isEmpty()) {
+						return null;
+					}
+					long suffixLength = Long.parseLong(last);
+					if (suffixLength <= 0 || size == 0) {
+						continue;
+					}
+					ranges.add(new ByteRange(Math.max(0, size - suffixLength), size - 1));
+				} else {
+					long start = Long.parseLong(first);
+					long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+					if (start < 0 || end < start) {
+						return null;
+					}
+					if (start >= size) {
+						// Not satisfiable
+						continue;
+					}
+					ranges.add(new ByteRange(start, Math.min(end, size - 1)));
+				}
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		return ranges;
+	}
+
+	/**
+	 * Return the first byte position of the range.
+	 * 
+	 * @return
+	 */
+	public long getStart() {
+		return start;
+	}
+
+	/**
+	 * Return the last byte position of the range.
+	 * 
+	 * @return
+	 */
+	public long getEnd() {
+		return end;
+	}
+
+	/**
+	 * Return the amount of bytes within the range.
+	 * 
+	 * @return
+	 */
+	public long getLength() {
+		return end - start + 1;
+	}
+
+	/**
+	 * Return the value of the content range header for this range.
+	 * 
+	 * @param size
+	 *            Total size of the content
+	 * @return
+	 */
+	public String toContentRange(long size) {
+		return "bytes " + start + "-" + end + "/" + size;
+	}
+
+	@Override
+	public String toString() {
+		return start + "-" + end;
+	}
+
+}
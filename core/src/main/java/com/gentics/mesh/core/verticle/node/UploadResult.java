@@ -0,0 +1,71 @@
+package com.gentics.mesh.core.verticle.node;
+
+import com.gentics.mesh.core.image.spi.ImageInfo;
+
+/**
+ * Result of the single pass over the uploaded data. The data has been hashed, stored in the binary storage using a new binary uuid and inspected for
+ * image properties.
+ */
+public class UploadResult {
+
+	private String binaryUuid;
+	private String sha512sum;
+	private long size;
+	private ImageInfo imageInfo;
+
+	/**
+	 * Create a new result.
+	 * 
+	 * @param binaryUuid
+	 *            Uuid which was used to store the data in the binary storage
+	 * @param sha512sum
+	 *            SHA 512 checksum of the data
+	 * @param size
+	 *            Size of the data in bytes
+	 * @param imageInfo
+	 *            Image properties or null if the data is not an image
+	 */
+	public UploadResult(String binaryUuid, String sha512sum, long size, ImageInfo imageInfo) {
+		this.binaryUuid = binaryUuid;
+		this.sha512sum = sha512sum;
+		this.size = size;
+		this.imageInfo = imageInfo;
+	}
+
+	/**
+	 * Return the uuid which was used to store the data.
+	 * 
+	 * @return
+	 */
+	public String getBinaryUuid() {
+		return binaryUuid;
+	}
+
+	/**
+	 * Return the hash of the data.
+	 * 
+	 * @return
+	 */
+	public String getHash() {
+		return sha512sum;
+	}
+
+	/**
+	 * Return the size of the data in bytes.
+	 * 
+	 * @return
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Return the image properties of the data.
+	 * 
+	 * @return Image properties or null if the data is not an image
+	 */
+	public ImageInfo getImageInfo() {
+		return imageInfo;
+	}
+
+}
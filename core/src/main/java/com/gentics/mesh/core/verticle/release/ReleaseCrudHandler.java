@@ -104,7 +104,7 @@ public class ReleaseCrudHandler extends AbstractCrudHandler<Release, ReleaseResp
 			});
 
 			// The release has been created now lets start the release migration (specific node migration)
-			vertx.eventBus().send(JOB_WORKER_ADDRESS, null);
+			vertx.eventBus().publish(JOB_WORKER_ADDRESS, null);
 
 			ac.setLocation(info.getProperty("path"));
 			// Finally process the batch
@@ -166,7 +166,7 @@ public class ReleaseCrudHandler extends AbstractCrudHandler<Release, ReleaseResp
 			tuple.v2().processSync();
 
 			// 2. Invoke migrations which will populate the created index
-			Mesh.vertx().eventBus().send(JOB_WORKER_ADDRESS, null);
+			Mesh.vertx().eventBus().publish(JOB_WORKER_ADDRESS, null);
 
 			return tuple.v1();
 
@@ -220,7 +220,7 @@ public class ReleaseCrudHandler extends AbstractCrudHandler<Release, ReleaseResp
 				return getMicroschemaVersions(release);
 			});
 
-			vertx.eventBus().send(JOB_WORKER_ADDRESS, null);
+			vertx.eventBus().publish(JOB_WORKER_ADDRESS, null);
 			return model;
 
 		}).subscribe(model -> ac.send(model, OK), ac::fail);
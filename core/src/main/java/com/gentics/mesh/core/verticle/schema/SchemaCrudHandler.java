@@ -163,7 +163,7 @@ public class SchemaCrudHandler extends AbstractCrudHandler<SchemaContainer, Sche
 
 			info.v1().processSync();
 			if (updateParams.getUpdateAssignedReleases()) {
-				vertx.eventBus().send(JOB_WORKER_ADDRESS, null);
+				vertx.eventBus().publish(JOB_WORKER_ADDRESS, null);
 				return message(ac, "schema_updated_migration_invoked", schemaName, info.v2());
 			} else {
 				return message(ac, "schema_updated_migration_deferred", schemaName, info.v2());
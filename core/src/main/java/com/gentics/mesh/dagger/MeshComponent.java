@@ -29,6 +29,8 @@ import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.TrackingSearchProvider;
+import com.gentics.mesh.search.index.ReindexHandler;
+import com.gentics.mesh.search.queue.IndexQueueWorker;
 import com.gentics.mesh.search.index.group.GroupIndexHandler;
 import com.gentics.mesh.search.index.microschema.MicroschemaContainerIndexHandler;
 import com.gentics.mesh.search.index.node.NodeIndexHandler;
@@ -89,6 +91,10 @@ public interface MeshComponent {
 
 	IndexHandlerRegistry indexHandlerRegistry();
 
+	IndexQueueWorker indexQueueWorker();
+
+	ReindexHandler reindexHandler();
+
 	ProjectIndexHandler projectIndexHandler();
 
 	UserIndexHandler userIndexHandler();
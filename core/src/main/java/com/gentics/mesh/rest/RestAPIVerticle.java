@@ -10,6 +10,7 @@ import javax.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.verticle.admin.AdminEndpoint;
 import com.gentics.mesh.core.verticle.admin.RestInfoEndpoint;
 import com.gentics.mesh.core.verticle.auth.AuthenticationEndpoint;
@@ -29,6 +30,7 @@ import com.gentics.mesh.core.verticle.tagfamily.TagFamilyEndpoint;
 import com.gentics.mesh.core.verticle.user.UserEndpoint;
 import com.gentics.mesh.core.verticle.utility.UtilityEndpoint;
 import com.gentics.mesh.core.verticle.webroot.WebRootEndpoint;
+import com.gentics.mesh.etc.config.HttpServerConfig;
 import com.gentics.mesh.graphql.GraphQLEndpoint;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.router.route.AbstractEndpoint;
@@ -41,6 +43,7 @@ import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.ext.web.Router;
 
 /**
@@ -143,27 +146,9 @@ public class RestAPIVerticle extends AbstractVerticle {
 		if (log.isInfoEnabled()) {
 			log.info("Starting http server on {" + host + ":" + port + "}..");
 		}
-		HttpServerOptions options = new HttpServerOptions();
+		HttpServerOptions options = createHttpServerOptions(Mesh.mesh().getOptions().getHttpServerOptions());
 		options.setPort(port);
 		options.setHost(host);
-		options.setCompressionSupported(true);
-		options.setHandle100ContinueAutomatically(true);
-		// options.setLogActivity(true);
-		// MeshOptions meshOptions = Mesh.mesh().getOptions();
-		// HttpServerConfig httpServerOptions = meshOptions.getHttpServerOptions();
-		// if (httpServerOptions.isSsl()) {
-		// if (log.isErrorEnabled()) {
-		// log.debug("Setting ssl server options");
-		// }
-		// options.setSsl(true);
-		// PemKeyCertOptions keyOptions = new PemKeyCertOptions();
-		// if (isEmpty(httpServerOptions.getCertPath()) || isEmpty(httpServerOptions.getKeyPath())) {
-		// throw new MeshConfigurationException("SSL is enabled but either the server key or the cert path was not specified.");
-		// }
-		// keyOptions.setKeyPath(httpServerOptions.getKeyPath());
-		// keyOptions.setCertPath(httpServerOptions.getCertPath());
-		// options.setPemKeyCertOptions(keyOptions);
-		// }
 
 		log.info("Starting http server in verticle {" + getClass().getName() + "} on port {" + options.getPort() + "}");
 		server = vertx.createHttpServer(options);
@@ -201,6 +186,42 @@ public class RestAPIVerticle extends AbstractVerticle {
 		});
 	}
 
+	/**
+	 * Create the vert.x http server options using the given configuration.
+	 * 
+	 * @param config
+	 * @return
+	 */
+	protected HttpServerOptions createHttpServerOptions(HttpServerConfig config) {
+		HttpServerOptions options = new HttpServerOptions();
+		options.setHandle100ContinueAutomatically(true);
+
+		// Responses which should not be compressed are excluded by the compression filter of the router
+		options.setCompressionSupported(config.isCompression());
+		options.setCompressionLevel(config.getCompressionLevel());
+
+		options.setTcpNoDelay(config.isTcpNoDelay());
+		options.setTcpKeepAlive(config.isTcpKeepAlive());
+		options.setIdleTimeout(config.getIdleTimeout());
+		options.setAcceptBacklog(config.getAcceptBacklog());
+
+		if (config.isSsl()) {
+			if (log.isDebugEnabled()) {
+				log.debug("Setting ssl server options");
+			}
+			options.setSsl(true);
+			PemKeyCertOptions keyOptions = new PemKeyCertOptions();
+			keyOptions.setKeyPath(config.getKeyPath());
+			keyOptions.setCertPath(config.getCertPath());
+			options.setPemKeyCertOptions(keyOptions);
+			// HTTP/2 over TLS is negotiated via ALPN. Clear text connections are upgraded via h2c by vert.x.
+			if (config.isHttp2()) {
+				options.setUseAlpn(true);
+			}
+		}
+		return options;
+	}
+
 	/**
 	 * Register the API endpoints and bind them to the given router.
 	 * 
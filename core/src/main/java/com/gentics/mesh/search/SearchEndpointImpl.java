@@ -129,7 +129,7 @@ public class SearchEndpointImpl extends AbstractEndpoint implements SearchEndpoi
 		statusEndpoint.method(GET);
 		statusEndpoint.description("Returns the search index status.");
 		statusEndpoint.produces(APPLICATION_JSON);
-		statusEndpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Search index status.");
+		statusEndpoint.exampleResponse(OK, miscExamples.searchStatusJson(), "Search index status.");
 		statusEndpoint.blockingHandler(rc -> {
 			InternalActionContext ac = new InternalRoutingActionContextImpl(rc);
 			adminHandler.handleStatus(ac);
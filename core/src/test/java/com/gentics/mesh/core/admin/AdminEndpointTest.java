@@ -5,12 +5,15 @@ import static com.gentics.mesh.test.TestSize.PROJECT;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 
 import org.junit.Test;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.MeshStatus;
 import com.gentics.mesh.core.rest.admin.status.MeshStatusResponse;
+import com.gentics.mesh.core.rest.admin.status.WorkerPoolStatus;
+import com.gentics.mesh.core.worker.WorkerPools;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
@@ -24,6 +27,16 @@ public class AdminEndpointTest extends AbstractMeshTest {
 		assertEquals(MeshStatus.WAITING_FOR_CLUSTER, status.getStatus());
 	}
 
+	@Test
+	public void testMeshStatusWorkerPools() {
+		call(() -> client().findUsers());
+		MeshStatusResponse status = call(() -> client().meshStatus());
+		WorkerPoolStatus readPool = status.getWorkerPools().stream().filter(pool -> WorkerPools.READ_POOL.equals(pool.getName())).findFirst().orElse(null);
+		assertNotNull("The read pool should have been created by the read request", readPool);
+		assertEquals(Mesh.mesh().getOptions().getWorkerPoolOptions().getReadPoolSize(), readPool.getPoolSize());
+		assertEquals(0, readPool.getRejectedTasks());
+	}
+
 	@Test
 	public void testClusterStatusInNoClusterMode() {
 		call(() -> client().clusterStatus(), FORBIDDEN, "error_admin_permission_required");
@@ -0,0 +1,46 @@
+package com.gentics.mesh.core.data.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.core.rest.schema.impl.StringFieldSchemaImpl;
+import com.gentics.mesh.mock.Mocks;
+
+public class CompiledSchemaTest {
+
+	@Test
+	public void testCompile() {
+		SchemaModel schema = Mocks.mockContentSchema();
+		CompiledField[] fields = CompiledSchema.of(schema).getFields();
+		assertEquals(schema.getFields().size(), fields.length);
+		for (int i = 0; i < fields.length; i++) {
+			assertEquals("The order of the fields must be kept", schema.getFields().get(i).getName(), fields[i].getKey());
+			assertEquals(GraphFieldTypes.valueByFieldSchema(schema.getFields().get(i)), fields[i].getType());
+		}
+		assertEquals(GraphFieldTypes.STRING_LIST, fields[7].getType());
+		assertTrue(fields[0].isRequired());
+		assertTrue(fields[0].isMicronodeCompatible());
+		assertFalse("Micronode fields are not allowed within micronodes", fields[6].isMicronodeCompatible());
+		assertFalse("Micronode lists are not allowed within micronodes", fields[13].isMicronodeCompatible());
+	}
+
+	@Test
+	public void testInvalidate() {
+		SchemaModel schema = Mocks.mockContentSchema();
+		CompiledSchema compiled = CompiledSchema.of(schema);
+		assertSame(compiled, CompiledSchema.of(schema));
+
+		schema.addField(new StringFieldSchemaImpl().setName("extra"));
+		CompiledSchema.invalidate(schema);
+		CompiledSchema recompiled = CompiledSchema.of(schema);
+		assertNotSame(compiled, recompiled);
+		assertEquals("extra", recompiled.getFields()[recompiled.getFields().length - 1].getKey());
+	}
+
+}
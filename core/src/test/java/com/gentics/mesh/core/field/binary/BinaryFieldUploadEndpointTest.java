@@ -64,9 +64,11 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 			tx.success();
 		}
 
+		int storedFiles = countStoredBinaryFiles();
 		try (Tx tx = tx()) {
 			call(() -> uploadRandomData(node, "en", "binary", binaryLen, contentType, fileName), FORBIDDEN, "error_missing_perm", node.getUuid());
 		}
+		assertEquals("The data of the rejected upload must not be stored.", storedFiles, countStoredBinaryFiles());
 
 	}
 
@@ -551,4 +553,17 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	/**
+	 * Return the amount of files in the binary storage.
+	 * 
+	 * @return
+	 */
+	private int countStoredBinaryFiles() {
+		File binaryFolder = new File(Mesh.mesh().getOptions().getUploadOptions().getDirectory());
+		if (!binaryFolder.exists()) {
+			return 0;
+		}
+		return FileUtils.listFiles(binaryFolder, null, true).size();
+	}
+
 }
\ No newline at end of file
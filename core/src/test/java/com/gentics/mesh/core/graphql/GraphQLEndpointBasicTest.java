@@ -3,6 +3,7 @@ package com.gentics.mesh.core.graphql;
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
@@ -14,6 +15,7 @@ import org.junit.Test;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.etc.config.GraphQLOptions;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -66,4 +68,18 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 		String uuid = response.getData().getJsonObject("node").getJsonObject("node").getString("uuid");
 		assertThat(uuid).isNotEmpty();
 	}
+
+	@Test
+	public void testQueryDepthLimit() throws Throwable {
+		StringBuilder query = new StringBuilder();
+		for (int i = 0; i <= GraphQLOptions.DEFAULT_MAX_QUERY_DEPTH; i++) {
+			query.append("{ node ");
+		}
+		query.append("{ uuid }");
+		for (int i = 0; i <= GraphQLOptions.DEFAULT_MAX_QUERY_DEPTH; i++) {
+			query.append(" }");
+		}
+		call(() -> client().graphqlQuery(PROJECT_NAME, query.toString()), BAD_REQUEST, "graphql_error_query_too_deep", String.valueOf(
+			GraphQLOptions.DEFAULT_MAX_QUERY_DEPTH + 2), String.valueOf(GraphQLOptions.DEFAULT_MAX_QUERY_DEPTH));
+	}
 }
@@ -67,6 +67,23 @@ public class JobTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testReindexJob() {
+		try (Tx tx = tx()) {
+			JobRoot root = boot().jobRoot();
+			Job job = root.enqueueReindex(user());
+			assertEquals("The job type did not match.", MigrationType.reindex, job.getType());
+			assertNull("A reindex job is not bound to a release.", job.getRelease());
+			job.setCompletionCount(42);
+
+			// Verify the transformation to rest
+			JobResponse response = job.transformToRestSync(null, 0);
+			assertEquals(MigrationType.reindex, response.getType());
+			assertEquals(42, response.getCompletionCount());
+			assertThat(response.getProperties()).doesNotContainKey("releaseUuid");
+		}
+	}
+
 	private Exception buildExceptionStackTraceLongerThan(int size) {
 		List<Exception> exceptions = new ArrayList<>();
 		do {
@@ -68,6 +68,7 @@ import com.gentics.mesh.demo.UserInfo;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.parameter.VersioningParameters;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
+import com.gentics.mesh.parameter.impl.FieldsParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.PublishParametersImpl;
@@ -1131,6 +1132,30 @@ public class NodeEndpointTest extends AbstractMeshTest implements BasicRestTestc
 		}
 	}
 
+	@Test
+	public void testReadByUUIDWithFieldsProjection() throws Exception {
+		String folderUuid = tx(() -> folder("2015").getUuid());
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid, new VersioningParametersImpl().draft(),
+				new FieldsParametersImpl().setFields("uuid", "displayName", "fields.name")));
+		assertEquals(folderUuid, response.getUuid());
+		assertEquals("2015", response.getDisplayName());
+		assertEquals("2015", response.getFields().getStringField("name").getString());
+		assertEquals("Only the requested schema field should be returned", 1, response.getFields().size());
+		assertNull(response.getLanguage());
+		assertNull(response.getParentNode());
+		assertNull(response.getAvailableLanguages());
+		assertNull(response.getCreator());
+		assertTrue(response.getTags().isEmpty());
+		assertTrue(response.getBreadcrumb().isEmpty());
+		assertTrue(response.getChildrenInfo().isEmpty());
+
+		// The schema fields are omitted if not requested
+		response = call(() -> client().findNodeByUuid(PROJECT_NAME, folderUuid, new VersioningParametersImpl().draft(), new FieldsParametersImpl()
+				.setFields("uuid", "parentNode")));
+		assertNotNull(response.getParentNode());
+		assertEquals(0, response.getFields().size());
+	}
+
 	@Test
 	public void testReadByUUIDWithNoUser() throws Exception {
 		String folderUuid = tx(() -> folder("2015").getUuid());
@@ -180,6 +180,21 @@ public class NodeTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testFindByUuids() throws Exception {
+		try (Tx tx = tx()) {
+			Node newsNode = content("news overview");
+			Node concordeNode = content("concorde");
+			// The uuid of a user must not yield a node
+			String userUuid = user().getUuid();
+			Map<String, Node> nodes = boot().nodeRoot().findByUuids(Arrays.asList(newsNode.getUuid(), concordeNode.getUuid(), userUuid,
+				"bogus"));
+			assertEquals(2, nodes.size());
+			assertEquals(newsNode.getUuid(), nodes.get(newsNode.getUuid()).getUuid());
+			assertEquals(concordeNode.getUuid(), nodes.get(concordeNode.getUuid()).getUuid());
+		}
+	}
+
 	@Test
 	@Override
 	public void testTransformation() throws Exception {
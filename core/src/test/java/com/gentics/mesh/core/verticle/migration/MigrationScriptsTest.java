@@ -0,0 +1,42 @@
+package com.gentics.mesh.core.verticle.migration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import javax.script.ScriptException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.util.Tuple;
+
+public class MigrationScriptsTest {
+
+	@Test
+	public void testScriptsAreIsolated() throws Exception {
+		MigrationScripts scripts = new MigrationScripts();
+		scripts.add("var counter; function migrate(node, fieldname, convert) { counter = (counter || 0) + 1; node[fieldname] = counter;"
+				+ " leaked = true; return node; }", Arrays.asList(Tuple.tuple("fieldname", "first")));
+		scripts.add("function migrate(node, fieldname, convert) { node[fieldname] = typeof leaked + ',' + typeof counter; return node; }", Arrays.asList(
+				Tuple.tuple("fieldname", "second")));
+
+		// The state of a script must neither be visible to the following script nor to the next container
+		assertEquals("{\"first\":1,\"second\":\"undefined,undefined\"}", scripts.apply("{}"));
+		assertEquals("{\"first\":1,\"second\":\"undefined,undefined\"}", scripts.apply("{}"));
+	}
+
+	@Test
+	public void testScriptWithoutMigrateFunction() throws Exception {
+		MigrationScripts scripts = new MigrationScripts();
+		scripts.add("function migrate(node, fieldname, convert) { return node; }", Arrays.asList(Tuple.tuple("fieldname", "first")));
+		scripts.add("var unused = 1;", Arrays.asList(Tuple.tuple("fieldname", "second")));
+		try {
+			scripts.apply("{}");
+			fail("The script without migrate function must fail");
+		} catch (ScriptException e) {
+			// The function of the previous script must not be invoked
+		}
+	}
+
+}
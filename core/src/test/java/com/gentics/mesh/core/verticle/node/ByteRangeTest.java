@@ -0,0 +1,57 @@
+package com.gentics.mesh.core.verticle.node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class ByteRangeTest {
+
+	@Test
+	public void testParse() {
+		List<ByteRange> ranges = ByteRange.parse("bytes=0-499", 1000);
+		assertEquals(1, ranges.size());
+		assertEquals(0, ranges.get(0).getStart());
+		assertEquals(499, ranges.get(0).getEnd());
+		assertEquals(500, ranges.get(0).getLength());
+		assertEquals("bytes 0-499/1000", ranges.get(0).toContentRange(1000));
+
+		// Open end and end beyond the size
+		ranges = ByteRange.parse("bytes=900-, 950-2000", 1000);
+		assertEquals(2, ranges.size());
+		assertEquals(999, ranges.get(0).getEnd());
+		assertEquals(999, ranges.get(1).getEnd());
+
+		// Suffix range
+		ranges = ByteRange.parse("bytes=-100", 1000);
+		assertEquals(900, ranges.get(0).getStart());
+		assertEquals(999, ranges.get(0).getEnd());
+		ranges = ByteRange.parse("bytes=-2000", 1000);
+		assertEquals(0, ranges.get(0).getStart());
+	}
+
+	@Test
+	public void testUnsatisfiable() {
+		assertTrue(ByteRange.parse("bytes=1000-", 1000).isEmpty());
+		assertTrue(ByteRange.parse("bytes=-0", 1000).isEmpty());
+		assertEquals(1, ByteRange.parse("bytes=2000-3000,0-1", 1000).size());
+	}
+
+	@Test
+	public void testInvalid() {
+		assertNull(ByteRange.parse(null, 1000));
+		assertNull(ByteRange.parse("items=0-1", 1000));
+		assertNull(ByteRange.parse("bytes=abc", 1000));
+		assertNull(ByteRange.parse("bytes=5-1", 1000));
+		assertNull(ByteRange.parse("bytes=-", 1000));
+		StringBuilder header = new StringBuilder("bytes=0-0");
+		for (int i = 1; i <= ByteRange.MAX_RANGES; i++) {
+			header.append(",").append(i).append("-").append(i);
+		}
+		assertNull(ByteRange.parse(header.toString(), 1000));
+	}
+
+}
@@ -144,6 +144,19 @@ public class TxTest extends AbstractMeshTest {
 		assertEquals("OK", result);
 	}
 
+	@Test
+	public void testReadTxDiscardsChanges() {
+		String username = db().readTx(() -> {
+			User createdUser = boot().userRoot().create("readTxUser", user());
+			assertNotNull(boot().userRoot().findByUsername("readTxUser"));
+			return createdUser.getUsername();
+		});
+		assertEquals("readTxUser", username);
+		try (Tx tx = tx()) {
+			assertNull("The user must not have been committed by the read transaction.", boot().userRoot().findByUsername("readTxUser"));
+		}
+	}
+
 	@Test
 	@Ignore
 	public void testUpdateMultithreaded() throws InterruptedException, BrokenBarrierException, TimeoutException {
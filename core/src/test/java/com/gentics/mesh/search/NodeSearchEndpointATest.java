@@ -63,8 +63,11 @@ public class NodeSearchEndpointATest extends AbstractNodeSearchEndpointTest {
 		// Now clear all data
 		searchProvider().clear().blockingAwait();
 
-		GenericMessageResponse message = call(() -> client().invokeReindex());
-		assertMessage(message, "search_admin_reindex_invoked");
+		// The reindex is executed by the job worker
+		waitForJobs(() -> {
+			GenericMessageResponse message = call(() -> client().invokeReindex());
+			assertMessage(message, "search_admin_reindex_invoked");
+		}, COMPLETED, 1);
 
 		response = call(() -> client().searchNodes(PROJECT_NAME, getSimpleQuery("fields.content", oldContent)));
 		assertThat(response.getData()).as("Published search result").usingElementComparatorOnFields("uuid").containsOnly(concorde);
@@ -13,7 +13,9 @@ import org.testcontainers.containers.wait.Wait;
 
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializerImpl;
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore;
 import com.gentics.mesh.core.cache.PermissionStore;
+import com.gentics.mesh.core.cache.WebrootPathStore;
 import com.gentics.mesh.core.data.impl.DatabaseHelper;
 import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.crypto.KeyStoreHelper;
@@ -218,6 +220,8 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(dbDir);
 			MeshInternal.get().database().setupConnectionPool();
 		}
+		// The cached topology refers to the releases of the cleared graph
+		NodeIndexTopologyStore.invalidate();
 		long duration = System.currentTimeMillis() - start;
 		log.info("Clearing DB took {" + duration + "} ms.");
 		if (trackingSearchProvider != null) {
@@ -230,6 +234,7 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		PermissionStore.invalidate(false);
+		WebrootPathStore.invalidate();
 	}
 
 	public TestDataProvider getData() {
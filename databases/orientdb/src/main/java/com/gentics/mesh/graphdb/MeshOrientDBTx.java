@@ -0,0 +1,29 @@
+package com.gentics.mesh.graphdb;
+
+import com.gentics.mesh.graphdb.spi.TxHooks;
+import com.syncleus.ferma.ext.orientdb.OrientDBTx;
+import com.syncleus.ferma.typeresolvers.TypeResolver;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphFactory;
+
+/**
+ * OrientDB transaction which executes the actions that were registered via {@link TxHooks} once the transaction has been closed.
+ */
+public class MeshOrientDBTx extends OrientDBTx {
+
+	private final TxHooks.Scope hooks;
+
+	public MeshOrientDBTx(OrientGraphFactory factory, TypeResolver typeResolver) {
+		super(factory, typeResolver);
+		this.hooks = TxHooks.open();
+	}
+
+	@Override
+	public void close() {
+		try {
+			super.close();
+		} finally {
+			hooks.close();
+		}
+	}
+
+}
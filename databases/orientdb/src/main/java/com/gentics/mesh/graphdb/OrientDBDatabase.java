@@ -20,10 +20,15 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -70,9 +75,11 @@ import com.orientechnologies.orient.server.hazelcast.OHazelcastPlugin;
 import com.orientechnologies.orient.server.plugin.OServerPluginManager;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.ext.orientdb.DelegatingFramedOrientGraph;
-import com.syncleus.ferma.ext.orientdb.OrientDBTx;
 import com.syncleus.ferma.tx.Tx;
 import com.syncleus.ferma.tx.TxAction;
+import com.syncleus.ferma.tx.TxAction0;
+import com.syncleus.ferma.tx.TxAction1;
+import com.syncleus.ferma.tx.TxAction2;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.tinkerpop.blueprints.Element;
 import com.tinkerpop.blueprints.Graph;
@@ -124,6 +131,13 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private int maxRetry = 100;
 
+	private TxRetryBackoff retryBackoff = new TxRetryBackoff(TxRetryBackoff.DEFAULT_BASE_DELAY, TxRetryBackoff.DEFAULT_MAX_DELAY);
+
+	/**
+	 * Amount of conflicts per transaction handler.
+	 */
+	private final Map<String, LongAdder> txConflicts = new ConcurrentHashMap<>();
+
 	@Override
 	public void stop() {
 		if (factory != null) {
@@ -179,6 +193,16 @@ public class OrientDBDatabase extends AbstractDatabase {
 			this.maxRetry = Integer.valueOf(storageOptions.getParameters().get("maxTransactionRetry"));
 			log.info("Using {" + this.maxRetry + "} transaction retries before failing");
 		}
+		if (options != null && storageOptions.getParameters() != null) {
+			String baseDelay = storageOptions.getParameters().get("txRetryDelay");
+			String maxDelay = storageOptions.getParameters().get("txRetryMaxDelay");
+			if (baseDelay != null || maxDelay != null) {
+				long base = baseDelay == null ? TxRetryBackoff.DEFAULT_BASE_DELAY : Long.valueOf(baseDelay);
+				long max = maxDelay == null ? TxRetryBackoff.DEFAULT_MAX_DELAY : Long.valueOf(maxDelay);
+				this.retryBackoff = new TxRetryBackoff(base, max);
+				log.info("Using transaction retry delays between {" + base + "} and {" + max + "} ms");
+			}
+		}
 	}
 
 	@Override
@@ -220,12 +244,15 @@ public class OrientDBDatabase extends AbstractDatabase {
 	 */
 	private void initGraphDB() {
 		GraphStorageOptions storageOptions = options.getStorageOptions();
+		int poolMin = storageOptions == null ? GraphStorageOptions.DEFAULT_TX_POOL_MIN_SIZE : storageOptions.getTxPoolMinSize();
+		int poolMax = storageOptions == null ? GraphStorageOptions.DEFAULT_TX_POOL_MAX_SIZE : storageOptions.getTxPoolMaxSize();
 		if (storageOptions == null || storageOptions.getDirectory() == null) {
 			log.info("No graph database settings found. Fallback to in memory mode.");
-			factory = new OrientGraphFactory("memory:tinkerpop").setupPool(16, 100);
+			factory = new OrientGraphFactory("memory:tinkerpop").setupPool(poolMin, poolMax);
 		} else {
-			factory = new OrientGraphFactory("plocal:" + new File(storageOptions.getDirectory(), DB_NAME).getAbsolutePath()).setupPool(16, 100);
+			factory = new OrientGraphFactory("plocal:" + new File(storageOptions.getDirectory(), DB_NAME).getAbsolutePath()).setupPool(poolMin, poolMax);
 		}
+		log.info("Using graph transaction pool with {" + poolMin + "} to {" + poolMax + "} instances");
 	}
 
 	@Override
@@ -594,6 +621,41 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return orientBaseGraph.getVertices(classOfVertex.getSimpleName(), fieldNames, fieldValues).iterator();
 	}
 
+	@Override
+	public Map<Object, Vertex> getVertices(Class<?> classOfVertex, String fieldName, Collection<?> fieldValues) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		Map<Object, Vertex> vertices = new HashMap<>();
+		String className = classOfVertex.getSimpleName();
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(className);
+		if (vertexType == null || fieldValues.isEmpty()) {
+			return vertices;
+		}
+
+		// The index may also be defined by a super class
+		Set<OIndex<?>> indices = vertexType.getInvolvedIndexes(fieldName);
+		if (indices.isEmpty()) {
+			for (Object value : fieldValues) {
+				Iterator<Vertex> it = orientBaseGraph.getVertices(className, new String[] { fieldName }, new Object[] { value }).iterator();
+				if (it.hasNext()) {
+					vertices.put(value, it.next());
+				}
+			}
+			return vertices;
+		}
+
+		// Lookup all values within a single index iteration
+		OIndexCursor cursor = indices.iterator().next().iterateEntries(fieldValues, false);
+		Entry<Object, OIdentifiable> entry;
+		while ((entry = cursor.nextEntry()) != null) {
+			OrientVertex vertex = orientBaseGraph.getVertex(entry.getValue());
+			// The index of a super class also contains vertices of other types
+			if (vertex != null && vertex.getType().isSubClassOf(className)) {
+				vertices.put(entry.getKey(), vertex);
+			}
+		}
+		return vertices;
+	}
+
 	@Override
 	public <T extends MeshVertex> Iterator<? extends T> getVerticesForType(Class<T> classOfVertex) {
 		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
@@ -853,14 +915,50 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	@Override
 	public Tx tx() {
-		return new OrientDBTx(factory, resolver);
+		return new MeshOrientDBTx(factory, resolver);
+	}
+
+	@Override
+	public void tx(TxAction0 txHandler) {
+		retryTx((tx) -> {
+			txHandler.handle();
+			return null;
+		}, txHandler);
+	}
+
+	@Override
+	public <T> T tx(TxAction1<T> txHandler) {
+		return retryTx((tx) -> {
+			return txHandler.handle();
+		}, txHandler);
+	}
+
+	@Override
+	public void tx(TxAction2 txHandler) {
+		retryTx((tx) -> {
+			txHandler.handle(tx);
+			return null;
+		}, txHandler);
 	}
 
 	@Override
 	public <T> T tx(TxAction<T> txHandler) {
+		return retryTx(txHandler, txHandler);
+	}
+
+	/**
+	 * Execute the handler within a transaction and retry it if the transaction conflicts with a concurrent transaction.
+	 * 
+	 * @param txHandler
+	 * @param origin
+	 *            Handler which was passed by the caller. Conflicts are counted for the class which declared it.
+	 * @return Result of the handler
+	 */
+	private <T> T retryTx(TxAction<T> txHandler, Object origin) {
 		/**
 		 * OrientDB uses the MVCC pattern which requires a retry of the code that manipulates the graph in cases where for example an
-		 * {@link OConcurrentModificationException} is thrown.
+		 * {@link OConcurrentModificationException} is thrown. Conflicting transactions are retried using an exponential backoff with jitter so that they
+		 * won't conflict again right away.
 		 */
 		T handlerResult = null;
 		boolean handlerFinished = false;
@@ -871,20 +969,18 @@ public class OrientDBDatabase extends AbstractDatabase {
 				handlerFinished = true;
 				tx.success();
 			} catch (OSchemaException e) {
-				log.error("OrientDB schema exception detected.");
-				// TODO maybe we should invoke a metadata getschema reload?
-				// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
-				// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
+				log.error("OrientDB schema exception detected.", e);
+				recordConflict(origin);
+				backoff(retry);
+				// The schema exception may also occur during the commit
+				handlerFinished = false;
+				handlerResult = null;
 			} catch (ONeedRetryException e) {
 				if (log.isTraceEnabled()) {
 					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
-				try {
-					// Increase the delay for each retry by 25ms to give the other transaction a chance to finish
-					Thread.sleep(50 + (retry * 25));
-				} catch (InterruptedException e1) {
-					e1.printStackTrace();
-				}
+				recordConflict(origin);
+				backoff(retry);
 				// Reset previous result
 				handlerFinished = false;
 				handlerResult = null;
@@ -915,6 +1011,79 @@ public class OrientDBDatabase extends AbstractDatabase {
 		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
+	/**
+	 * Wait before the given retry.
+	 * 
+	 * @param retry
+	 */
+	private void backoff(int retry) {
+		try {
+			retryBackoff.sleep(retry);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for the retry of the transaction", e);
+		}
+	}
+
+	/**
+	 * Count the conflict for the class which declared the transaction handler.
+	 * 
+	 * @param origin
+	 */
+	private void recordConflict(Object origin) {
+		txConflicts.computeIfAbsent(getHandlerName(origin), name -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Return the simple name of the class which declared the handler. Handlers are usually lambdas and their generated class names are not stable.
+	 * 
+	 * @param txHandler
+	 * @return
+	 */
+	private static String getHandlerName(Object txHandler) {
+		String name = txHandler.getClass().getName();
+		int lastDot = name.lastIndexOf('.');
+		if (lastDot >= 0) {
+			name = name.substring(lastDot + 1);
+		}
+		int firstDollar = name.indexOf('$');
+		if (firstDollar > 0) {
+			name = name.substring(0, firstDollar);
+		}
+		return name;
+	}
+
+	@Override
+	public Map<String, Long> getTxConflicts() {
+		Map<String, Long> conflicts = new TreeMap<>();
+		for (Entry<String, LongAdder> entry : txConflicts.entrySet()) {
+			conflicts.put(entry.getKey(), entry.getValue().sum());
+		}
+		return conflicts;
+	}
+
+	@Override
+	public <T> T readTx(TxAction<T> txHandler) {
+		// The transaction is not marked as successful and will thus be rolled back. A rollback of a transaction without changes does not need to
+		// validate record versions and can't fail with a ONeedRetryException. The graph is returned to the pool of the factory once the tx is closed.
+		try (Tx tx = tx()) {
+			return txHandler.handle(tx);
+		} catch (GenericRestException e) {
+			// Don't log. Just throw it along so that others can handle it
+			throw e;
+		} catch (RuntimeException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read transaction", e);
+			}
+			throw e;
+		} catch (Exception e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Error handling read transaction", e);
+			}
+			throw new RuntimeException("Transaction error", e);
+		}
+	}
+
 	@Override
 	public void backupGraph(String backupDirectory) throws IOException {
 		if (log.isDebugEnabled()) {
@@ -0,0 +1,65 @@
+package com.gentics.mesh.graphdb;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter for transactions which need to be retried.
+ * 
+ * The upper bound of the delay is doubled for each retry until the maximum delay has been reached. The actual delay is randomly chosen between half the
+ * upper bound and the upper bound. Conflicting transactions will thus not be retried at the same time again.
+ */
+public class TxRetryBackoff {
+
+	public static final long DEFAULT_BASE_DELAY = 10;
+
+	public static final long DEFAULT_MAX_DELAY = 500;
+
+	private final long baseDelay;
+
+	private final long maxDelay;
+
+	/**
+	 * Create a new backoff.
+	 * 
+	 * @param baseDelay
+	 *            Upper bound of the delay in milliseconds for the first retry
+	 * @param maxDelay
+	 *            Maximum delay in milliseconds
+	 */
+	public TxRetryBackoff(long baseDelay, long maxDelay) {
+		if (baseDelay < 1) {
+			throw new IllegalArgumentException("The base delay must be at least 1 ms.");
+		}
+		if (maxDelay < baseDelay) {
+			throw new IllegalArgumentException("The maximum delay {" + maxDelay + "} must not be lower than the base delay {" + baseDelay + "}.");
+		}
+		this.baseDelay = baseDelay;
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * Return the delay for the given retry.
+	 * 
+	 * @param retry
+	 *            Number of the retry starting with 0
+	 * @return Delay in milliseconds
+	 */
+	public long getDelay(int retry) {
+		// Limit the shift to prevent an overflow
+		long upperBound = Math.min(maxDelay, baseDelay << Math.min(retry, 30));
+		long lowerBound = upperBound / 2;
+		return lowerBound + ThreadLocalRandom.current().nextLong(upperBound - lowerBound + 1);
+	}
+
+	/**
+	 * Sleep for the delay of the given retry.
+	 * 
+	 * @param retry
+	 *            Number of the retry starting with 0
+	 * @throws InterruptedException
+	 */
+	public void sleep(int retry) throws InterruptedException {
+		Thread.sleep(getDelay(retry));
+	}
+
+}
@@ -15,7 +15,9 @@ import org.junit.Test;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.graphdb.orientdb.graph.Person;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.orientechnologies.orient.core.db.record.ORecordOperation;
 import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.syncleus.ferma.tx.Tx;
 
 public class OrientDBTxTest extends AbstractOrientDBTest {
@@ -48,6 +50,20 @@ public class OrientDBTxTest extends AbstractOrientDBTest {
 	//
 	//	}
 
+	@Test
+	public void testTxRetryCountsConflicts() {
+		AtomicInteger attempts = new AtomicInteger(0);
+		String result = db.tx((tx) -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new OConcurrentModificationException(new ORecordId(13, 8), 7, 6, ORecordOperation.UPDATED);
+			}
+			return "OK";
+		});
+		assertEquals("OK", result);
+		assertEquals(2, attempts.get());
+		assertEquals(Long.valueOf(1), db.getTxConflicts().get(OrientDBTxTest.class.getSimpleName()));
+	}
+
 	@Test
 	@Ignore
 	public void testAsyncTxRetryHandling2() throws Exception {
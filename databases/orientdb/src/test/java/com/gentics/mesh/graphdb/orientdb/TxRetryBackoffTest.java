@@ -0,0 +1,29 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.graphdb.TxRetryBackoff;
+
+public class TxRetryBackoffTest {
+
+	@Test
+	public void testDelayBounds() {
+		TxRetryBackoff backoff = new TxRetryBackoff(10, 500);
+		for (int i = 0; i < 100; i++) {
+			long first = backoff.getDelay(0);
+			assertTrue("The first delay {" + first + "} should be between 5 and 10 ms", first >= 5 && first <= 10);
+			long third = backoff.getDelay(2);
+			assertTrue("The third delay {" + third + "} should be between 20 and 40 ms", third >= 20 && third <= 40);
+			long late = backoff.getDelay(80);
+			assertTrue("The delay {" + late + "} should be limited by the maximum delay", late >= 250 && late <= 500);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidMaxDelay() {
+		new TxRetryBackoff(100, 50);
+	}
+
+}
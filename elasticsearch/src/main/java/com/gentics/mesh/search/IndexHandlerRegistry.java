@@ -101,4 +101,20 @@ public class IndexHandlerRegistry {
 		return null;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Return the handler which handles elements of the given type.
+	 * 
+	 * @param elementType
+	 *            Name of the element class of the handler
+	 * @return Found handler or null
+	 */
+	public IndexHandler<?> getForElementType(String elementType) {
+		for (IndexHandler<?> handler : getHandlers()) {
+			if (handler.getElementClass().getName().equals(elementType)) {
+				return handler;
+			}
+		}
+		return null;
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.search.index;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshError;
@@ -9,12 +10,15 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -22,6 +26,7 @@ import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.PageImpl;
@@ -46,7 +51,6 @@ import com.gentics.mesh.util.Tuple;
 import com.syncleus.ferma.tx.Tx;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -55,7 +59,7 @@ import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Abstract implementation for a mesh search handler.
- *
+ * 
  * @param <T>
  */
 public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM extends RestModel> implements SearchHandler<T, RM> {
@@ -218,66 +222,135 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
-		requestBuilder.async().flatMapObservable(response -> {
-			System.out.println(response.encodePrettily());
+		requestBuilder.async().onErrorResumeNext(error -> {
+			return Single.error(mapToMeshError(error));
+		}).map(response -> {
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
 
 			// Process the nested error
 			JsonObject errorInfo = firstResponse.getJsonObject("error");
 			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
+				throw mapError(errorInfo);
 			}
 
 			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
 			JsonArray hits = hitsInfo.getJsonArray("hits");
 
-			List<Tuple<T, String>> list = new ArrayList<>();
-			db.tx(() -> {
+			// Load and transform all elements of the page within a single transaction
+			List<RM> models = db.readTx(() -> {
+				RootVertex<T> root = rootVertex.get();
+				Map<String, T> elements = loadElements(root, hits);
+				List<Tuple<T, String>> foundElements = new ArrayList<>();
 				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					// Locate the node
-					T element = rootVertex.get().findByUuid(uuid);
+					String id = hits.getJsonObject(i).getString("_id");
+					String uuid = extractUuid(id);
+					T element = elements.get(uuid);
 					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "} in root vertex {" + rootVertex.get().getRootLabel()
+						log.warn("Object could not be found for uuid {" + uuid + "} in root vertex {" + root.getRootLabel()
 							+ "}. The element will be omitted.");
 						// Reduce the total count
 						hitsInfo.put("total", hitsInfo.getLong("total") - 1);
 					} else {
-						// TODO maybe it would be better to directly transform the element here.
-						list.add(Tuple.tuple(element, language));
+						foundElements.add(Tuple.tuple(element, extractLanguage(id)));
 					}
 				}
+
+				// Post filter the hits since the permissions within the index may be outdated
+				List<T> foundList = foundElements.stream().map(Tuple::v1).collect(Collectors.toList());
+				Set<Object> readableIds = filterByPermission(ac, foundList, getReadPermissions(ac)).stream().map(MeshVertex::getId).collect(Collectors
+					.toSet());
+				List<RM> transformed = new ArrayList<>();
+				for (Tuple<T, String> element : foundElements) {
+					if (readableIds.contains(element.v1().getId())) {
+						transformed.add(element.v1().transformToRestSync(ac, 0, element.v2()));
+					} else {
+						hitsInfo.put("total", hitsInfo.getLong("total") - 1);
+					}
+				}
+				return transformed;
 			});
 
 			// Set meta information to the rest response
 			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
-
-			return Observable.fromIterable(list);
-		}).onErrorResumeNext(error -> {
-			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
-			// TODO add resume next to omit the item if it can't be transformed for some reason.
-			// This would be better than to just fail the whole request
-			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(() -> Single.just(element.v1().transformToRestSync(ac, 0, element.v2())));
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
-		}).subscribe(list -> {
-			ac.send(listResponse.toJson(), OK);
+			listResponse.getData().addAll(models);
+			return listResponse;
+		}).subscribe(response -> {
+			ac.send(response.toJson(), OK);
 		}, error -> {
 			log.error("Error while processing search response items", error);
 			ac.fail(error);
 		});
 	}
 
+	/**
+	 * Load the elements of all given search hits using a single lookup.
+	 * 
+	 * @param root
+	 *            Root vertex of the elements
+	 * @param hits
+	 *            Search hits
+	 * @return Map of uuids and found elements
+	 */
+	protected Map<String, T> loadElements(RootVertex<T> root, JsonArray hits) {
+		Set<String> uuids = new HashSet<>();
+		for (int i = 0; i < hits.size(); i++) {
+			uuids.add(extractUuid(hits.getJsonObject(i).getString("_id")));
+		}
+		return root.findByUuids(uuids);
+	}
+
+	/**
+	 * Extract the uuid of the element from the document id. Ids of language specific documents are suffixed with the language tag.
+	 * 
+	 * @param id
+	 *            Document id
+	 * @return
+	 */
+	protected static String extractUuid(String id) {
+		int pos = id.indexOf("-");
+		return pos > 0 ? id.substring(0, pos) : id;
+	}
+
+	/**
+	 * Extract the language tag from the document id.
+	 * 
+	 * @param id
+	 *            Document id
+	 * @return Language tag or null if the document is not language specific
+	 */
+	protected static String extractLanguage(String id) {
+		int pos = id.indexOf("-");
+		return pos > 0 ? id.substring(pos + 1) : null;
+	}
+
+	/**
+	 * Return the permissions which are used to post filter the search hits. The user must have at least one of the returned permissions on an element in
+	 * order to be able to read it.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	protected GraphPermission[] getReadPermissions(InternalActionContext ac) {
+		return new GraphPermission[] { READ_PERM };
+	}
+
+	/**
+	 * Filter the given elements by the permissions of the request user. The permissions of all elements will be checked at once.
+	 * 
+	 * @param ac
+	 * @param elements
+	 * @param permissions
+	 *            Permissions of which at least one must be granted
+	 * @return Filtered list of elements
+	 */
+	protected <E extends MeshVertex> List<E> filterByPermission(InternalActionContext ac, List<E> elements, GraphPermission... permissions) {
+		if (elements.isEmpty()) {
+			return elements;
+		}
+		return ac.getUser().filterByPermission(elements, permissions);
+	}
+
 	/**
 	 * Add the paging parameters to the request.
 	 * 
@@ -353,23 +426,25 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 					throw mapError(errorInfo);
 				}
 
-				return db.tx(() -> {
+				return db.readTx(() -> {
 					List<T> elementList = new ArrayList<>();
 					JsonObject hitsInfo = firstResponse.getJsonObject("hits");
 					JsonArray hits = hitsInfo.getJsonArray("hits");
+					Map<String, T> elements = loadElements(indexHandler.getRootVertex(), hits);
 					for (int i = 0; i < hits.size(); i++) {
-						JsonObject hit = hits.getJsonObject(i);
-						String id = hit.getString("_id");
-						int pos = id.indexOf("-");
-						String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-						// Locate the node
-						T element = indexHandler.getRootVertex().findByUuid(uuid);
+						T element = elements.get(extractUuid(hits.getJsonObject(i).getString("_id")));
 						if (element != null) {
 							elementList.add(element);
 						}
 					}
 
+					// Post filter the hits since the permissions within the index may be outdated
+					if (permissions.length > 0) {
+						int found = elementList.size();
+						elementList = filterByPermission(ac, elementList, permissions);
+						hitsInfo.put("total", hitsInfo.getLong("total") - (found - elementList.size()));
+					}
+
 					PagingMetaInfo info = extractMetaInfo(hitsInfo, pagingInfo);
 					return new PageImpl<>(elementList, info.getTotalCount(), pagingInfo.getPage(), info.getPageCount(), pagingInfo.getPerPage());
 				});
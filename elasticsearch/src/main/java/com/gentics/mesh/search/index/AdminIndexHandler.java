@@ -1,5 +1,6 @@
 package com.gentics.mesh.search.index;
 
+import static com.gentics.mesh.Events.JOB_WORKER_ADDRESS;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.rest.Messages.message;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
@@ -8,11 +9,16 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.rest.search.SearchStatusResponse;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.queue.IndexQueueWorker;
+
+import dagger.Lazy;
 
 import io.reactivex.Observable;
 import io.reactivex.Single;
@@ -26,16 +32,24 @@ public class AdminIndexHandler {
 
 	private SearchProvider searchProvider;
 
+	private IndexQueueWorker indexQueue;
+
+	private Lazy<BootstrapInitializer> boot;
+
 	@Inject
-	public AdminIndexHandler(Database db, SearchProvider searchProvider, IndexHandlerRegistry registry) {
+	public AdminIndexHandler(Database db, SearchProvider searchProvider, IndexHandlerRegistry registry, IndexQueueWorker indexQueue,
+		Lazy<BootstrapInitializer> boot) {
 		this.db = db;
 		this.searchProvider = searchProvider;
 		this.registry = registry;
+		this.indexQueue = indexQueue;
+		this.boot = boot;
 	}
 
 	public void handleStatus(InternalActionContext ac) {
 		db.tx(() -> {
 			SearchStatusResponse statusResponse = new SearchStatusResponse();
+			statusResponse.setIndexQueue(indexQueue.getStatus());
 			return Observable.just(statusResponse);
 		}).subscribe(message -> ac.send(message, OK), ac::fail);
 	}
@@ -43,11 +57,10 @@ public class AdminIndexHandler {
 	public void handleReindex(InternalActionContext ac) {
 		db.asyncTx(() -> {
 			if (ac.getUser().hasAdminRole()) {
-				return searchProvider.clear().andThen(Observable.fromIterable(registry.getHandlers())
-
-						.flatMapCompletable(handler -> handler.init().andThen(handler.reindexAll()))
-
-						.andThen(searchProvider.refreshIndex()).andThen(Single.just(message(ac, "search_admin_reindex_invoked"))));
+				// The reindex is executed by the job scheduler. The progress can be tracked via the job.
+				db.tx(() -> boot.get().jobRoot().enqueueReindex(ac.getUser()));
+				Mesh.vertx().eventBus().publish(JOB_WORKER_ADDRESS, null);
+				return Single.just(message(ac, "search_admin_reindex_invoked"));
 			} else {
 				throw error(FORBIDDEN, "error_admin_permission_required");
 			}
@@ -0,0 +1,141 @@
+package com.gentics.mesh.search.index;
+
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.COMPLETED;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.FAILED;
+import static com.gentics.mesh.core.rest.admin.migration.MigrationStatus.RUNNING;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.job.Job;
+import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.core.rest.admin.migration.MigrationStatus;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.search.IndexHandlerRegistry;
+import com.gentics.mesh.search.SearchProvider;
+import com.syncleus.ferma.tx.Tx;
+
+import io.reactivex.Completable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Handler which rebuilds all search indices. The progress of the reindex operation is stored in the given job so that it can be tracked via the job
+ * endpoints.
+ */
+@Singleton
+public class ReindexHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(ReindexHandler.class);
+
+	/**
+	 * Minimum interval in milliseconds between two progress updates of the job.
+	 */
+	private static final long PROGRESS_INTERVAL = 1000;
+
+	private final Database db;
+
+	private final SearchProvider searchProvider;
+
+	private final IndexHandlerRegistry registry;
+
+	@Inject
+	public ReindexHandler(Database db, SearchProvider searchProvider, IndexHandlerRegistry registry) {
+		this.db = db;
+		this.searchProvider = searchProvider;
+		this.registry = registry;
+	}
+
+	/**
+	 * Drop all indices, recreate them and reindex all elements.
+	 * 
+	 * @param job
+	 *            Job which will be used to track the progress. May be null.
+	 * @return
+	 */
+	public Completable reindex(Job job) {
+		return Completable.defer(() -> {
+			JobProgress progress = new JobProgress(job);
+			progress.setStatus(RUNNING);
+			Completable obs = searchProvider.clear();
+			for (IndexHandler<?> handler : registry.getHandlers()) {
+				obs = obs.andThen(handler.init()).andThen(handler.reindexAll(progress::update)).doOnComplete(progress::completeHandler);
+			}
+			return obs.andThen(searchProvider.refreshIndex()).doOnComplete(() -> {
+				progress.setStatus(COMPLETED);
+			}).doOnError(error -> {
+				log.error("Reindex failed", error);
+				progress.fail(error);
+			});
+		});
+	}
+
+	/**
+	 * Helper which stores the progress of the reindex operation in the job. Updates are throttled since the reindex chunks are processed concurrently.
+	 */
+	private class JobProgress {
+
+		private final Job job;
+
+		/**
+		 * Amount of elements which were processed by the already completed handlers.
+		 */
+		private final AtomicLong completedElements = new AtomicLong();
+
+		private long handlerElements = 0;
+
+		private long lastUpdate = 0;
+
+		JobProgress(Job job) {
+			this.job = job;
+		}
+
+		synchronized void update(long handlerCount) {
+			handlerElements = handlerCount;
+			long now = System.currentTimeMillis();
+			if (job != null && now - lastUpdate >= PROGRESS_INTERVAL) {
+				lastUpdate = now;
+				long total = completedElements.get() + handlerCount;
+				try (Tx tx = db.tx()) {
+					job.setCompletionCount(total);
+					tx.success();
+				}
+			}
+		}
+
+		synchronized void completeHandler() {
+			completedElements.addAndGet(handlerElements);
+			handlerElements = 0;
+		}
+
+		synchronized void setStatus(MigrationStatus status) {
+			if (job == null) {
+				return;
+			}
+			try (Tx tx = db.tx()) {
+				job.setStatus(status);
+				job.setCompletionCount(completedElements.get());
+				if (status == COMPLETED) {
+					job.setStopTimestamp();
+				}
+				tx.success();
+			}
+		}
+
+		synchronized void fail(Throwable error) {
+			if (job == null) {
+				return;
+			}
+			try (Tx tx = db.tx()) {
+				job.setStatus(FAILED);
+				job.setError(error);
+				job.setStopTimestamp();
+				tx.success();
+			}
+		}
+
+	}
+
+}
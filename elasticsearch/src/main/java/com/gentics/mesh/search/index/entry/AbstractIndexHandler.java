@@ -1,31 +1,43 @@
 package com.gentics.mesh.search.index.entry;
 
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.IndexableElement;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.search.CreateIndexEntry;
 import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.search.SearchQueue;
-import com.gentics.mesh.core.data.search.SearchQueueBatch;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
+import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
 import com.syncleus.ferma.tx.Tx;
 
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
-import io.reactivex.Completable;
 
 /**
  * Abstract class for index handlers.
@@ -38,6 +50,11 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractIndexHandler.class);
 
+	/**
+	 * Maximum amount of concurrent store requests per reindex chunk.
+	 */
+	private static final int MAX_CONCURRENT_REQUESTS = 16;
+
 	protected SearchProvider searchProvider;
 
 	protected Database db;
@@ -154,25 +171,102 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	@Override
 	public Completable reindexAll() {
-		return Completable.defer(() -> {
-			log.info("Handling full reindex entry");
-			SearchQueueBatch batch = searchQueue.create();
-			// Add all elements from the root vertex of the handler to the created batch
-			try (Tx tx = db.tx()) {
-				for (T element : getRootVertex().findAllIt()) {
-					if (element instanceof IndexableElement) {
-						IndexableElement indexableElement = (IndexableElement) element;
-						log.info("Invoking reindex in handler {" + getClass().getName() + "} for element {" + indexableElement.getUuid() + "}");
-						batch.store(indexableElement, false);
-					} else {
-						log.info("Found element {" + element.getUuid() + "} is not indexable. Ignoring element.");
+		return reindexAll(count -> {
+		});
+	}
+
+	@Override
+	public Completable reindexAll(LongConsumer progress) {
+		return Completable.fromAction(() -> {
+			ElasticSearchOptions options = Mesh.mesh().getOptions().getSearchOptions();
+			int chunkSize = Math.max(1, options.getReindexChunkSize());
+			int parallelism = Math.max(1, options.getReindexParallelism());
+			String handlerName = getClass().getSimpleName();
+			log.info("Handling full reindex for handler {" + handlerName + "} using chunks of {" + chunkSize + "} elements and {" + parallelism
+				+ "} threads");
+
+			ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+				Thread thread = new Thread(r, "mesh-reindex-" + handlerName);
+				thread.setDaemon(true);
+				return thread;
+			});
+			// Limit the amount of chunks which are in flight. The id iteration will block until a worker is ready to handle the next chunk.
+			int maxPendingChunks = parallelism * 2;
+			Semaphore pendingChunks = new Semaphore(maxPendingChunks);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+			AtomicLong processed = new AtomicLong();
+			try {
+				try (Tx tx = db.tx()) {
+					List<Object> chunk = new ArrayList<>(chunkSize);
+					for (T element : getRootVertex().findAllIt()) {
+						chunk.add(element.getId());
+						if (chunk.size() >= chunkSize) {
+							submitChunk(executor, pendingChunks, chunk, failure, processed, progress);
+							chunk = new ArrayList<>(chunkSize);
+						}
+						if (failure.get() != null) {
+							break;
+						}
+					}
+					if (!chunk.isEmpty() && failure.get() == null) {
+						submitChunk(executor, pendingChunks, chunk, failure, processed, progress);
 					}
 				}
-				return batch.processAsync();
+				// Wait for the remaining chunks
+				pendingChunks.acquire(maxPendingChunks);
+			} finally {
+				executor.shutdownNow();
+			}
+			Throwable error = failure.get();
+			if (error != null) {
+				throw error(INTERNAL_SERVER_ERROR, "search_error_reindex_failed", error);
+			}
+			log.info("Reindex for handler {" + handlerName + "} completed. Processed {" + processed.get() + "} elements.");
+		}).andThen(searchProvider.refreshIndex());
+	}
+
+	private void submitChunk(ExecutorService executor, Semaphore pendingChunks, List<Object> chunk, AtomicReference<Throwable> failure,
+		AtomicLong processed, LongConsumer progress) throws InterruptedException {
+		pendingChunks.acquire();
+		executor.execute(() -> {
+			try {
+				reindexChunk(chunk);
+				progress.accept(processed.addAndGet(chunk.size()));
+			} catch (Throwable e) {
+				failure.compareAndSet(null, e);
+			} finally {
+				pendingChunks.release();
 			}
 		});
 	}
 
+	/**
+	 * Load the elements with the given ids within a dedicated transaction and store their documents in the search index.
+	 * 
+	 * @param ids
+	 *            Vertex ids of the elements
+	 */
+	protected void reindexChunk(List<Object> ids) {
+		try (Tx tx = db.tx()) {
+			Class<? extends T> clazz = getRootVertex().getPersistanceClass();
+			List<Completable> operations = new ArrayList<>(ids.size());
+			for (Object id : ids) {
+				T element = tx.getGraph().getFramedVertexExplicit(clazz, id);
+				if (element == null) {
+					// The element may have been deleted in the meanwhile
+					continue;
+				}
+				if (!(element instanceof IndexableElement)) {
+					log.info("Found element {" + element.getUuid() + "} is not indexable. Ignoring element.");
+					continue;
+				}
+				UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(this, element.getUuid(), new GenericEntryContextImpl(), STORE_ACTION);
+				operations.add(store(element, entry));
+			}
+			Completable.merge(Flowable.fromIterable(operations), MAX_CONCURRENT_REQUESTS).blockingAwait();
+		}
+	}
+
 	@Override
 	public Completable createIndex(CreateIndexEntry entry) {
 		String indexName = entry.getIndexName();
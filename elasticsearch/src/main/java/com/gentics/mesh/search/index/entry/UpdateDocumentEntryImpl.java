@@ -31,12 +31,33 @@ public class UpdateDocumentEntryImpl extends AbstractEntry<GenericEntryContext>
 	 * @param action
 	 */
 	public UpdateDocumentEntryImpl(IndexHandler<?> indexHandler, IndexableElement element, GenericEntryContext context, SearchQueueEntryAction action) {
+		this(indexHandler, element.getUuid(), context, action);
+	}
+
+	/**
+	 * Create a new batch entry for the element with the given uuid.
+	 * 
+	 * @param indexHandler
+	 * @param elementUuid
+	 * @param context
+	 * @param action
+	 */
+	public UpdateDocumentEntryImpl(IndexHandler<?> indexHandler, String elementUuid, GenericEntryContext context, SearchQueueEntryAction action) {
 		super(action);
 		this.context = context;
-		this.elementUuid = element.getUuid();
+		this.elementUuid = elementUuid;
 		this.indexHandler = indexHandler;
 	}
 
+	/**
+	 * Return the index handler which is used to process the entry.
+	 * 
+	 * @return
+	 */
+	public IndexHandler<?> getIndexHandler() {
+		return indexHandler;
+	}
+
 	@Override
 	public String getElementUuid() {
 		return elementUuid;
@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.inject.Inject;
@@ -17,6 +18,8 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore;
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore.ReleaseTopology;
 import com.gentics.mesh.core.data.ContainerType;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
@@ -24,7 +27,9 @@ import com.gentics.mesh.core.data.Release;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.core.data.search.CreateIndexEntry;
 import com.gentics.mesh.core.data.search.MoveDocumentEntry;
 import com.gentics.mesh.core.data.search.SearchQueue;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
@@ -37,6 +42,7 @@ import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
+import com.gentics.mesh.util.Tuple;
 import com.syncleus.ferma.tx.Tx;
 
 import io.reactivex.Completable;
@@ -67,6 +73,9 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 	@Inject
 	public NodeContainerMappingProvider mappingProvider;
 
+	@Inject
+	public NodeIndexTopologyLoader topologyLoader;
+
 	@Inject
 	public NodeIndexHandler(SearchProvider searchProvider, Database db, BootstrapInitializer boot, SearchQueue searchQueue) {
 		super(searchProvider, db, boot, searchQueue);
@@ -104,30 +113,29 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 
 	@Override
 	public Map<String, IndexInfo> getIndices() {
-		return db.tx(() -> {
+		return db.readTx(() -> {
 			Map<String, IndexInfo> indexInfo = new HashMap<>();
-
-			// Iterate over all projects and construct the index names
-			for (Project project : boot.meshRoot().getProjectRoot().findAllIt()) {
-				// Add the draft and published index names per release to the map
-				for (Release release : project.getReleaseRoot().findAllIt()) {
-					// Each release specific index has also document type specific mappings
-					for (SchemaContainerVersion containerVersion : release.findActiveSchemaVersions()) {
-						String draftIndexName = NodeGraphFieldContainer.composeIndexName(project.getUuid(), release.getUuid(), containerVersion
-							.getUuid(), DRAFT);
-						String publishIndexName = NodeGraphFieldContainer.composeIndexName(project.getUuid(), release.getUuid(), containerVersion
-							.getUuid(), PUBLISHED);
+			// Schema versions are usually shared by multiple releases
+			Map<String, SchemaModel> schemas = new HashMap<>();
+
+			// Use the index topology to construct the index names
+			for (ReleaseTopology release : NodeIndexTopologyStore.getReleases(topologyLoader)) {
+				for (Entry<String, String> version : release.getSchemaVersions().entrySet()) {
+					String versionUuid = version.getKey();
+					SchemaModel schema = schemas.computeIfAbsent(versionUuid, uuid -> loadSchema(version.getValue(), uuid));
+					if (schema == null) {
+						continue;
+					}
+					// Load the index mapping information for the index
+					JsonObject mapping = getMappingProvider().getMapping(schema);
+					JsonObject settings = schema.getElasticsearch();
+					for (ContainerType type : Arrays.asList(DRAFT, PUBLISHED)) {
+						String indexName = NodeGraphFieldContainer.composeIndexName(release.getProjectUuid(), release.getReleaseUuid(), versionUuid,
+							type);
 						if (log.isDebugEnabled()) {
-							log.debug("Adding index to map of known idices {" + draftIndexName + "");
-							log.debug("Adding index to map of known idices {" + publishIndexName + "");
+							log.debug("Adding index to map of known idices {" + indexName + "}");
 						}
-						release.findAllMicroschemaVersions();
-						// Load the index mapping information for the index
-						SchemaModel schema = containerVersion.getSchema();
-						JsonObject mapping = getMappingProvider().getMapping(schema);
-						JsonObject settings = schema.getElasticsearch();
-						indexInfo.put(draftIndexName, new IndexInfo(draftIndexName, settings, mapping));
-						indexInfo.put(publishIndexName, new IndexInfo(publishIndexName, settings, mapping));
+						indexInfo.put(indexName, new IndexInfo(indexName, settings, mapping));
 					}
 				}
 			}
@@ -135,32 +143,63 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 		});
 	}
 
+	/**
+	 * Load the schema of the given schema version.
+	 * 
+	 * @param schemaContainerUuid
+	 * @param versionUuid
+	 * @return Schema or null if the version could not be found
+	 */
+	private SchemaModel loadSchema(String schemaContainerUuid, String versionUuid) {
+		SchemaContainer container = boot.schemaContainerRoot().findByUuid(schemaContainerUuid);
+		if (container == null) {
+			return null;
+		}
+		SchemaContainerVersion version = container.findVersionByUuid(versionUuid);
+		return version == null ? null : version.getSchema();
+	}
+
+	@Override
+	public Completable createIndex(CreateIndexEntry entry) {
+		// A new node index indicates that the topology of the release changed. The entry is processed after the change was committed.
+		String releaseUuid = entry.getContext().getReleaseUuid();
+		if (releaseUuid != null) {
+			NodeIndexTopologyStore.invalidateRelease(releaseUuid);
+		} else {
+			NodeIndexTopologyStore.invalidate();
+		}
+
+		// The schema of the entry already contains all the information which is needed to create the index
+		Schema schema = entry.getSchema();
+		if (schema != null) {
+			String indexName = entry.getIndexName();
+			return searchProvider.createIndex(new IndexInfo(indexName, schema.getElasticsearch(), getMappingProvider().getMapping(schema)));
+		}
+		return super.createIndex(entry);
+	}
+
 	@Override
 	public Set<String> getSelectedIndices(InternalActionContext ac) {
-		return db.tx(() -> {
-			Set<String> indices = new HashSet<>();
+		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
+		Set<String> indices = new HashSet<>();
+		Tuple<String, String> scope = db.readTx(() -> {
 			Project project = ac.getProject();
-			if (project != null) {
-				Release release = ac.getRelease();
-				// Locate all schema versions which need to be taken into consideration when choosing the indices
-				for (SchemaContainerVersion version : release.findActiveSchemaVersions()) {
-					indices.add(NodeGraphFieldContainer.composeIndexName(project.getUuid(), release.getUuid(), version.getUuid(), ContainerType
-						.forVersion(ac.getVersioningParameters().getVersion())));
-				}
-			} else {
-				// The project was not specified. Maybe a global search wants to know which indices must be searched.
-				// In that case we just iterate over all projects and collect index names per release.
-				for (Project currentProject : boot.meshRoot().getProjectRoot().findAllIt()) {
-					for (Release release : currentProject.getReleaseRoot().findAllIt()) {
-						for (SchemaContainerVersion version : release.findActiveSchemaVersions()) {
-							indices.add(NodeGraphFieldContainer.composeIndexName(currentProject.getUuid(), release.getUuid(), version.getUuid(),
-								ContainerType.forVersion(ac.getVersioningParameters().getVersion())));
-						}
-					}
-				}
-			}
-			return indices;
+			return project == null ? null : Tuple.tuple(project.getUuid(), ac.getRelease().getUuid());
 		});
+		if (scope != null) {
+			// Locate all schema versions which need to be taken into consideration when choosing the indices
+			ReleaseTopology release = NodeIndexTopologyStore.getRelease(topologyLoader, scope.v1(), scope.v2());
+			if (release != null) {
+				indices.addAll(release.getIndexNames(type));
+			}
+		} else {
+			// The project was not specified. Maybe a global search wants to know which indices must be searched.
+			// In that case we just collect the index names of all releases.
+			for (ReleaseTopology release : NodeIndexTopologyStore.getReleases(topologyLoader)) {
+				indices.addAll(release.getIndexNames(type));
+			}
+		}
+		return indices;
 	}
 
 	@Override
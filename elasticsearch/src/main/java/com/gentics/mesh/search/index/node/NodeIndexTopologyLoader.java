@@ -0,0 +1,67 @@
+package com.gentics.mesh.search.index.node;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore;
+import com.gentics.mesh.core.cache.NodeIndexTopologyStore.TopologyLoader;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Release;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.graphdb.spi.Database;
+
+/**
+ * Loader which reads the node index topology from the graph.
+ * 
+ * @see NodeIndexTopologyStore
+ */
+@Singleton
+public class NodeIndexTopologyLoader implements TopologyLoader {
+
+	private Database db;
+
+	private BootstrapInitializer boot;
+
+	@Inject
+	public NodeIndexTopologyLoader(Database db, BootstrapInitializer boot) {
+		this.db = db;
+		this.boot = boot;
+	}
+
+	@Override
+	public Map<String, String> loadReleases() {
+		return db.readTx(() -> {
+			Map<String, String> releases = new HashMap<>();
+			for (Project project : boot.meshRoot().getProjectRoot().findAllIt()) {
+				for (Release release : project.getReleaseRoot().findAllIt()) {
+					releases.put(release.getUuid(), project.getUuid());
+				}
+			}
+			return releases;
+		});
+	}
+
+	@Override
+	public Map<String, String> loadSchemaVersions(String projectUuid, String releaseUuid) {
+		return db.readTx(() -> {
+			Project project = boot.meshRoot().getProjectRoot().findByUuid(projectUuid);
+			if (project == null) {
+				return null;
+			}
+			Release release = project.getReleaseRoot().findByUuid(releaseUuid);
+			if (release == null) {
+				return null;
+			}
+			Map<String, String> versions = new HashMap<>();
+			for (SchemaContainerVersion version : release.findActiveSchemaVersions()) {
+				versions.put(version.getUuid(), version.getSchemaContainer().getUuid());
+			}
+			return versions;
+		});
+	}
+
+}
@@ -1,13 +1,19 @@
 package com.gentics.mesh.search.index.node;
 
+import static com.gentics.mesh.core.data.ContainerType.PUBLISHED;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshError;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -59,6 +65,16 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 		this.boot = boot;
 	}
 
+	/**
+	 * Return the permission which is needed to read the requested version of the nodes. Published nodes can be read with the read published permission
+	 * while drafts require the read permission, just like for the children of a node.
+	 */
+	@Override
+	protected GraphPermission[] getReadPermissions(InternalActionContext ac) {
+		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
+		return new GraphPermission[] { type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM };
+	}
+
 	/**
 	 * Invoke the given query and return a page of node containers.
 	 * 
@@ -113,29 +129,32 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
 
 			// The scrolling iterator will wrap the current response and query ES for more data if needed.
-			Page<? extends NodeContent> page = db.tx(() -> {
+			Page<? extends NodeContent> page = db.readTx(() -> {
 				long totalCount = hitsInfo.getLong("total");
 				List<NodeContent> elementList = new ArrayList<>();
 				JsonArray hits = hitsInfo.getJsonArray("hits");
+				RootVertex<Node> root = getIndexHandler().getRootVertex();
+				Map<String, Node> hitNodes = loadElements(root, hits);
+				ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
+				Map<String, Language> languages = new HashMap<>();
 				for (int i = 0; i < hits.size(); i++) {
 					JsonObject hit = hits.getJsonObject(i);
 
 					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
+					String language = extractLanguage(id);
+					String uuid = extractUuid(id);
 
-					RootVertex<Node> root = getIndexHandler().getRootVertex();
-					Node element = root.findByUuid(uuid);
+					Node element = hitNodes.get(uuid);
 					if (element == null) {
 						log.warn("Object could not be found for uuid {" + uuid + "} in root vertex {" + root.getRootLabel() + "}");
 						totalCount--;
 						continue;
 					}
 
-					ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
-					Language languageTag = boot.languageRoot().findByLanguageTag(language);
+					Language languageTag = null;
+					if (language != null) {
+						languageTag = languages.computeIfAbsent(language, tag -> boot.languageRoot().findByLanguageTag(tag));
+					}
 					if (languageTag == null) {
 						log.warn("Could not find language {" + language + "}");
 						totalCount--;
@@ -152,6 +171,16 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 					}
 
 				}
+
+				// Post filter the hits since the permissions within the index may be outdated. The permission depends on the requested version.
+				if (permissions.length > 0 && !elementList.isEmpty()) {
+					List<Node> nodes = elementList.stream().map(NodeContent::getNode).collect(Collectors.toList());
+					Set<Object> readableIds = filterByPermission(ac, nodes, getReadPermissions(ac)).stream().map(Node::getId).collect(Collectors.toSet());
+					int found = elementList.size();
+					elementList.removeIf(content -> !readableIds.contains(content.getNode().getId()));
+					totalCount -= found - elementList.size();
+				}
+
 				// Update the total count
 				hitsInfo.put("total", totalCount);
 
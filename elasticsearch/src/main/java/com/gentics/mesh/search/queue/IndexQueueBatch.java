@@ -0,0 +1,74 @@
+package com.gentics.mesh.search.queue;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of records which were read from the {@link PersistentIndexQueue}. The batch keeps track of the log position which needs to be committed once
+ * the records have been processed.
+ */
+public class IndexQueueBatch {
+
+	private final List<IndexQueueRecord> records;
+
+	private final long endSegment;
+
+	private final long endOffset;
+
+	public IndexQueueBatch(List<IndexQueueRecord> records, long endSegment, long endOffset) {
+		this.records = records;
+		this.endSegment = endSegment;
+		this.endOffset = endOffset;
+	}
+
+	/**
+	 * Return the records of the batch in the order in which they have been queued.
+	 * 
+	 * @return
+	 */
+	public List<IndexQueueRecord> getRecords() {
+		return records;
+	}
+
+	/**
+	 * Return the coalesced records. Multiple records for the same document will be merged so that only the latest action for each document remains.
+	 * 
+	 * @return
+	 */
+	public Collection<IndexQueueRecord> getCoalescedRecords() {
+		Map<String, IndexQueueRecord> coalesced = new LinkedHashMap<>();
+		for (IndexQueueRecord record : records) {
+			coalesced.merge(record.getDocumentKey(), record, IndexQueueRecord::coalesce);
+		}
+		return coalesced.values();
+	}
+
+	/**
+	 * Return the log segment which contains the end of the batch.
+	 * 
+	 * @return
+	 */
+	public long getEndSegment() {
+		return endSegment;
+	}
+
+	/**
+	 * Return the offset within the end segment after the last record of the batch.
+	 * 
+	 * @return
+	 */
+	public long getEndOffset() {
+		return endOffset;
+	}
+
+	public int size() {
+		return records.size();
+	}
+
+	public boolean isEmpty() {
+		return records.isEmpty();
+	}
+
+}
@@ -0,0 +1,171 @@
+package com.gentics.mesh.search.queue;
+
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
+import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
+import com.gentics.mesh.core.data.search.context.GenericEntryContext;
+import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Record of the persistent index queue. The record contains all information which is needed to recreate the {@link UpdateDocumentEntry} once the record
+ * gets processed. The record is stored as a single JSON line within the queue log.
+ */
+public class IndexQueueRecord {
+
+	private static final String TIMESTAMP_KEY = "ts";
+	private static final String ACTION_KEY = "action";
+	private static final String ELEMENT_TYPE_KEY = "type";
+	private static final String ELEMENT_UUID_KEY = "uuid";
+	private static final String PROJECT_UUID_KEY = "project";
+	private static final String RELEASE_UUID_KEY = "release";
+	private static final String CONTAINER_TYPE_KEY = "containerType";
+	private static final String LANGUAGE_TAG_KEY = "language";
+	private static final String SCHEMA_VERSION_UUID_KEY = "schemaVersion";
+
+	private final long timestamp;
+
+	private final SearchQueueEntryAction action;
+
+	private final String elementType;
+
+	private final String elementUuid;
+
+	private final GenericEntryContext context;
+
+	/**
+	 * Create a new record.
+	 * 
+	 * @param timestamp
+	 *            Time at which the record was queued
+	 * @param action
+	 *            Index action
+	 * @param elementType
+	 *            Name of the element class which is used to identify the index handler
+	 * @param elementUuid
+	 *            Uuid of the element
+	 * @param context
+	 *            Context of the entry
+	 */
+	public IndexQueueRecord(long timestamp, SearchQueueEntryAction action, String elementType, String elementUuid, GenericEntryContext context) {
+		this.timestamp = timestamp;
+		this.action = action;
+		this.elementType = elementType;
+		this.elementUuid = elementUuid;
+		this.context = context;
+	}
+
+	/**
+	 * Create a new record for the given entry.
+	 * 
+	 * @param entry
+	 * @param elementType
+	 * @return
+	 */
+	public static IndexQueueRecord fromEntry(UpdateDocumentEntry entry, String elementType) {
+		return new IndexQueueRecord(System.currentTimeMillis(), entry.getElementAction(), elementType, entry.getElementUuid(), entry.getContext());
+	}
+
+	/**
+	 * Deserialize the record from the given JSON line.
+	 * 
+	 * @param line
+	 * @return
+	 */
+	public static IndexQueueRecord fromJson(String line) {
+		JsonObject json = new JsonObject(line);
+		GenericEntryContextImpl context = new GenericEntryContextImpl();
+		context.setProjectUuid(json.getString(PROJECT_UUID_KEY));
+		context.setReleaseUuid(json.getString(RELEASE_UUID_KEY));
+		String type = json.getString(CONTAINER_TYPE_KEY);
+		if (type != null) {
+			context.setContainerType(ContainerType.valueOf(type));
+		}
+		context.setLanguageTag(json.getString(LANGUAGE_TAG_KEY));
+		context.setSchemaContainerVersionUuid(json.getString(SCHEMA_VERSION_UUID_KEY));
+		return new IndexQueueRecord(json.getLong(TIMESTAMP_KEY), SearchQueueEntryAction.valueOfName(json.getString(ACTION_KEY)), json.getString(
+			ELEMENT_TYPE_KEY), json.getString(ELEMENT_UUID_KEY), context);
+	}
+
+	/**
+	 * Serialize the record into a single JSON line.
+	 * 
+	 * @return
+	 */
+	public String toJson() {
+		JsonObject json = new JsonObject();
+		json.put(TIMESTAMP_KEY, timestamp);
+		json.put(ACTION_KEY, action.getName());
+		json.put(ELEMENT_TYPE_KEY, elementType);
+		json.put(ELEMENT_UUID_KEY, elementUuid);
+		if (context != null) {
+			json.put(PROJECT_UUID_KEY, context.getProjectUuid());
+			json.put(RELEASE_UUID_KEY, context.getReleaseUuid());
+			if (context.getContainerType() != null) {
+				json.put(CONTAINER_TYPE_KEY, context.getContainerType().name());
+			}
+			json.put(LANGUAGE_TAG_KEY, context.getLanguageTag());
+			json.put(SCHEMA_VERSION_UUID_KEY, context.getSchemaContainerVersionUuid());
+		}
+		return json.encode();
+	}
+
+	/**
+	 * Return the key which identifies the document(s) that are affected by this record. Records with the same key can be coalesced.
+	 * 
+	 * @return
+	 */
+	public String getDocumentKey() {
+		StringBuilder key = new StringBuilder();
+		key.append(elementType).append(':').append(elementUuid);
+		if (context != null) {
+			key.append(':').append(context.getProjectUuid());
+			key.append(':').append(context.getReleaseUuid());
+			key.append(':').append(context.getContainerType());
+			key.append(':').append(context.getLanguageTag());
+			key.append(':').append(context.getSchemaContainerVersionUuid());
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Merge this record with the newer record for the same document. The newer record wins unless it only updates the permissions of a document which
+	 * will be stored anyway.
+	 * 
+	 * @param newer
+	 * @return Record which should be processed
+	 */
+	public IndexQueueRecord coalesce(IndexQueueRecord newer) {
+		if (action == SearchQueueEntryAction.STORE_ACTION && newer.getAction() == SearchQueueEntryAction.UPDATE_ROLE_PERM_ACTION) {
+			return this;
+		}
+		return newer;
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public SearchQueueEntryAction getAction() {
+		return action;
+	}
+
+	public String getElementType() {
+		return elementType;
+	}
+
+	public String getElementUuid() {
+		return elementUuid;
+	}
+
+	public GenericEntryContext getContext() {
+		return context;
+	}
+
+	@Override
+	public String toString() {
+		return "Queue record {" + action + "} for {" + elementType + ":" + elementUuid + "}";
+	}
+
+}
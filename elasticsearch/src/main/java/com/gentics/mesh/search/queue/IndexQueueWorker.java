@@ -0,0 +1,239 @@
+package com.gentics.mesh.search.queue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.search.IndexHandler;
+import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
+import com.gentics.mesh.core.rest.search.IndexQueueStatus;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.search.IndexHandlerRegistry;
+import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.index.entry.UpdateDocumentEntryImpl;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Worker which processes the records of the {@link PersistentIndexQueue}. The worker periodically reads a batch of records, coalesces the records which
+ * affect the same document and sends the resulting updates to the search provider. The read offset of the queue will only be committed once the batch
+ * has been processed. Failed batches are kept in the queue and retried with an exponentially increasing delay until the search provider is available
+ * again. Records are thus never dropped.
+ */
+@Singleton
+public class IndexQueueWorker {
+
+	private static final Logger log = LoggerFactory.getLogger(IndexQueueWorker.class);
+
+	/**
+	 * Maximum delay in milliseconds between two attempts to process a failing batch.
+	 */
+	private static final long MAX_RETRY_DELAY = 60_000;
+
+	private static final int MAX_CONCURRENCY = 8;
+
+	private final PersistentIndexQueue queue;
+
+	private final IndexHandlerRegistry registry;
+
+	private final SearchProvider searchProvider;
+
+	private volatile ScheduledExecutorService executor;
+
+	private ElasticSearchOptions options;
+
+	private final AtomicLong processed = new AtomicLong();
+
+	private final AtomicLong failures = new AtomicLong();
+
+	private volatile double throughput;
+
+	private int attempts;
+
+	/**
+	 * Timestamp before which a failed batch will not be retried.
+	 */
+	private long retryTimestamp;
+
+	@Inject
+	public IndexQueueWorker(PersistentIndexQueue queue, IndexHandlerRegistry registry, SearchProvider searchProvider) {
+		this.queue = queue;
+		this.registry = registry;
+		this.searchProvider = searchProvider;
+	}
+
+	/**
+	 * Open the queue and start the periodic processing. The worker will not be started if the queue has not been enabled.
+	 * 
+	 * @param options
+	 * @throws IOException
+	 */
+	public synchronized void start(ElasticSearchOptions options) throws IOException {
+		if (options == null || !options.isIndexQueueEnabled() || executor != null) {
+			return;
+		}
+		this.options = options;
+		queue.open(new File(options.getIndexQueueDirectory()));
+		executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "mesh-index-queue-worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = options.getIndexQueueInterval();
+		executor.scheduleWithFixedDelay(this::processSafe, interval, interval, TimeUnit.MILLISECONDS);
+		log.info("Started index queue worker using directory {" + options.getIndexQueueDirectory() + "}");
+	}
+
+	/**
+	 * Stop the worker and close the queue. Pending records remain in the queue and will be processed once the worker has been started again.
+	 * 
+	 * @throws IOException
+	 */
+	public synchronized void stop() throws IOException {
+		if (executor == null) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			executor.awaitTermination(30, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		executor = null;
+		queue.close();
+	}
+
+	/**
+	 * Check whether the worker is running and records should thus be added to the queue.
+	 * 
+	 * @return
+	 */
+	public boolean isRunning() {
+		return executor != null && queue.isOpen();
+	}
+
+	/**
+	 * Add the entries to the queue.
+	 * 
+	 * @param entries
+	 * @throws IOException
+	 */
+	public void enqueue(Collection<UpdateDocumentEntry> entries) throws IOException {
+		List<IndexQueueRecord> records = new ArrayList<>(entries.size());
+		for (UpdateDocumentEntry entry : entries) {
+			IndexHandler<?> handler = ((UpdateDocumentEntryImpl) entry).getIndexHandler();
+			records.add(IndexQueueRecord.fromEntry(entry, handler.getElementClass().getName()));
+		}
+		queue.append(records);
+	}
+
+	private void processSafe() {
+		if (System.currentTimeMillis() < retryTimestamp) {
+			return;
+		}
+		try {
+			while (process() > 0) {
+				// Continue until the queue has been drained
+			}
+		} catch (Throwable e) {
+			log.error("Error while processing index queue", e);
+		}
+	}
+
+	/**
+	 * Process the next batch of records.
+	 * 
+	 * @return Amount of processed records
+	 * @throws IOException
+	 */
+	protected int process() throws IOException {
+		IndexQueueBatch batch = queue.read(options.getIndexQueueBatchSize());
+		if (batch.isEmpty()) {
+			return 0;
+		}
+		long start = System.currentTimeMillis();
+		Collection<IndexQueueRecord> records = batch.getCoalescedRecords();
+		try {
+			List<Completable> operations = new ArrayList<>(records.size());
+			for (IndexQueueRecord record : records) {
+				operations.add(toOperation(record));
+			}
+			Completable.merge(Flowable.fromIterable(operations), MAX_CONCURRENCY).andThen(searchProvider.refreshIndex()).blockingAwait();
+		} catch (Exception e) {
+			// Keep the batch in the queue and retry it once the delay has passed
+			failures.incrementAndGet();
+			attempts++;
+			long delay = getRetryDelay();
+			retryTimestamp = System.currentTimeMillis() + delay;
+			log.error("Error while processing index queue batch of {" + batch.size() + "} records. Attempt {" + attempts + "}. Retrying in {" + delay
+				+ "} ms", e);
+			return 0;
+		}
+		attempts = 0;
+		retryTimestamp = 0;
+		queue.commit(batch);
+		processed.addAndGet(batch.size());
+		long duration = Math.max(1, System.currentTimeMillis() - start);
+		throughput = batch.size() * 1000d / duration;
+		if (log.isDebugEnabled()) {
+			log.debug("Processed {" + batch.size() + "} index queue records as {" + records.size() + "} operations in {" + duration + "} ms");
+		}
+		return batch.size();
+	}
+
+	/**
+	 * Return the delay before the next attempt to process a failed batch. The delay doubles with each failed attempt and is capped at
+	 * {@link #MAX_RETRY_DELAY}.
+	 * 
+	 * @return Delay in milliseconds
+	 */
+	private long getRetryDelay() {
+		long interval = Math.max(1, options.getIndexQueueInterval());
+		return Math.min(MAX_RETRY_DELAY, interval << Math.min(attempts, 16));
+	}
+
+	private Completable toOperation(IndexQueueRecord record) {
+		IndexHandler<?> handler = registry.getForElementType(record.getElementType());
+		if (handler == null) {
+			log.error("Could not find index handler for {" + record + "}. Ignoring record.");
+			return Completable.complete();
+		}
+		UpdateDocumentEntry entry = new UpdateDocumentEntryImpl(handler, record.getElementUuid(), record.getContext(), record.getAction());
+		return entry.process();
+	}
+
+	/**
+	 * Return the current status of the queue.
+	 * 
+	 * @return
+	 */
+	public IndexQueueStatus getStatus() {
+		IndexQueueStatus status = new IndexQueueStatus();
+		status.setEnabled(isRunning());
+		if (isRunning()) {
+			try {
+				status.setDepth(queue.getDepth());
+				status.setLag(queue.getLag());
+			} catch (IOException e) {
+				log.error("Could not determine index queue lag", e);
+			}
+		}
+		status.setProcessed(processed.get());
+		status.setFailures(failures.get());
+		status.setThroughput(throughput);
+		return status;
+	}
+
+}
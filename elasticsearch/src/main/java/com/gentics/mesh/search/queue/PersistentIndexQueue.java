@@ -0,0 +1,376 @@
+package com.gentics.mesh.search.queue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Local append-only log which is used to persist index updates until they have been processed. Records are appended as JSON lines to the log. The log
+ * is split into segment files and a new segment is started once the current segment exceeds the segment size. The position of the last processed
+ * record is stored within a separate offset file. Segments will be deleted once all of their records have been processed and the last segment will be
+ * truncated once all records have been processed. The log thus won't grow without bound even if the queue never runs empty.
+ * 
+ * The offset file additionally stores the amount of pending records and the position of the end of the log at the time it was written. The amount of
+ * pending records can thus be restored when the queue is opened by only scanning the records which were appended afterwards.
+ */
+@Singleton
+public class PersistentIndexQueue {
+
+	private static final Logger log = LoggerFactory.getLogger(PersistentIndexQueue.class);
+
+	private static final String SEGMENT_PREFIX = "queue-";
+
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private static final String OFFSET_FILENAME = "queue.offset";
+
+	private static final long DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	private long segmentSize = DEFAULT_SEGMENT_SIZE;
+
+	private Path directory;
+
+	private Path offsetFile;
+
+	private FileChannel appendChannel;
+
+	private long appendSegment;
+
+	private long readSegment;
+
+	private long readOffset;
+
+	private long depth;
+
+	@Inject
+	public PersistentIndexQueue() {
+	}
+
+	/**
+	 * Set the size after which a new segment will be started.
+	 * 
+	 * @param segmentSize
+	 */
+	void setSegmentSize(long segmentSize) {
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Open the queue which is located in the given directory. Records which have not yet been processed will be kept.
+	 * 
+	 * @param directory
+	 * @throws IOException
+	 */
+	public synchronized void open(File directory) throws IOException {
+		this.directory = directory.toPath();
+		Files.createDirectories(this.directory);
+		offsetFile = this.directory.resolve(OFFSET_FILENAME);
+		List<Long> segments = listSegments();
+		long firstSegment = segments.isEmpty() ? 0 : segments.get(0);
+		appendSegment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+		appendChannel = FileChannel.open(segmentFile(appendSegment), CREATE, WRITE, APPEND);
+
+		readSegment = firstSegment;
+		readOffset = 0;
+		depth = 0;
+		long scanSegment = readSegment;
+		long scanOffset = 0;
+		if (Files.exists(offsetFile)) {
+			String[] state = new String(Files.readAllBytes(offsetFile), UTF_8).trim().split(" ");
+			if (state.length == 5) {
+				long stateSegment = Long.parseLong(state[0]);
+				long stateOffset = Long.parseLong(state[1]);
+				long endSegment = Long.parseLong(state[3]);
+				long endOffset = Long.parseLong(state[4]);
+				// The state is only valid if the referenced positions still exist. Otherwise the segments have been truncated after the state was written.
+				if (stateSegment >= firstSegment && stateOffset <= segmentLength(stateSegment)) {
+					readSegment = stateSegment;
+					readOffset = stateOffset;
+					scanSegment = readSegment;
+					scanOffset = readOffset;
+					if (endSegment >= readSegment && endOffset <= segmentLength(endSegment)) {
+						depth = Long.parseLong(state[2]);
+						scanSegment = endSegment;
+						scanOffset = endOffset;
+					}
+				}
+			}
+		}
+		// Segments which were fully processed before the queue was closed can be removed
+		deleteSegmentsBefore(readSegment);
+		// Count the records which were appended after the state was written
+		depth += countRecords(scanSegment, scanOffset);
+		if (depth > 0) {
+			log.info("Found {" + depth + "} pending records in index queue {" + this.directory + "}");
+		}
+	}
+
+	/**
+	 * Return the numbers of the existing segments in ascending order.
+	 * 
+	 * @return
+	 * @throws IOException
+	 */
+	private List<Long> listSegments() throws IOException {
+		List<Long> segments = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+			for (Path file : stream) {
+				String name = file.getFileName().toString();
+				try {
+					segments.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+				} catch (NumberFormatException e) {
+					log.warn("Ignoring unexpected file {" + file + "} in index queue directory");
+				}
+			}
+		}
+		Collections.sort(segments);
+		return segments;
+	}
+
+	private Path segmentFile(long segment) {
+		return directory.resolve(SEGMENT_PREFIX + segment + SEGMENT_SUFFIX);
+	}
+
+	/**
+	 * Return the length of the segment.
+	 * 
+	 * @param segment
+	 * @return Length or -1 if the segment does not exist
+	 * @throws IOException
+	 */
+	private long segmentLength(long segment) throws IOException {
+		if (segment == appendSegment && appendChannel != null) {
+			return appendChannel.size();
+		}
+		Path file = segmentFile(segment);
+		return Files.exists(file) ? Files.size(file) : -1;
+	}
+
+	/**
+	 * Delete all segments before the given segment.
+	 * 
+	 * @param segment
+	 * @throws IOException
+	 */
+	private void deleteSegmentsBefore(long segment) throws IOException {
+		for (Long existing : listSegments()) {
+			if (existing >= segment) {
+				break;
+			}
+			Files.deleteIfExists(segmentFile(existing));
+		}
+	}
+
+	/**
+	 * Count the records of the log which start at or after the given position.
+	 * 
+	 * @param segment
+	 * @param offset
+	 * @return
+	 * @throws IOException
+	 */
+	private long countRecords(long segment, long offset) throws IOException {
+		long count = 0;
+		ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+		for (long current = segment; current <= appendSegment; current++) {
+			Path file = segmentFile(current);
+			if (!Files.exists(file)) {
+				continue;
+			}
+			try (FileChannel channel = FileChannel.open(file, READ)) {
+				channel.position(current == segment ? offset : 0);
+				while (channel.read(buffer) != -1) {
+					buffer.flip();
+					while (buffer.hasRemaining()) {
+						if (buffer.get() == '\n') {
+							count++;
+						}
+					}
+					buffer.clear();
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Close the queue.
+	 * 
+	 * @throws IOException
+	 */
+	public synchronized void close() throws IOException {
+		if (appendChannel != null) {
+			writeState();
+			appendChannel.close();
+			appendChannel = null;
+		}
+	}
+
+	/**
+	 * Check whether the queue has been opened.
+	 * 
+	 * @return
+	 */
+	public synchronized boolean isOpen() {
+		return appendChannel != null;
+	}
+
+	/**
+	 * Append the records to the log. A new segment will be started if the current segment exceeds the segment size. The method will only return once the
+	 * records have been written to disk.
+	 * 
+	 * @param records
+	 * @throws IOException
+	 */
+	public synchronized void append(List<IndexQueueRecord> records) throws IOException {
+		if (records.isEmpty()) {
+			return;
+		}
+		if (appendChannel.size() >= segmentSize) {
+			appendChannel.close();
+			appendSegment++;
+			appendChannel = FileChannel.open(segmentFile(appendSegment), CREATE, WRITE, APPEND);
+		}
+		StringBuilder builder = new StringBuilder();
+		for (IndexQueueRecord record : records) {
+			builder.append(record.toJson()).append('\n');
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(UTF_8));
+		while (buffer.hasRemaining()) {
+			appendChannel.write(buffer);
+		}
+		appendChannel.force(false);
+		depth += records.size();
+	}
+
+	/**
+	 * Read the next pending records without removing them from the queue. The records will only be removed once the returned batch has been committed via
+	 * {@link #commit(IndexQueueBatch)}.
+	 * 
+	 * @param maxRecords
+	 *            Maximum amount of records to read
+	 * @return
+	 * @throws IOException
+	 */
+	public synchronized IndexQueueBatch read(int maxRecords) throws IOException {
+		List<IndexQueueRecord> records = new ArrayList<>();
+		long segment = readSegment;
+		long offset = readOffset;
+		for (long current = readSegment; current <= appendSegment && records.size() < maxRecords; current++) {
+			Path file = segmentFile(current);
+			if (!Files.exists(file)) {
+				continue;
+			}
+			long position = current == readSegment ? readOffset : 0;
+			try (FileChannel channel = FileChannel.open(file, READ)) {
+				channel.position(position);
+				InputStream in = new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024);
+				ByteArrayOutputStream line = new ByteArrayOutputStream(512);
+				int b;
+				while (records.size() < maxRecords && (b = in.read()) != -1) {
+					if (b == '\n') {
+						position += line.size() + 1;
+						segment = current;
+						offset = position;
+						records.add(IndexQueueRecord.fromJson(new String(line.toByteArray(), UTF_8)));
+						line.reset();
+					} else {
+						line.write(b);
+					}
+				}
+			}
+		}
+		return new IndexQueueBatch(records, segment, offset);
+	}
+
+	/**
+	 * Remove the records of the batch from the queue. Segments which have been fully processed will be deleted and the last segment will be truncated if
+	 * no more records are pending.
+	 * 
+	 * @param batch
+	 * @throws IOException
+	 */
+	public synchronized void commit(IndexQueueBatch batch) throws IOException {
+		readSegment = batch.getEndSegment();
+		readOffset = batch.getEndOffset();
+		depth = Math.max(0, depth - batch.size());
+		if (readSegment < appendSegment && readOffset >= segmentLength(readSegment)) {
+			// The segment has been fully processed. Continue with the next segment.
+			readSegment++;
+			readOffset = 0;
+		}
+		if (readSegment == appendSegment && readOffset >= appendChannel.size()) {
+			// All records have been processed. We can thus truncate the log.
+			appendChannel.truncate(0);
+			readOffset = 0;
+			depth = 0;
+		}
+		writeState();
+		// The segments are only deleted once the state no longer references them
+		deleteSegmentsBefore(readSegment);
+	}
+
+	/**
+	 * Atomically write the read position, the amount of pending records and the current end of the log to the offset file.
+	 * 
+	 * @throws IOException
+	 */
+	private void writeState() throws IOException {
+		String state = readSegment + " " + readOffset + " " + depth + " " + appendSegment + " " + appendChannel.size();
+		Path tmpFile = offsetFile.resolveSibling(OFFSET_FILENAME + ".tmp");
+		Files.write(tmpFile, state.getBytes(UTF_8));
+		Files.move(tmpFile, offsetFile, REPLACE_EXISTING, ATOMIC_MOVE);
+	}
+
+	/**
+	 * Return the amount of pending records.
+	 * 
+	 * @return
+	 */
+	public synchronized long getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Return the age in milliseconds of the oldest pending record.
+	 * 
+	 * @return Age or 0 if no records are pending
+	 * @throws IOException
+	 */
+	public synchronized long getLag() throws IOException {
+		if (depth == 0) {
+			return 0;
+		}
+		List<IndexQueueRecord> oldest = read(1).getRecords();
+		if (oldest.isEmpty()) {
+			return 0;
+		}
+		return System.currentTimeMillis() - oldest.get(0).getTimestamp();
+	}
+
+}
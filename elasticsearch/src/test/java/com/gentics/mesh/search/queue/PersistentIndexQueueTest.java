@@ -0,0 +1,135 @@
+package com.gentics.mesh.search.queue;
+
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.DELETE_ACTION;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.STORE_ACTION;
+import static com.gentics.mesh.core.data.search.SearchQueueEntryAction.UPDATE_ROLE_PERM_ACTION;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.core.data.ContainerType;
+import com.gentics.mesh.core.data.search.SearchQueueEntryAction;
+import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
+
+public class PersistentIndexQueueTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAppendReadCommit() throws IOException {
+		File dir = folder.newFolder();
+		PersistentIndexQueue queue = new PersistentIndexQueue();
+		queue.open(dir);
+		queue.append(Arrays.asList(record(STORE_ACTION, "a"), record(STORE_ACTION, "b"), record(DELETE_ACTION, "c")));
+		assertEquals(3, queue.getDepth());
+
+		IndexQueueBatch batch = queue.read(2);
+		assertEquals(2, batch.size());
+		assertEquals("a", batch.getRecords().get(0).getElementUuid());
+		queue.commit(batch);
+		assertEquals(1, queue.getDepth());
+		queue.close();
+
+		// Reopen the queue and check that only the uncommitted record remains
+		queue = new PersistentIndexQueue();
+		queue.open(dir);
+		assertEquals(1, queue.getDepth());
+		batch = queue.read(10);
+		assertEquals(1, batch.size());
+		assertEquals(DELETE_ACTION, batch.getRecords().get(0).getAction());
+		assertEquals("de", batch.getRecords().get(0).getContext().getLanguageTag());
+		queue.commit(batch);
+		assertEquals(0, queue.getDepth());
+		assertEquals(0, queue.read(10).size());
+		queue.close();
+	}
+
+	@Test
+	public void testDepthAfterUncleanClose() throws IOException {
+		File dir = folder.newFolder();
+		PersistentIndexQueue queue = new PersistentIndexQueue();
+		queue.open(dir);
+		queue.append(Arrays.asList(record(STORE_ACTION, "a"), record(STORE_ACTION, "b"), record(STORE_ACTION, "c")));
+		queue.commit(queue.read(1));
+		// Records which were appended after the last commit are not covered by the stored state
+		queue.append(Arrays.asList(record(STORE_ACTION, "d"), record(STORE_ACTION, "e")));
+
+		// Reopen the queue without closing it
+		PersistentIndexQueue reopened = new PersistentIndexQueue();
+		reopened.open(dir);
+		assertEquals(4, reopened.getDepth());
+		assertEquals(4, reopened.read(10).size());
+		reopened.close();
+		queue.close();
+	}
+
+	@Test
+	public void testSegments() throws IOException {
+		File dir = folder.newFolder();
+		PersistentIndexQueue queue = new PersistentIndexQueue();
+		queue.setSegmentSize(1);
+		queue.open(dir);
+		// Each append will start a new segment
+		queue.append(Arrays.asList(record(STORE_ACTION, "a"), record(STORE_ACTION, "b")));
+		queue.append(Arrays.asList(record(STORE_ACTION, "c")));
+		queue.append(Arrays.asList(record(STORE_ACTION, "d")));
+		assertEquals(3, segmentCount(dir));
+
+		// Batches may span multiple segments
+		IndexQueueBatch batch = queue.read(3);
+		assertEquals(3, batch.size());
+		assertEquals("c", batch.getRecords().get(2).getElementUuid());
+		queue.commit(batch);
+		assertEquals("Fully processed segments must be deleted", 1, segmentCount(dir));
+		assertEquals(1, queue.getDepth());
+		queue.close();
+
+		queue = new PersistentIndexQueue();
+		queue.setSegmentSize(1);
+		queue.open(dir);
+		assertEquals(1, queue.getDepth());
+		batch = queue.read(10);
+		assertEquals(1, batch.size());
+		assertEquals("d", batch.getRecords().get(0).getElementUuid());
+		queue.commit(batch);
+		assertEquals(0, queue.getDepth());
+		queue.close();
+	}
+
+	@Test
+	public void testCoalesce() throws IOException {
+		List<IndexQueueRecord> records = new ArrayList<>();
+		records.add(record(STORE_ACTION, "a"));
+		records.add(record(UPDATE_ROLE_PERM_ACTION, "a"));
+		records.add(record(STORE_ACTION, "b"));
+		records.add(record(STORE_ACTION, "b"));
+		records.add(record(DELETE_ACTION, "b"));
+		List<IndexQueueRecord> coalesced = new ArrayList<>(new IndexQueueBatch(records, 0, 0).getCoalescedRecords());
+		assertEquals(2, coalesced.size());
+		assertEquals(STORE_ACTION, coalesced.get(0).getAction());
+		assertEquals(DELETE_ACTION, coalesced.get(1).getAction());
+	}
+
+	private long segmentCount(File dir) {
+		return dir.listFiles((d, name) -> name.endsWith(".log")).length;
+	}
+
+	private IndexQueueRecord record(SearchQueueEntryAction action, String uuid) {
+		GenericEntryContextImpl context = new GenericEntryContextImpl();
+		context.setProjectUuid("project");
+		context.setReleaseUuid("release");
+		context.setContainerType(ContainerType.DRAFT);
+		context.setLanguageTag("de");
+		return new IndexQueueRecord(System.currentTimeMillis(), action, "com.gentics.mesh.core.data.node.Node", uuid, context);
+	}
+
+}
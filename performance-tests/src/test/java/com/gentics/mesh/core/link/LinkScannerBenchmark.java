@@ -0,0 +1,106 @@
+package com.gentics.mesh.core.link;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.gentics.mesh.util.UUIDUtil;
+
+/**
+ * Benchmark for the link placeholder scanning and rendering of large HTML contents. The resolving of the link targets is replaced by a constant
+ * lookup so that only the text processing is measured. The legacy benchmark replicates the previous tokenizer for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LinkScannerBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int linkCount;
+
+	private String content;
+
+	@Setup
+	public void setup() {
+		List<String> uuids = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			uuids.add(UUIDUtil.randomUUID());
+		}
+		StringBuilder builder = new StringBuilder();
+		builder.append("<html><body>");
+		for (int i = 0; i < linkCount; i++) {
+			builder.append("<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore.</p>");
+			String uuid = uuids.get(i % uuids.size());
+			if (i % 2 == 0) {
+				builder.append("<a href=\"{{mesh.link('" + uuid + "')}}\">Link</a>");
+			} else {
+				builder.append("<a href=\"{{mesh.link(\\\"" + uuid + "\\\", \\\"en\\\")}}\">Link</a>");
+			}
+		}
+		builder.append("</body></html>");
+		content = builder.toString();
+	}
+
+	@Benchmark
+	public String scanAndRender() {
+		return LinkScanner.render(content, LinkScanner.scan(content), link -> "/path/to/" + link.getUuid());
+	}
+
+	@Benchmark
+	public String legacy() {
+		List<String> segments = new ArrayList<>();
+		int pos = 0;
+		int lastPos = 0;
+		int length = content.length();
+		while (lastPos < length) {
+			pos = content.indexOf(LinkScanner.START_TAG, lastPos);
+			if (pos == -1) {
+				segments.add(content.substring(lastPos));
+				break;
+			}
+			int endPos = content.indexOf(LinkScanner.END_TAG, pos);
+			if (endPos == -1) {
+				segments.add(content.substring(lastPos));
+				break;
+			}
+			if (lastPos < pos) {
+				segments.add(content.substring(lastPos, pos));
+			}
+			String link = content.substring(pos + LinkScanner.START_TAG.length(), endPos);
+			link = link.replaceAll("\\\\\"", "");
+			link = link.replaceAll("'", "");
+			link = link.replaceAll("\"", "");
+			String[] linkArguments = link.split(",");
+			segments.add("/path/to/" + linkArguments[0].trim());
+			lastPos = endPos + LinkScanner.END_TAG.length();
+		}
+		StringBuilder renderedContent = new StringBuilder(length);
+		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
+		return renderedContent.toString();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(LinkScannerBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+
+}
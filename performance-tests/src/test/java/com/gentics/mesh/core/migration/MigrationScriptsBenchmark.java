@@ -0,0 +1,100 @@
+package com.gentics.mesh.core.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.script.ScriptEngine;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.gentics.mesh.core.data.node.handler.TypeConverter;
+import com.gentics.mesh.core.verticle.migration.MigrationScripts;
+import com.gentics.mesh.util.Tuple;
+
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+
+/**
+ * Benchmark for the evaluation of migration scripts for a single container. The legacy benchmark replicates the previous implementation which created
+ * a new script engine for each script and container and serialized the node after each script.
+ */
+@SuppressWarnings("restriction")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MigrationScriptsBenchmark {
+
+	private static final String NODE_JSON = "{\"uuid\":\"e4fa1a3c8ca44c8cba1a3c8ca4fc8c3f\",\"language\":\"en\",\"fields\":{"
+			+ "\"name\":\"Product\",\"price\":42.5,\"description\":\"Lorem ipsum dolor sit amet, consectetur adipiscing elit.\","
+			+ "\"obsolete\":\"Value\",\"tags\":[\"a\",\"b\",\"c\"]}}";
+
+	private final NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
+
+	private List<Tuple<String, List<Tuple<String, Object>>>> scripts;
+
+	private MigrationScripts compiledScripts;
+
+	@Setup
+	public void setup() throws Exception {
+		scripts = Arrays.asList(Tuple.tuple(load("typechange_string.js"), Arrays.asList(Tuple.tuple("fieldname", "price"))),
+				Tuple.tuple(load("fieldremove.js"), Arrays.asList(Tuple.tuple("fieldname", "obsolete"))));
+		compiledScripts = new MigrationScripts();
+		for (Tuple<String, List<Tuple<String, Object>>> script : scripts) {
+			compiledScripts.add(script.v1(), script.v2());
+		}
+	}
+
+	@Benchmark
+	public String compiled() throws Exception {
+		return compiledScripts.apply(NODE_JSON);
+	}
+
+	@Benchmark
+	public String legacy() throws Exception {
+		String nodeJson = NODE_JSON;
+		for (Tuple<String, List<Tuple<String, Object>>> scriptEntry : scripts) {
+			String script = scriptEntry.v1() + "\nnode = JSON.stringify(migrate(JSON.parse(node), fieldname, convert));";
+			ScriptEngine engine = factory.getScriptEngine(className -> false);
+			engine.put("node", nodeJson);
+			engine.put("convert", new TypeConverter());
+			for (Tuple<String, Object> ctxEntry : scriptEntry.v2()) {
+				engine.put(ctxEntry.v1(), ctxEntry.v2());
+			}
+			engine.eval(script);
+			nodeJson = engine.get("node").toString();
+		}
+		return nodeJson;
+	}
+
+	private String load(String name) throws IOException {
+		try (InputStream ins = getClass().getResourceAsStream("/script/" + name)) {
+			return IOUtils.toString(ins, StandardCharsets.UTF_8);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(MigrationScriptsBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+
+}
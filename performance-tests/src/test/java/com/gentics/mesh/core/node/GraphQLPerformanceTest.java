@@ -0,0 +1,64 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.core.rest.schema.impl.NodeFieldSchemaImpl;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+import com.syncleus.ferma.tx.Tx;
+
+@MeshTestSetting(useElasticsearch = false, testSize = FULL, startServer = true)
+public class GraphQLPerformanceTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{ node(path: \"/News\") { children(perPage: 100) { elements { uuid parent { uuid } tags { elements { name } } "
+			+ "fields { ... on content { reference { uuid path parent { uuid } } } } } } } }";
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	/**
+	 * Create 100 contents which each reference the previously created content.
+	 */
+	public void addNodes() {
+		try (Tx tx = tx()) {
+			SchemaModel schema = schemaContainer("content").getLatestVersion().getSchema();
+			schema.addField(new NodeFieldSchemaImpl().setName("reference").setLabel("Reference"));
+			schemaContainer("content").getLatestVersion().setSchema(schema);
+			tx.success();
+		}
+		String parentUuid = db().tx(() -> folder("news").getUuid());
+		String referenceUuid = parentUuid;
+		for (int i = 0; i < 100; i++) {
+			NodeCreateRequest request = new NodeCreateRequest();
+			request.setLanguage("en");
+			request.setParentNodeUuid(parentUuid);
+			request.setSchema(new SchemaReferenceImpl().setName("content"));
+			request.getFields().put("name", FieldUtil.createStringField("someNode_" + i));
+			request.getFields().put("reference", FieldUtil.createNodeField(referenceUuid));
+			NodeResponse response = call(() -> client().createNode(PROJECT_NAME, request));
+			referenceUuid = response.getUuid();
+		}
+	}
+
+	@Test
+	public void testNestedChildrenReferences() {
+		addNodes();
+		loggingStopWatch(logger, "graphql.children-references-100", 100, (step) -> {
+			GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, QUERY));
+			assertTrue(response.getErrors() == null || response.getErrors().isEmpty());
+		});
+	}
+
+}
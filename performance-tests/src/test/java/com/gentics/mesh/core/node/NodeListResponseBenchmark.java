@@ -0,0 +1,76 @@
+package com.gentics.mesh.core.node;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.example.NodeExamples;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Benchmark for the serialization of a node list response with 1000 nodes. The legacy benchmark replicates the previous implementation which pretty
+ * printed the response into a string which was copied into the response buffer. Run the main method to include the allocated bytes per response
+ * (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class NodeListResponseBenchmark {
+
+	private NodeListResponse list;
+
+	@Setup
+	public void setup() {
+		NodeExamples examples = new NodeExamples();
+		list = new NodeListResponse();
+		for (int i = 0; i < 1000; i++) {
+			list.getData().add(examples.getNodeResponseWithAllFields());
+		}
+	}
+
+	@Benchmark
+	public int compact() throws IOException {
+		ByteBuf buffer = Unpooled.buffer();
+		try (OutputStream out = new ByteBufOutputStream(buffer)) {
+			JsonUtil.writeValue(list, out, false);
+		}
+		return buffer.readableBytes();
+	}
+
+	@Benchmark
+	public int legacy() {
+		Buffer buffer = Buffer.buffer(JsonUtil.toJson(list));
+		return buffer.length();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder().include(NodeListResponseBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+
+}
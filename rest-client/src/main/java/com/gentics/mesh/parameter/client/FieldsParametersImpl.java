@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.FieldsParameters;
+
+public class FieldsParametersImpl extends AbstractParameters implements FieldsParameters {
+
+}
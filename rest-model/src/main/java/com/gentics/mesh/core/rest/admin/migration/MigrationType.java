@@ -5,5 +5,7 @@ public enum MigrationType {
 
 	microschema,
 
-	release
+	release,
+
+	reindex
 }
@@ -0,0 +1,90 @@
+package com.gentics.mesh.core.rest.admin.status;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO which contains the statistics of the cache for resized image variants.
+ */
+public class ImageCacheStatus implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of image requests which were served from the cache since the server was started.")
+	private long hits;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of image requests which required the creation of a new variant since the server was started.")
+	private long misses;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of variants which were removed due to the size limit since the server was started.")
+	private long evictions;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Total size of all cached variants in bytes.")
+	private long size;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Maximum size of the cache in bytes. A negative value indicates that the cache is unbounded.")
+	private long maxSize;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Flag which indicates whether the existing cache files have already been registered.")
+	private boolean initialized;
+
+	public long getHits() {
+		return hits;
+	}
+
+	public ImageCacheStatus setHits(long hits) {
+		this.hits = hits;
+		return this;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public ImageCacheStatus setMisses(long misses) {
+		this.misses = misses;
+		return this;
+	}
+
+	public long getEvictions() {
+		return evictions;
+	}
+
+	public ImageCacheStatus setEvictions(long evictions) {
+		this.evictions = evictions;
+		return this;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public ImageCacheStatus setSize(long size) {
+		this.size = size;
+		return this;
+	}
+
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	public ImageCacheStatus setMaxSize(long maxSize) {
+		this.maxSize = maxSize;
+		return this;
+	}
+
+	public boolean isInitialized() {
+		return initialized;
+	}
+
+	public ImageCacheStatus setInitialized(boolean initialized) {
+		this.initialized = initialized;
+		return this;
+	}
+
+}
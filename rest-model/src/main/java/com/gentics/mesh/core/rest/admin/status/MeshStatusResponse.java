@@ -1,5 +1,10 @@
 package com.gentics.mesh.core.rest.admin.status;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.gentics.mesh.MeshStatus;
@@ -14,6 +19,18 @@ public class MeshStatusResponse implements RestModel {
 	@JsonPropertyDescription("The current Gentics Mesh server status.")
 	private MeshStatus status;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Utilization of the worker pools of the instance.")
+	private List<WorkerPoolStatus> workerPools = new ArrayList<>();
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of transaction conflicts which caused a retry, per class which declared the transaction.")
+	private Map<String, Long> txConflicts = new TreeMap<>();
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Statistics of the cache for resized image variants.")
+	private ImageCacheStatus imageCache;
+
 	public MeshStatus getStatus() {
 		return status;
 	}
@@ -23,4 +40,31 @@ public class MeshStatusResponse implements RestModel {
 		return this;
 	}
 
+	public List<WorkerPoolStatus> getWorkerPools() {
+		return workerPools;
+	}
+
+	public MeshStatusResponse setWorkerPools(List<WorkerPoolStatus> workerPools) {
+		this.workerPools = workerPools;
+		return this;
+	}
+
+	public Map<String, Long> getTxConflicts() {
+		return txConflicts;
+	}
+
+	public MeshStatusResponse setTxConflicts(Map<String, Long> txConflicts) {
+		this.txConflicts = txConflicts;
+		return this;
+	}
+
+	public ImageCacheStatus getImageCache() {
+		return imageCache;
+	}
+
+	public MeshStatusResponse setImageCache(ImageCacheStatus imageCache) {
+		this.imageCache = imageCache;
+		return this;
+	}
+
 }
@@ -0,0 +1,129 @@
+package com.gentics.mesh.core.rest.admin.status;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO which contains the utilization of a worker pool.
+ */
+public class WorkerPoolStatus implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Name of the worker pool.")
+	private String name;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of threads of the pool.")
+	private int poolSize;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of threads which are currently executing a task.")
+	private int activeThreads;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of tasks which are currently waiting for a thread.")
+	private int queueSize;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of tasks which may wait for a thread. Further tasks will be rejected.")
+	private int queueCapacity;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Total amount of tasks which have been completed since the server was started.")
+	private long completedTasks;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Total amount of tasks which have been rejected since the server was started.")
+	private long rejectedTasks;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Average time in milliseconds which the tasks waited for a thread.")
+	private double averageQueueWait;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Maximum time in milliseconds which a task waited for a thread.")
+	private long maxQueueWait;
+
+	public String getName() {
+		return name;
+	}
+
+	public WorkerPoolStatus setName(String name) {
+		this.name = name;
+		return this;
+	}
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	public WorkerPoolStatus setPoolSize(int poolSize) {
+		this.poolSize = poolSize;
+		return this;
+	}
+
+	public int getActiveThreads() {
+		return activeThreads;
+	}
+
+	public WorkerPoolStatus setActiveThreads(int activeThreads) {
+		this.activeThreads = activeThreads;
+		return this;
+	}
+
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	public WorkerPoolStatus setQueueSize(int queueSize) {
+		this.queueSize = queueSize;
+		return this;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public WorkerPoolStatus setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+		return this;
+	}
+
+	public long getCompletedTasks() {
+		return completedTasks;
+	}
+
+	public WorkerPoolStatus setCompletedTasks(long completedTasks) {
+		this.completedTasks = completedTasks;
+		return this;
+	}
+
+	public long getRejectedTasks() {
+		return rejectedTasks;
+	}
+
+	public WorkerPoolStatus setRejectedTasks(long rejectedTasks) {
+		this.rejectedTasks = rejectedTasks;
+		return this;
+	}
+
+	public double getAverageQueueWait() {
+		return averageQueueWait;
+	}
+
+	public WorkerPoolStatus setAverageQueueWait(double averageQueueWait) {
+		this.averageQueueWait = averageQueueWait;
+		return this;
+	}
+
+	public long getMaxQueueWait() {
+		return maxQueueWait;
+	}
+
+	public WorkerPoolStatus setMaxQueueWait(long maxQueueWait) {
+		this.maxQueueWait = maxQueueWait;
+		return this;
+	}
+
+}
@@ -59,6 +59,14 @@ public class JobResponse extends AbstractResponse {
 	@JsonPropertyDescription("Name of the Gentics Mesh instance on which the job was executed.")
 	private String nodeName;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Priority of the job. Jobs with a higher priority will be started first unless they conflict with older jobs.")
+	private int priority;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in milliseconds which the job has been waiting in the queue before it was started.")
+	private Long waitTime;
+
 	public void setErrorMessage(String errorMessage) {
 		this.errorMessage = errorMessage;
 	}
@@ -214,4 +222,40 @@ public class JobResponse extends AbstractResponse {
 		this.nodeName = nodeName;
 	}
 
+	/**
+	 * Return the priority of the job.
+	 * 
+	 * @return
+	 */
+	public int getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Set the priority of the job.
+	 * 
+	 * @param priority
+	 */
+	public void setPriority(int priority) {
+		this.priority = priority;
+	}
+
+	/**
+	 * Return the time in milliseconds which the job has been waiting in the queue.
+	 * 
+	 * @return
+	 */
+	public Long getWaitTime() {
+		return waitTime;
+	}
+
+	/**
+	 * Set the time in milliseconds which the job has been waiting in the queue.
+	 * 
+	 * @param waitTime
+	 */
+	public void setWaitTime(Long waitTime) {
+		this.waitTime = waitTime;
+	}
+
 }
@@ -127,6 +127,17 @@ public class NodeResponse extends AbstractGenericRestResponse implements NodeFie
 		return tags;
 	}
 
+	/**
+	 * Set the tags which were used to tag the node.
+	 * 
+	 * @param tags
+	 * @return Fluent API
+	 */
+	public NodeResponse setTags(List<TagReference> tags) {
+		this.tags = tags;
+		return this;
+	}
+
 	/**
 	 * Set the schema reference of the node.
 	 * 
@@ -246,6 +257,17 @@ public class NodeResponse extends AbstractGenericRestResponse implements NodeFie
 		return fields;
 	}
 
+	/**
+	 * Set the fields of the node.
+	 * 
+	 * @param fields
+	 * @return Fluent API
+	 */
+	public NodeResponse setFields(FieldMap fields) {
+		this.fields = fields;
+		return this;
+	}
+
 	/**
 	 * Return the language tag of the node.
 	 * 
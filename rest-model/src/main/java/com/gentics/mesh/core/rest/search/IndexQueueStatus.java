@@ -0,0 +1,90 @@
+package com.gentics.mesh.core.rest.search;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+/**
+ * POJO which contains the status of the persistent index queue.
+ */
+public class IndexQueueStatus implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Flag which indicates whether the persistent index queue is enabled.")
+	private boolean enabled;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of index updates which are queued and not yet processed.")
+	private long depth;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Age in milliseconds of the oldest index update which has not yet been processed.")
+	private long lag;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Total amount of index updates which have been processed since the server was started.")
+	private long processed;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Total amount of failed processing attempts since the server was started.")
+	private long failures;
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Amount of index updates which were processed per second during the last processing run.")
+	private double throughput;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public IndexQueueStatus setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		return this;
+	}
+
+	public long getDepth() {
+		return depth;
+	}
+
+	public IndexQueueStatus setDepth(long depth) {
+		this.depth = depth;
+		return this;
+	}
+
+	public long getLag() {
+		return lag;
+	}
+
+	public IndexQueueStatus setLag(long lag) {
+		this.lag = lag;
+		return this;
+	}
+
+	public long getProcessed() {
+		return processed;
+	}
+
+	public IndexQueueStatus setProcessed(long processed) {
+		this.processed = processed;
+		return this;
+	}
+
+	public long getFailures() {
+		return failures;
+	}
+
+	public IndexQueueStatus setFailures(long failures) {
+		this.failures = failures;
+		return this;
+	}
+
+	public double getThroughput() {
+		return throughput;
+	}
+
+	public IndexQueueStatus setThroughput(double throughput) {
+		this.throughput = throughput;
+		return this;
+	}
+
+}
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.rest.search;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.gentics.mesh.core.rest.common.RestModel;
 
 /**
@@ -7,4 +9,17 @@ import com.gentics.mesh.core.rest.common.RestModel;
  */
 public class SearchStatusResponse implements RestModel {
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Status of the persistent index queue.")
+	private IndexQueueStatus indexQueue;
+
+	public IndexQueueStatus getIndexQueue() {
+		return indexQueue;
+	}
+
+	public SearchStatusResponse setIndexQueue(IndexQueueStatus indexQueue) {
+		this.indexQueue = indexQueue;
+		return this;
+	}
+
 }
@@ -25,4 +25,9 @@ public final class HttpConstants {
 
 	public static final String APPLICATION_XML = "application/xml";
 
+	/**
+	 * Query parameter which enables pretty printing of JSON responses.
+	 */
+	public static final String PRETTY_PARAMETER = "pretty";
+
 }
@@ -4,6 +4,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.codehaus.jettison.json.JSONObject;
 
@@ -16,6 +18,7 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleAbstractTypeResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -62,6 +65,8 @@ import io.vertx.core.logging.LoggerFactory;
 public final class JsonUtil {
 
 	protected static ObjectMapper defaultMapper;
+	protected static ObjectWriter compactWriter;
+	protected static ObjectWriter prettyWriter;
 	protected static JsonSchemaGenerator schemaGen;
 
 	private static final Logger log = LoggerFactory.getLogger(JsonUtil.class);
@@ -116,6 +121,9 @@ public final class JsonUtil {
 			}
 		});
 
+		// Writers are immutable and cache the resolved serializers. They can thus be shared. Streams passed to the writers are owned by the caller.
+		compactWriter = defaultMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		prettyWriter = defaultMapper.writerWithDefaultPrettyPrinter().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 	}
 
 	/**
@@ -135,11 +143,24 @@ public final class JsonUtil {
 	 * @throws GenericRestException
 	 */
 	public static <T> String toJson(T obj) throws GenericRestException {
+		return toJson(obj, true);
+	}
+
+	/**
+	 * Transform the given object into a JSON string.
+	 * 
+	 * @param obj
+	 * @param pretty
+	 *            Whether the JSON should be pretty printed
+	 * @return
+	 * @throws GenericRestException
+	 */
+	public static <T> String toJson(T obj, boolean pretty) throws GenericRestException {
 		if (obj instanceof JSONObject) {
 			return ((JSONObject) obj).toString();
 		}
 		try {
-			return defaultMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+			return getWriter(pretty).writeValueAsString(obj);
 		} catch (IOException e) {
 			// TODO i18n
 			String message = "Could not generate json from object";
@@ -148,6 +169,34 @@ public final class JsonUtil {
 		}
 	}
 
+	/**
+	 * Serialize the given object directly into the output stream without creating an intermediate string. The stream will not be closed.
+	 * 
+	 * @param obj
+	 * @param out
+	 *            Stream to which the UTF-8 encoded JSON will be written
+	 * @param pretty
+	 *            Whether the JSON should be pretty printed
+	 * @throws GenericRestException
+	 */
+	public static <T> void writeValue(T obj, OutputStream out, boolean pretty) throws GenericRestException {
+		try {
+			if (obj instanceof JSONObject) {
+				out.write(((JSONObject) obj).toString().getBytes(StandardCharsets.UTF_8));
+			} else {
+				getWriter(pretty).writeValue(out, obj);
+			}
+		} catch (IOException e) {
+			// TODO i18n
+			String message = "Could not generate json from object";
+			throw new GenericRestException(INTERNAL_SERVER_ERROR, message, e);
+		}
+	}
+
+	private static ObjectWriter getWriter(boolean pretty) {
+		return pretty ? prettyWriter : compactWriter;
+	}
+
 	/**
 	 * Transform the given JSON content back into a POJO.
 	 * 
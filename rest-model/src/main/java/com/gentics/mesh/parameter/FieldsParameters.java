@@ -0,0 +1,97 @@
+package com.gentics.mesh.parameter;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Parameters which limit the properties of a response. Only the listed top level properties (e.g. <code>uuid,displayName,path</code>) will be loaded
+ * and returned. Single schema fields can be selected using the <code>fields.</code> prefix (e.g. <code>fields.title</code>). All properties will be
+ * returned if the parameter has not been specified.
+ */
+public interface FieldsParameters extends ParameterProvider {
+
+	/**
+	 * Query parameter key: {@value #FIELDS_PARAMETER_KEY}
+	 */
+	public static final String FIELDS_PARAMETER_KEY = "fields";
+
+	/**
+	 * Prefix which is used to select single schema fields.
+	 */
+	public static final String SCHEMA_FIELD_PREFIX = "fields.";
+
+	/**
+	 * Set the <code>{@value #FIELDS_PARAMETER_KEY}</code> request parameter values.
+	 * 
+	 * @param fields
+	 *            Names of the properties which should be returned
+	 * @return Fluent API
+	 */
+	default FieldsParameters setFields(String... fields) {
+		setParameter(FIELDS_PARAMETER_KEY, convertToStr(fields));
+		return this;
+	}
+
+	/**
+	 * Return the names of the requested properties.
+	 * 
+	 * @return Requested properties or an empty set if all properties should be returned
+	 */
+	default Set<String> getFields() {
+		String value = getParameter(FIELDS_PARAMETER_KEY);
+		if (value == null || value.trim().isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<String> fields = new LinkedHashSet<>();
+		for (String field : value.split(",")) {
+			if (!field.trim().isEmpty()) {
+				fields.add(field.trim());
+			}
+		}
+		return fields;
+	}
+
+	/**
+	 * Check whether any of the given top level properties has been requested.
+	 * 
+	 * @param fields
+	 *            Requested properties
+	 * @param properties
+	 *            Names of the properties to check
+	 * @return
+	 */
+	static boolean isIncluded(Set<String> fields, String... properties) {
+		if (fields.isEmpty()) {
+			return true;
+		}
+		for (String property : properties) {
+			if (fields.contains(property)) {
+				return true;
+			}
+			// Selecting a single schema field implies the fields property
+			if (FIELDS_PARAMETER_KEY.equals(property)) {
+				for (String field : fields) {
+					if (field.startsWith(SCHEMA_FIELD_PREFIX)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check whether the schema field with the given name has been requested.
+	 * 
+	 * @param fields
+	 *            Requested properties
+	 * @param fieldName
+	 *            Name of the schema field
+	 * @return
+	 */
+	static boolean isSchemaFieldIncluded(Set<String> fields, String fieldName) {
+		return fields.isEmpty() || fields.contains(FIELDS_PARAMETER_KEY) || fields.contains(SCHEMA_FIELD_PREFIX + fieldName);
+	}
+
+}
@@ -35,6 +35,7 @@ import com.gentics.mesh.parameter.image.ImageRect;
 import com.gentics.mesh.util.PropReadFileStream;
 import com.gentics.mesh.util.RxUtil;
 
+import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
@@ -141,15 +142,27 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		}
 		File cacheFile = getCacheFile(cacheKey, parameters);
 
-		// Check the cache file directory
-		if (cacheFile.exists()) {
-			return PropReadFileStream.openFile(this.vertx, cacheFile.getAbsolutePath());
-		}
+		// Concurrent requests for the same variant will share a single resize operation
+		return variantCache.get(cacheFile, tmpFile -> resize(stream, parameters, tmpFile)).flatMap(file -> {
+			return PropReadFileStream.openFile(this.vertx, file.getAbsolutePath());
+		});
+	}
 
+	/**
+	 * Resize the image and write the result to the given file.
+	 * 
+	 * @param stream
+	 *            Image data stream
+	 * @param parameters
+	 * @param targetFile
+	 *            File to which the resized image will be written
+	 * @return
+	 */
+	private Completable resize(Observable<Buffer> stream, ImageManipulationParameters parameters, File targetFile) {
 		// TODO handle execution timeout
 		// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the regular worker
 		// pool
-		return workerPool.rxExecuteBlocking(bh -> {
+		return workerPool.<File>rxExecuteBlocking(bh -> {
 
 			// Read the image and apply the changes -
 			readImage(stream).flatMap(bi -> {
@@ -201,14 +214,13 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 				// Write image
 				try {
-					ImageIO.write(rgbCopy, "jpg", cacheFile);
+					ImageIO.write(rgbCopy, "jpg", targetFile);
 				} catch (Exception e) {
 					throw error(BAD_REQUEST, "image_error_writing_failed", e);
 				}
-				// Return buffer to written cache file
-				return PropReadFileStream.openFile(this.vertx, cacheFile.getAbsolutePath());
+				return Single.just(targetFile);
 			}).subscribe(result -> bh.complete(result), bh::fail);
-		});
+		}).toCompletable();
 
 	}
 
@@ -14,6 +14,7 @@ import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
@@ -88,6 +89,25 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 		return obs;
 	}
 
+	@Override
+	public Flowable<Buffer> readFlowable(String binaryUuid) {
+		String path = getFilePath(binaryUuid);
+		return FileSystem.newInstance(Mesh.vertx().fileSystem()).rxOpen(path, new OpenOptions().setRead(true).setWrite(false)).toFlowable()
+				.flatMap(RxUtil::toBufferFlow);
+	}
+
+	@Override
+	public Flowable<Buffer> readFlowable(String binaryUuid, long offset, long length) {
+		String path = getFilePath(binaryUuid);
+		return FileSystem.newInstance(Mesh.vertx().fileSystem()).rxOpen(path, new OpenOptions().setRead(true).setWrite(false)).toFlowable()
+				.flatMap(file -> RxUtil.slice(RxUtil.toBufferFlow(file.setReadPos(offset)), 0, length));
+	}
+
+	@Override
+	public String getLocalPath(String binaryUuid) {
+		return getFilePath(binaryUuid);
+	}
+
 	/**
 	 * Generate the segmented path for the given binary uuid.
 	 * 
@@ -1,5 +1,6 @@
 package com.gentics.mesh.graphql;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.POST;
@@ -22,14 +23,17 @@ public class GraphQLEndpoint extends AbstractProjectEndpoint {
 
 	private GraphQLHandler queryHandler;
 
+	private GraphQLWorkerPool workerPool;
+
 	public GraphQLEndpoint() {
 		super("graphql", null);
 	}
 
 	@Inject
-	public GraphQLEndpoint(BootstrapInitializer boot, GraphQLHandler queryHandler) {
+	public GraphQLEndpoint(BootstrapInitializer boot, GraphQLHandler queryHandler, GraphQLWorkerPool workerPool) {
 		super("graphql", boot);
 		this.queryHandler = queryHandler;
+		this.workerPool = workerPool;
 	}
 
 	@Override
@@ -40,12 +44,22 @@ public class GraphQLEndpoint extends AbstractProjectEndpoint {
 		queryEndpoint.method(POST);
 		queryEndpoint.exampleRequest(graphqlExamples.createQueryRequest());
 		queryEndpoint.exampleResponse(OK, graphqlExamples.createResponse(), "Basic GraphQL response.");
-		queryEndpoint.description("Endpoint which accepts GraphQL queries.");
+		queryEndpoint.description("Endpoint which accepts GraphQL queries. The response will be pretty printed if the pretty=true query parameter is set.");
 		queryEndpoint.path("/");
-		queryEndpoint.blockingHandler(rc -> {
+		queryEndpoint.handler(rc -> {
 			GraphQLContext gc = new GraphQLContextImpl(rc);
 			String body = gc.getBodyAsString();
-			queryHandler.handleQuery(gc, body);
+			workerPool.execute(gc, () -> queryHandler.handleQuery(gc, body));
+		});
+
+		EndpointRoute statsEndpoint = createEndpoint();
+		statsEndpoint.method(GET);
+		statsEndpoint.path("/stats");
+		statsEndpoint.produces(APPLICATION_JSON);
+		statsEndpoint.description("Return the statistics of the GraphQL query cache. The statistics contain the cache hit ratio and the timings per query hash.");
+		statsEndpoint.exampleResponse(OK, "GraphQL query cache statistics.");
+		statsEndpoint.blockingHandler(rc -> {
+			queryHandler.handleStats(new GraphQLContextImpl(rc));
 		}, false);
 
 		log.info("GraphiQL is owned and developed by Facebook, Inc. - Copyright (c) 2015, Facebook, Inc. All rights reserved.");
@@ -1,9 +1,15 @@
 package com.gentics.mesh.graphql;
 
-import static graphql.GraphQL.newGraphQL;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -11,17 +17,25 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.syncleus.ferma.tx.Tx;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gentics.mesh.Mesh;
 import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.etc.config.GraphQLOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.graphql.context.GraphQLContext;
-import com.gentics.mesh.graphql.type.QueryTypeProvider;
+import com.syncleus.ferma.tx.Tx;
+
 import graphql.ExceptionWhileDataFetching;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
 import graphql.language.SourceLocation;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -32,8 +46,21 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	/**
+	 * Error message which tells the client to resend the request including the query text.
+	 */
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
+	/**
+	 * Query parameter which enables pretty printing of the response.
+	 */
+	public static final String PRETTY_PARAMETER = "pretty";
+
+	@Inject
+	public GraphQLSchemaCache schemaCache;
+
 	@Inject
-	public QueryTypeProvider typeProvider;
+	public GraphQLQueryCache queryCache;
 
 	@Inject
 	public Database db;
@@ -49,19 +76,32 @@ public class GraphQLHandler {
 	 *            Context
 	 * @param body
 	 *            GraphQL query
+	 * @return Response body
 	 */
-	public void handleQuery(GraphQLContext gc, String body) {
+	public Buffer handleQuery(GraphQLContext gc, String body) {
 		try (Tx tx = db.tx()) {
 			JsonObject queryJson = new JsonObject(body);
-			String query = queryJson.getString("query");
-			GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc.getProject())).build();
+			String query = queryCache.resolveQuery(queryJson.getString("query"), extractPersistedQueryHash(queryJson));
+			Map<String, Object> response = new LinkedHashMap<>();
+			if (query == null) {
+				// The client will retry the request and include the query text
+				response.put("errors", new JsonArray().add(new JsonObject().put("message", PERSISTED_QUERY_NOT_FOUND)));
+				return encode(gc, response);
+			}
+			checkLimits(query);
+			GraphQL graphQL = schemaCache.getGraphQL(gc.getProject());
 			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(query).context(gc).variables(extractVariables(queryJson))
 					.build();
+			long start = System.nanoTime();
 			ExecutionResult result = graphQL.execute(executionInput);
+			// The execution completes with field errors once the deadline has been exceeded
+			if (gc.isDeadlineExceeded()) {
+				throw QueryTimeoutInstrumentation.timeoutError();
+			}
+			queryCache.getStats(GraphQLQueryCache.hash(query)).recordExecution(System.nanoTime() - start);
 			List<GraphQLError> errors = result.getErrors();
-			JsonObject response = new JsonObject();
 			if (!errors.isEmpty()) {
-				addErrors(errors, response);
+				response.put("errors", toJson(errors));
 				log.warn("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
 				if (log.isDebugEnabled()) {
 					for (GraphQLError error : errors) {
@@ -74,14 +114,87 @@ public class GraphQLHandler {
 				}
 			}
 			if (result.getData() != null) {
-				Map<String, Object> data = (Map<String, Object>) result.getData();
-				response.put("data", new JsonObject(data));
+				response.put("data", result.getData());
 			}
-			gc.send(response.encodePrettily(), OK);
+			return encode(gc, response);
 		}
 
 	}
 
+	/**
+	 * Check the depth and complexity of the query against the configured limits.
+	 * 
+	 * @param query
+	 */
+	private void checkLimits(String query) {
+		GraphQLOptions options = Mesh.mesh().getOptions().getGraphQLOptions();
+		QueryAnalysis analysis = queryCache.analyze(query, options.getMaxQueryComplexity());
+		if (analysis == null) {
+			return;
+		}
+		int maxDepth = options.getMaxQueryDepth();
+		if (maxDepth >= 0 && analysis.getDepth() > maxDepth) {
+			throw error(BAD_REQUEST, "graphql_error_query_too_deep", String.valueOf(analysis.getDepth()), String.valueOf(maxDepth));
+		}
+		int maxComplexity = options.getMaxQueryComplexity();
+		if (maxComplexity >= 0 && analysis.getComplexity() > maxComplexity) {
+			throw error(BAD_REQUEST, "graphql_error_query_too_complex", String.valueOf(maxComplexity));
+		}
+	}
+
+	/**
+	 * Serialize the response directly into a buffer. The JSON will only be pretty printed if requested via the <code>pretty</code> query parameter.
+	 * 
+	 * @param gc
+	 * @param response
+	 * @return
+	 */
+	private Buffer encode(GraphQLContext gc, Map<String, Object> response) {
+		ObjectMapper mapper = "true".equals(gc.getParameter(PRETTY_PARAMETER)) ? Json.prettyMapper : Json.mapper;
+		ByteBuf buffer = Unpooled.buffer();
+		try (OutputStream out = new ByteBufOutputStream(buffer)) {
+			mapper.writeValue(out, response);
+		} catch (IOException e) {
+			buffer.release();
+			throw error(INTERNAL_SERVER_ERROR, "graphql_error_while_executing", e);
+		}
+		return Buffer.buffer(buffer);
+	}
+
+	/**
+	 * Return the statistics of the query cache. Only admins are allowed to read the statistics.
+	 * 
+	 * @param gc
+	 *            Context
+	 */
+	public void handleStats(GraphQLContext gc) {
+		try (Tx tx = db.tx()) {
+			if (!gc.getUser().hasAdminRole()) {
+				throw error(FORBIDDEN, "error_admin_permission_required");
+			}
+		}
+		gc.send(queryCache.getStatsJson().encodePrettily(), OK);
+	}
+
+	/**
+	 * Extract the hash of the persisted query from the request extensions.
+	 * 
+	 * @param request
+	 *            The request body
+	 * @return Hash or null if the request does not use persisted queries
+	 */
+	private String extractPersistedQueryHash(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null) {
+			return null;
+		}
+		JsonObject persistedQuery = extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return null;
+		}
+		return persistedQuery.getString("sha256Hash");
+	}
+
 	/**
 	 * Extracts the variables of a query as a map. Returns empty map if no variables are found.
 	 *
@@ -99,14 +212,13 @@ public class GraphQLHandler {
 	}
 
 	/**
-	 * Add the listed errors to the response.
+	 * Transform the listed errors to JSON.
 	 * 
 	 * @param errors
-	 * @param response
+	 * @return
 	 */
-	private void addErrors(List<GraphQLError> errors, JsonObject response) {
+	private JsonArray toJson(List<GraphQLError> errors) {
 		JsonArray jsonErrors = new JsonArray();
-		response.put("errors", jsonErrors);
 		for (GraphQLError error : errors) {
 			JsonObject jsonError = new JsonObject();
 			if (error instanceof ExceptionWhileDataFetching) {
@@ -140,5 +252,6 @@ public class GraphQLHandler {
 			}
 			jsonErrors.add(jsonError);
 		}
+		return jsonErrors;
 	}
 }
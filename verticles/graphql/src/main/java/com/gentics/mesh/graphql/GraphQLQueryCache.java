@@ -0,0 +1,167 @@
+package com.gentics.mesh.graphql;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.hash.Hashing;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.parser.Parser;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Cache for parsed and validated GraphQL documents and store for persisted queries.
+ * 
+ * Documents are cached per GraphQL schema version and query hash so that repeated queries skip parsing and validation. Persisted queries allow clients to
+ * only send the hash of a query which has been registered before. A query gets registered when it is sent along with its hash.
+ */
+@Singleton
+public class GraphQLQueryCache {
+
+	/**
+	 * Maximum amount of cached documents.
+	 */
+	public static final int MAX_DOCUMENTS = 1000;
+
+	/**
+	 * Maximum amount of persisted queries.
+	 */
+	public static final int MAX_PERSISTED_QUERIES = 10_000;
+
+	private final Cache<String, PreparsedDocumentEntry> documents = Caffeine.newBuilder().maximumSize(MAX_DOCUMENTS).recordStats().build();
+
+	private final Cache<String, String> persistedQueries = Caffeine.newBuilder().maximumSize(MAX_PERSISTED_QUERIES).build();
+
+	private final Cache<String, Optional<QueryAnalysis>> analyses = Caffeine.newBuilder().maximumSize(MAX_DOCUMENTS).build();
+
+	private final Cache<String, QueryStats> stats = Caffeine.newBuilder().maximumSize(MAX_DOCUMENTS).build();
+
+	@Inject
+	public GraphQLQueryCache() {
+	}
+
+	/**
+	 * Return the hash which is used to identify the query.
+	 * 
+	 * @param query
+	 * @return Hex encoded SHA-256 hash of the query
+	 */
+	public static String hash(String query) {
+		return Hashing.sha256().hashString(query, UTF_8).toString();
+	}
+
+	/**
+	 * Create the document provider for a GraphQL schema. The version stamp of the schema is part of the cache key since documents are validated against the
+	 * schema.
+	 * 
+	 * @param versionStamp
+	 *            Version stamp of the GraphQL schema
+	 * @return
+	 */
+	public PreparsedDocumentProvider createDocumentProvider(String versionStamp) {
+		return (query, computeFunction) -> {
+			String queryHash = hash(query);
+			String key = versionStamp + ":" + queryHash;
+			QueryStats queryStats = getStats(queryHash);
+			PreparsedDocumentEntry entry = documents.getIfPresent(key);
+			if (entry != null) {
+				queryStats.recordDocumentHit();
+				return entry;
+			}
+			long start = System.nanoTime();
+			entry = computeFunction.apply(query);
+			queryStats.recordDocumentMiss(System.nanoTime() - start);
+			documents.put(key, entry);
+			return entry;
+		};
+	}
+
+	/**
+	 * Resolve the query text of the request. Queries which are sent along with a hash will be registered as persisted queries.
+	 * 
+	 * @param query
+	 *            Query text of the request or null if the client only sent the hash
+	 * @param queryHash
+	 *            Hash of the persisted query or null if the request does not use persisted queries
+	 * @return Query text or null if the query has not been registered
+	 */
+	public String resolveQuery(String query, String queryHash) {
+		if (queryHash == null) {
+			return query;
+		}
+		if (query == null) {
+			return persistedQueries.getIfPresent(queryHash.toLowerCase());
+		}
+		if (!hash(query).equalsIgnoreCase(queryHash)) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", queryHash);
+		}
+		persistedQueries.put(queryHash.toLowerCase(), query);
+		return query;
+	}
+
+	/**
+	 * Return the depth and complexity of the query. The analysis is cached per query hash.
+	 * 
+	 * @param query
+	 * @param complexityLimit
+	 *            Limit after which the analysis can stop
+	 * @return Analysis or null if the query could not be parsed. Syntax errors will be reported by the query execution.
+	 */
+	public QueryAnalysis analyze(String query, int complexityLimit) {
+		return analyses.get(hash(query), queryHash -> {
+			try {
+				return Optional.of(QueryAnalysis.of(new Parser().parseDocument(query), complexityLimit));
+			} catch (Exception e) {
+				return Optional.empty();
+			}
+		}).orElse(null);
+	}
+
+	/**
+	 * Return the statistics for the query with the given hash.
+	 * 
+	 * @param queryHash
+	 * @return
+	 */
+	public QueryStats getStats(String queryHash) {
+		return stats.get(queryHash, hash -> new QueryStats());
+	}
+
+	/**
+	 * Return the statistics of the document cache and of the individual queries.
+	 * 
+	 * @return
+	 */
+	public JsonObject getStatsJson() {
+		CacheStats cacheStats = documents.stats();
+		JsonObject json = new JsonObject();
+		json.put("documentCacheSize", documents.estimatedSize());
+		json.put("documentCacheHitRatio", cacheStats.hitRate());
+		json.put("persistedQueries", persistedQueries.estimatedSize());
+		JsonObject queries = new JsonObject();
+		stats.asMap().forEach((hash, queryStats) -> queries.put(hash, queryStats.toJson()));
+		json.put("queries", queries);
+		return json;
+	}
+
+	/**
+	 * Remove all cached documents and persisted queries.
+	 */
+	public void clear() {
+		documents.invalidateAll();
+		analyses.invalidateAll();
+		persistedQueries.invalidateAll();
+		stats.invalidateAll();
+	}
+
+}
@@ -0,0 +1,163 @@
+package com.gentics.mesh.graphql;
+
+import static graphql.GraphQL.newGraphQL;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.schema.MicroschemaContainer;
+import com.gentics.mesh.core.data.schema.SchemaContainer;
+import com.gentics.mesh.graphql.type.QueryTypeProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for the GraphQL schemas of the projects.
+ * 
+ * The GraphQL schema of a project only depends on the latest versions of the schemas and microschemas which are assigned to the project. A version stamp
+ * is derived from these versions for each request and the cached schema will only be used if the stamp matches. Schema and microschema updates or
+ * assignments thus automatically lead to a rebuild of the GraphQL schema. Since the stamp is read from the graph this also applies to changes which were
+ * made on other instances in the cluster.
+ */
+@Singleton
+public class GraphQLSchemaCache {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaCache.class);
+
+	private static final QueryTimeoutInstrumentation TIMEOUT_INSTRUMENTATION = new QueryTimeoutInstrumentation();
+
+	private final QueryTypeProvider typeProvider;
+
+	private final GraphQLQueryCache queryCache;
+
+	private final Cache<String, Entry> cache = Caffeine.newBuilder().maximumSize(500).build();
+
+	@Inject
+	public GraphQLSchemaCache(QueryTypeProvider typeProvider, GraphQLQueryCache queryCache) {
+		this.typeProvider = typeProvider;
+		this.queryCache = queryCache;
+	}
+
+	/**
+	 * Return the GraphQL instance for the given project. The instance will be created if the schema of the project has changed.
+	 * 
+	 * @param project
+	 * @return
+	 */
+	public GraphQL getGraphQL(Project project) {
+		return getEntry(project).getGraphQL();
+	}
+
+	/**
+	 * Return the cache entry for the project.
+	 * 
+	 * @param project
+	 * @return
+	 */
+	public Entry getEntry(Project project) {
+		String stamp = getVersionStamp(project);
+		String projectUuid = project.getUuid();
+		Entry entry = cache.getIfPresent(projectUuid);
+		if (entry != null && entry.getVersionStamp().equals(stamp)) {
+			return entry;
+		}
+		return cache.asMap().compute(projectUuid, (uuid, current) -> {
+			// The schema may have been built by a concurrent request
+			if (current != null && current.getVersionStamp().equals(stamp)) {
+				return current;
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Building GraphQL schema for project {" + project.getName() + "} with version stamp {" + stamp + "}");
+			}
+			GraphQLSchema schema = typeProvider.getRootSchema(project);
+			GraphQL graphQL = newGraphQL(schema).preparsedDocumentProvider(queryCache.createDocumentProvider(stamp)).instrumentation(
+					TIMEOUT_INSTRUMENTATION).build();
+			return new Entry(stamp, schema, graphQL);
+		});
+	}
+
+	/**
+	 * Remove all cached schemas.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * Derive the version stamp from the latest schema and microschema versions of the project.
+	 * 
+	 * @param project
+	 * @return
+	 */
+	public String getVersionStamp(Project project) {
+		List<String> schemaVersions = new ArrayList<>();
+		for (SchemaContainer container : project.getSchemaContainerRoot().findAllIt()) {
+			schemaVersions.add(container.getLatestVersion().getUuid());
+		}
+		List<String> microschemaVersions = new ArrayList<>();
+		for (MicroschemaContainer container : project.getMicroschemaContainerRoot().findAllIt()) {
+			microschemaVersions.add(container.getLatestVersion().getUuid());
+		}
+		// The order of the containers is not guaranteed
+		Collections.sort(schemaVersions);
+		Collections.sort(microschemaVersions);
+		return String.join(",", schemaVersions) + "|" + String.join(",", microschemaVersions);
+	}
+
+	/**
+	 * Cached GraphQL schema of a project.
+	 */
+	public static class Entry {
+
+		private final String versionStamp;
+
+		private final GraphQLSchema schema;
+
+		private final GraphQL graphQL;
+
+		public Entry(String versionStamp, GraphQLSchema schema, GraphQL graphQL) {
+			this.versionStamp = versionStamp;
+			this.schema = schema;
+			this.graphQL = graphQL;
+		}
+
+		/**
+		 * Return the version stamp of the schemas which were used to build the GraphQL schema.
+		 * 
+		 * @return
+		 */
+		public String getVersionStamp() {
+			return versionStamp;
+		}
+
+		/**
+		 * Return the GraphQL schema.
+		 * 
+		 * @return
+		 */
+		public GraphQLSchema getSchema() {
+			return schema;
+		}
+
+		/**
+		 * Return the GraphQL instance which uses the schema.
+		 * 
+		 * @return
+		 */
+		public GraphQL getGraphQL() {
+			return graphQL;
+		}
+
+	}
+
+}
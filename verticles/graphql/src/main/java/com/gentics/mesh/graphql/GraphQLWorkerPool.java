@@ -0,0 +1,122 @@
+package com.gentics.mesh.graphql;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.worker.WorkerPool;
+import com.gentics.mesh.core.worker.WorkerPools;
+import com.gentics.mesh.etc.config.GraphQLOptions;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Bounded pool of threads which execute GraphQL queries.
+ * 
+ * Queries are executed outside of the vert.x worker pool so that expensive queries can't block other requests. Queries will be rejected once all
+ * threads are busy and the queue is full. Queries which exceed the configured timeout are answered with an error. The query itself is aborted
+ * cooperatively by the {@link QueryTimeoutInstrumentation} once it fetches the next field. The pool is registered as named worker pool and thus
+ * reported by the server status.
+ */
+@Singleton
+public class GraphQLWorkerPool {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLWorkerPool.class);
+
+	private static final String POOL_NAME = "graphql";
+
+	@Inject
+	public GraphQLWorkerPool() {
+	}
+
+	/**
+	 * Execute the query handler using a worker thread and send the returned response. Failures will be passed to the context.
+	 * 
+	 * @param gc
+	 *            Context of the query
+	 * @param handler
+	 *            Handler which executes the query and returns the response body
+	 */
+	public void execute(GraphQLContext gc, Supplier<Buffer> handler) {
+		WorkerPool pool = getPool();
+		Context context = Vertx.currentContext();
+		long queryTimeout = Mesh.mesh().getOptions().getGraphQLOptions().getQueryTimeout();
+		if (queryTimeout > 0) {
+			gc.setDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(queryTimeout));
+		}
+		// Only the first of the handler and the timeout may complete the request
+		AtomicBoolean completed = new AtomicBoolean(false);
+		try {
+			pool.submit(() -> {
+				// The query may have timed out while it was queued
+				if (completed.get()) {
+					return;
+				}
+				try {
+					Buffer body = handler.get();
+					if (completed.compareAndSet(false, true)) {
+						runOnContext(context, () -> gc.send(body, OK));
+					}
+				} catch (Throwable t) {
+					if (completed.compareAndSet(false, true)) {
+						runOnContext(context, () -> gc.fail(t));
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("Rejecting GraphQL query since all {" + pool.getPoolSize() + "} workers are busy and the queue is full.");
+			gc.fail(error(SERVICE_UNAVAILABLE, "graphql_error_too_many_queries"));
+			return;
+		}
+		if (queryTimeout > 0) {
+			Mesh.vertx().setTimer(queryTimeout, id -> {
+				if (completed.compareAndSet(false, true)) {
+					log.warn("GraphQL query exceeded the timeout of {" + queryTimeout + "} ms and will be aborted.");
+					gc.fail(QueryTimeoutInstrumentation.timeoutError());
+				}
+			});
+		}
+	}
+
+	/**
+	 * Run the action on the vert.x context of the caller, just like {@link WorkerPool#executeBlocking(io.vertx.core.Handler, io.vertx.core.Handler)}
+	 * does for its result handler.
+	 * 
+	 * @param context
+	 * @param action
+	 */
+	private void runOnContext(Context context, Runnable action) {
+		if (context == null) {
+			action.run();
+		} else {
+			context.runOnContext(v -> action.run());
+		}
+	}
+
+	/**
+	 * Return the pool. It will be created on first usage since the options are not available during injection.
+	 * 
+	 * @return
+	 */
+	private WorkerPool getPool() {
+		return WorkerPools.get(POOL_NAME, () -> {
+			GraphQLOptions options = Mesh.mesh().getOptions().getGraphQLOptions();
+			return new WorkerPool(POOL_NAME, options.getWorkerPoolSize(), options.getWorkerQueueSize());
+		});
+	}
+
+}
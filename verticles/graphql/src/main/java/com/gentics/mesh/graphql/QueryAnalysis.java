@@ -0,0 +1,108 @@
+package com.gentics.mesh.graphql;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+
+/**
+ * Depth and complexity of a GraphQL query. The complexity is the amount of selected fields. Fields of fragments are counted for each usage of the
+ * fragment.
+ */
+public class QueryAnalysis {
+
+	private final Map<String, FragmentDefinition> fragments = new HashMap<>();
+
+	private final int complexityLimit;
+
+	private int depth = 0;
+
+	private int complexity = 0;
+
+	private QueryAnalysis(int complexityLimit) {
+		this.complexityLimit = complexityLimit;
+	}
+
+	/**
+	 * Analyze the given document.
+	 * 
+	 * @param document
+	 * @param complexityLimit
+	 *            The analysis stops once the complexity exceeds the limit. Use -1 for no limit.
+	 * @return
+	 */
+	public static QueryAnalysis of(Document document, int complexityLimit) {
+		QueryAnalysis analysis = new QueryAnalysis(complexityLimit);
+		for (Definition definition : document.getDefinitions()) {
+			if (definition instanceof FragmentDefinition) {
+				FragmentDefinition fragment = (FragmentDefinition) definition;
+				analysis.fragments.put(fragment.getName(), fragment);
+			}
+		}
+		for (Definition definition : document.getDefinitions()) {
+			if (definition instanceof OperationDefinition) {
+				analysis.visit(((OperationDefinition) definition).getSelectionSet(), 1, new HashSet<>());
+			}
+		}
+		return analysis;
+	}
+
+	private void visit(SelectionSet selectionSet, int level, Set<String> visitedFragments) {
+		if (selectionSet == null) {
+			return;
+		}
+		for (Selection selection : selectionSet.getSelections()) {
+			if (isLimitExceeded()) {
+				return;
+			}
+			if (selection instanceof Field) {
+				complexity++;
+				depth = Math.max(depth, level);
+				visit(((Field) selection).getSelectionSet(), level + 1, visitedFragments);
+			} else if (selection instanceof InlineFragment) {
+				visit(((InlineFragment) selection).getSelectionSet(), level, visitedFragments);
+			} else if (selection instanceof FragmentSpread) {
+				String name = ((FragmentSpread) selection).getName();
+				FragmentDefinition fragment = fragments.get(name);
+				// Cyclic fragments are invalid and will be reported by the validation
+				if (fragment != null && visitedFragments.add(name)) {
+					visit(fragment.getSelectionSet(), level, visitedFragments);
+					visitedFragments.remove(name);
+				}
+			}
+		}
+	}
+
+	private boolean isLimitExceeded() {
+		return complexityLimit >= 0 && complexity > complexityLimit;
+	}
+
+	/**
+	 * Return the maximum nesting depth of the fields.
+	 * 
+	 * @return
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Return the amount of selected fields. The value is only accurate up to the complexity limit.
+	 * 
+	 * @return
+	 */
+	public int getComplexity() {
+		return complexity;
+	}
+
+}
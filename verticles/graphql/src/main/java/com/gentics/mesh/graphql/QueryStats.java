@@ -0,0 +1,80 @@
+package com.gentics.mesh.graphql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Statistics of a single GraphQL query which is identified by the hash of the query text.
+ */
+public class QueryStats {
+
+	private final LongAdder documentHits = new LongAdder();
+
+	private final LongAdder documentMisses = new LongAdder();
+
+	private final LongAdder prepareTime = new LongAdder();
+
+	private final LongAdder executions = new LongAdder();
+
+	private final LongAdder executionTime = new LongAdder();
+
+	private final LongAccumulator maxExecutionTime = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Record that the parsed and validated document was found in the cache.
+	 */
+	public void recordDocumentHit() {
+		documentHits.increment();
+	}
+
+	/**
+	 * Record that the document had to be parsed and validated.
+	 * 
+	 * @param nanos
+	 *            Duration of the parsing and validation
+	 */
+	public void recordDocumentMiss(long nanos) {
+		documentMisses.increment();
+		prepareTime.add(nanos);
+	}
+
+	/**
+	 * Record the execution of the query.
+	 * 
+	 * @param nanos
+	 *            Duration of the execution
+	 */
+	public void recordExecution(long nanos) {
+		executions.increment();
+		executionTime.add(nanos);
+		maxExecutionTime.accumulate(nanos);
+	}
+
+	/**
+	 * Return the statistics as JSON.
+	 * 
+	 * @return
+	 */
+	public JsonObject toJson() {
+		long hits = documentHits.sum();
+		long misses = documentMisses.sum();
+		long count = executions.sum();
+		JsonObject json = new JsonObject();
+		json.put("documentHits", hits);
+		json.put("documentMisses", misses);
+		json.put("documentHitRatio", hits + misses == 0 ? 0 : (double) hits / (hits + misses));
+		json.put("averageParseValidateMs", misses == 0 ? 0 : toMillis(prepareTime.sum() / misses));
+		json.put("executions", count);
+		json.put("averageExecutionMs", count == 0 ? 0 : toMillis(executionTime.sum() / count));
+		json.put("maxExecutionMs", toMillis(maxExecutionTime.get()));
+		return json;
+	}
+
+	private static double toMillis(long nanos) {
+		return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+}
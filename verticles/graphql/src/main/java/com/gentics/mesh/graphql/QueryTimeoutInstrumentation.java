@@ -0,0 +1,41 @@
+package com.gentics.mesh.graphql;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import com.gentics.mesh.Mesh;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+import graphql.execution.instrumentation.NoOpInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+/**
+ * Instrumentation which enforces the query timeout. The deadline of the query is checked before each field is fetched. Queries which exceeded the
+ * deadline fail at the next fetch instead of being interrupted, since interrupting the thread could interrupt the I/O of the graph database.
+ */
+public class QueryTimeoutInstrumentation extends NoOpInstrumentation {
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+		return env -> {
+			Object context = env.getContext();
+			if (context instanceof GraphQLContext && ((GraphQLContext) context).isDeadlineExceeded()) {
+				throw timeoutError();
+			}
+			return dataFetcher.get(env);
+		};
+	}
+
+	/**
+	 * Return the error for queries which exceeded the configured timeout.
+	 *
+	 * @return
+	 */
+	public static GenericRestException timeoutError() {
+		long queryTimeout = Mesh.mesh().getOptions().getGraphQLOptions().getQueryTimeout();
+		return error(SERVICE_UNAVAILABLE, "graphql_error_query_timeout", String.valueOf(queryTimeout));
+	}
+
+}
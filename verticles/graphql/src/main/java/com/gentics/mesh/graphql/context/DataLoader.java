@@ -0,0 +1,124 @@
+package com.gentics.mesh.graphql.context;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Request scoped loader which batches and caches the lookup of values.
+ * 
+ * GraphQL queries are executed synchronously within a single transaction. Fetchers of list fields thus register the keys of all list elements via
+ * {@link #enqueue(Collection)} before the elements get resolved. The first {@link #load(Object)} call will load all queued keys using a single
+ * invocation of the batch function. Loaded values (including missing values) are cached for the remaining request.
+ * 
+ * @param <K>
+ *            Type of the key
+ * @param <V>
+ *            Type of the value
+ */
+public class DataLoader<K, V> {
+
+	private final Function<Collection<K>, Map<K, V>> batchFunction;
+
+	private final Map<K, Optional<V>> cache = new HashMap<>();
+
+	private final Set<K> queue = new LinkedHashSet<>();
+
+	private int batches = 0;
+
+	/**
+	 * Create a new loader.
+	 * 
+	 * @param batchFunction
+	 *            Function which loads the values for the given keys. Keys without value may be omitted in the returned map.
+	 */
+	public DataLoader(Function<Collection<K>, Map<K, V>> batchFunction) {
+		this.batchFunction = batchFunction;
+	}
+
+	/**
+	 * Register keys which will be loaded with the next batch.
+	 * 
+	 * @param keys
+	 * @return Fluent API
+	 */
+	public DataLoader<K, V> enqueue(Collection<K> keys) {
+		for (K key : keys) {
+			if (!cache.containsKey(key)) {
+				queue.add(key);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Return the value for the given key. All queued keys will be loaded along with the key if the value has not yet been loaded.
+	 * 
+	 * @param key
+	 * @return Loaded value or null if no value exists for the key
+	 */
+	public V load(K key) {
+		Optional<V> value = cache.get(key);
+		if (value == null) {
+			queue.add(key);
+			dispatch();
+			value = cache.get(key);
+		}
+		return value.orElse(null);
+	}
+
+	/**
+	 * Return the values for the given keys. Missing values will be loaded in a single batch.
+	 * 
+	 * @param keys
+	 * @return Map with the values of the keys. Keys without value are omitted.
+	 */
+	public Map<K, V> loadMany(Collection<K> keys) {
+		enqueue(keys);
+		if (!queue.isEmpty()) {
+			dispatch();
+		}
+		Map<K, V> result = new HashMap<>(keys.size());
+		for (K key : keys) {
+			cache.get(key).ifPresent(value -> result.put(key, value));
+		}
+		return result;
+	}
+
+	/**
+	 * Add the value to the cache.
+	 * 
+	 * @param key
+	 * @param value
+	 * @return Fluent API
+	 */
+	public DataLoader<K, V> prime(K key, V value) {
+		cache.put(key, Optional.ofNullable(value));
+		queue.remove(key);
+		return this;
+	}
+
+	/**
+	 * Return the amount of batches which have been loaded.
+	 * 
+	 * @return
+	 */
+	public int getBatchCount() {
+		return batches;
+	}
+
+	private void dispatch() {
+		Set<K> keys = new LinkedHashSet<>(queue);
+		queue.clear();
+		Map<K, V> values = batchFunction.apply(keys);
+		for (K key : keys) {
+			cache.put(key, Optional.ofNullable(values.get(key)));
+		}
+		batches++;
+	}
+
+}
@@ -1,12 +1,27 @@
 package com.gentics.mesh.graphql.context;
 
+import java.util.Collection;
+import java.util.List;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.parameter.PagingParameters;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
 
 /**
  * Extended context for GraphQL handling.
+ * 
+ * The context also provides request scoped loaders which cache and batch the lookup of nodes, field containers, tags and permissions. Fetchers of list
+ * fields should use the prefetch methods so that the elements of the list are loaded with a single batch.
  */
 public interface GraphQLContext extends InternalActionContext {
 
@@ -21,4 +36,70 @@ public interface GraphQLContext extends InternalActionContext {
 	 */
 	<T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission);
 
+	/**
+	 * Send the JSON response body.
+	 * 
+	 * @param body
+	 * @param status
+	 */
+	void send(Buffer body, HttpResponseStatus status);
+
+	/**
+	 * Check the read permissions of the given elements with a single batch. Subsequent {@link #requiresPerm(MeshCoreVertex, GraphPermission...)} calls
+	 * for these elements will use the loaded permissions.
+	 * 
+	 * @param elements
+	 */
+	void prefetchPermissions(Collection<? extends MeshVertex> elements);
+
+	/**
+	 * Load the node with the given uuid.
+	 * 
+	 * @param uuid
+	 * @return Found node or null if no node could be found
+	 */
+	Node loadNode(String uuid);
+
+	/**
+	 * Load the field container of the node which matches the given languages. The release and version of the request will be used.
+	 * 
+	 * @param node
+	 * @param languageTags
+	 * @return Found container or null if no container matches the languages
+	 */
+	NodeGraphFieldContainer findVersion(Node node, List<String> languageTags);
+
+	/**
+	 * Load the field containers of the given nodes with a single batch. Subsequent {@link #findVersion(Node, List)} calls for these nodes will use the
+	 * loaded containers.
+	 * 
+	 * @param nodes
+	 * @param languageTags
+	 */
+	void prefetchVersions(Collection<? extends Node> nodes, List<String> languageTags);
+
+	/**
+	 * Load the page of tags of the node which are visible to the user.
+	 * 
+	 * @param node
+	 * @param pagingInfo
+	 * @return
+	 */
+	TransformablePage<? extends Tag> getTags(Node node, PagingParameters pagingInfo);
+
+	/**
+	 * Set the deadline of the query execution. The data fetchers check the deadline and abort the query once it has been exceeded.
+	 * 
+	 * @param deadline
+	 *            Deadline as returned by {@link System#nanoTime()}
+	 */
+	void setDeadline(long deadline);
+
+	/**
+	 * Check whether the deadline of the query execution has been exceeded.
+	 * 
+	 * @return
+	 */
+	boolean isDeadlineExceeded();
+
 }
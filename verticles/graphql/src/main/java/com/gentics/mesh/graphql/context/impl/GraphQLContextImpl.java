@@ -1,12 +1,34 @@
 package com.gentics.mesh.graphql.context.impl;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.dagger.MeshInternal;
+import com.gentics.mesh.graphql.context.DataLoader;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.parameter.PagingParameters;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -14,18 +36,190 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class GraphQLContextImpl extends InternalRoutingActionContextImpl implements GraphQLContext {
 
+	/**
+	 * Permissions which are loaded in batches. Other permissions are rarely checked and will be checked individually.
+	 */
+	private static final GraphPermission[] BATCHED_PERMISSIONS = { READ_PERM, READ_PUBLISHED_PERM };
+
+	private final DataLoader<Object, Set<GraphPermission>> permissionLoader = new DataLoader<>(ids -> {
+		return getUser().getPermissionsForIds(ids, BATCHED_PERMISSIONS);
+	});
+
+	private final DataLoader<String, Node> nodeLoader = new DataLoader<>(uuids -> {
+		Map<String, Node> nodes = new HashMap<>(uuids.size());
+		for (String uuid : uuids) {
+			nodes.put(uuid, MeshInternal.get().boot().nodeRoot().findByUuid(uuid));
+		}
+		return nodes;
+	});
+
+	private final DataLoader<VersionKey, NodeGraphFieldContainer> versionLoader = new DataLoader<>(keys -> {
+		String releaseUuid = getRelease().getUuid();
+		String version = getVersioningParameters().getVersion();
+		Map<VersionKey, NodeGraphFieldContainer> containers = new HashMap<>(keys.size());
+		for (VersionKey key : keys) {
+			containers.put(key, key.node.findVersion(key.languageTags, releaseUuid, version));
+		}
+		return containers;
+	});
+
+	private final DataLoader<TagsKey, TransformablePage<? extends Tag>> tagsLoader = new DataLoader<>(keys -> {
+		Map<TagsKey, TransformablePage<? extends Tag>> tags = new HashMap<>(keys.size());
+		for (TagsKey key : keys) {
+			tags.put(key, key.node.getTags(getUser(), key.pagingInfo, getRelease()));
+		}
+		return tags;
+	});
+
+	private final RoutingContext rc;
+
+	private volatile long deadline;
+
+	private volatile boolean hasDeadline;
+
 	public GraphQLContextImpl(RoutingContext rc) {
 		super(rc);
+		this.rc = rc;
+	}
+
+	@Override
+	public void send(Buffer body, HttpResponseStatus status) {
+		rc.response().putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON_UTF8);
+		rc.response().putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+		rc.response().setStatusCode(status.code()).end(body);
 	}
 
 	@Override
 	public <T extends MeshCoreVertex<?, ?>> T requiresPerm(T vertex, GraphPermission... permission) {
 		for (GraphPermission perm : permission) {
-			if (getUser().hasPermission(vertex, perm)) {
+			if (isBatched(perm)) {
+				if (permissionLoader.load(vertex.getId()).contains(perm)) {
+					return vertex;
+				}
+			} else if (getUser().hasPermission(vertex, perm)) {
 				return vertex;
 			}
 		}
 		throw missingPerm(vertex.getTypeInfo().getType(), vertex.getUuid());
 	}
 
+	@Override
+	public void prefetchPermissions(Collection<? extends MeshVertex> elements) {
+		List<Object> ids = new ArrayList<>(elements.size());
+		for (MeshVertex element : elements) {
+			ids.add(element.getId());
+		}
+		permissionLoader.loadMany(ids);
+	}
+
+	@Override
+	public Node loadNode(String uuid) {
+		return nodeLoader.load(uuid);
+	}
+
+	@Override
+	public NodeGraphFieldContainer findVersion(Node node, List<String> languageTags) {
+		return versionLoader.load(new VersionKey(node, languageTags));
+	}
+
+	@Override
+	public void prefetchVersions(Collection<? extends Node> nodes, List<String> languageTags) {
+		List<VersionKey> keys = new ArrayList<>(nodes.size());
+		for (Node node : nodes) {
+			keys.add(new VersionKey(node, languageTags));
+		}
+		versionLoader.loadMany(keys);
+	}
+
+	@Override
+	public TransformablePage<? extends Tag> getTags(Node node, PagingParameters pagingInfo) {
+		return tagsLoader.load(new TagsKey(node, pagingInfo));
+	}
+
+	@Override
+	public void setDeadline(long deadline) {
+		this.deadline = deadline;
+		this.hasDeadline = true;
+	}
+
+	@Override
+	public boolean isDeadlineExceeded() {
+		return hasDeadline && System.nanoTime() - deadline > 0;
+	}
+
+	private boolean isBatched(GraphPermission perm) {
+		for (GraphPermission batched : BATCHED_PERMISSIONS) {
+			if (batched == perm) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Key for the field container of a node. The release and version are defined by the request.
+	 */
+	private static class VersionKey {
+
+		private final Node node;
+
+		private final List<String> languageTags;
+
+		public VersionKey(Node node, List<String> languageTags) {
+			this.node = node;
+			this.languageTags = languageTags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof VersionKey)) {
+				return false;
+			}
+			VersionKey other = (VersionKey) obj;
+			return node.getId().equals(other.node.getId()) && Objects.equals(languageTags, other.languageTags);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(node.getId(), languageTags);
+		}
+
+	}
+
+	/**
+	 * Key for a page of tags of a node.
+	 */
+	private static class TagsKey {
+
+		private final Node node;
+
+		private final PagingParameters pagingInfo;
+
+		private final int page;
+
+		private final int perPage;
+
+		public TagsKey(Node node, PagingParameters pagingInfo) {
+			this.node = node;
+			this.pagingInfo = pagingInfo;
+			this.page = pagingInfo.getPage();
+			this.perPage = pagingInfo.getPerPage();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof TagsKey)) {
+				return false;
+			}
+			TagsKey other = (TagsKey) obj;
+			return node.getId().equals(other.node.getId()) && page == other.page && perPage == other.perPage;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(node.getId(), page, perPage);
+		}
+
+	}
+
 }
@@ -12,6 +12,7 @@ import static graphql.schema.GraphQLObjectType.newObject;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Stack;
 import java.util.concurrent.ExecutionException;
@@ -109,7 +110,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 
 		Node node = content.getNode();
 		Release release = gc.getRelease();
-		NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+		NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 		// There might not be a container for the selected language (incl. fallback language)
 		if (container == null) {
 			return null;
@@ -133,7 +134,9 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
+		Deque<Node> nodes = content.getNode().getBreadcrumbNodes(gc);
+		gc.prefetchVersions(nodes, getFallbackLanguageTags(content));
+		return nodes.stream().map(node -> {
 			return handleLanguageFallback(gc, node, content);
 		}).collect(Collectors.toList());
 	}
@@ -168,13 +171,23 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 	 * @return Located container or null if no container could be found
 	 */
 	private NodeContent handleLanguageFallback(GraphQLContext gc, Node node, NodeContent content) {
+		return new NodeContent(node, gc.findVersion(node, getFallbackLanguageTags(content)));
+	}
+
+	/**
+	 * Return the languages which are used to load related nodes of the given content.
+	 * 
+	 * @param content
+	 * @return Language of the content container or the default mesh language if the content provides no container
+	 */
+	private List<String> getFallbackLanguageTags(NodeContent content) {
 		List<String> languageTags = new ArrayList<>();
 		if (content.getContainer() != null) {
 			languageTags.add(content.getContainer().getLanguage().getLanguageTag());
 		} else {
 			languageTags.add(Mesh.mesh().getOptions().getDefaultLanguage());
 		}
-		return new NodeContent(node, node.findVersion(gc, languageTags));
+		return languageTags;
 	}
 
 	public GraphQLObjectType createType(Project project) {
@@ -271,9 +284,14 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 
 			TransformablePage<? extends Node> page = node.getChildren(gc, languageTags, gc.getRelease().getUuid(), selectedType, getPagingInfo(env));
 
+			// Load the permissions and containers of all children at once since nested fields will need them
+			List<? extends Node> children = page.getWrappedList();
+			gc.prefetchPermissions(children);
+			gc.prefetchVersions(children, languageTags);
+
 			// Transform the found nodes into contents
-			List<NodeContent> contents = page.getWrappedList().stream().map(item -> {
-				NodeGraphFieldContainer container = item.findVersion(gc, languageTags);
+			List<NodeContent> contents = children.stream().map(item -> {
+				NodeGraphFieldContainer container = gc.findVersion(item, languageTags);
 				return new NodeContent(item, container);
 			}).collect(Collectors.toList());
 			return new WrappedPageImpl<NodeContent>(contents, page);
@@ -291,8 +309,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			if (content == null) {
 				return null;
 			}
-			Node node = content.getNode();
-			return node.getTags(gc.getUser(), getPagingInfo(env), gc.getRelease());
+			return gc.getTags(content.getNode(), getPagingInfo(env));
 		}));
 
 		// TODO Fix name confusion and check what version of schema should be used to determine this type
@@ -168,14 +168,14 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		String uuid = env.getArgument("uuid");
 		if (uuid != null) {
 			GraphQLContext gc = env.getContext();
-			Node node = boot.nodeRoot().findByUuid(uuid);
+			Node node = gc.loadNode(uuid);
 			if (node == null) {
 				// TODO Throw graphql aware not found exception
 				return null;
 			}
 			node = gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
 			List<String> languageTags = getLanguageArgument(env);
-			NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+			NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 			return new NodeContent(node, container);
 		}
 		String path = env.getArgument("path");
@@ -239,7 +239,7 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		if (project != null) {
 			Node node = project.getBaseNode();
 			gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-			NodeGraphFieldContainer container = node.findVersion(gc, getLanguageArgument(env));
+			NodeGraphFieldContainer container = gc.findVersion(node, getLanguageArgument(env));
 			return new NodeContent(node, container);
 		}
 		return null;
@@ -289,8 +289,9 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 
 					// Now lets try to load the containers for those found nodes - apply the language fallback
 					List<String> languageTags = getLanguageArgument(env);
+					gc.prefetchVersions(nodes.getWrappedList(), languageTags);
 					List<NodeContent> contents = nodes.getWrappedList().stream().map(node -> {
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+						NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 						return new NodeContent(node, container);
 					}).collect(Collectors.toList());
 					return new WrappedPageImpl<NodeContent>(contents, nodes);
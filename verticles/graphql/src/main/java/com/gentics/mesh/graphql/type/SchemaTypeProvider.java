@@ -95,7 +95,7 @@ public class SchemaTypeProvider extends AbstractTypeProvider {
 					ContainerType.forVersion(gc.getVersioningParameters().getVersion())
 			).spliterator(), false)
 			.map(node -> {
-				NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+				NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 				return new NodeContent(node, container);
 			});
 
@@ -71,10 +71,11 @@ public class TagTypeProvider extends AbstractTypeProvider {
 					Tag tag = env.getSource();
 					TransformablePage<? extends Node> nodes = tag.findTaggedNodes(gc.getUser(), gc.getRelease(), null, null, getPagingInfo(env));
 					List<String> languageTags = getLanguageArgument(env);
+					gc.prefetchVersions(nodes.getWrappedList(), languageTags);
 
 					// Transform the found nodes into contents
 					List<NodeContent> contents = nodes.getWrappedList().stream().map(node -> {
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+						NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 						return new NodeContent(node, container);
 					}).collect(Collectors.toList());
 					return new WrappedPageImpl<NodeContent>(contents, nodes);
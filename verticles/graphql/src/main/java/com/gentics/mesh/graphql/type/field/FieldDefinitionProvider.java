@@ -14,7 +14,6 @@ import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static graphql.schema.GraphQLObjectType.newObject;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -294,19 +293,21 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 				if (nodeList == null) {
 					return null;
 				}
-				return nodeList.getList().stream().map(item -> {
-					Node node = item.getNode();
-					List<String> languageTags = Collections.emptyList();
-					if (container instanceof NodeGraphFieldContainer) {
-						languageTags = Arrays.asList(container.getLanguage().getLanguageTag());
-					} else {
-						// Other containers (e.g. micronodes do not have a language thus we can't use that language to define the loaded language variant. We
-						// thus fallback to the default mesh language.
-						String defaultLanguage = Mesh.mesh().getOptions().getDefaultLanguage();
-						languageTags = Arrays.asList(defaultLanguage);
-					}
+				List<String> languageTags;
+				if (container instanceof NodeGraphFieldContainer) {
+					languageTags = Arrays.asList(container.getLanguage().getLanguageTag());
+				} else {
+					// Other containers (e.g. micronodes do not have a language thus we can't use that language to define the loaded language variant. We
+					// thus fallback to the default mesh language.
+					String defaultLanguage = Mesh.mesh().getOptions().getDefaultLanguage();
+					languageTags = Arrays.asList(defaultLanguage);
+				}
+				List<Node> nodes = nodeList.getList().stream().map(item -> item.getNode()).collect(Collectors.toList());
+				// Load the containers of all referenced nodes at once
+				gc.prefetchVersions(nodes, languageTags);
+				return nodes.stream().map(node -> {
 					// TODO we need to add more assertions and check what happens if the itemContainer is null
-					NodeGraphFieldContainer itemContainer = node.findVersion(gc, languageTags);
+					NodeGraphFieldContainer itemContainer = gc.findVersion(node, languageTags);
 					return new NodeContent(node, itemContainer);
 				}).collect(Collectors.toList());
 			case "micronode":
@@ -382,7 +383,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 						List<String> languageTags = getLanguageArgument(env);
 						// Check permissions for the linked node
 						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
+						NodeGraphFieldContainer container = gc.findVersion(node, languageTags);
 						return new NodeContent(node, container);
 					}
 				}